@@ -0,0 +1,162 @@
+package OpenSourceSW.ArbeitMate.scheduling;
+
+import OpenSourceSW.ArbeitMate.domain.*;
+import OpenSourceSW.ArbeitMate.domain.enums.PeriodType;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.Field;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 자동 배치 후보 계산 비교 (한 달 31일 x 역할 3개 x 오전/오후 = 186 슬롯)
+ * - entityStreams: 기존 방식. 슬롯마다 가용 엔티티를 스트림으로 훑고, 배정 목록을 다시 스트림으로 훑는다.
+ * - bitsetMatrix: 번호 부여 후 AvailabilityMatrix 비트 연산으로 후보 계산.
+ * 두 방식 모두 같은 엔티티 목록에서 시작하며, 기존 방식의 멤버별 역할 조회 쿼리 비용은 포함하지 않는다.
+ * 아직 실행 결과를 기록하지 않았다. (50/150/500명 비교 수치 없음, 비트셋 방식의 개선 폭은 검증되지 않음)
+ *
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AutoAssignCandidateBenchmark {
+
+    @Param({"50", "150", "500"})
+    public int workerCount;
+
+    private List<Member> workers;
+    private List<Schedule> schedules;
+    private List<ScheduleSlotAvailability> availabilities;
+    private List<CompanyMemberRole> memberRoles;
+    private Map<UUID, List<CompanyMemberRole>> memberRolesByMember;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+
+        Member owner = withId(Member.create("owner@bench.com", "사장"));
+        Company company = withId(Company.create("벤치 매장", owner, "서울", "BENCH1"));
+        SchedulePeriod period = withId(SchedulePeriod.create(company, "2025-12", PeriodType.MONTHLY,
+                LocalDate.of(2025, 12, 1), LocalDate.of(2025, 12, 31), LocalDateTime.of(2025, 11, 25, 0, 0)));
+
+        List<CompanyRole> roles = new ArrayList<>();
+        for (String name : List.of("홀", "주방", "카운터")) {
+            roles.add(withId(CompanyRole.create(company, name)));
+        }
+
+        workers = new ArrayList<>();
+        memberRoles = new ArrayList<>();
+        for (int i = 0; i < workerCount; i++) {
+            Member m = withId(Member.create("w" + i + "@bench.com", "알바" + i));
+            workers.add(m);
+
+            // 근무자당 역할 2개
+            int skip = random.nextInt(roles.size());
+            for (int r = 0; r < roles.size(); r++) {
+                if (r == skip) continue;
+                memberRoles.add(withId(CompanyMemberRole.link(company, m, roles.get(r))));
+            }
+        }
+        memberRolesByMember = memberRoles.stream()
+                .collect(Collectors.groupingBy(cmr -> cmr.getMember().getId()));
+
+        schedules = new ArrayList<>();
+        availabilities = new ArrayList<>();
+        for (LocalDate d = period.getStartDate(); !d.isAfter(period.getEndDate()); d = d.plusDays(1)) {
+            for (CompanyRole role : roles) {
+                schedules.add(withId(Schedule.create(company, period, role, d, LocalTime.of(9, 0), LocalTime.of(15, 0), 2)));
+                schedules.add(withId(Schedule.create(company, period, role, d, LocalTime.of(15, 0), LocalTime.of(21, 0), 2)));
+            }
+        }
+        for (Schedule s : schedules) {
+            for (Member m : workers) {
+                if (random.nextInt(100) < 40) availabilities.add(withId(ScheduleSlotAvailability.willing(s, m)));
+            }
+        }
+    }
+
+    @Benchmark
+    public void entityStreams(Blackhole bh) {
+        Map<UUID, Integer> workerIndex = new HashMap<>();
+        for (int i = 0; i < workers.size(); i++) workerIndex.put(workers.get(i).getId(), i);
+
+        Map<UUID, List<ScheduleSlotAvailability>> availByScheduleId = availabilities.stream()
+                .filter(ScheduleSlotAvailability::isWilling)
+                .collect(Collectors.groupingBy(a -> a.getSchedule().getId()));
+        Map<UUID, Set<UUID>> roleCache = new HashMap<>();
+
+        for (Schedule s : schedules) {
+            Set<UUID> assignedMemberIds = s.getAssignments().stream()
+                    .map(a -> a.getMember().getId())
+                    .collect(Collectors.toSet());
+
+            int[] candidates = availByScheduleId.getOrDefault(s.getId(), List.of()).stream()
+                    .map(a -> a.getMember().getId())
+                    .filter(workerIndex::containsKey)
+                    .filter(memberId -> !assignedMemberIds.contains(memberId))
+                    .distinct()
+                    .filter(memberId -> roleCache.computeIfAbsent(memberId, mid -> memberRolesByMember.getOrDefault(mid, List.of()).stream()
+                                    .map(cmr -> cmr.getRole().getId())
+                                    .collect(Collectors.toSet()))
+                            .contains(s.getRole().getId()))
+                    .mapToInt(workerIndex::get)
+                    .toArray();
+            bh.consume(candidates);
+        }
+    }
+
+    @Benchmark
+    public void bitsetMatrix(Blackhole bh) {
+        Map<UUID, Integer> workerIndex = new HashMap<>();
+        for (int i = 0; i < workers.size(); i++) workerIndex.put(workers.get(i).getId(), i);
+
+        Map<UUID, Integer> roleIndex = new HashMap<>();
+        Map<UUID, Integer> slotIndex = new HashMap<>();
+        for (int i = 0; i < schedules.size(); i++) {
+            Schedule s = schedules.get(i);
+            slotIndex.put(s.getId(), i);
+            roleIndex.putIfAbsent(s.getRole().getId(), roleIndex.size());
+        }
+
+        AvailabilityMatrix matrix = new AvailabilityMatrix(workers.size(), schedules.size(), roleIndex.size());
+        for (int i = 0; i < schedules.size(); i++) {
+            Schedule s = schedules.get(i);
+            matrix.setSlotRole(i, roleIndex.get(s.getRole().getId()));
+            for (ScheduleAssignment a : s.getAssignments()) {
+                Integer w = workerIndex.get(a.getMember().getId());
+                if (w != null) matrix.markAssigned(i, w);
+            }
+        }
+        for (ScheduleSlotAvailability a : availabilities) {
+            if (!a.isWilling()) continue;
+            matrix.markWilling(slotIndex.get(a.getSchedule().getId()), workerIndex.get(a.getMember().getId()));
+        }
+        for (CompanyMemberRole cmr : memberRoles) {
+            matrix.markEligible(roleIndex.get(cmr.getRole().getId()), workerIndex.get(cmr.getMember().getId()));
+        }
+
+        for (int i = 0; i < schedules.size(); i++) {
+            bh.consume(matrix.candidates(i));
+        }
+    }
+
+    private static <T> T withId(T entity) {
+        try {
+            Field id = entity.getClass().getDeclaredField("id");
+            id.setAccessible(true);
+            id.set(entity, UUID.randomUUID());
+            return entity;
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
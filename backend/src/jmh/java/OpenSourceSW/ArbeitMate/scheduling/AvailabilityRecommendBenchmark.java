@@ -0,0 +1,91 @@
+package OpenSourceSW.ArbeitMate.scheduling;
+
+import OpenSourceSW.ArbeitMate.domain.*;
+import OpenSourceSW.ArbeitMate.domain.enums.PeriodType;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 근무자 슬롯 추천 판정 (DB 조회 제외): 500개 슬롯(월간) x 근무자 패턴 30개
+ * - naive: 슬롯마다 전체 패턴 stream().anyMatch + 추천/기타를 각각 정렬
+ * - index: 패턴을 요일별 분 구간 인덱스로 한 번 컴파일 + 슬롯을 한 번 정렬 후 분리
+ * 목표: 500 슬롯 기간 응답 20ms 이내 - 아직 측정하지 않음 (이 벤치마크 결과도, 엔드포인트 응답 시간도 기록 없음)
+ * 목표 달성 여부는 검증되지 않았으므로, 수치를 기록하기 전까지 인덱스 방식의 효과를 전제로 삼지 않는다.
+ *
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AvailabilityRecommendBenchmark {
+
+    private static final LocalDate START = LocalDate.of(2025, 12, 1);
+
+    private List<Schedule> slots;
+    private List<MemberAvailability> patterns;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Member owner = Member.create("owner@test.com", "사장");
+        Company company = Company.create("카페 A", owner, "서울", "CODE1");
+        CompanyRole hall = CompanyRole.create(company, "홀");
+        SchedulePeriod period = SchedulePeriod.create(company, "2025-12", PeriodType.MONTHLY,
+                START, START.plusDays(30), LocalDateTime.of(2025, 11, 28, 0, 0));
+
+        slots = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            int start = 7 + (i * 5) % 14;
+            slots.add(Schedule.createDetached(company, period, hall, START.plusDays((i * 7) % 31),
+                    LocalTime.of(start, 0), LocalTime.of(start + 3, 0), 1));
+        }
+
+        Member w = Member.create("w1@test.com", "알바1");
+        patterns = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            int start = 6 + (i * 3) % 15;
+            patterns.add(MemberAvailability.create(company, w, i % 7, LocalTime.of(start, 0), LocalTime.of(start + 2, 0),
+                    START.minusDays(30 - i), (i % 4 == 0) ? START.plusDays(i) : null));
+        }
+    }
+
+    @Benchmark
+    public int naive() {
+        List<Schedule> recommended = new ArrayList<>();
+        List<Schedule> others = new ArrayList<>();
+        for (Schedule slot : slots) {
+            LocalDate date = slot.getWorkDate();
+            int dow = date.getDayOfWeek().getValue() - 1;
+            boolean match = patterns.stream().anyMatch(p -> p.getDow() == dow && p.isEffectiveOn(date)
+                    && p.overlaps(slot.getStartTime(), slot.getEndTime()));
+            if (match) recommended.add(slot);
+            else others.add(slot);
+        }
+        Comparator<Schedule> order = Comparator.comparing(Schedule::getWorkDate).thenComparing(Schedule::getStartTime);
+        return recommended.stream().sorted(order).toList().size() + others.stream().sorted(order).toList().size();
+    }
+
+    @Benchmark
+    public int index() {
+        AvailabilityPatternIndex index = new AvailabilityPatternIndex(patterns);
+        List<Schedule> sorted = new ArrayList<>(slots);
+        sorted.sort(Comparator.comparing(Schedule::getWorkDate).thenComparing(Schedule::getStartTime));
+
+        List<Schedule> recommended = new ArrayList<>();
+        List<Schedule> others = new ArrayList<>();
+        for (Schedule slot : sorted) {
+            if (index.matches(slot.getWorkDate(), slot.getStartTime(), slot.getEndTime())) recommended.add(slot);
+            else others.add(slot);
+        }
+        return recommended.size() + others.size();
+    }
+}
@@ -0,0 +1,63 @@
+package OpenSourceSW.ArbeitMate.scheduling;
+
+import OpenSourceSW.ArbeitMate.scheduling.impl.MaxFlowAssignmentEngine;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 한 달(31일) 자동 배치: 한 번에 풀기 vs 근무일별 병렬 풀이 (스레드 1/4/8)
+ * 하루 64슬롯 x 31일, 근무자 150명, 슬롯당 후보 40명.
+ * 아직 실행 결과를 기록하지 않았다. (1/4/8 코어 비교 수치 없음, 병렬 풀이 속도 향상은 검증되지 않음)
+ * 4/8 스레드 수치는 코어가 그만큼 있는 환경에서 재야 의미가 있다.
+ *
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PartitionedSolveBenchmark {
+
+    @Param({"1", "4", "8"})
+    public int parallelism;
+
+    private final MaxFlowAssignmentEngine engine = new MaxFlowAssignmentEngine();
+    private PartitionedAssignmentSolver solver;
+    private AssignmentProblem problem;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        int workers = 150;
+        AssignmentProblem.Builder b = AssignmentProblem.builder(workers);
+        for (int d = 0; d < 31; d++) {
+            for (int k = 0; k < 64; k++) {
+                int start = 540 + (k % 4) * 180;
+                int[] candidates = random.ints(0, workers).distinct().limit(40).sorted().toArray();
+                b.addSlot(20_423 + d, start, start + 180, 2, candidates); // 2025-12-01 부터
+            }
+        }
+        for (int w = 0; w < workers; w++) b.weeklyHours(w, null, 40);
+        problem = b.seed(42L).build();
+        solver = new PartitionedAssignmentSolver(parallelism);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        solver.shutdown();
+    }
+
+    @Benchmark
+    public AssignmentResult whole() {
+        return engine.assign(problem);
+    }
+
+    @Benchmark
+    public AssignmentResult partitioned() {
+        return solver.solve(engine, problem);
+    }
+}
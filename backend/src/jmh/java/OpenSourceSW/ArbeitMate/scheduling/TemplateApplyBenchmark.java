@@ -0,0 +1,81 @@
+package OpenSourceSW.ArbeitMate.scheduling;
+
+import OpenSourceSW.ArbeitMate.domain.*;
+import OpenSourceSW.ArbeitMate.domain.enums.PeriodType;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 템플릿 적용 (DB 저장 제외): 60개 항목 템플릿을 90일 기간에 펼치기
+ * - naive: 날짜마다 전체 항목을 훑어 요일 비교 + Schedule.create (회사 schedules 컬렉션 중복 검사)
+ * - calendar: 요일별로 묶은 항목을 한 번 훑기 + Schedule.createDetached
+ * 아직 실행 결과를 기록하지 않았다. (naive/calendar 비교 수치 없음, DB 일괄 저장 효과도 별도 측정 필요)
+ *
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TemplateApplyBenchmark {
+
+    private static final LocalDate START = LocalDate.of(2025, 12, 1);
+    private static final LocalDate END = START.plusDays(89);
+
+    private Member owner;
+    private StaffingTemplate template;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        owner = Member.create("owner@test.com", "사장");
+        Company company = Company.create("카페 A", owner, "서울", "CODE1");
+        CompanyRole[] roles = {
+                CompanyRole.create(company, "홀"),
+                CompanyRole.create(company, "주방"),
+                CompanyRole.create(company, "카운터")
+        };
+        template = StaffingTemplate.create(company, "기본", owner);
+        for (int i = 0; i < 60; i++) {
+            int start = 8 + (i % 5) * 3;
+            StaffingTemplateItem.create(template, roles[i % 3], i % 7,
+                    LocalTime.of(start, 0), LocalTime.of(start + 3, 0), 1 + i % 3);
+        }
+    }
+
+    /** 적용 대상 기간 (호출마다 새 회사 -> schedules 컬렉션이 누적되지 않도록) */
+    private SchedulePeriod newPeriod() {
+        Company company = Company.create("카페 A", owner, "서울", "CODE1");
+        return SchedulePeriod.create(company, "Q1", PeriodType.CUSTOM, START, END, LocalDateTime.of(2025, 11, 30, 0, 0));
+    }
+
+    @Benchmark
+    public List<Schedule> naive() {
+        SchedulePeriod period = newPeriod();
+        List<Schedule> schedules = new ArrayList<>();
+        for (LocalDate date = START; !date.isAfter(END); date = date.plusDays(1)) {
+            int dow = date.getDayOfWeek().getValue() - 1;
+            for (StaffingTemplateItem item : template.getItems()) {
+                if (item.getDow() != dow) continue;
+                schedules.add(Schedule.create(period.getCompany(), period, item.getRole(), date,
+                        item.getStartTime(), item.getEndTime(), item.getHeadcount()));
+            }
+        }
+        return schedules;
+    }
+
+    @Benchmark
+    public List<Schedule> calendar() {
+        SchedulePeriod period = newPeriod();
+        StaffingTemplateCalendar calendar = new StaffingTemplateCalendar(template.getItems());
+        return calendar.expand(START, END, (date, item) -> Schedule.createDetached(period.getCompany(), period,
+                item.getRole(), date, item.getStartTime(), item.getEndTime(), item.getHeadcount()));
+    }
+}
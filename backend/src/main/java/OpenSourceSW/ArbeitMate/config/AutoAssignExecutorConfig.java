@@ -0,0 +1,30 @@
+package OpenSourceSW.ArbeitMate.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 비동기 자동 편성 작업 실행기
+ * 작업마다 DB 커넥션을 하나씩 쓰므로 동시 실행 수를 커넥션 풀보다 작게 제한하고, 넘치는 작업은 대기열에 쌓는다.
+ * (대기열까지 가득 차면 작업은 FAILED 로 기록된다)
+ */
+@Configuration
+public class AutoAssignExecutorConfig {
+
+    @Bean(name = "autoAssignExecutor")
+    public ThreadPoolTaskExecutor autoAssignExecutor(
+            @Value("${autoAssign.executor.poolSize:4}") int poolSize,
+            @Value("${autoAssign.executor.queueCapacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("auto-assign-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,26 @@
+package OpenSourceSW.ArbeitMate.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 고정 근무 발생분 갱신 실행기
+ * 같은 근무자의 갱신이 동시에 돌면 (member, date, role, start) 유니크 키가 충돌하므로 스레드 하나로 순서대로 처리한다.
+ */
+@Configuration
+public class FixedShiftOccurrenceConfig {
+
+    @Bean(name = "fixedShiftOccurrenceExecutor")
+    public ThreadPoolTaskExecutor fixedShiftOccurrenceExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("fixed-shift-occurrence-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+}
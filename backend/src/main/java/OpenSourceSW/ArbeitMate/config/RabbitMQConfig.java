@@ -1,14 +1,77 @@
 package OpenSourceSW.ArbeitMate.config;
 
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
 import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.QueueBuilder;
+import org.springframework.amqp.rabbit.config.RetryInterceptorBuilder;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.retry.MessageBatchRecoverer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.amqp.SimpleRabbitListenerContainerFactoryConfigurer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
 public class RabbitMQConfig {
 
+    public static final String AVAILABILITY_SUBMISSION_QUEUE = "availability_submission_queue";
+    public static final String AVAILABILITY_SUBMISSION_DLQ = "availability_submission_queue.dlq";
+
     @Bean
     public Queue notificationQueue() {
         return new Queue("notification_queue", false);
     }
-}
\ No newline at end of file
+
+    /**
+     * 가용 시간 제출 write-behind 대기열 (접수 후 반영 전이므로 유실되지 않도록 durable)
+     * 거부된 메시지는 기본 exchange 를 거쳐 DLQ 로 간다.
+     */
+    @Bean
+    public Queue availabilitySubmissionQueue() {
+        return QueueBuilder.durable(AVAILABILITY_SUBMISSION_QUEUE)
+                .deadLetterExchange("")
+                .deadLetterRoutingKey(AVAILABILITY_SUBMISSION_DLQ)
+                .build();
+    }
+
+    /**
+     * 반영하지 못한 가용 시간 제출 보관 (원인 해결 후 원래 대기열로 옮기면 다시 반영, 이미 더 새로운 제출이 있으면 건너뜀)
+     */
+    @Bean
+    public Queue availabilitySubmissionDeadLetterQueue() {
+        return QueueBuilder.durable(AVAILABILITY_SUBMISSION_DLQ).build();
+    }
+
+    /**
+     * 가용 시간 제출 묶음 소비용
+     * 소비자 1개가 최대 batchSize 개(또는 receiveTimeout 동안 모인 만큼)를 한 번에 받아 기간별로 반영한다.
+     * 리스너 밖으로 나온 예외는 maxAttempts 번까지만 다시 시도하고, 그래도 실패하면 재큐 없이 거부해 DLQ 로 보낸다.
+     */
+    @Bean
+    public SimpleRabbitListenerContainerFactory availabilityBatchContainerFactory(
+            ConnectionFactory connectionFactory,
+            SimpleRabbitListenerContainerFactoryConfigurer configurer,
+            @Value("${availability.writeBehind.batchSize:200}") int batchSize,
+            @Value("${availability.writeBehind.receiveTimeoutMs:200}") long receiveTimeoutMs,
+            @Value("${availability.writeBehind.maxAttempts:3}") int maxAttempts) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        configurer.configure(factory, connectionFactory);
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(batchSize);
+        factory.setReceiveTimeout(receiveTimeoutMs);
+        factory.setPrefetchCount(batchSize);
+        factory.setConcurrentConsumers(1);
+        factory.setMaxConcurrentConsumers(1);
+        factory.setDefaultRequeueRejected(false);
+        factory.setAdviceChain(RetryInterceptorBuilder.stateless()
+                .maxAttempts(maxAttempts)
+                .backOffOptions(500, 2.0, 5000)
+                .recoverer((MessageBatchRecoverer) (messages, cause) -> {
+                    throw new AmqpRejectAndDontRequeueException("가용 시간 제출 묶음 재시도 초과", cause);
+                })
+                .build());
+        return factory;
+    }
+}
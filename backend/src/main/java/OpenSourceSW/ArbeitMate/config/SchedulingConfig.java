@@ -0,0 +1,15 @@
+package OpenSourceSW.ArbeitMate.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * @Scheduled 작업 활성화
+ * - 고정 근무 발생분 범위 밀기 (FixedShiftOccurrenceMaterializer)
+ * - 자동 배치 작업 하트비트 / 멈춘 작업 정리 (AutoAssignJobRunner)
+ * - 가용 시간 자동 채우기 (AvailabilityAutoFillScheduler)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
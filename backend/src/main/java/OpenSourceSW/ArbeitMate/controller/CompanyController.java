@@ -152,6 +152,19 @@ public class CompanyController {
         return new ResponseEntity<>(HttpStatus.OK);
     }
 
+    /**
+     * 직원 주간 근무시간 범위 설정 (사장 전용)
+     */
+    @PatchMapping("/{companyId}/workers/{companyMemberId}/weekly-hours")
+    public ResponseEntity<CompanyWorkerResponse> updateWeeklyHours(
+            @AuthenticationPrincipal AuthPrincipal principal,
+            @PathVariable UUID companyId,
+            @PathVariable UUID companyMemberId,
+            @Valid @RequestBody UpdateWeeklyHoursRequest req) {
+        var res = companyService.updateWeeklyHours(principal.memberId(), companyId, companyMemberId, req);
+        return ResponseEntity.ok(res);
+    }
+
     /**
      * 본인 역할 조회 (직원)
      */
@@ -1,14 +1,21 @@
 package OpenSourceSW.ArbeitMate.controller;
 
+import OpenSourceSW.ArbeitMate.dto.request.BulkUpdateFixedShiftRequest;
 import OpenSourceSW.ArbeitMate.dto.request.UpdateFixedShiftRequest;
+import OpenSourceSW.ArbeitMate.dto.response.BulkFixedShiftResponse;
+import OpenSourceSW.ArbeitMate.dto.response.FixedShiftOccurrenceResponse;
 import OpenSourceSW.ArbeitMate.dto.response.FixedShiftResponse;
 import OpenSourceSW.ArbeitMate.security.AuthPrincipal;
+import OpenSourceSW.ArbeitMate.service.FixedShiftOccurrenceService;
 import OpenSourceSW.ArbeitMate.service.ScheduleService;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 
@@ -18,6 +25,7 @@ import java.util.UUID;
 public class FixedShiftController {
 
     private final ScheduleService scheduleService;
+    private final FixedShiftOccurrenceService fixedShiftOccurrenceService;
 
     /**
      * 전체 고정 근무자 설정 조회
@@ -31,6 +39,20 @@ public class FixedShiftController {
         return ResponseEntity.ok(res);
     }
 
+    /**
+     * 기간 내 고정 근무 발생분 조회 (사장: 전체, 근무자: 본인)
+     */
+    @GetMapping("/occurrences")
+    public ResponseEntity<List<FixedShiftOccurrenceResponse>> getFixedShiftOccurrences(
+            @AuthenticationPrincipal AuthPrincipal principal,
+            @PathVariable UUID companyId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+
+        var res = fixedShiftOccurrenceService.getOccurrences(principal.memberId(), companyId, from, to);
+        return ResponseEntity.ok(res);
+    }
+
     /**
      * 특정 고정 근무자 설정 조회
      */
@@ -57,4 +79,17 @@ public class FixedShiftController {
         var res =  scheduleService.updateFixedShift(principal.memberId(), companyId, companyMemberId, req);
         return ResponseEntity.ok(res);
     }
+
+    /**
+     * 고정 근무자 일괄 설정/변경 (직원별 성공/실패 결과 반환)
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkFixedShiftResponse> bulkUpdateFixedShiftConfig(
+            @AuthenticationPrincipal AuthPrincipal principal,
+            @PathVariable UUID companyId,
+            @Valid @RequestBody BulkUpdateFixedShiftRequest req) {
+
+        var res = scheduleService.bulkUpdateFixedShifts(principal.memberId(), companyId, req);
+        return ResponseEntity.ok(res);
+    }
 }
@@ -3,15 +3,30 @@ package OpenSourceSW.ArbeitMate.controller;
 import OpenSourceSW.ArbeitMate.dto.request.*;
 import OpenSourceSW.ArbeitMate.dto.response.*;
 import OpenSourceSW.ArbeitMate.security.AuthPrincipal;
+import OpenSourceSW.ArbeitMate.service.AutoAssignJobService;
+import OpenSourceSW.ArbeitMate.service.AvailabilityAutoFillService;
+import OpenSourceSW.ArbeitMate.service.AvailabilitySubmissionBuffer;
+import OpenSourceSW.ArbeitMate.service.AutoAssignSimulationService;
 import OpenSourceSW.ArbeitMate.service.ScheduleService;
+import OpenSourceSW.ArbeitMate.service.ScheduleSlotImportService;
+import OpenSourceSW.ArbeitMate.service.SlotRecurrenceService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.RuntimeJsonMappingException;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.parameters.P;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 
@@ -24,6 +39,13 @@ import java.util.UUID;
 public class ScheduleController {
 
     private final ScheduleService scheduleService;
+    private final AutoAssignJobService autoAssignJobService;
+    private final AutoAssignSimulationService autoAssignSimulationService;
+    private final ScheduleSlotImportService scheduleSlotImportService;
+    private final SlotRecurrenceService slotRecurrenceService;
+    private final AvailabilitySubmissionBuffer availabilitySubmissionBuffer;
+    private final AvailabilityAutoFillService availabilityAutoFillService;
+    private final ObjectMapper objectMapper;
 
     /**
      * 커스텀 스케쥴 기간 생성 (시작일/종료일)
@@ -78,6 +100,112 @@ public class ScheduleController {
         return ResponseEntity.ok(res);
     }
 
+    /**
+     * 대량 슬롯 스트리밍 생성 (본문: 슬롯 JSON 배열)
+     * 본문을 한꺼번에 읽지 않고 한 건씩 읽어 저장하므로 수만 개 슬롯도 메모리 사용량이 일정하다.
+     */
+    @PostMapping(value = "/{periodId}/create/slots/stream", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<SlotImportResponse> importSlots(
+            @AuthenticationPrincipal AuthPrincipal principal,
+            @PathVariable UUID companyId,
+            @PathVariable UUID periodId,
+            HttpServletRequest request) throws IOException {
+
+        try (MappingIterator<CreateScheduleSlotRequest> slots = objectMapper
+                .readerFor(CreateScheduleSlotRequest.class)
+                .readValues(request.getInputStream())) {
+
+            var res = scheduleSlotImportService.importSlots(principal.memberId(), companyId, periodId, slots);
+            return ResponseEntity.ok(res);
+        } catch (JsonProcessingException | RuntimeJsonMappingException e) {
+            throw new IllegalArgumentException("슬롯 JSON 형식이 올바르지 않습니다.");
+        }
+    }
+
+    /**
+     * 스케쥴 기간 복제 (슬롯을 shiftDays 만큼 밀어서 새 DRAFT 기간 생성, 선택 시 배정 포함)
+     */
+    @PostMapping("/{periodId}/clone")
+    public ResponseEntity<ClonePeriodResponse> clonePeriod(
+            @AuthenticationPrincipal AuthPrincipal principal,
+            @PathVariable UUID companyId,
+            @PathVariable UUID periodId,
+            @RequestBody ClonePeriodRequest req) {
+
+        var res = scheduleService.clonePeriod(principal.memberId(), companyId, periodId, req);
+        return ResponseEntity.ok(res);
+    }
+
+    /**
+     * 반복 슬롯 규칙 추가 (DRAFT 기간, OPEN 시 실제 슬롯으로 변환)
+     */
+    @PostMapping("/{periodId}/recurrences")
+    public ResponseEntity<SlotRecurrenceResponse> createRecurrence(
+            @AuthenticationPrincipal AuthPrincipal principal,
+            @PathVariable UUID companyId,
+            @PathVariable UUID periodId,
+            @Valid @RequestBody CreateSlotRecurrenceRequest req) {
+
+        var res = slotRecurrenceService.createRecurrence(principal.memberId(), companyId, periodId, req);
+        return ResponseEntity.ok(res);
+    }
+
+    /**
+     * 반복 슬롯 규칙 목록 조회
+     */
+    @GetMapping("/{periodId}/recurrences")
+    public ResponseEntity<List<SlotRecurrenceResponse>> getRecurrences(
+            @AuthenticationPrincipal AuthPrincipal principal,
+            @PathVariable UUID companyId,
+            @PathVariable UUID periodId) {
+
+        var res = slotRecurrenceService.getRecurrences(principal.memberId(), companyId, periodId);
+        return ResponseEntity.ok(res);
+    }
+
+    /**
+     * 반복 슬롯 규칙 예외 날짜 추가
+     */
+    @PostMapping("/{periodId}/recurrences/{recurrenceId}/exceptions/{date}")
+    public ResponseEntity<SlotRecurrenceResponse> addRecurrenceException(
+            @AuthenticationPrincipal AuthPrincipal principal,
+            @PathVariable UUID companyId,
+            @PathVariable UUID periodId,
+            @PathVariable UUID recurrenceId,
+            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+
+        var res = slotRecurrenceService.addExceptionDate(principal.memberId(), companyId, periodId, recurrenceId, date);
+        return ResponseEntity.ok(res);
+    }
+
+    /**
+     * 반복 슬롯 규칙 예외 날짜 해제
+     */
+    @DeleteMapping("/{periodId}/recurrences/{recurrenceId}/exceptions/{date}")
+    public ResponseEntity<SlotRecurrenceResponse> removeRecurrenceException(
+            @AuthenticationPrincipal AuthPrincipal principal,
+            @PathVariable UUID companyId,
+            @PathVariable UUID periodId,
+            @PathVariable UUID recurrenceId,
+            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+
+        var res = slotRecurrenceService.removeExceptionDate(principal.memberId(), companyId, periodId, recurrenceId, date);
+        return ResponseEntity.ok(res);
+    }
+
+    /**
+     * 반복 슬롯 규칙 삭제
+     */
+    @DeleteMapping("/{periodId}/recurrences/{recurrenceId}")
+    public ResponseEntity<Void> deleteRecurrence(
+            @AuthenticationPrincipal AuthPrincipal principal,
+            @PathVariable UUID companyId,
+            @PathVariable UUID periodId,
+            @PathVariable UUID recurrenceId) {
+        slotRecurrenceService.deleteRecurrence(principal.memberId(), companyId, periodId, recurrenceId);
+        return new ResponseEntity<>(HttpStatus.OK);
+    }
+
     /**
      * 특정 기간 + 슬롯 조회
      */
@@ -192,6 +320,19 @@ public class ScheduleController {
         return ResponseEntity.ok(res);
     }
 
+    /**
+     * 여러 과거 기간 기반 자동 템플릿 생성 (MAX / MEDIAN / P80 집계)
+     */
+    @PostMapping("/create-auto/staffing-templates")
+    public ResponseEntity<StaffingTemplateResponse> mineTemplateFromPeriods(
+            @AuthenticationPrincipal AuthPrincipal principal,
+            @PathVariable UUID companyId,
+            @Valid @RequestBody MineTemplateRequest req) {
+
+        var res = scheduleService.mineTemplateFromPeriods(principal.memberId(), companyId, req);
+        return ResponseEntity.ok(res);
+    }
+
     /**
      * 회사의 템플릿 목록 조회
      */
@@ -218,6 +359,34 @@ public class ScheduleController {
         return ResponseEntity.ok(res);
     }
 
+    /**
+     * 특정 기간에 템플릿 재적용 (기존 슬롯 id 유지, 차이만 반영)
+     */
+    @PostMapping("/{periodId}/apply-template/{templateId}/reconcile")
+    public ResponseEntity<TemplateReconcileResponse> reconcileTemplateToPeriod(
+            @AuthenticationPrincipal AuthPrincipal principal,
+            @PathVariable UUID companyId,
+            @PathVariable UUID periodId,
+            @PathVariable UUID templateId) {
+
+        var res = scheduleService.reconcileTemplateToPeriod(principal.memberId(), companyId, periodId, templateId);
+        return ResponseEntity.ok(res);
+    }
+
+    /**
+     * 여러 기간에 템플릿 일괄 적용 (기간별 성공/실패 결과 반환)
+     */
+    @PostMapping("/templates/{templateId}/rollout")
+    public ResponseEntity<TemplateRolloutResponse> rolloutTemplate(
+            @AuthenticationPrincipal AuthPrincipal principal,
+            @PathVariable UUID companyId,
+            @PathVariable UUID templateId,
+            @RequestBody RolloutTemplateRequest req) {
+
+        var res = scheduleService.rolloutTemplate(principal.memberId(), companyId, templateId, req);
+        return ResponseEntity.ok(res);
+    }
+
     /**
      * 템플릿 삭제
      */
@@ -253,8 +422,24 @@ public class ScheduleController {
             @PathVariable UUID periodId,
             @RequestBody SubmitAvailabilityRequest req) {
 
-        scheduleService.submitAvailability(principal.memberId(), companyId, periodId, req);
-        return new ResponseEntity<>(HttpStatus.OK);
+        // write-behind 가 켜져 있으면 접수만 하고 202 (반영 전에도 본인 조회에는 바로 보임)
+        boolean buffered = availabilitySubmissionBuffer.submit(principal.memberId(), companyId, periodId, req);
+        return new ResponseEntity<>(buffered ? HttpStatus.ACCEPTED : HttpStatus.OK);
+    }
+
+    /**
+     * 가용 시간 변경분 제출 (근무자) - 추가/해제한 슬롯만 반영
+     */
+    @PatchMapping("/{periodId}/availability/submit")
+    public ResponseEntity<AvailabilityPatchResponse> patchAvailability(
+            @AuthenticationPrincipal AuthPrincipal principal,
+            @PathVariable UUID companyId,
+            @PathVariable UUID periodId,
+            @RequestBody PatchAvailabilityRequest req) {
+
+        // write-behind 가 켜져 있으면 접수만 하고 202 (앞서 접수된 제출 뒤에 순서대로 반영)
+        var res = availabilitySubmissionBuffer.patch(principal.memberId(), companyId, periodId, req);
+        return new ResponseEntity<>(res, res.isPending() ? HttpStatus.ACCEPTED : HttpStatus.OK);
     }
 
     /**
@@ -271,18 +456,100 @@ public class ScheduleController {
     }
 
     /**
-     * 자동 편성 실행
+     * 미제출자 가용 시간 자동 채우기 설정 (사장) - 오픈 직후 / 마감 직후 / 사용 안 함
      */
-    @PostMapping("/{periodId}/auto-assign")
-    public ResponseEntity<List<ScheduleAssignmentSlotResponse>> autoAssignSchedules(
+    @PatchMapping("/{periodId}/availability/auto-fill")
+    public ResponseEntity<SchedulePeriodResponse> configureAvailabilityAutoFill(
+            @AuthenticationPrincipal AuthPrincipal principal,
+            @PathVariable UUID companyId,
+            @PathVariable UUID periodId,
+            @RequestBody UpdateAvailabilityAutoFillRequest req) {
+
+        var res = availabilityAutoFillService.configure(principal.memberId(), companyId, periodId, req);
+        return ResponseEntity.ok(res);
+    }
+
+    /**
+     * 미제출자 가용 시간 지금 자동 채우기 (사장)
+     */
+    @PostMapping("/{periodId}/availability/auto-fill")
+    public ResponseEntity<AvailabilityAutoFillResponse> fillAvailability(
             @AuthenticationPrincipal AuthPrincipal principal,
             @PathVariable UUID companyId,
             @PathVariable UUID periodId) {
 
-        var result = scheduleService.autoAssignSchedules(principal.memberId(), companyId, periodId);
+        var res = availabilityAutoFillService.fillNow(principal.memberId(), companyId, periodId);
+        return ResponseEntity.ok(res);
+    }
+
+    /**
+     * 자동 편성 실행 (body 생략 시 OPTIMAL 모드)
+     */
+    @PostMapping("/{periodId}/auto-assign")
+    public ResponseEntity<AutoAssignResponse> autoAssignSchedules(
+            @AuthenticationPrincipal AuthPrincipal principal,
+            @PathVariable UUID companyId,
+            @PathVariable UUID periodId,
+            @RequestBody(required = false) AutoAssignRequest req) {
+
+        var result = scheduleService.autoAssignSchedules(principal.memberId(), companyId, periodId, req);
         return ResponseEntity.ok(result);
     }
 
+    /**
+     * 자동 편성 작업 요청 (비동기, 작업 id 즉시 반환)
+     */
+    @PostMapping("/{periodId}/auto-assign/jobs")
+    public ResponseEntity<AutoAssignJobResponse> submitAutoAssignJob(
+            @AuthenticationPrincipal AuthPrincipal principal,
+            @PathVariable UUID companyId,
+            @PathVariable UUID periodId,
+            @RequestBody(required = false) AutoAssignRequest req) {
+
+        var res = autoAssignJobService.submit(principal.memberId(), companyId, periodId, req);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(res);
+    }
+
+    /**
+     * 마지막 자동 편성의 미충원 리포트 조회
+     */
+    @GetMapping("/{periodId}/coverage-gaps")
+    public ResponseEntity<CoverageGapReportResponse> getCoverageGapReport(
+            @AuthenticationPrincipal AuthPrincipal principal,
+            @PathVariable UUID companyId,
+            @PathVariable UUID periodId) {
+
+        var res = scheduleService.getCoverageGapReport(principal.memberId(), companyId, periodId);
+        return ResponseEntity.ok(res);
+    }
+
+    /**
+     * 자동 편성 시뮬레이션 (정원/가용 변경분 반영, 저장하지 않음)
+     */
+    @PostMapping("/{periodId}/auto-assign/simulate")
+    public ResponseEntity<AutoAssignSimulationResponse> simulateAutoAssign(
+            @AuthenticationPrincipal AuthPrincipal principal,
+            @PathVariable UUID companyId,
+            @PathVariable UUID periodId,
+            @Valid @RequestBody(required = false) SimulateAutoAssignRequest req) {
+
+        var res = autoAssignSimulationService.simulate(principal.memberId(), companyId, periodId, req);
+        return ResponseEntity.ok(res);
+    }
+
+    /**
+     * 자동 편성 작업 상태/결과 조회
+     */
+    @GetMapping("/auto-assign/jobs/{jobId}")
+    public ResponseEntity<AutoAssignJobResponse> getAutoAssignJob(
+            @AuthenticationPrincipal AuthPrincipal principal,
+            @PathVariable UUID companyId,
+            @PathVariable UUID jobId) {
+
+        var res = autoAssignJobService.getJob(principal.memberId(), companyId, jobId);
+        return ResponseEntity.ok(res);
+    }
+
     /**
      * 수동 편성 반영
      */
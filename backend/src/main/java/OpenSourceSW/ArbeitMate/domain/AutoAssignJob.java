@@ -0,0 +1,124 @@
+package OpenSourceSW.ArbeitMate.domain;
+
+import OpenSourceSW.ArbeitMate.domain.enums.AssignmentMode;
+import OpenSourceSW.ArbeitMate.domain.enums.AutoAssignJobStatus;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 역할: 비동기 자동 편성 작업 상태 관리
+ * 사용 예시: 작업 요청 후 작업 id 로 진행 상태/결과 폴링
+ */
+@Entity
+@Table(name = "auto_assign_jobs",
+        indexes = @Index(name = "idx_auto_assign_job_period_status", columnList = "period_id,status"))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class AutoAssignJob {
+
+    @Id @GeneratedValue(strategy = GenerationType.UUID)
+    @Column(name = "auto_assign_job_id", updatable = false, nullable = false)
+    private UUID id;
+
+    @ManyToOne(fetch = FetchType.LAZY) @JoinColumn(name = "company_id", nullable = false)
+    private Company company;
+
+    @ManyToOne(fetch = FetchType.LAZY) @JoinColumn(name = "period_id", nullable = false)
+    private SchedulePeriod period;
+
+    @ManyToOne(fetch = FetchType.LAZY) @JoinColumn(name = "requested_by_member_id", nullable = false)
+    private Member requestedBy;
+
+    @Enumerated(EnumType.STRING) @Column(nullable = false)
+    private AssignmentMode mode;
+    private Long seed; // null: 기간에 저장된 시드 사용
+    @Column(nullable = false) private boolean incremental; // 변경된 슬롯만 다시 배치
+
+    /**
+     * 순서: 대기(QUEUED) -> 실행 중(RUNNING) -> 완료(SUCCEEDED) / 실패(FAILED)
+     */
+    @Enumerated(EnumType.STRING) @Column(nullable = false)
+    private AutoAssignJobStatus status;
+
+    @Column(nullable = false) private int progress; // 0 ~ 100 (시작 10 -> 입력 구성 30 -> 배치 계산 70 -> 결과 기록 90 -> 완료 100)
+    @Column(length = 1000) private String errorMessage;
+
+    @Column(nullable = false) private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private LocalDateTime heartbeatAt; // 실행 중인 서버가 주기적으로 갱신 (끊기면 멈춘 작업으로 보고 실패 처리)
+
+    @PrePersist
+    private void prePersist() {
+        if (createdAt == null) createdAt = LocalDateTime.now();
+    }
+
+    //== 생성 메서드 ==//
+    public static AutoAssignJob create(Company company, SchedulePeriod period, Member requestedBy,
+                                       AssignmentMode mode, Long seed, boolean incremental) {
+        AutoAssignJob job = new AutoAssignJob();
+        job.company = company;
+        job.period = period;
+        job.requestedBy = requestedBy;
+        job.mode = (mode != null) ? mode : AssignmentMode.OPTIMAL;
+        job.seed = seed;
+        job.incremental = incremental;
+        job.status = AutoAssignJobStatus.QUEUED;
+        job.progress = 0;
+        return job;
+    }
+
+    //== 비즈니스 로직 ==//
+    public boolean isFinished() {
+        return status == AutoAssignJobStatus.SUCCEEDED || status == AutoAssignJobStatus.FAILED;
+    }
+
+    /** QUEUED -> RUNNING */
+    public void start() {
+        if (this.status != AutoAssignJobStatus.QUEUED) {
+            throw new IllegalStateException("대기 중인 작업만 시작할 수 있습니다.");
+        }
+        this.status = AutoAssignJobStatus.RUNNING;
+        this.progress = 10;
+        this.startedAt = LocalDateTime.now();
+        this.heartbeatAt = this.startedAt;
+    }
+
+    /** 실행 중 단계 진행률 (뒤로 가지 않음) */
+    public void reportProgress(int progress) {
+        if (this.status != AutoAssignJobStatus.RUNNING) return;
+        this.progress = Math.max(this.progress, Math.min(progress, 99));
+    }
+
+    /** RUNNING -> SUCCEEDED */
+    public void succeed() {
+        if (this.status != AutoAssignJobStatus.RUNNING) {
+            throw new IllegalStateException("실행 중인 작업만 완료할 수 있습니다.");
+        }
+        this.status = AutoAssignJobStatus.SUCCEEDED;
+        this.progress = 100;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    /** QUEUED/RUNNING -> FAILED */
+    public void fail(String errorMessage) {
+        if (isFinished()) {
+            throw new IllegalStateException("이미 끝난 작업입니다.");
+        }
+        this.status = AutoAssignJobStatus.FAILED;
+        this.errorMessage = (errorMessage != null && errorMessage.length() > 1000)
+                ? errorMessage.substring(0, 1000)
+                : errorMessage;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    /** 마지막으로 살아 있음이 확인된 시각 (실행기에 넘어가기 전이면 요청 시각) */
+    public LocalDateTime lastAliveAt() {
+        return (heartbeatAt != null) ? heartbeatAt : createdAt;
+    }
+}
@@ -54,4 +54,9 @@ public class AvailabilitySubmission {
     public void refreshSubmittedAt() {
         this.submittedAt = LocalDateTime.now();
     }
+
+    /** 대기열로 접수된 제출을 나중에 반영할 때 접수 시각으로 기록 */
+    public void markSubmittedAt(LocalDateTime submittedAt) {
+        this.submittedAt = submittedAt;
+    }
 }
@@ -42,6 +42,9 @@ public class CompanyMember {
     @Column(nullable = false)
     private Integer alertLeadMinutes = 120; // 기본 값: 2시간 전 알림
 
+    private Integer minWeeklyHours; // 주간 최소 희망 근무시간 (null: 제한 없음)
+    private Integer maxWeeklyHours; // 주간 최대 근무시간 (null: 제한 없음)
+
     //== 생성 메서드 ==//
     public static CompanyMember create(Company company, Member member, MembershipRole role, int hourlyWage) {
         CompanyMember cm = new CompanyMember();
@@ -82,4 +85,15 @@ public class CompanyMember {
     public void adjustAlertLeadMinutes(int minutes) {
         this.alertLeadMinutes = minutes;
     }
+
+    /**
+     * 주간 근무시간 범위 설정 (자동 배치 FAIR 모드에서 사용)
+     */
+    public void updateWeeklyHours(Integer minWeeklyHours, Integer maxWeeklyHours) {
+        if (minWeeklyHours != null && maxWeeklyHours != null && minWeeklyHours > maxWeeklyHours) {
+            throw new IllegalArgumentException("주간 최소 근무시간은 최대 근무시간보다 클 수 없습니다.");
+        }
+        this.minWeeklyHours = minWeeklyHours;
+        this.maxWeeklyHours = maxWeeklyHours;
+    }
 }
\ No newline at end of file
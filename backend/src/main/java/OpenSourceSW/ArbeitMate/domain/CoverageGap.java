@@ -0,0 +1,78 @@
+package OpenSourceSW.ArbeitMate.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 역할: 자동 편성 후 정원을 못 채운 슬롯 기록 (미충원 리포트)
+ * 사용 예시: 대시보드에서 재계산 없이 미충원 현황 조회
+ * 슬롯이 다시 만들어져도 리포트가 남도록 슬롯 정보는 값으로 복사해 둔다.
+ */
+@Entity
+@Table(name = "coverage_gaps",
+        indexes = @Index(name = "idx_coverage_gap_period", columnList = "period_id"))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class CoverageGap {
+
+    @Id @GeneratedValue(strategy = GenerationType.UUID)
+    @Column(name = "coverage_gap_id", updatable = false, nullable = false)
+    private UUID id;
+
+    @ManyToOne(fetch = FetchType.LAZY) @JoinColumn(name = "period_id", nullable = false)
+    private SchedulePeriod period;
+
+    @Column(name = "schedule_id", nullable = false) private UUID scheduleId;
+    @Column(nullable = false) private UUID roleId;
+    @Column(nullable = false) private String roleName;
+    @Column(nullable = false) private LocalDate workDate;
+    @Column(nullable = false) private LocalTime startTime;
+    @Column(nullable = false) private LocalTime endTime;
+
+    @Column(nullable = false) private int requiredHeadcount;
+    @Column(nullable = false) private int filledHeadcount;
+
+    @OneToMany(mappedBy = "gap", cascade = CascadeType.ALL, orphanRemoval = true)
+    private List<CoverageGapBlocker> blockers = new ArrayList<>();
+
+    @Column(nullable = false) private LocalDateTime createdAt;
+
+    @PrePersist
+    private void prePersist() {
+        if (createdAt == null) createdAt = LocalDateTime.now();
+    }
+
+    //== 생성 메서드 ==//
+    public static CoverageGap create(SchedulePeriod period, Schedule s, int filledHeadcount) {
+        CoverageGap g = new CoverageGap();
+        g.period = period;
+        g.scheduleId = s.getId();
+        g.roleId = s.getRole().getId();
+        g.roleName = s.getRole().getName();
+        g.workDate = s.getWorkDate();
+        g.startTime = s.getStartTime();
+        g.endTime = s.getEndTime();
+        g.requiredHeadcount = s.getRequiredHeadcount();
+        g.filledHeadcount = filledHeadcount;
+        return g;
+    }
+
+    //== 연관관계 편의 메서드 ==//
+    public void addBlocker(CoverageGapBlocker blocker) {
+        blockers.add(blocker);
+    }
+
+    //== 비즈니스 로직 ==//
+    public int getUnfilledHeadcount() {
+        return Math.max(0, requiredHeadcount - filledHeadcount);
+    }
+}
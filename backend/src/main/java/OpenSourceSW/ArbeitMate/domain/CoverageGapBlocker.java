@@ -0,0 +1,42 @@
+package OpenSourceSW.ArbeitMate.domain;
+
+import OpenSourceSW.ArbeitMate.domain.enums.CoverageBlockReason;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * 역할: 미충원 슬롯에 "가능" 제출했지만 배정되지 못한 근무자와 그 이유
+ */
+@Entity @Table(name = "coverage_gap_blockers")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class CoverageGapBlocker {
+
+    @Id @GeneratedValue(strategy = GenerationType.UUID)
+    @Column(name = "coverage_gap_blocker_id", updatable = false, nullable = false)
+    private UUID id;
+
+    @ManyToOne(fetch = FetchType.LAZY) @JoinColumn(name = "coverage_gap_id", nullable = false)
+    private CoverageGap gap;
+
+    @Column(nullable = false) private UUID memberId;
+    @Column(nullable = false) private String memberName;
+
+    @Enumerated(EnumType.STRING) @Column(nullable = false)
+    private CoverageBlockReason reason;
+
+    //== 생성 메서드 ==//
+    public static CoverageGapBlocker create(CoverageGap gap, Member member, CoverageBlockReason reason) {
+        CoverageGapBlocker b = new CoverageGapBlocker();
+        b.gap = gap;
+        b.memberId = member.getId();
+        b.memberName = member.getName();
+        b.reason = reason;
+        gap.addBlocker(b);
+        return b;
+    }
+}
@@ -55,15 +55,7 @@ public class FixedShift {
                                     LocalTime startTime, LocalTime endTime,
                                     LocalDate effectiveFrom, LocalDate effectiveTo) {
 
-        if (dow < 0 || dow > 6) {
-            throw new IllegalArgumentException("요일(dow)은 0~6 범위여야 합니다. (0=월..6=일)");
-        }
-        if (!endTime.isAfter(startTime)) {
-            throw new IllegalArgumentException("종료 시간은 시작 시간 이후여야 합니다.");
-        }
-        if (effectiveTo != null && effectiveTo.isBefore(effectiveFrom)) {
-            throw new IllegalArgumentException("유효 종료일은 시작일 이전일 수 없습니다.");
-        }
+        validate(dow, startTime, endTime, effectiveFrom, effectiveTo);
 
         FixedShift fs = new FixedShift();
         fs.member = member;
@@ -78,6 +70,22 @@ public class FixedShift {
         return fs;
     }
 
+    /**
+     * 생성 전 값 검증 (create 는 company 에 바로 붙으므로, 여러 건을 만들 때는 먼저 전부 검증)
+     */
+    public static void validate(int dow, LocalTime startTime, LocalTime endTime,
+                                LocalDate effectiveFrom, LocalDate effectiveTo) {
+        if (dow < 0 || dow > 6) {
+            throw new IllegalArgumentException("요일(dow)은 0~6 범위여야 합니다. (0=월..6=일)");
+        }
+        if (!endTime.isAfter(startTime)) {
+            throw new IllegalArgumentException("종료 시간은 시작 시간 이후여야 합니다.");
+        }
+        if (effectiveTo != null && effectiveTo.isBefore(effectiveFrom)) {
+            throw new IllegalArgumentException("유효 종료일은 시작일 이전일 수 없습니다.");
+        }
+    }
+
     //== 연관관계 편의 메서드 ==//
     public void setCompany(Company company) {
         this.company = company;
@@ -0,0 +1,60 @@
+package OpenSourceSW.ArbeitMate.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.UUID;
+
+/**
+ * 역할: 고정 근무 패턴을 날짜별로 펼쳐 둔 발생분 (오늘부터 일정 기간만 유지)
+ * 사용 예시: "다음 주 화요일 고정 근무자" 같은 캘린더/급여 조회를 패턴 재계산 없이 날짜 범위 조회로 처리
+ * (member, work_date, role, start_time) 이 같으면 같은 발생분으로 본다.
+ */
+@Entity
+@Table(name = "fixed_shift_occurrences",
+        uniqueConstraints = @UniqueConstraint(name = "uq_fixed_shift_occurrence",
+                columnNames = {"member_id", "work_date", "role_id", "start_time"}),
+        indexes = @Index(name = "idx_fixed_shift_occurrence_company_date", columnList = "company_id,work_date"))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class FixedShiftOccurrence {
+
+    @Id @GeneratedValue(strategy = GenerationType.UUID)
+    @Column(name = "fixed_shift_occurrence_id", updatable = false, nullable = false)
+    private UUID id;
+
+    @ManyToOne(fetch = FetchType.LAZY) @JoinColumn(name = "company_id", nullable = false)
+    private Company company;
+
+    @ManyToOne(fetch = FetchType.LAZY) @JoinColumn(name = "member_id", nullable = false)
+    private Member member;
+
+    @ManyToOne(fetch = FetchType.LAZY) @JoinColumn(name = "role_id", nullable = false)
+    private CompanyRole role;
+
+    @Column(name = "work_date", nullable = false) private LocalDate workDate;
+    @Column(name = "start_time", nullable = false) private LocalTime startTime;
+    @Column(nullable = false) private LocalTime endTime;
+
+    //== 생성 메서드 ==//
+    public static FixedShiftOccurrence create(FixedShift fs, LocalDate workDate) {
+        FixedShiftOccurrence o = new FixedShiftOccurrence();
+        o.company = fs.getCompany();
+        o.member = fs.getMember();
+        o.role = fs.getRole();
+        o.workDate = workDate;
+        o.startTime = fs.getStartTime();
+        o.endTime = fs.getEndTime();
+        return o;
+    }
+
+    //== 비즈니스 로직 ==//
+    /** 같은 발생분 키에서 종료 시간만 바뀐 경우 */
+    public void updateEndTime(LocalTime endTime) {
+        this.endTime = endTime;
+    }
+}
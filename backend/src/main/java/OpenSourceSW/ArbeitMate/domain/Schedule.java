@@ -19,7 +19,8 @@ import java.util.*;
 @Table(name = "schedules",
         indexes = {
                 @Index(name = "idx_schedules_company_date", columnList = "company_id,work_date"),
-                @Index(name = "idx_schedules_period", columnList = "period_id")
+                // 근무자 가용 시간 화면(findWorkerSlotRows)의 커버링 인덱스, period_id 단독 조회도 이 인덱스로 처리
+                @Index(name = "idx_schedules_period_slot", columnList = "period_id,work_date,start_time,end_time,role_id")
         })
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
@@ -43,6 +44,8 @@ public class Schedule {
     @Column(nullable = false) private LocalTime endTime;
     @Column(nullable = false) private int requiredHeadcount;
 
+    private Long autoAssignSignature; // 마지막 자동 배치 때의 입력 서명 (후보 + 정원), 증분 배치에서 변경 여부 판단
+
     @OneToMany(mappedBy = "schedule", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<ScheduleAssignment> assignments = new ArrayList<>();
 
@@ -65,6 +68,27 @@ public class Schedule {
         return s;
     }
 
+    /**
+     * 대량 생성용 (템플릿 적용 등)
+     * 회사 쪽 schedules 컬렉션에는 추가하지 않는다. create 는 슬롯마다 지연 로딩된 회사 전체 스케쥴 목록을 불러오고
+     * 중복 검사(contains)를 하므로, 수백 개를 한 번에 만들면 그 비용이 슬롯 수의 제곱으로 커진다.
+     * 저장은 scheduleRepository.saveAll 로 직접 해야 한다.
+     */
+    public static Schedule createDetached(Company company, SchedulePeriod period, CompanyRole role,
+                                          LocalDate workDate, LocalTime startTime, LocalTime endTime,
+                                          int requiredHeadcount) {
+        if (!endTime.isAfter(startTime)) throw new IllegalArgumentException("종료시간은 시작시간 이후여야 합니다.");
+        if (requiredHeadcount <= 0) throw new IllegalArgumentException("최소 1명 이상을 배치해야합니다.");
+
+        Schedule s = new Schedule();
+        s.company = company;
+        s.period = period;
+        s.role = role;
+        s.workDate = workDate; s.startTime = startTime; s.endTime = endTime;
+        s.requiredHeadcount = requiredHeadcount;
+        return s;
+    }
+
     //== 연관관계 편의 메서드 ==//
     public void setCompany(Company company) {
         this.company = company;
@@ -109,4 +133,19 @@ public class Schedule {
             this.requiredHeadcount = minRequired;
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 필요 인원 변경 (템플릿 재적용 시 슬롯을 유지한 채 정원만 맞춤)
+     */
+    public void changeRequiredHeadcount(int requiredHeadcount) {
+        if (requiredHeadcount <= 0) throw new IllegalArgumentException("최소 1명 이상을 배치해야합니다.");
+        this.requiredHeadcount = requiredHeadcount;
+    }
+
+    /**
+     * 자동 배치 입력 서명 기록
+     */
+    public void recordAutoAssignSignature(long signature) {
+        this.autoAssignSignature = signature;
+    }
+}
@@ -1,5 +1,6 @@
 package OpenSourceSW.ArbeitMate.domain;
 
+import OpenSourceSW.ArbeitMate.domain.enums.AvailabilityAutoFillMode;
 import OpenSourceSW.ArbeitMate.domain.enums.PeriodType;
 import OpenSourceSW.ArbeitMate.domain.enums.PeriodStatus;
 import jakarta.persistence.*;
@@ -44,6 +45,14 @@ public class SchedulePeriod {
     private LocalDateTime autoGenerateAt; // 자동 편성 실행 예정 시간 (수동으로 편성시 해당 속성은 제거 가능)
     private LocalDateTime publishedAt; // 최종 확정 계시 시간
 
+    private Long autoAssignSeed; // 마지막 자동 편성 시드 (같은 시드 + 같은 입력 -> 같은 편성 결과)
+    @Column(length = 64) private String autoAssignInputHash; // 마지막 자동 편성 입력 해시 (SHA-256)
+    private LocalDateTime autoAssignedAt; // 마지막 자동 편성 시간 (미충원 리포트 기준 시각)
+
+    @Enumerated(EnumType.STRING) @Column(length = 16)
+    private AvailabilityAutoFillMode availabilityAutoFill; // 미제출자 가용 시간 패턴 자동 채우기 시점 (null: 사용 안 함)
+    private LocalDateTime availabilityAutoFilledAt; // 자동 채우기 실행 시간 (한 번만 실행)
+
     @ManyToOne(fetch = FetchType.LAZY) @JoinColumn(name = "published_by_member_id")
     private Member publishedBy;
 
@@ -93,4 +102,30 @@ public class SchedulePeriod {
         this.publishedBy = publisher;
         this.publishedAt = LocalDateTime.now();
     }
+
+    /** 자동 편성 실행 기록 (시드 + 입력 해시) */
+    public void recordAutoAssign(long seed, String inputHash) {
+        this.autoAssignSeed = seed;
+        this.autoAssignInputHash = inputHash;
+        markAutoAssigned();
+    }
+
+    public void markAutoAssigned() {
+        this.autoAssignedAt = LocalDateTime.now();
+    }
+
+    /** 미제출자 가용 시간 자동 채우기 설정 (null 이면 해제) */
+    public void configureAvailabilityAutoFill(AvailabilityAutoFillMode mode) {
+        if (this.status == PeriodStatus.PUBLISHED) {
+            throw new IllegalStateException("게시된 기간은 자동 채우기를 설정할 수 없습니다.");
+        }
+        if (mode == AvailabilityAutoFillMode.AT_DEADLINE && this.availabilityDueAt == null) {
+            throw new IllegalStateException("제출 마감 시간이 없는 기간은 마감 시점 자동 채우기를 설정할 수 없습니다.");
+        }
+        this.availabilityAutoFill = mode;
+    }
+
+    public void markAvailabilityAutoFilled() {
+        this.availabilityAutoFilledAt = LocalDateTime.now();
+    }
 }
@@ -32,6 +32,7 @@ public class ScheduleSlotAvailability {
 
     @Column(nullable = false) private boolean willing; // 해당 시간 가능 여부
     @Column(nullable = false) private LocalDateTime submittedAt;
+    @Column(nullable = false) private boolean autoFilled; // 본인 제출이 아니라 가용 시간 패턴으로 채운 응답
 
     //== 생성 메서드 ==//
     public static ScheduleSlotAvailability willing(Schedule s, Member m) {
@@ -44,6 +45,13 @@ public class ScheduleSlotAvailability {
         return x;
     }
 
+    /** 미제출자의 가용 시간 패턴과 겹치는 슬롯 (자동 채우기) */
+    public static ScheduleSlotAvailability autoFilled(Schedule s, Member m) {
+        ScheduleSlotAvailability x = willing(s, m);
+        x.autoFilled = true;
+        return x;
+    }
+
     //== 연관관계 편의 메서드 ==//
     public void setSchedule(Schedule schedule) {
         this.schedule = schedule;
@@ -0,0 +1,100 @@
+package OpenSourceSW.ArbeitMate.domain;
+
+import OpenSourceSW.ArbeitMate.scheduling.RecurrenceRule;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 역할: 반복 슬롯 규칙 (규칙 1행 + 예외 날짜) - 날짜마다 슬롯 행을 만들지 않고 규칙으로만 보관
+ * 사용 예시: "평일 09~13시 홀 2명" 을 한 달짜리 기간에 31행 대신 1행으로 저장, 조회 시 펼쳐서 보여줌
+ * DRAFT 기간에서만 존재하고, 가용 시간 제출을 여는 시점(OPEN)에 실제 슬롯(Schedule)으로 변환된 뒤 삭제된다.
+ */
+@Entity
+@Table(name = "slot_recurrences",
+        indexes = @Index(name = "idx_slot_recurrences_period", columnList = "period_id"))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class SlotRecurrence {
+
+    @Id @GeneratedValue(strategy = GenerationType.UUID)
+    @Column(name = "slot_recurrence_id", updatable = false, nullable = false)
+    private UUID id;
+
+    @ManyToOne(fetch = FetchType.LAZY) @JoinColumn(name = "period_id", nullable = false)
+    private SchedulePeriod period;
+
+    @ManyToOne(fetch = FetchType.LAZY) @JoinColumn(name = "role_id", nullable = false)
+    private CompanyRole role;
+
+    @Column(nullable = false, length = 200) private String rrule; // 정규화된 규칙 문자열 (예: FREQ=WEEKLY;BYDAY=MO,WE,FR)
+    @Column(nullable = false) private LocalDate anchorDate; // 반복 시작일 (INTERVAL 계산 기준)
+    @Column(nullable = false) private LocalTime startTime;
+    @Column(nullable = false) private LocalTime endTime;
+    @Column(nullable = false) private int requiredHeadcount;
+
+    @ElementCollection
+    @CollectionTable(name = "slot_recurrence_exceptions",
+            joinColumns = @JoinColumn(name = "slot_recurrence_id"))
+    @Column(name = "exception_date", nullable = false)
+    private Set<LocalDate> exceptionDates = new HashSet<>(); // 규칙에서 빼는 날짜 (휴무일 등)
+
+    //== 생성 메서드 ==//
+    public static SlotRecurrence create(SchedulePeriod period, CompanyRole role, RecurrenceRule rule,
+                                        LocalDate anchorDate, LocalTime startTime, LocalTime endTime,
+                                        int requiredHeadcount) {
+        if (!endTime.isAfter(startTime)) throw new IllegalArgumentException("종료시간은 시작시간 이후여야 합니다.");
+        if (requiredHeadcount <= 0) throw new IllegalArgumentException("최소 1명 이상을 배치해야합니다.");
+        if (anchorDate.isBefore(period.getStartDate()) || anchorDate.isAfter(period.getEndDate())) {
+            throw new IllegalArgumentException("반복 시작일은 기간 안에 있어야 합니다.");
+        }
+
+        SlotRecurrence r = new SlotRecurrence();
+        r.period = period;
+        r.role = role;
+        r.rrule = rule.format();
+        r.anchorDate = anchorDate;
+        r.startTime = startTime; r.endTime = endTime;
+        r.requiredHeadcount = requiredHeadcount;
+        return r;
+    }
+
+    /**
+     * 다른 기간으로 days 만큼 밀어서 복제 (예외 날짜 포함)
+     */
+    public SlotRecurrence copyShifted(SchedulePeriod target, long days) {
+        SlotRecurrence r = create(target, role, rule().shiftedBy(days), anchorDate.plusDays(days),
+                startTime, endTime, requiredHeadcount);
+        exceptionDates.forEach(d -> r.exceptionDates.add(d.plusDays(days)));
+        return r;
+    }
+
+    //== 비즈니스 로직 ==//
+    public RecurrenceRule rule() {
+        return RecurrenceRule.parse(rrule);
+    }
+
+    public void addExceptionDate(LocalDate date) {
+        if (date.isBefore(period.getStartDate()) || date.isAfter(period.getEndDate())) {
+            throw new IllegalArgumentException("예외 날짜는 기간 안에 있어야 합니다.");
+        }
+        exceptionDates.add(date);
+    }
+
+    public void removeExceptionDate(LocalDate date) {
+        exceptionDates.remove(date);
+    }
+
+    /** 기간 안에서 규칙이 만드는 날짜들 (예외 제외) */
+    public List<LocalDate> occurrences() {
+        return rule().occurrences(anchorDate, period.getStartDate(), period.getEndDate(), exceptionDates);
+    }
+}
@@ -0,0 +1,5 @@
+package OpenSourceSW.ArbeitMate.domain.enums;
+
+public enum AssignmentMode {
+    OPTIMAL, FAST, FAIR
+}
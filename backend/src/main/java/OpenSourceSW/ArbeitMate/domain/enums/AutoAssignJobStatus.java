@@ -0,0 +1,5 @@
+package OpenSourceSW.ArbeitMate.domain.enums;
+
+public enum AutoAssignJobStatus {
+    QUEUED, RUNNING, SUCCEEDED, FAILED
+}
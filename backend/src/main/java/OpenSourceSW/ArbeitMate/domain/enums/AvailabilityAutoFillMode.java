@@ -0,0 +1,5 @@
+package OpenSourceSW.ArbeitMate.domain.enums;
+
+public enum AvailabilityAutoFillMode {
+    AT_OPEN, AT_DEADLINE
+}
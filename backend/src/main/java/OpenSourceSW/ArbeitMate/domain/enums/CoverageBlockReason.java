@@ -0,0 +1,7 @@
+package OpenSourceSW.ArbeitMate.domain.enums;
+
+public enum CoverageBlockReason {
+    ROLE, // 슬롯 역할을 수행할 수 없음
+    OVERLAP, // 같은 시간대 다른 슬롯에 배정됨
+    CAP // 주간 최대 근무시간 초과
+}
@@ -0,0 +1,7 @@
+package OpenSourceSW.ArbeitMate.domain.enums;
+
+public enum TemplateAggregation {
+    MAX, // 가장 많이 필요했던 날 기준
+    MEDIAN, // 절반의 날을 채우는 인원
+    P80 // 80% 의 날을 채우는 인원
+}
@@ -0,0 +1,11 @@
+package OpenSourceSW.ArbeitMate.dto.request;
+
+import OpenSourceSW.ArbeitMate.domain.enums.AssignmentMode;
+import lombok.Data;
+
+@Data
+public class AutoAssignRequest {
+    private AssignmentMode mode = AssignmentMode.OPTIMAL; // OPTIMAL: 최대 충원(기본값), FAST: 기존 랜덤 배치, FAIR: 근무시간 균등 배분
+    private Long seed; // null: 기간에 저장된 시드 재사용 (없으면 새로 생성 후 저장)
+    private boolean incremental = false; // true: 지난 배치 이후 후보/정원이 바뀐 슬롯만 다시 배치 (나머지 배정은 유지)
+}
@@ -0,0 +1,23 @@
+package OpenSourceSW.ArbeitMate.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+public class BulkUpdateFixedShiftRequest {
+    @Valid private List<MemberFixedShift> members = new ArrayList<>();
+
+    @Data
+    public static class MemberFixedShift {
+        @NotNull private UUID companyMemberId;
+
+        private boolean fixedShiftWorker; // true: 고정 근무자 / false: 고정 근무자 해제 + 기존 고정근무 패턴 삭제
+
+        @Valid private List<FixedShiftItemRequest> shifts; // 고정 근무 시간 (false면 무시)
+    }
+}
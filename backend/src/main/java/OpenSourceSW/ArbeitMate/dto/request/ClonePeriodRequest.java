@@ -0,0 +1,13 @@
+package OpenSourceSW.ArbeitMate.dto.request;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+public class ClonePeriodRequest {
+    private Integer shiftDays; // 생략 시 원본 기간 길이만큼 (바로 다음 기간으로 복제)
+    private String name; // 생략 시 기간 종류에 맞춰 자동 생성
+    private boolean includeAssignments; // true 면 배정(취소 제외)도 같이 복제
+    private LocalDateTime availabilityDueAt; // 생략 시 원본 마감 시간 + shiftDays
+}
@@ -2,6 +2,7 @@ package OpenSourceSW.ArbeitMate.dto.request;
 
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
 import lombok.Data;
 
 import java.util.List;
@@ -9,7 +10,10 @@ import java.util.List;
 @Data
 public class CreateScheduleSlotsRequest {
 
+    public static final int MAX_SLOTS = 2000; // 한 요청 본문으로 받을 수 있는 최대 슬롯 수 (그 이상은 스트리밍 생성)
+
     @NotEmpty
+    @Size(max = MAX_SLOTS)
     @Valid
     private List<CreateScheduleSlotRequest> slots;
 }
@@ -0,0 +1,22 @@
+package OpenSourceSW.ArbeitMate.dto.request;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+public class CreateSlotRecurrenceRequest {
+    @NotNull private UUID roleId;
+    @NotBlank private String rrule; // 예: FREQ=WEEKLY;BYDAY=MO,TU,WE,TH,FR
+    private LocalDate anchorDate; // 생략 시 기간 시작일
+    @NotNull private LocalTime startTime;
+    @NotNull private LocalTime endTime;
+    @Min(1) private int requiredHeadCount;
+    private List<LocalDate> exceptionDates; // 생략 가능
+}
@@ -0,0 +1,17 @@
+package OpenSourceSW.ArbeitMate.dto.request;
+
+import OpenSourceSW.ArbeitMate.domain.enums.TemplateAggregation;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Data;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+public class MineTemplateRequest {
+    @NotEmpty private List<UUID> periodIds; // 패턴을 뽑을 과거 기간들
+
+    private TemplateAggregation aggregation = TemplateAggregation.MAX;
+
+    private String name; // null 이면 자동 생성
+}
@@ -0,0 +1,12 @@
+package OpenSourceSW.ArbeitMate.dto.request;
+
+import lombok.Data;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+public class PatchAvailabilityRequest {
+    private List<UUID> addedSlotIds; // 새로 "가능" 으로 체크한 슬롯
+    private List<UUID> removedSlotIds; // 체크를 해제한 슬롯
+}
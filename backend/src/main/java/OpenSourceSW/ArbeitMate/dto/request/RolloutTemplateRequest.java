@@ -0,0 +1,15 @@
+package OpenSourceSW.ArbeitMate.dto.request;
+
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+public class RolloutTemplateRequest {
+    private List<UUID> periodIds; // 적용할 기간 목록 (있으면 from/to 무시)
+
+    private LocalDate from; // periodIds 가 없을 때: [from, to] 안에 완전히 들어가는 기간 전체
+    private LocalDate to;
+}
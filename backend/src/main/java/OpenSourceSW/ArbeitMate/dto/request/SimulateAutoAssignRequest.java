@@ -0,0 +1,31 @@
+package OpenSourceSW.ArbeitMate.dto.request;
+
+import OpenSourceSW.ArbeitMate.domain.enums.AssignmentMode;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+public class SimulateAutoAssignRequest {
+    private AssignmentMode mode = AssignmentMode.OPTIMAL;
+    private Long seed; // null: 기간에 저장된 시드 (없으면 0) -> 같은 기간의 시뮬레이션끼리 비교 가능
+    @Valid private List<HeadcountChange> headcountChanges = new ArrayList<>();
+    @Valid private List<AvailabilityChange> availabilityChanges = new ArrayList<>();
+
+    @Data
+    public static class HeadcountChange {
+        @NotNull private UUID scheduleId;
+        private int delta; // +1: 한 명 더, -1: 한 명 덜
+    }
+
+    @Data
+    public static class AvailabilityChange {
+        @NotNull private UUID scheduleId;
+        @NotNull private UUID memberId;
+        private boolean willing = true; // false: 가능 제출 철회
+    }
+}
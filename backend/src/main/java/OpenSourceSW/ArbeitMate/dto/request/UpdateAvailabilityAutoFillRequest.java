@@ -0,0 +1,9 @@
+package OpenSourceSW.ArbeitMate.dto.request;
+
+import OpenSourceSW.ArbeitMate.domain.enums.AvailabilityAutoFillMode;
+import lombok.Data;
+
+@Data
+public class UpdateAvailabilityAutoFillRequest {
+    private AvailabilityAutoFillMode mode; // AT_OPEN: 제출 오픈 직후, AT_DEADLINE: 제출 마감 직후, null: 사용 안 함
+}
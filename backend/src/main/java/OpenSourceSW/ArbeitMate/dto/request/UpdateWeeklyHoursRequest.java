@@ -0,0 +1,14 @@
+package OpenSourceSW.ArbeitMate.dto.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+
+@Data
+public class UpdateWeeklyHoursRequest {
+    @Min(0) @Max(168)
+    private Integer minWeeklyHours; // null: 제한 없음
+
+    @Min(0) @Max(168)
+    private Integer maxWeeklyHours; // null: 제한 없음
+}
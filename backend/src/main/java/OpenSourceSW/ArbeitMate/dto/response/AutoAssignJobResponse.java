@@ -0,0 +1,46 @@
+package OpenSourceSW.ArbeitMate.dto.response;
+
+import OpenSourceSW.ArbeitMate.domain.AutoAssignJob;
+import OpenSourceSW.ArbeitMate.domain.enums.AssignmentMode;
+import OpenSourceSW.ArbeitMate.domain.enums.AutoAssignJobStatus;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+public class AutoAssignJobResponse {
+    UUID jobId;
+    UUID periodId;
+    AssignmentMode mode;
+    boolean incremental;
+    AutoAssignJobStatus status;
+    int progress;
+    String errorMessage;
+    LocalDateTime createdAt;
+    LocalDateTime startedAt;
+    LocalDateTime finishedAt;
+    List<ScheduleAssignmentSlotResponse> result; // SUCCEEDED 일 때만 채워짐
+    CoverageGapReportResponse coverageGap; // SUCCEEDED 일 때만 채워짐
+
+    public static AutoAssignJobResponse from(AutoAssignJob job, List<ScheduleAssignmentSlotResponse> result,
+                                             CoverageGapReportResponse coverageGap) {
+        return AutoAssignJobResponse.builder()
+                .jobId(job.getId())
+                .periodId(job.getPeriod().getId())
+                .mode(job.getMode())
+                .incremental(job.isIncremental())
+                .status(job.getStatus())
+                .progress(job.getProgress())
+                .errorMessage(job.getErrorMessage())
+                .createdAt(job.getCreatedAt())
+                .startedAt(job.getStartedAt())
+                .finishedAt(job.getFinishedAt())
+                .result(result)
+                .coverageGap(coverageGap)
+                .build();
+    }
+}
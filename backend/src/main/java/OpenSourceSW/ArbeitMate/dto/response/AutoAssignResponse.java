@@ -0,0 +1,13 @@
+package OpenSourceSW.ArbeitMate.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class AutoAssignResponse {
+    List<ScheduleAssignmentSlotResponse> slots;
+    CoverageGapReportResponse coverageGap;
+}
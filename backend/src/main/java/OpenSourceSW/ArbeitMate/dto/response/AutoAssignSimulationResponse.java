@@ -0,0 +1,39 @@
+package OpenSourceSW.ArbeitMate.dto.response;
+
+import OpenSourceSW.ArbeitMate.domain.enums.AssignmentMode;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+public class AutoAssignSimulationResponse {
+    UUID periodId;
+    AssignmentMode mode;
+    long seed;
+
+    int slotCount;
+    int requiredHeadcount; // 전체 필요 인원
+    int filledHeadcount; // 채워진 인원 (고정 근무자 포함, 슬롯 정원 초과분 제외)
+    double coverageRate; // filled / required (필요 인원 0 이면 1.0)
+    int unfilledSlotCount;
+    List<UnfilledSlot> unfilledSlots;
+
+    @Data
+    @Builder
+    public static class UnfilledSlot {
+        UUID scheduleId;
+        LocalDate workDate;
+        LocalTime startTime;
+        LocalTime endTime;
+        UUID roleId;
+        String roleName;
+        int requiredHeadcount;
+        int filledHeadcount;
+        int candidateCount; // 가능 제출 & 역할 가능 인원
+    }
+}
@@ -0,0 +1,14 @@
+package OpenSourceSW.ArbeitMate.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.UUID;
+
+@Data
+@Builder
+public class AvailabilityAutoFillResponse {
+    UUID periodId;
+    int filledMembers; // 패턴으로 채운 미제출 근무자 수
+    int filledSlots; // 새로 저장된 "가능" 응답 수
+}
@@ -0,0 +1,15 @@
+package OpenSourceSW.ArbeitMate.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.UUID;
+
+@Data
+@Builder
+public class AvailabilityPatchResponse {
+    UUID periodId;
+    int added; // 실제로 새로 저장된 슬롯 수 (이미 제출된 슬롯 제외)
+    int removed; // 실제로 삭제된 슬롯 수
+    boolean pending; // true 면 대기열에 접수만 됨 (added/removed 는 접수 시점 본인 화면 기준)
+}
@@ -0,0 +1,42 @@
+package OpenSourceSW.ArbeitMate.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+public class BulkFixedShiftResponse {
+    int requested;
+    int succeeded;
+    int failed;
+
+    List<MemberResult> results; // 요청 순서 그대로
+
+    @Data
+    @Builder
+    public static class MemberResult {
+        UUID companyMemberId;
+        boolean success;
+        String error; // 실패 사유 (성공 시 null)
+        FixedShiftResponse fixedShift; // 반영 결과 (실패 시 null)
+
+        public static MemberResult success(UUID companyMemberId, FixedShiftResponse fixedShift) {
+            return MemberResult.builder()
+                    .companyMemberId(companyMemberId)
+                    .success(true)
+                    .fixedShift(fixedShift)
+                    .build();
+        }
+
+        public static MemberResult failure(UUID companyMemberId, String error) {
+            return MemberResult.builder()
+                    .companyMemberId(companyMemberId)
+                    .success(false)
+                    .error(error)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package OpenSourceSW.ArbeitMate.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.UUID;
+
+@Data
+@Builder
+public class ClonePeriodResponse {
+    UUID sourcePeriodId;
+    SchedulePeriodResponse period;
+    int slotCount;
+    int assignmentCount;
+    int recurrenceCount; // 함께 복제된 반복 슬롯 규칙 수
+}
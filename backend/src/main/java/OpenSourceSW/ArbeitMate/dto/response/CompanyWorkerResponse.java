@@ -14,6 +14,8 @@ public class CompanyWorkerResponse {
      String name;
      MembershipRole role;
      int hourlyWage;
+     Integer minWeeklyHours;
+     Integer maxWeeklyHours;
 
      public static CompanyWorkerResponse from(CompanyMember cm) {
          return CompanyWorkerResponse.builder()
@@ -21,6 +23,8 @@ public class CompanyWorkerResponse {
                  .name(cm.getMember().getName())
                  .role(cm.getRole())
                  .hourlyWage(cm.getHourlyWage())
+                 .minWeeklyHours(cm.getMinWeeklyHours())
+                 .maxWeeklyHours(cm.getMaxWeeklyHours())
                  .build();
      }
 }
@@ -0,0 +1,113 @@
+package OpenSourceSW.ArbeitMate.dto.response;
+
+import OpenSourceSW.ArbeitMate.domain.CoverageGap;
+import OpenSourceSW.ArbeitMate.domain.CoverageGapBlocker;
+import OpenSourceSW.ArbeitMate.domain.SchedulePeriod;
+import OpenSourceSW.ArbeitMate.domain.enums.CoverageBlockReason;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Data
+@Builder
+public class CoverageGapReportResponse {
+    UUID periodId;
+    LocalDateTime generatedAt; // 마지막 자동 편성 시간 (null 이면 아직 자동 편성 전)
+    int unfilledHeadcount;
+    int unfilledSlotCount;
+    List<RoleGap> byRole;
+    List<DayGap> byDay;
+    List<SlotGap> slots;
+
+    @Data
+    @Builder
+    public static class RoleGap {
+        UUID roleId;
+        String roleName;
+        int unfilledHeadcount;
+    }
+
+    @Data
+    @Builder
+    public static class DayGap {
+        LocalDate workDate;
+        int unfilledHeadcount;
+    }
+
+    @Data
+    @Builder
+    public static class SlotGap {
+        UUID scheduleId;
+        LocalDate workDate;
+        LocalTime startTime;
+        LocalTime endTime;
+        UUID roleId;
+        String roleName;
+        int requiredHeadcount;
+        int filledHeadcount;
+        int unfilledHeadcount;
+        List<Blocked> blocked;
+    }
+
+    @Data
+    @Builder
+    public static class Blocked {
+        UUID memberId;
+        String memberName;
+        CoverageBlockReason reason;
+    }
+
+    public static CoverageGapReportResponse from(SchedulePeriod period, List<CoverageGap> gaps) {
+        Map<UUID, RoleGap> byRole = new LinkedHashMap<>();
+        Map<LocalDate, DayGap> byDay = new LinkedHashMap<>();
+        int unfilled = 0;
+
+        for (CoverageGap g : gaps) {
+            unfilled += g.getUnfilledHeadcount();
+            byRole.computeIfAbsent(g.getRoleId(), id -> RoleGap.builder().roleId(id).roleName(g.getRoleName()).build())
+                    .unfilledHeadcount += g.getUnfilledHeadcount();
+            byDay.computeIfAbsent(g.getWorkDate(), d -> DayGap.builder().workDate(d).build())
+                    .unfilledHeadcount += g.getUnfilledHeadcount();
+        }
+
+        List<SlotGap> slots = gaps.stream()
+                .map(g -> SlotGap.builder()
+                        .scheduleId(g.getScheduleId())
+                        .workDate(g.getWorkDate())
+                        .startTime(g.getStartTime())
+                        .endTime(g.getEndTime())
+                        .roleId(g.getRoleId())
+                        .roleName(g.getRoleName())
+                        .requiredHeadcount(g.getRequiredHeadcount())
+                        .filledHeadcount(g.getFilledHeadcount())
+                        .unfilledHeadcount(g.getUnfilledHeadcount())
+                        .blocked(g.getBlockers().stream().map(CoverageGapReportResponse::toBlocked).toList())
+                        .build())
+                .toList();
+
+        return CoverageGapReportResponse.builder()
+                .periodId(period.getId())
+                .generatedAt(period.getAutoAssignedAt())
+                .unfilledHeadcount(unfilled)
+                .unfilledSlotCount(gaps.size())
+                .byRole(List.copyOf(byRole.values()))
+                .byDay(List.copyOf(byDay.values()))
+                .slots(slots)
+                .build();
+    }
+
+    private static Blocked toBlocked(CoverageGapBlocker b) {
+        return Blocked.builder()
+                .memberId(b.getMemberId())
+                .memberName(b.getMemberName())
+                .reason(b.getReason())
+                .build();
+    }
+}
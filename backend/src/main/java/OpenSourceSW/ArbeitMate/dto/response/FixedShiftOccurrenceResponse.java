@@ -0,0 +1,33 @@
+package OpenSourceSW.ArbeitMate.dto.response;
+
+import OpenSourceSW.ArbeitMate.domain.FixedShiftOccurrence;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.UUID;
+
+@Data
+@Builder
+public class FixedShiftOccurrenceResponse {
+    UUID memberId;
+    String memberName;
+    UUID roleId;
+    String roleName;
+    LocalDate workDate;
+    LocalTime startTime;
+    LocalTime endTime;
+
+    public static FixedShiftOccurrenceResponse from(FixedShiftOccurrence o) {
+        return FixedShiftOccurrenceResponse.builder()
+                .memberId(o.getMember().getId())
+                .memberName(o.getMember().getName())
+                .roleId(o.getRole().getId())
+                .roleName(o.getRole().getName())
+                .workDate(o.getWorkDate())
+                .startTime(o.getStartTime())
+                .endTime(o.getEndTime())
+                .build();
+    }
+}
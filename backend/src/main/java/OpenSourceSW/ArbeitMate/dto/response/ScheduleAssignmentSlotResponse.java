@@ -7,6 +7,7 @@ import lombok.Data;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -27,6 +28,7 @@ public class ScheduleAssignmentSlotResponse {
         List<ScheduleAssignmentWorkerResponse> workers = schedule.getAssignments().stream()
                 .filter(a -> a.getStatus() == AssignmentStatus.ASSIGNED)
                 .map(a -> ScheduleAssignmentWorkerResponse.from(a, fixedWorkerMap))
+                .sorted(Comparator.comparing(ScheduleAssignmentWorkerResponse::getMemberId)) // 배정 컬렉션 순서는 보장되지 않음
                 .toList();
 
         return ScheduleAssignmentSlotResponse.builder()
@@ -1,6 +1,7 @@
 package OpenSourceSW.ArbeitMate.dto.response;
 
 import OpenSourceSW.ArbeitMate.domain.SchedulePeriod;
+import OpenSourceSW.ArbeitMate.domain.enums.AvailabilityAutoFillMode;
 import OpenSourceSW.ArbeitMate.domain.enums.PeriodStatus;
 import OpenSourceSW.ArbeitMate.domain.enums.PeriodType;
 import lombok.Builder;
@@ -20,6 +21,9 @@ public class SchedulePeriodResponse {
     LocalDate endDate;
     PeriodStatus status;
     LocalDateTime availabilityDueAt;
+    Long autoAssignSeed;
+    AvailabilityAutoFillMode availabilityAutoFill;
+    LocalDateTime availabilityAutoFilledAt;
 
     public static SchedulePeriodResponse from(SchedulePeriod p) {
         return SchedulePeriodResponse.builder()
@@ -30,6 +34,9 @@ public class SchedulePeriodResponse {
                 .endDate(p.getEndDate())
                 .status(p.getStatus())
                 .availabilityDueAt(p.getAvailabilityDueAt())
+                .autoAssignSeed(p.getAutoAssignSeed())
+                .availabilityAutoFill(p.getAvailabilityAutoFill())
+                .availabilityAutoFilledAt(p.getAvailabilityAutoFilledAt())
                 .build();
     }
 }
@@ -8,8 +8,10 @@ import lombok.Builder;
 import lombok.Getter;
 
 import java.time.LocalDate;
+import java.util.Comparator;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Getter
 @Builder
@@ -25,6 +27,25 @@ public class SchedulePeriodWithSlotsResponse {
     private List<ScheduleSlotResponse> slots;
 
     public static SchedulePeriodWithSlotsResponse of(SchedulePeriod period, List<Schedule> schedules) {
+        return of(period, schedules, List.of());
+    }
+
+    /**
+     * virtualSlots: 아직 저장되지 않은 반복 규칙 슬롯 (scheduleId = null), 실제 슬롯과 합쳐 날짜/시간 순으로 정렬
+     */
+    public static SchedulePeriodWithSlotsResponse of(SchedulePeriod period, List<Schedule> schedules,
+                                                     List<ScheduleSlotResponse> virtualSlots) {
+        List<ScheduleSlotResponse> slots = schedules.stream()
+                .map(ScheduleSlotResponse::from)
+                .toList();
+        if (!virtualSlots.isEmpty()) {
+            slots = Stream.concat(slots.stream(), virtualSlots.stream())
+                    .sorted(Comparator.comparing(ScheduleSlotResponse::getWorkDate)
+                            .thenComparing(ScheduleSlotResponse::getStartTime)
+                            .thenComparing(ScheduleSlotResponse::getEndTime))
+                    .toList();
+        }
+
         return SchedulePeriodWithSlotsResponse.builder()
                 .periodId(period.getId())
                 .name(period.getName())
@@ -32,9 +53,7 @@ public class SchedulePeriodWithSlotsResponse {
                 .status(period.getStatus())
                 .startDate(period.getStartDate())
                 .endDate(period.getEndDate())
-                .slots(schedules.stream()
-                        .map(ScheduleSlotResponse::from)
-                        .toList())
+                .slots(slots)
                 .build();
     }
 }
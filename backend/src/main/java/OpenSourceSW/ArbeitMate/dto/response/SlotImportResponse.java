@@ -0,0 +1,13 @@
+package OpenSourceSW.ArbeitMate.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.UUID;
+
+@Data
+@Builder
+public class SlotImportResponse {
+    UUID periodId;
+    int createdCount; // 생성된 슬롯 수 (슬롯 목록은 기간 조회 API 로 확인)
+}
@@ -0,0 +1,40 @@
+package OpenSourceSW.ArbeitMate.dto.response;
+
+import OpenSourceSW.ArbeitMate.domain.SlotRecurrence;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+public class SlotRecurrenceResponse {
+    UUID recurrenceId;
+    UUID roleId;
+    String roleName;
+    String rrule;
+    LocalDate anchorDate;
+    LocalTime startTime;
+    LocalTime endTime;
+    int requiredHeadCount;
+    List<LocalDate> exceptionDates;
+    int occurrenceCount; // 기간 안에서 펼쳐지는 슬롯 수
+
+    public static SlotRecurrenceResponse from(SlotRecurrence r) {
+        return SlotRecurrenceResponse.builder()
+                .recurrenceId(r.getId())
+                .roleId(r.getRole().getId())
+                .roleName(r.getRole().getName())
+                .rrule(r.getRrule())
+                .anchorDate(r.getAnchorDate())
+                .startTime(r.getStartTime())
+                .endTime(r.getEndTime())
+                .requiredHeadCount(r.getRequiredHeadcount())
+                .exceptionDates(r.getExceptionDates().stream().sorted().toList())
+                .occurrenceCount(r.occurrences().size())
+                .build();
+    }
+}
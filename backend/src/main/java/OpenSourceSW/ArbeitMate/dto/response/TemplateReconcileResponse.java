@@ -0,0 +1,21 @@
+package OpenSourceSW.ArbeitMate.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+public class TemplateReconcileResponse {
+    UUID periodId;
+    UUID templateId;
+
+    int inserted;  // 템플릿에만 있어 새로 만든 슬롯
+    int updated;   // 같은 (날짜, 역할, 시간) 슬롯의 필요 인원만 변경
+    int deleted;   // 템플릿에 없어 삭제한 슬롯
+    int unchanged; // 그대로 유지된 슬롯
+
+    List<ScheduleSlotResponse> slots; // 반영 후 기간 전체 슬롯 (날짜, 시작 시간 순)
+}
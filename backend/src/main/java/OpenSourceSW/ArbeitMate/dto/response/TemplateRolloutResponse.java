@@ -0,0 +1,34 @@
+package OpenSourceSW.ArbeitMate.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+public class TemplateRolloutResponse {
+    UUID templateId;
+
+    int requested;
+    int succeeded;
+    int failed;
+    int createdSlotCount; // 전체 기간에 새로 만든 슬롯 수
+
+    List<PeriodResult> results; // 기간 시작일 순 (periodIds 로 요청한 경우 요청 순서)
+
+    @Data
+    @Builder
+    public static class PeriodResult {
+        UUID periodId;
+        String periodName;
+        LocalDate startDate;
+        LocalDate endDate;
+
+        boolean success;
+        String error;  // 실패 사유 (성공 시 null)
+        int slotCount; // 이 기간에 만든 슬롯 수
+    }
+}
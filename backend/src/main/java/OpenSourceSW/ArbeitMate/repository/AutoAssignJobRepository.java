@@ -0,0 +1,44 @@
+package OpenSourceSW.ArbeitMate.repository;
+
+import OpenSourceSW.ArbeitMate.domain.AutoAssignJob;
+import OpenSourceSW.ArbeitMate.domain.enums.AutoAssignJobStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface AutoAssignJobRepository extends JpaRepository<AutoAssignJob, UUID> {
+    boolean existsByPeriodIdAndStatusIn(UUID periodId, Collection<AutoAssignJobStatus> statuses);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select j from AutoAssignJob j where j.id = :jobId")
+    Optional<AutoAssignJob> findByIdForUpdate(UUID jobId);
+
+    /// 아직 끝나지 않았는데 주어진 시각 이후로 살아 있음이 확인되지 않은 작업 id
+    @Query("""
+        select j.id from AutoAssignJob j
+        where j.status in :statuses
+          and coalesce(j.heartbeatAt, j.createdAt) < :cutoff
+    """)
+    List<UUID> findStaleIds(Collection<AutoAssignJobStatus> statuses, LocalDateTime cutoff);
+
+    /// 이 서버 실행기에 있는 작업의 heartbeat 갱신
+    @Modifying
+    @Query("""
+        update AutoAssignJob j set j.heartbeatAt = :now
+        where j.id in :jobIds
+          and j.status in :statuses
+    """)
+    int touchHeartbeat(Collection<UUID> jobIds, Collection<AutoAssignJobStatus> statuses, LocalDateTime now);
+
+    @Modifying
+    @Query("delete from AutoAssignJob j where j.company.id = :companyId")
+    void deleteByCompanyId(UUID companyId);
+}
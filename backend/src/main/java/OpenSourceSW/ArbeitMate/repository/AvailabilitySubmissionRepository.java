@@ -4,7 +4,11 @@ import OpenSourceSW.ArbeitMate.domain.AvailabilitySubmission;
 import OpenSourceSW.ArbeitMate.domain.Company;
 import OpenSourceSW.ArbeitMate.domain.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -16,4 +20,15 @@ public interface AvailabilitySubmissionRepository extends JpaRepository<Availabi
 
     boolean existsByCompanyIdAndPeriodIdAndMemberId(UUID companyId, UUID periodId, UUID memberId);
     void deleteByCompanyAndMember(Company company, Member member);
+
+    /** 제출 시간만 갱신 (엔티티 조회 없이 UPDATE 한 번), 갱신된 행 수 반환 */
+    @Modifying
+    @Query("""
+           update AvailabilitySubmission s set s.submittedAt = :submittedAt
+           where s.company.id = :companyId and s.period.id = :periodId and s.member.id = :memberId
+           """)
+    int touchSubmittedAt(@Param("companyId") UUID companyId,
+                         @Param("periodId") UUID periodId,
+                         @Param("memberId") UUID memberId,
+                         @Param("submittedAt") LocalDateTime submittedAt);
 }
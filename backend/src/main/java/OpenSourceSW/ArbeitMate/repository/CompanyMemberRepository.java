@@ -3,6 +3,8 @@ package OpenSourceSW.ArbeitMate.repository;
 import OpenSourceSW.ArbeitMate.domain.CompanyMember;
 import OpenSourceSW.ArbeitMate.domain.enums.MembershipRole;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -14,4 +16,7 @@ public interface CompanyMemberRepository extends JpaRepository<CompanyMember, UU
     List<CompanyMember> findByCompanyIdAndRole(UUID companyId, MembershipRole role);
     Optional<CompanyMember> findByCompanyIdAndMemberId(UUID companyId, UUID memberId);
     Optional<CompanyMember> findByMemberIdAndCompanyId(UUID memberId, UUID companyId);
+
+    @Query("select cm from CompanyMember cm join fetch cm.member where cm.company.id = :companyId")
+    List<CompanyMember> findWithMemberByCompanyId(@Param("companyId") UUID companyId);
 }
@@ -12,5 +12,7 @@ import java.util.UUID;
 public interface CompanyMemberRoleRepository extends JpaRepository<CompanyMemberRole, UUID> {
     List<CompanyMemberRole> findByCompanyIdAndMemberId(UUID companyId, UUID memberId);
 
+    List<CompanyMemberRole> findByCompanyId(UUID companyId);
+
     boolean existsByCompanyAndMemberAndRole(Company company, Member member, CompanyRole role);
 }
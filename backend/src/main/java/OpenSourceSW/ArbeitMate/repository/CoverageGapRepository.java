@@ -0,0 +1,37 @@
+package OpenSourceSW.ArbeitMate.repository;
+
+import OpenSourceSW.ArbeitMate.domain.CoverageGap;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface CoverageGapRepository extends JpaRepository<CoverageGap, UUID> {
+
+    @Query("""
+           select distinct g from CoverageGap g
+           left join fetch g.blockers
+           where g.period.id = :periodId
+           order by g.workDate, g.startTime, g.endTime, g.roleName
+           """)
+    List<CoverageGap> findWithBlockersByPeriodId(@Param("periodId") UUID periodId);
+
+    @Modifying
+    @Query("delete from CoverageGapBlocker b where b.gap.id in (select g.id from CoverageGap g where g.period.id = :periodId)")
+    void deleteBlockersByPeriodId(@Param("periodId") UUID periodId);
+
+    @Modifying
+    @Query("delete from CoverageGap g where g.period.id = :periodId")
+    void deleteByPeriodId(@Param("periodId") UUID periodId);
+
+    @Modifying
+    @Query("delete from CoverageGapBlocker b where b.gap.id in (select g.id from CoverageGap g where g.period.company.id = :companyId)")
+    void deleteBlockersByCompanyId(@Param("companyId") UUID companyId);
+
+    @Modifying
+    @Query("delete from CoverageGap g where g.period.id in (select p.id from SchedulePeriod p where p.company.id = :companyId)")
+    void deleteByCompanyId(@Param("companyId") UUID companyId);
+}
@@ -0,0 +1,48 @@
+package OpenSourceSW.ArbeitMate.repository;
+
+import OpenSourceSW.ArbeitMate.domain.FixedShiftOccurrence;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+public interface FixedShiftOccurrenceRepository extends JpaRepository<FixedShiftOccurrence, UUID> {
+
+    @Query("""
+           select o from FixedShiftOccurrence o
+           join fetch o.member
+           join fetch o.role
+           where o.company.id = :companyId
+             and o.workDate between :from and :to
+           order by o.workDate, o.startTime
+           """)
+    List<FixedShiftOccurrence> findInRange(@Param("companyId") UUID companyId,
+                                           @Param("from") LocalDate from,
+                                           @Param("to") LocalDate to);
+
+    @Query("""
+           select o from FixedShiftOccurrence o
+           join fetch o.member
+           join fetch o.role
+           where o.company.id = :companyId
+             and o.member.id = :memberId
+             and o.workDate between :from and :to
+           order by o.workDate, o.startTime
+           """)
+    List<FixedShiftOccurrence> findByMemberInRange(@Param("companyId") UUID companyId,
+                                                   @Param("memberId") UUID memberId,
+                                                   @Param("from") LocalDate from,
+                                                   @Param("to") LocalDate to);
+
+    @Modifying
+    @Query("delete from FixedShiftOccurrence o where o.company.id = :companyId and o.member.id = :memberId")
+    void deleteByCompanyIdAndMemberId(@Param("companyId") UUID companyId, @Param("memberId") UUID memberId);
+
+    @Modifying
+    @Query("delete from FixedShiftOccurrence o where o.company.id = :companyId")
+    void deleteByCompanyId(@Param("companyId") UUID companyId);
+}
@@ -0,0 +1,9 @@
+package OpenSourceSW.ArbeitMate.repository;
+
+import java.util.UUID;
+
+/**
+ * 고정 근무 패턴이 있는 (매장, 근무자) 한 쌍
+ */
+public record FixedShiftOwnerRow(UUID companyId, UUID memberId) {
+}
@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -18,8 +19,18 @@ public interface FixedShiftRepository extends JpaRepository<FixedShift, UUID> {
     @Query("delete from FixedShift fs where fs.company.id = :companyId and fs.member.id = :memberId")
     void deleteByCompanyIdAndMemberId(@Param("companyId") UUID companyId, @Param("memberId") UUID memberId);
 
+    @Modifying
+    @Query("delete from FixedShift fs where fs.company.id = :companyId and fs.member.id in :memberIds")
+    void deleteByCompanyIdAndMemberIdIn(@Param("companyId") UUID companyId, @Param("memberIds") Collection<UUID> memberIds);
+
     boolean existsByCompanyIdAndMemberId(UUID companyId, UUID memberId);
 
+    @Query("""
+           select distinct new OpenSourceSW.ArbeitMate.repository.FixedShiftOwnerRow(fs.company.id, fs.member.id)
+           from FixedShift fs
+           """)
+    List<FixedShiftOwnerRow> findDistinctOwners();
+
     @Query("""
         select f from FixedShift f
         where f.company.id = :companyId
@@ -3,11 +3,14 @@ package OpenSourceSW.ArbeitMate.repository;
 import OpenSourceSW.ArbeitMate.domain.MemberAvailability;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 public interface MemberAvailabilityRepository extends JpaRepository<MemberAvailability, UUID> {
     List<MemberAvailability> findByCompanyIdAndMemberId(UUID companyId, UUID memberId);
 
+    List<MemberAvailability> findByCompanyIdAndMemberIdIn(UUID companyId, Collection<UUID> memberIds);
+
     void deleteByCompanyIdAndMemberId(UUID companyId, UUID memberId);
 }
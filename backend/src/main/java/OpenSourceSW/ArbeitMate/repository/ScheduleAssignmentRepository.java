@@ -3,11 +3,13 @@ package OpenSourceSW.ArbeitMate.repository;
 import OpenSourceSW.ArbeitMate.domain.ScheduleAssignment;
 import OpenSourceSW.ArbeitMate.domain.enums.AssignmentStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
 import org.springframework.data.repository.query.Param;
 import java.time.LocalDate;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -34,4 +36,16 @@ public interface ScheduleAssignmentRepository extends JpaRepository<ScheduleAssi
             @Param("startDate") LocalDate startDate,
             @Param("endDate") LocalDate endDate
     );
-}
\ No newline at end of file
+
+    @Query("""
+           select sa from ScheduleAssignment sa
+           join fetch sa.member
+           where sa.schedule.period.id = :periodId
+             and sa.status <> OpenSourceSW.ArbeitMate.domain.enums.AssignmentStatus.CANCELLED
+           """)
+    List<ScheduleAssignment> findActiveWithMemberByPeriodId(@Param("periodId") UUID periodId);
+
+    @Modifying
+    @Query("delete from ScheduleAssignment sa where sa.schedule.id in :scheduleIds")
+    void deleteByScheduleIdIn(@Param("scheduleIds") Collection<UUID> scheduleIds);
+}
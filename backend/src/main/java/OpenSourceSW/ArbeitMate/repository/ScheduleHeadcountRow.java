@@ -0,0 +1,12 @@
+package OpenSourceSW.ArbeitMate.repository;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.UUID;
+
+/**
+ * 템플릿 패턴 추출용 슬롯 조회 결과 (엔티티 대신 필요한 컬럼만)
+ */
+public record ScheduleHeadcountRow(UUID roleId, LocalDate workDate, LocalTime startTime, LocalTime endTime,
+                                   int requiredHeadcount) {
+}
@@ -2,17 +2,29 @@ package OpenSourceSW.ArbeitMate.repository;
 
 import OpenSourceSW.ArbeitMate.domain.SchedulePeriod;
 import OpenSourceSW.ArbeitMate.domain.enums.PeriodStatus;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface SchedulePeriodRepository extends JpaRepository<SchedulePeriod, UUID> {
     List<SchedulePeriod> findByCompanyIdAndStatusAndStartDateGreaterThanEqualAndEndDateLessThanEqual(
             UUID companyId, PeriodStatus status, LocalDate start, LocalDate end);
 
+    List<SchedulePeriod> findByCompanyIdAndStartDateGreaterThanEqualAndEndDateLessThanEqualOrderByStartDateAsc(
+            UUID companyId, LocalDate start, LocalDate end);
+
+    /// 기간 행 잠금 조회 (같은 기간에 대한 요청을 트랜잭션 끝까지 한 줄로 세움)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select p from SchedulePeriod p where p.id = :periodId")
+    Optional<SchedulePeriod> findByIdForUpdate(UUID periodId);
+
     boolean existsByCompanyIdAndName(UUID companyId, String name);
 
     List<SchedulePeriod> findByCompanyIdOrderByStartDateAsc(UUID companyId);
@@ -26,4 +38,15 @@ public interface SchedulePeriodRepository extends JpaRepository<SchedulePeriod,
           and p.endDate >= :startDate
     """)
     boolean existsOverlapping(UUID companyId, LocalDate startDate, LocalDate endDate);
+
+    /// 가용 시간 자동 채우기 실행 대상 기간 (전 매장, OPEN + 미실행 + 설정한 시점 도달)
+    @Query("""
+        select p.id from SchedulePeriod p
+        where p.status = OpenSourceSW.ArbeitMate.domain.enums.PeriodStatus.OPEN
+          and p.availabilityAutoFilledAt is null
+          and (p.availabilityAutoFill = OpenSourceSW.ArbeitMate.domain.enums.AvailabilityAutoFillMode.AT_OPEN
+               or (p.availabilityAutoFill = OpenSourceSW.ArbeitMate.domain.enums.AvailabilityAutoFillMode.AT_DEADLINE
+                   and p.availabilityDueAt <= :now))
+    """)
+    List<UUID> findAvailabilityAutoFillDueIds(LocalDateTime now);
 }
@@ -2,14 +2,19 @@ package OpenSourceSW.ArbeitMate.repository;
 
 import OpenSourceSW.ArbeitMate.domain.Schedule;
 import OpenSourceSW.ArbeitMate.domain.SchedulePeriod;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface ScheduleRepository extends JpaRepository<Schedule, UUID> {
     List<Schedule> findByCompanyIdAndWorkDateBetween(UUID companyId, LocalDate from, LocalDate to);
@@ -18,5 +23,38 @@ public interface ScheduleRepository extends JpaRepository<Schedule, UUID> {
     @Modifying
     @Query("delete from Schedule s where s.period.id = :periodId")
     void deleteByPeriodId(@Param("periodId") UUID periodId);
+    @Modifying
+    @Query("delete from Schedule s where s.period.id in :periodIds")
+    void deleteByPeriodIdIn(@Param("periodIds") Collection<UUID> periodIds);
     boolean existsByPeriodId(UUID periodId);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("""
+           select new OpenSourceSW.ArbeitMate.repository.ScheduleHeadcountRow(
+                  s.role.id, s.workDate, s.startTime, s.endTime, s.requiredHeadcount)
+           from Schedule s
+           where s.period.id in :periodIds
+           """)
+    Stream<ScheduleHeadcountRow> streamHeadcountsByPeriodIdIn(@Param("periodIds") Collection<UUID> periodIds);
+
+    /**
+     * 근무자 가용 시간 화면 한 번에 조회 (멤버가 수행 가능한 역할군 슬롯만, 날짜/시작 시간 순)
+     * 슬롯 컬럼은 idx_schedules_period_slot 만으로 읽고, 제출 여부는 uq_slot_avail 로 조인한다.
+     */
+    @Query("""
+           select new OpenSourceSW.ArbeitMate.repository.WorkerSlotRow(
+                  s.id, s.workDate, s.startTime, s.endTime, r.id, r.name,
+                  case when a.id is not null then true else false end)
+           from Schedule s
+           join s.role r
+           left join ScheduleSlotAvailability a
+                  on a.schedule = s and a.member.id = :memberId and a.willing = true
+           where s.period.id = :periodId
+             and r.id in (select cmr.role.id from CompanyMemberRole cmr
+                          where cmr.company.id = :companyId and cmr.member.id = :memberId)
+           order by s.workDate, s.startTime
+           """)
+    List<WorkerSlotRow> findWorkerSlotRows(@Param("periodId") UUID periodId,
+                                           @Param("companyId") UUID companyId,
+                                           @Param("memberId") UUID memberId);
 }
@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -20,9 +21,40 @@ public interface ScheduleSlotAvailabilityRepository extends JpaRepository<Schedu
             "where a.member.id = :memberId and a.schedule.period = :period")
     void deleteByMemberAndPeriod(@Param("memberId") UUID memberId, @Param("period") SchedulePeriod period);
 
+    @Modifying
+    @Query("delete from ScheduleSlotAvailability a " +
+            "where a.member.id in :memberIds and a.schedule.period = :period")
+    void deleteByMemberIdInAndPeriod(@Param("memberIds") Collection<UUID> memberIds, @Param("period") SchedulePeriod period);
+
     @Query("""
            select a from ScheduleSlotAvailability a
            where a.schedule.period = :period
            """)
     List<ScheduleSlotAvailability> findByPeriod(@Param("period") SchedulePeriod period);
+
+    @Query("""
+           select distinct a.member.id from ScheduleSlotAvailability a
+           where a.schedule.period = :period
+           """)
+    List<UUID> findMemberIdsByPeriod(@Param("period") SchedulePeriod period);
+
+    @Modifying
+    @Query("delete from ScheduleSlotAvailability a where a.schedule.id in :scheduleIds")
+    void deleteByScheduleIdIn(@Param("scheduleIds") Collection<UUID> scheduleIds);
+
+    @Query("""
+           select a.schedule.id from ScheduleSlotAvailability a
+           where a.member.id = :memberId and a.schedule.id in :scheduleIds
+           """)
+    List<UUID> findSubmittedScheduleIds(@Param("memberId") UUID memberId, @Param("scheduleIds") Collection<UUID> scheduleIds);
+
+    @Modifying
+    @Query("""
+           delete from ScheduleSlotAvailability a
+           where a.member.id = :memberId
+             and a.schedule.id in (select s.id from Schedule s where s.period.id = :periodId and s.id in :scheduleIds)
+           """)
+    int deleteByMemberAndPeriodAndScheduleIdIn(@Param("memberId") UUID memberId,
+                                               @Param("periodId") UUID periodId,
+                                               @Param("scheduleIds") Collection<UUID> scheduleIds);
 }
@@ -0,0 +1,24 @@
+package OpenSourceSW.ArbeitMate.repository;
+
+import OpenSourceSW.ArbeitMate.domain.SlotRecurrence;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface SlotRecurrenceRepository extends JpaRepository<SlotRecurrence, UUID> {
+
+    @Query("""
+           select distinct r from SlotRecurrence r
+           join fetch r.role
+           left join fetch r.exceptionDates
+           where r.period.id = :periodId
+           """)
+    List<SlotRecurrence> findWithRoleByPeriodId(@Param("periodId") UUID periodId);
+
+    boolean existsByPeriodId(UUID periodId);
+
+    List<SlotRecurrence> findByPeriodCompanyId(UUID companyId);
+}
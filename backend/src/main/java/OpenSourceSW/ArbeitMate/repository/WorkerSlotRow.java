@@ -0,0 +1,12 @@
+package OpenSourceSW.ArbeitMate.repository;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.UUID;
+
+/**
+ * 근무자 가용 시간 화면용 슬롯 조회 결과 (본인 역할군 슬롯 + 이미 "가능" 으로 제출했는지)
+ */
+public record WorkerSlotRow(UUID scheduleId, LocalDate workDate, LocalTime startTime, LocalTime endTime,
+                            UUID roleId, String roleName, boolean willing) {
+}
@@ -0,0 +1,21 @@
+package OpenSourceSW.ArbeitMate.scheduling;
+
+import OpenSourceSW.ArbeitMate.domain.enums.AssignmentMode;
+
+/**
+ * 자동 배치 엔진
+ * 슬롯/근무자를 번호로 치환한 AssignmentProblem 을 받아 슬롯별 배치 결과를 돌려준다. (DB 접근 없음)
+ */
+public interface AssignmentEngine {
+    AssignmentMode mode();
+
+    AssignmentResult assign(AssignmentProblem problem);
+
+    /**
+     * 근무일 단위로 나눠서 병렬로 풀어도 되는지 여부
+     * 날짜를 넘나드는 순서 의존 로직(FAIR 의 누적 근무시간 등)이 있으면 false
+     */
+    default boolean partitionable() {
+        return true;
+    }
+}
@@ -0,0 +1,31 @@
+package OpenSourceSW.ArbeitMate.scheduling;
+
+import OpenSourceSW.ArbeitMate.domain.enums.AssignmentMode;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 배치 모드 -> 엔진 매핑 (등록된 AssignmentEngine 빈을 모드별로 보관)
+ */
+@Component
+public class AssignmentEngineRegistry {
+
+    private final Map<AssignmentMode, AssignmentEngine> engines = new EnumMap<>(AssignmentMode.class);
+
+    public AssignmentEngineRegistry(List<AssignmentEngine> engines) {
+        for (AssignmentEngine engine : engines) {
+            this.engines.put(engine.mode(), engine);
+        }
+    }
+
+    public AssignmentEngine get(AssignmentMode mode) {
+        AssignmentEngine engine = engines.get(mode != null ? mode : AssignmentMode.OPTIMAL);
+        if (engine == null) {
+            throw new IllegalArgumentException("지원하지 않는 배치 모드입니다: " + mode);
+        }
+        return engine;
+    }
+}
@@ -0,0 +1,261 @@
+package OpenSourceSW.ArbeitMate.scheduling;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+
+/**
+ * 자동 배치 입력
+ * 슬롯은 0..slotCount-1, 근무자는 0..workerCount-1 번호로 표현한다.
+ * - remaining[slot]: 슬롯에 더 채워야 하는 인원 수
+ * - candidates[slot]: 해당 슬롯에 배치 가능한 근무자 번호 (가능 제출 + 역할 수행 가능 + 미배정)
+ * - day/start/end[slot]: 근무일(epochDay)과 시작/종료 시각(분), 같은 근무자의 시간 겹침 판단에 사용
+ * - workerCapacity[worker]: 근무자 한 명이 이번 배치에서 받을 수 있는 최대 슬롯 수
+ * - weeklyMin/MaxMinutes[worker]: 근무자의 주간(월~일) 최소/최대 근무시간(분), FAIR 모드에서 사용
+ * - kept: 증분 배치에서 건드리지 않고 남겨 둔 배정 (근무자별 개수, 근무자/주별 분)
+ *   최대 배치 수와 주간 근무시간 제약은 남겨 둔 배정을 포함해서 판단한다.
+ * - seed: 랜덤을 쓰는 엔진의 시드 (같은 입력 + 같은 시드 -> 같은 결과)
+ */
+public class AssignmentProblem {
+
+    public static final int UNLIMITED = Integer.MAX_VALUE;
+
+    private final int workerCount;
+    private final int[] remaining;
+    private final int[][] candidates;
+    private final int[] day;
+    private final int[] start;
+    private final int[] end;
+    private final int[] workerCapacity;
+    private final int[] weeklyMinMinutes;
+    private final int[] weeklyMaxMinutes;
+    private final int[] keptCount;
+    private final Map<Long, Integer> keptWeekMinutes; // (근무자 << 32 | 주 번호) -> 분
+    private final long seed;
+
+    private AssignmentProblem(Builder b) {
+        this.workerCount = b.workerCount;
+        this.remaining = Arrays.copyOf(b.remaining, b.slotCount);
+        this.candidates = Arrays.copyOf(b.candidates, b.slotCount);
+        this.day = Arrays.copyOf(b.day, b.slotCount);
+        this.start = Arrays.copyOf(b.start, b.slotCount);
+        this.end = Arrays.copyOf(b.end, b.slotCount);
+        this.workerCapacity = b.workerCapacity;
+        this.weeklyMinMinutes = b.weeklyMinMinutes;
+        this.weeklyMaxMinutes = b.weeklyMaxMinutes;
+        this.keptCount = b.keptCount;
+        this.keptWeekMinutes = b.keptWeekMinutes;
+        this.seed = b.seed;
+    }
+
+    public static Builder builder(int workerCount) {
+        return new Builder(workerCount);
+    }
+
+    public int slotCount() { return remaining.length; }
+    public int workerCount() { return workerCount; }
+    public int remaining(int slot) { return remaining[slot]; }
+    public int[] candidates(int slot) { return candidates[slot]; }
+    public int day(int slot) { return day[slot]; }
+    public int start(int slot) { return start[slot]; }
+    public int end(int slot) { return end[slot]; }
+    public int workerCapacity(int worker) { return workerCapacity[worker]; }
+    public int weeklyMinMinutes(int worker) { return weeklyMinMinutes[worker]; }
+    public int weeklyMaxMinutes(int worker) { return weeklyMaxMinutes[worker]; }
+    public int duration(int slot) { return end[slot] - start[slot]; }
+    public long seed() { return seed; }
+    public int keptCount(int worker) { return keptCount[worker]; }
+
+    /** 남겨 둔 배정 중 해당 주(weekOf 기준)에 든 근무시간(분) */
+    public int keptWeekMinutes(int worker, int week) {
+        return keptWeekMinutes.getOrDefault(weekKey(worker, week), 0);
+    }
+
+    /** 남겨 둔 배정을 뺀, 이번 배치에서 더 받을 수 있는 슬롯 수 */
+    public int remainingCapacity(int worker) {
+        int capacity = workerCapacity[worker];
+        return (capacity == UNLIMITED) ? UNLIMITED : Math.max(0, capacity - keptCount[worker]);
+    }
+
+    /**
+     * 일부 슬롯만 뽑은 부분 문제 (근무자 정보는 그대로, 슬롯 번호는 slots 순서대로 0..n-1)
+     */
+    public AssignmentProblem subProblem(int[] slots, long seed) {
+        Builder b = new Builder(this, slots.length);
+        for (int s : slots) {
+            b.addSlot(day[s], start[s], end[s], remaining[s], candidates[s]);
+        }
+        return b.seed(seed).build();
+    }
+
+    /**
+     * 입력 해시 (SHA-256, hex)
+     * 슬롯/근무자 번호 기준의 입력 전체 + 시드를 해시한다. 엔진은 결정적이므로 해시가 같으면 결과도 같다.
+     */
+    public String fingerprint() {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+
+        ByteBuffer buf = ByteBuffer.allocate(8192);
+        putInt(digest, buf, workerCount);
+        putInt(digest, buf, slotCount());
+        for (int s = 0; s < slotCount(); s++) {
+            putInt(digest, buf, day[s]);
+            putInt(digest, buf, start[s]);
+            putInt(digest, buf, end[s]);
+            putInt(digest, buf, remaining[s]);
+            putInt(digest, buf, candidates[s].length);
+            for (int w : candidates[s]) putInt(digest, buf, w);
+        }
+        for (int w = 0; w < workerCount; w++) {
+            putInt(digest, buf, workerCapacity[w]);
+            putInt(digest, buf, weeklyMinMinutes[w]);
+            putInt(digest, buf, weeklyMaxMinutes[w]);
+            putInt(digest, buf, keptCount[w]);
+        }
+        long[] keptKeys = keptWeekMinutes.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+        putInt(digest, buf, keptKeys.length);
+        for (long key : keptKeys) {
+            putInt(digest, buf, (int) (key >>> 32));
+            putInt(digest, buf, (int) key);
+            putInt(digest, buf, keptWeekMinutes.get(key));
+        }
+        putInt(digest, buf, (int) (seed >>> 32));
+        putInt(digest, buf, (int) seed);
+
+        digest.update(buf.flip());
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static void putInt(MessageDigest digest, ByteBuffer buf, int value) {
+        if (buf.remaining() < Integer.BYTES) {
+            digest.update(buf.flip());
+            buf.clear();
+        }
+        buf.putInt(value);
+    }
+
+    public static int toMinutes(LocalTime time) {
+        return time.toSecondOfDay() / 60;
+    }
+
+    /** epochDay -> 주 번호 (월요일 시작) */
+    public static int weekOf(int epochDay) {
+        return Math.floorDiv(epochDay + 3, 7); // 1970-01-01 은 목요일
+    }
+
+    private static long weekKey(int worker, int week) {
+        return ((long) worker << 32) | (week & 0xFFFFFFFFL);
+    }
+
+    public static class Builder {
+        private final int workerCount;
+        private final int[] workerCapacity;
+        private final int[] weeklyMinMinutes;
+        private final int[] weeklyMaxMinutes;
+        private final int[] keptCount;
+        private final Map<Long, Integer> keptWeekMinutes;
+
+        private long seed;
+        private int slotCount;
+        private int[] remaining = new int[16];
+        private int[][] candidates = new int[16][];
+        private int[] day = new int[16];
+        private int[] start = new int[16];
+        private int[] end = new int[16];
+
+        private Builder(AssignmentProblem source, int slotCapacity) {
+            this.workerCount = source.workerCount;
+            this.workerCapacity = source.workerCapacity;
+            this.weeklyMinMinutes = source.weeklyMinMinutes;
+            this.weeklyMaxMinutes = source.weeklyMaxMinutes;
+            this.keptCount = source.keptCount;
+            this.keptWeekMinutes = source.keptWeekMinutes;
+            int size = Math.max(1, slotCapacity);
+            this.remaining = new int[size];
+            this.candidates = new int[size][];
+            this.day = new int[size];
+            this.start = new int[size];
+            this.end = new int[size];
+        }
+
+        private Builder(int workerCount) {
+            this.workerCount = workerCount;
+            this.workerCapacity = new int[workerCount];
+            Arrays.fill(workerCapacity, UNLIMITED);
+            this.weeklyMinMinutes = new int[workerCount];
+            this.weeklyMaxMinutes = new int[workerCount];
+            Arrays.fill(weeklyMaxMinutes, UNLIMITED);
+            this.keptCount = new int[workerCount];
+            this.keptWeekMinutes = new HashMap<>();
+        }
+
+        /** 슬롯 추가 후 슬롯 번호 반환 */
+        public int addSlot(LocalDate workDate, LocalTime startTime, LocalTime endTime, int remainingHeadcount, int[] candidateWorkers) {
+            return addSlot((int) workDate.toEpochDay(), toMinutes(startTime), toMinutes(endTime), remainingHeadcount, candidateWorkers);
+        }
+
+        public int addSlot(int epochDay, int startMinute, int endMinute, int remainingHeadcount, int[] candidateWorkers) {
+            if (slotCount == remaining.length) grow();
+
+            int slot = slotCount++;
+            remaining[slot] = remainingHeadcount;
+            candidates[slot] = candidateWorkers;
+            day[slot] = epochDay;
+            start[slot] = startMinute;
+            end[slot] = endMinute;
+            return slot;
+        }
+
+        public Builder workerCapacity(int worker, int capacity) {
+            workerCapacity[worker] = capacity;
+            return this;
+        }
+
+        public Builder seed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        /** 주간 근무시간 범위 (null: 제한 없음) */
+        public Builder weeklyHours(int worker, Integer minHours, Integer maxHours) {
+            weeklyMinMinutes[worker] = (minHours == null) ? 0 : minHours * 60;
+            weeklyMaxMinutes[worker] = (maxHours == null) ? UNLIMITED : maxHours * 60;
+            return this;
+        }
+
+        /** 이번 배치에서 다시 풀지 않고 남겨 둔 배정 (최대 배치 수 / 주간 근무시간에 포함) */
+        public Builder keep(int worker, LocalDate workDate, LocalTime startTime, LocalTime endTime) {
+            return keep(worker, (int) workDate.toEpochDay(), toMinutes(endTime) - toMinutes(startTime));
+        }
+
+        public Builder keep(int worker, int epochDay, int minutes) {
+            keptCount[worker]++;
+            keptWeekMinutes.merge(weekKey(worker, weekOf(epochDay)), minutes, Integer::sum);
+            return this;
+        }
+
+        public AssignmentProblem build() {
+            return new AssignmentProblem(this);
+        }
+
+        private void grow() {
+            int size = remaining.length * 2;
+            remaining = Arrays.copyOf(remaining, size);
+            candidates = Arrays.copyOf(candidates, size);
+            day = Arrays.copyOf(day, size);
+            start = Arrays.copyOf(start, size);
+            end = Arrays.copyOf(end, size);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package OpenSourceSW.ArbeitMate.scheduling;
+
+/**
+ * 자동 배치 결과 (슬롯 번호 -> 배치된 근무자 번호 목록)
+ */
+public class AssignmentResult {
+
+    private final int[][] assigned;
+
+    public AssignmentResult(int[][] assigned) {
+        this.assigned = assigned;
+    }
+
+    public int[] assignedWorkers(int slot) {
+        return assigned[slot];
+    }
+
+    public int filledCount() {
+        int total = 0;
+        for (int[] workers : assigned) total += workers.length;
+        return total;
+    }
+}
@@ -0,0 +1,40 @@
+package OpenSourceSW.ArbeitMate.scheduling;
+
+import OpenSourceSW.ArbeitMate.domain.enums.AssignmentMode;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 배치 결과 메모이제이션 ((모드, 입력 해시) -> 결과)
+ * 엔진은 같은 입력 + 같은 시드에 대해 항상 같은 결과를 내므로, 입력이 그대로인 재실행은 계산을 건너뛴다.
+ * 최근 사용 순으로 MAX_ENTRIES 개까지만 보관한다.
+ */
+@Component
+public class AssignmentResultCache {
+
+    private static final int MAX_ENTRIES = 64;
+
+    private final Map<String, AssignmentResult> results = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, AssignmentResult> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    public AssignmentResult getOrCompute(AssignmentMode mode, String inputHash, Supplier<AssignmentResult> solver) {
+        String key = mode + ":" + inputHash;
+        synchronized (results) {
+            AssignmentResult cached = results.get(key);
+            if (cached != null) return cached;
+        }
+
+        AssignmentResult result = solver.get();
+        synchronized (results) {
+            results.put(key, result);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,119 @@
+package OpenSourceSW.ArbeitMate.scheduling;
+
+import java.util.Arrays;
+
+/**
+ * 자동 배치용 가용 정보 비트셋
+ * 근무자/슬롯/역할을 0부터 시작하는 번호로 바꾸고, 근무자 집합을 long[] 비트셋으로 저장한다.
+ * - willing[slot]: 해당 슬롯에 "가능" 제출한 근무자
+ * - eligible[role]: 해당 역할을 수행할 수 있는 근무자
+ * - assigned[slot]: 해당 슬롯에 이미 배정된 근무자 (고정 근무 등)
+ * 후보 = willing & eligible[슬롯 역할] & ~assigned 를 워드 단위로 계산한다.
+ */
+public class AvailabilityMatrix {
+
+    private static final int NO_ROLE = -1;
+
+    private final int workerCount;
+    private final int words;
+    private final int[] slotRole;
+    private final long[][] willing;
+    private final long[][] assigned;
+    private final long[][] eligible;
+
+    public AvailabilityMatrix(int workerCount, int slotCount, int roleCount) {
+        this.workerCount = workerCount;
+        this.words = (workerCount + 63) >>> 6;
+        this.slotRole = new int[slotCount];
+        this.willing = new long[slotCount][words];
+        this.assigned = new long[slotCount][words];
+        this.eligible = new long[roleCount][words];
+        Arrays.fill(slotRole, NO_ROLE);
+    }
+
+    public int workerCount() { return workerCount; }
+    public int slotCount() { return slotRole.length; }
+
+    public void setSlotRole(int slot, int role) {
+        slotRole[slot] = role;
+    }
+
+    public void markWilling(int slot, int worker) {
+        willing[slot][worker >>> 6] |= 1L << worker;
+    }
+
+    public void clearWilling(int slot, int worker) {
+        willing[slot][worker >>> 6] &= ~(1L << worker);
+    }
+
+    public void markEligible(int role, int worker) {
+        eligible[role][worker >>> 6] |= 1L << worker;
+    }
+
+    public void markAssigned(int slot, int worker) {
+        assigned[slot][worker >>> 6] |= 1L << worker;
+    }
+
+    public boolean isAssigned(int slot, int worker) {
+        return (assigned[slot][worker >>> 6] & (1L << worker)) != 0;
+    }
+
+    /** 슬롯의 배치 후보 근무자 번호 (오름차순) */
+    public int[] candidates(int slot) {
+        return collect(slot, true);
+    }
+
+    /** 역할과 관계없이 "가능" 제출한 근무자 번호 (오름차순) */
+    public int[] willing(int slot) {
+        long[] w = willing[slot];
+        int count = 0;
+        for (int i = 0; i < words; i++) count += Long.bitCount(w[i]);
+
+        int[] result = new int[count];
+        int n = 0;
+        for (int i = 0; i < words; i++) {
+            long bits = w[i];
+            while (bits != 0) {
+                result[n++] = (i << 6) + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+            }
+        }
+        return result;
+    }
+
+    /** 근무자가 슬롯 역할을 수행할 수 있는지 */
+    public boolean isEligible(int slot, int worker) {
+        int role = slotRole[slot];
+        return role != NO_ROLE && (eligible[role][worker >>> 6] & (1L << worker)) != 0;
+    }
+
+    /** 배정 여부와 관계없이 "가능 제출 & 역할 가능" 인 근무자 번호 (오름차순) */
+    public int[] willingAndEligible(int slot) {
+        return collect(slot, false);
+    }
+
+    private int[] collect(int slot, boolean excludeAssigned) {
+        int role = slotRole[slot];
+        if (role == NO_ROLE) return new int[0];
+
+        long[] w = willing[slot];
+        long[] a = assigned[slot];
+        long[] e = eligible[role];
+
+        int count = 0;
+        for (int i = 0; i < words; i++) {
+            count += Long.bitCount(w[i] & e[i] & (excludeAssigned ? ~a[i] : -1L));
+        }
+
+        int[] result = new int[count];
+        int n = 0;
+        for (int i = 0; i < words; i++) {
+            long bits = w[i] & e[i] & (excludeAssigned ? ~a[i] : -1L);
+            while (bits != 0) {
+                result[n++] = (i << 6) + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,68 @@
+package OpenSourceSW.ArbeitMate.scheduling;
+
+import OpenSourceSW.ArbeitMate.domain.MemberAvailability;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.*;
+
+/**
+ * 근무자 가용시간 패턴 요일 인덱스 (슬롯 추천용)
+ * 요청마다 패턴을 한 번 요일별 (시작 분, 종료 분, 유효 시작일, 유효 종료일) 배열로 컴파일하고, 요일 안에서는 시작 분 순으로 정렬한다.
+ * 슬롯 조회는 해당 요일 배열만, 슬롯 종료 분을 넘는 시작 분이 나오기 전까지만 훑으며 int/long 비교만 한다.
+ * 판정 기준은 MemberAvailability.isEffectiveOn + overlaps 와 같다. (경계가 맞닿아도 겹침으로 본다)
+ */
+public class AvailabilityPatternIndex {
+
+    private final DayPatterns[] byDow = new DayPatterns[7]; // 0=월..6=일
+
+    public AvailabilityPatternIndex(Collection<MemberAvailability> patterns) {
+        List<List<MemberAvailability>> grouped = new ArrayList<>(7);
+        for (int d = 0; d < 7; d++) grouped.add(new ArrayList<>());
+        for (MemberAvailability p : patterns) {
+            grouped.get(p.getDow()).add(p);
+        }
+
+        for (int d = 0; d < 7; d++) {
+            List<MemberAvailability> list = grouped.get(d);
+            if (list.isEmpty()) continue;
+            list.sort(Comparator.comparing(MemberAvailability::getStartTime));
+            byDow[d] = new DayPatterns(list);
+        }
+    }
+
+    /** date 에 유효한 패턴 중 [start, end] 와 겹치는 것이 있는지 */
+    public boolean matches(LocalDate date, LocalTime start, LocalTime end) {
+        DayPatterns day = byDow[date.getDayOfWeek().getValue() - 1];
+        return day != null && day.matches(date.toEpochDay(), AssignmentProblem.toMinutes(start), AssignmentProblem.toMinutes(end));
+    }
+
+    private static final class DayPatterns {
+        private final int[] startMinutes; // 오름차순
+        private final int[] endMinutes;
+        private final long[] fromDays;
+        private final long[] toDays; // 무기한이면 Long.MAX_VALUE
+
+        DayPatterns(List<MemberAvailability> sorted) {
+            int n = sorted.size();
+            startMinutes = new int[n];
+            endMinutes = new int[n];
+            fromDays = new long[n];
+            toDays = new long[n];
+            for (int i = 0; i < n; i++) {
+                MemberAvailability p = sorted.get(i);
+                startMinutes[i] = AssignmentProblem.toMinutes(p.getStartTime());
+                endMinutes[i] = AssignmentProblem.toMinutes(p.getEndTime());
+                fromDays[i] = p.getEffectiveFrom().toEpochDay();
+                toDays[i] = (p.getEffectiveTo() != null) ? p.getEffectiveTo().toEpochDay() : Long.MAX_VALUE;
+            }
+        }
+
+        boolean matches(long epochDay, int start, int end) {
+            for (int i = 0; i < startMinutes.length && startMinutes[i] <= end; i++) {
+                if (endMinutes[i] >= start && fromDays[i] <= epochDay && epochDay <= toDays[i]) return true;
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package OpenSourceSW.ArbeitMate.scheduling;
+
+import OpenSourceSW.ArbeitMate.domain.FixedShift;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * 고정 근무 패턴 요일 인덱스
+ * 패턴을 요일별로 한 번 나누고, 요일 안에서는 유효 시작일 순으로 정렬해 둔다.
+ * 날짜 조회 시 이진 탐색으로 이미 시작된 패턴까지만 잘라 보고, 종료일만 확인한다.
+ * -> 기간 전체 펼치기 비용이 (날짜 x 전체 패턴) 이 아니라 (날짜 + 해당 요일 패턴 수) 에 비례
+ */
+public class FixedShiftCalendar {
+
+    private final EnumMap<DayOfWeek, FixedShift[]> byDow = new EnumMap<>(DayOfWeek.class);
+    private final EnumMap<DayOfWeek, long[]> fromDays = new EnumMap<>(DayOfWeek.class); // 유효 시작일 (epochDay, 오름차순)
+
+    public FixedShiftCalendar(Collection<FixedShift> fixedShifts) {
+        Map<DayOfWeek, List<FixedShift>> grouped = new EnumMap<>(DayOfWeek.class);
+        for (FixedShift fs : fixedShifts) {
+            grouped.computeIfAbsent(DayOfWeek.of(fs.getDow() + 1), d -> new ArrayList<>()).add(fs); // dow: 0=월..6=일
+        }
+
+        for (Map.Entry<DayOfWeek, List<FixedShift>> e : grouped.entrySet()) {
+            FixedShift[] shifts = e.getValue().toArray(new FixedShift[0]);
+            Arrays.sort(shifts, Comparator.comparing(FixedShift::getEffectiveFrom));
+
+            long[] from = new long[shifts.length];
+            for (int i = 0; i < shifts.length; i++) from[i] = shifts[i].getEffectiveFrom().toEpochDay();
+
+            byDow.put(e.getKey(), shifts);
+            fromDays.put(e.getKey(), from);
+        }
+    }
+
+    /** 해당 날짜에 유효한 패턴 (유효 시작일 순) */
+    public List<FixedShift> effectiveOn(LocalDate date) {
+        FixedShift[] shifts = byDow.get(date.getDayOfWeek());
+        if (shifts == null) return List.of();
+
+        int started = upperBound(fromDays.get(date.getDayOfWeek()), date.toEpochDay());
+        List<FixedShift> result = new ArrayList<>(started);
+        for (int i = 0; i < started; i++) {
+            if (shifts[i].isEffectiveOn(date)) result.add(shifts[i]); // 시작일은 이미 지났으므로 종료일만 걸러짐
+        }
+        return result;
+    }
+
+    /** sorted 에서 key 이하인 원소 개수 */
+    private static int upperBound(long[] sorted, long key) {
+        int lo = 0, hi = sorted.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (sorted[mid] <= key) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+}
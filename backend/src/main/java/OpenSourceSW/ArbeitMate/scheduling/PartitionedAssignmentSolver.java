@@ -0,0 +1,173 @@
+package OpenSourceSW.ArbeitMate.scheduling;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * 근무일 단위 병렬 배치
+ * 다른 날짜의 슬롯끼리는 시간이 겹칠 수 없으므로, 기간을 근무일별 부분 문제로 나눠 ForkJoinPool 에서 동시에 푼다.
+ * 날짜를 넘는 제약(근무자 최대 배치 수, 주간 최대 근무시간)은 마지막에 시간순으로 한 번 훑으며 맞춘다.
+ * - 제약을 넘는 배정은 빼고, 빈 자리는 제약/시간 겹침을 지키는 다른 후보로 다시 채운다.
+ * - 엔진(OPTIMAL/FAST)이 주간 최대 근무시간을 보지 않으므로, 나누지 않고 한 번에 푼 경우에도 같은 단계를 거친다.
+ *   (문제 크기와 관계없이 같은 제약이 적용되도록, 이미 제약을 지키는 FAIR 결과는 그대로 남는다)
+ * 부분 문제 시드는 (기간 시드, 근무일) 로 정해지므로 스레드 수와 관계없이 결과가 같다.
+ */
+@Component
+public class PartitionedAssignmentSolver {
+
+    private static final int MIN_SLOTS_TO_PARTITION = 64; // 이보다 작으면 나누는 비용이 더 큼
+
+    private final ForkJoinPool pool;
+
+    public PartitionedAssignmentSolver(@Value("${autoAssign.solver.parallelism:0}") int parallelism) {
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    public AssignmentResult solve(AssignmentEngine engine, AssignmentProblem problem) {
+        int slotCount = problem.slotCount();
+        if (slotCount == 0) {
+            return engine.assign(problem);
+        }
+
+        // 1. 근무일별 슬롯 묶기
+        int[][] partitions = partitionByDay(problem);
+        int[][] assigned = new int[slotCount][];
+
+        if (!engine.partitionable() || slotCount < MIN_SLOTS_TO_PARTITION || partitions.length == 1) {
+            // 나누지 않고 한 번에
+            AssignmentResult whole = engine.assign(problem);
+            for (int s = 0; s < slotCount; s++) {
+                assigned[s] = whole.assignedWorkers(s);
+            }
+        } else {
+            // 2. 부분 문제 병렬 풀이
+            List<ForkJoinTask<AssignmentResult>> tasks = new ArrayList<>(partitions.length);
+            for (int[] slots : partitions) {
+                long seed = mix64(problem.seed() ^ problem.day(slots[0]));
+                AssignmentProblem sub = problem.subProblem(slots, seed);
+                tasks.add(pool.submit(() -> engine.assign(sub)));
+            }
+
+            for (int p = 0; p < partitions.length; p++) {
+                AssignmentResult part = tasks.get(p).join();
+                int[] slots = partitions[p];
+                for (int i = 0; i < slots.length; i++) {
+                    assigned[slots[i]] = part.assignedWorkers(i);
+                }
+            }
+        }
+
+        // 3. 날짜를 넘는 제약 맞추기 (모든 경로 공통)
+        reconcile(problem, assigned, partitions);
+        return new AssignmentResult(assigned);
+    }
+
+    private static int[][] partitionByDay(AssignmentProblem problem) {
+        int slotCount = problem.slotCount();
+        long[] order = new long[slotCount];
+        for (int s = 0; s < slotCount; s++) {
+            order[s] = ((long) problem.day(s) << 32) | s;
+        }
+        Arrays.sort(order);
+
+        List<int[]> partitions = new ArrayList<>();
+        int from = 0;
+        for (int i = 1; i <= slotCount; i++) {
+            if (i == slotCount || (order[i] >>> 32) != (order[from] >>> 32)) {
+                int[] slots = new int[i - from];
+                for (int k = from; k < i; k++) slots[k - from] = (int) order[k];
+                partitions.add(slots);
+                from = i;
+            }
+        }
+        return partitions.toArray(new int[0][]);
+    }
+
+    /**
+     * 날짜순(부분 문제 순서)으로 훑으면서 최대 배치 수 / 주간 최대 근무시간을 넘는 배정은 빼고,
+     * 빈 자리는 제약을 지키는 후보로 채운다.
+     */
+    private static void reconcile(AssignmentProblem problem, int[][] assigned, int[][] partitions) {
+        int workerCount = problem.workerCount();
+        int firstWeek = AssignmentProblem.weekOf(problem.day(partitions[0][0]));
+        int lastWeek = AssignmentProblem.weekOf(problem.day(partitions[partitions.length - 1][0]));
+        int weekCount = lastWeek - firstWeek + 1;
+
+        // 남겨 둔 배정(증분 배치)은 remainingCapacity 에서 이미 빠졌고, 주간 근무시간은 여기서 더해 둔다
+        int[] used = new int[workerCount];
+        int[] weekMinutes = new int[workerCount * weekCount];
+        for (int w = 0; w < workerCount; w++) {
+            for (int k = 0; k < weekCount; k++) {
+                weekMinutes[w * weekCount + k] = problem.keptWeekMinutes(w, firstWeek + k);
+            }
+        }
+        WorkerIntervalIndex<Integer> busy = new WorkerIntervalIndex<>();
+
+        for (int[] slots : partitions) {
+            // 3-1. 부분 문제 결과 중 제약 안에 드는 배정만 유지
+            for (int s : slots) {
+                int week = AssignmentProblem.weekOf(problem.day(s)) - firstWeek;
+                int duration = problem.duration(s);
+                int[] workers = assigned[s];
+                int n = 0;
+                for (int w : workers) {
+                    if (!fits(problem, w, used, weekMinutes[w * weekCount + week], duration)) continue;
+                    used[w]++;
+                    weekMinutes[w * weekCount + week] += duration;
+                    busy.tryAdd(w, problem.day(s), problem.start(s), problem.end(s));
+                    workers[n++] = w;
+                }
+                assigned[s] = (n == workers.length) ? workers : Arrays.copyOf(workers, n);
+            }
+
+            // 3-2. 빠진 자리 다시 채우기
+            for (int s : slots) {
+                int need = Math.min(problem.remaining(s), problem.candidates(s).length) - assigned[s].length;
+                if (need <= 0) continue;
+
+                int week = AssignmentProblem.weekOf(problem.day(s)) - firstWeek;
+                int duration = problem.duration(s);
+                int[] workers = Arrays.copyOf(assigned[s], assigned[s].length + need);
+                int n = assigned[s].length;
+                for (int w : problem.candidates(s)) {
+                    if (n == workers.length) break;
+                    if (contains(workers, n, w)) continue;
+                    if (!fits(problem, w, used, weekMinutes[w * weekCount + week], duration)) continue;
+                    if (!busy.tryAdd(w, problem.day(s), problem.start(s), problem.end(s))) continue;
+                    used[w]++;
+                    weekMinutes[w * weekCount + week] += duration;
+                    workers[n++] = w;
+                }
+                assigned[s] = Arrays.copyOf(workers, n);
+            }
+        }
+    }
+
+    private static boolean fits(AssignmentProblem problem, int w, int[] used, int thisWeekMinutes, int duration) {
+        return used[w] < problem.remainingCapacity(w)
+                && (long) thisWeekMinutes + duration <= problem.weeklyMaxMinutes(w);
+    }
+
+    private static boolean contains(int[] arr, int n, int value) {
+        for (int i = 0; i < n; i++) if (arr[i] == value) return true;
+        return false;
+    }
+
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+    }
+}
@@ -0,0 +1,55 @@
+package OpenSourceSW.ArbeitMate.scheduling;
+
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 접수만 되고 아직 DB 에 반영되지 않은 가용 시간 제출 (근무자, 기간) -> 마지막 제출 슬롯
+ * 제출 직후 본인 화면에서 방금 낸 내용이 보이도록(read-your-writes) 조회 시 DB 값 대신 사용한다.
+ * 반영이 끝나면 같은 제출일 때만 지우고, 메시지가 유실된 경우를 대비해 TTL_MILLIS 가 지나면 무시한다.
+ * (인스턴스 로컬 캐시 - 여러 대로 띄우면 같은 근무자 요청이 같은 인스턴스로 가야 보장된다)
+ */
+@Component
+public class PendingAvailabilityCache {
+
+    private static final long TTL_MILLIS = 10 * 60 * 1000L;
+
+    private record Key(UUID memberId, UUID periodId) {}
+
+    private record Pending(Set<UUID> slotIds, long acceptedAt) {}
+
+    private final Map<Key, Pending> pending = new ConcurrentHashMap<>();
+
+    public void put(UUID memberId, UUID periodId, List<UUID> slotIds, long acceptedAt) {
+        pending.merge(new Key(memberId, periodId), new Pending(Set.copyOf(slotIds), acceptedAt),
+                (old, cur) -> cur.acceptedAt() >= old.acceptedAt() ? cur : old);
+    }
+
+    /** 반영 대기 중인 제출 슬롯, 없으면 null */
+    public Set<UUID> get(UUID memberId, UUID periodId) {
+        Key key = new Key(memberId, periodId);
+        Pending p = pending.get(key);
+        if (p == null) return null;
+        if (System.currentTimeMillis() - p.acceptedAt() > TTL_MILLIS) {
+            pending.remove(key, p);
+            return null;
+        }
+        return p.slotIds();
+    }
+
+    /** acceptedAt 제출이 반영되었으면 제거 (그 사이 더 새로운 제출이 들어왔으면 유지) */
+    public void clearIfApplied(UUID memberId, UUID periodId, long acceptedAt) {
+        pending.computeIfPresent(new Key(memberId, periodId),
+                (k, p) -> p.acceptedAt() <= acceptedAt ? null : p);
+    }
+
+    /** 직접(동기) 제출로 덮어쓴 경우 */
+    public void remove(UUID memberId, UUID periodId) {
+        pending.remove(new Key(memberId, periodId));
+    }
+}
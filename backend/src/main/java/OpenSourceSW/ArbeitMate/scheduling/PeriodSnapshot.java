@@ -0,0 +1,90 @@
+package OpenSourceSW.ArbeitMate.scheduling;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 자동 배치 시뮬레이션용 기간 스냅샷 (엔티티와 분리된 읽기 전용 사본)
+ * 근무자/역할을 번호로 바꿔 배열로만 보관하므로, 캐시에 두고 여러 요청이 동시에 읽어도 안전하다.
+ * 시뮬레이션마다 toMatrix() 로 새 비트셋을 만들고 그 위에 변경분을 얹는다.
+ */
+public final class PeriodSnapshot {
+
+    /**
+     * 슬롯 사본
+     * - role: 역할 번호, lockedCount: 고정 근무자 수(자동 배치 대상 아님)
+     * - willing: "가능" 제출한 근무자 번호
+     */
+    public record Slot(UUID scheduleId, UUID roleId, String roleName,
+                       LocalDate workDate, LocalTime startTime, LocalTime endTime,
+                       int role, int requiredHeadcount, int lockedCount, int[] willing) {}
+
+    private final UUID companyId;
+    private final UUID periodId;
+    private final Long seed;
+
+    private final List<UUID> workerIds;
+    private final Integer[] minWeeklyHours;
+    private final Integer[] maxWeeklyHours;
+    private final Map<UUID, Integer> workerIndex = new HashMap<>();
+
+    private final List<Slot> slots;
+    private final Map<UUID, Integer> slotIndex = new HashMap<>();
+
+    private final int[][] eligible; // 역할 번호 -> 수행 가능한 근무자 번호
+
+    public PeriodSnapshot(UUID companyId, UUID periodId, Long seed,
+                          List<UUID> workerIds, Integer[] minWeeklyHours, Integer[] maxWeeklyHours,
+                          List<Slot> slots, int[][] eligible) {
+        this.companyId = companyId;
+        this.periodId = periodId;
+        this.seed = seed;
+        this.workerIds = List.copyOf(workerIds);
+        this.minWeeklyHours = minWeeklyHours;
+        this.maxWeeklyHours = maxWeeklyHours;
+        this.slots = List.copyOf(slots);
+        this.eligible = eligible;
+
+        for (int i = 0; i < this.workerIds.size(); i++) workerIndex.put(this.workerIds.get(i), i);
+        for (int i = 0; i < this.slots.size(); i++) slotIndex.put(this.slots.get(i).scheduleId(), i);
+    }
+
+    public UUID companyId() { return companyId; }
+    public UUID periodId() { return periodId; }
+    public Long seed() { return seed; }
+
+    public int workerCount() { return workerIds.size(); }
+    public Integer minWeeklyHours(int worker) { return minWeeklyHours[worker]; }
+    public Integer maxWeeklyHours(int worker) { return maxWeeklyHours[worker]; }
+
+    public int slotCount() { return slots.size(); }
+    public Slot slot(int slot) { return slots.get(slot); }
+
+    /** 자동 배치 대상 근무자가 아니면 null */
+    public Integer workerIndexOf(UUID memberId) {
+        return workerIndex.get(memberId);
+    }
+
+    /** 기간의 슬롯이 아니면 null */
+    public Integer slotIndexOf(UUID scheduleId) {
+        return slotIndex.get(scheduleId);
+    }
+
+    /** 스냅샷 기준 가용 비트셋 (매번 새로 만들어 호출한 쪽이 자유롭게 고칠 수 있음) */
+    public AvailabilityMatrix toMatrix() {
+        AvailabilityMatrix matrix = new AvailabilityMatrix(workerIds.size(), slots.size(), eligible.length);
+        for (int i = 0; i < slots.size(); i++) {
+            Slot s = slots.get(i);
+            matrix.setSlotRole(i, s.role());
+            for (int w : s.willing()) matrix.markWilling(i, w);
+        }
+        for (int role = 0; role < eligible.length; role++) {
+            for (int w : eligible[role]) matrix.markEligible(role, w);
+        }
+        return matrix;
+    }
+}
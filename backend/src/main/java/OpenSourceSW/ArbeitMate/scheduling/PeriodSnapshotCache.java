@@ -0,0 +1,91 @@
+package OpenSourceSW.ArbeitMate.scheduling;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * 시뮬레이션용 기간 스냅샷 캐시 (기간 id -> 스냅샷)
+ * 슬롯/가용 제출/고정 근무가 바뀌면 ScheduleService 가 비운다.
+ * 역할 매핑, 주간 근무시간처럼 매장 단위로 바뀌는 정보는 TTL_MILLIS 가 지나면 다시 읽는다.
+ * - 비우기는 트랜잭션 안에서 호출되면 커밋 이후로 미룬다. (커밋 전에 비우면 그 사이 다른 요청이 옛 데이터를 다시 넣음)
+ * - 기간별 세대 번호를 두고 비울 때마다 올려, 비우기 전에 시작한 읽기 결과는 넣지 않는다.
+ */
+@Component
+public class PeriodSnapshotCache {
+
+    private static final int MAX_ENTRIES = 32;
+    private static final long TTL_MILLIS = 5 * 60 * 1000L;
+
+    private record Entry(PeriodSnapshot snapshot, long loadedAt) {}
+
+    private final Map<UUID, Entry> snapshots = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<UUID, Entry> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    // 아래 두 값은 snapshots 잠금 안에서만 읽고 쓴다
+    private final Map<UUID, Long> generations = new HashMap<>(); // 기간 id -> 비운 횟수
+    private long companyGeneration; // 매장 단위 비우기 횟수 (읽기 전에는 스냅샷의 매장을 알 수 없음)
+
+    public PeriodSnapshot getOrLoad(UUID periodId, Supplier<PeriodSnapshot> loader) {
+        long now = System.currentTimeMillis();
+        long generation;
+        long companyGen;
+        synchronized (snapshots) {
+            Entry cached = snapshots.get(periodId);
+            if (cached != null && now - cached.loadedAt() < TTL_MILLIS) return cached.snapshot();
+            generation = generations.getOrDefault(periodId, 0L);
+            companyGen = companyGeneration;
+        }
+
+        PeriodSnapshot snapshot = loader.get();
+        synchronized (snapshots) {
+            // 읽는 동안 비워졌으면 이번 결과는 돌려주기만 하고 캐시에 넣지 않음
+            if (generations.getOrDefault(periodId, 0L) == generation && companyGeneration == companyGen) {
+                snapshots.put(periodId, new Entry(snapshot, now));
+            }
+        }
+        return snapshot;
+    }
+
+    public void evict(UUID periodId) {
+        afterCommit(() -> {
+            synchronized (snapshots) {
+                snapshots.remove(periodId);
+                generations.merge(periodId, 1L, Long::sum);
+            }
+        });
+    }
+
+    /** 매장 전체 기간에 영향을 주는 변경 (고정 근무 등) */
+    public void evictCompany(UUID companyId) {
+        afterCommit(() -> {
+            synchronized (snapshots) {
+                snapshots.values().removeIf(e -> e.snapshot().companyId().equals(companyId));
+                companyGeneration++;
+            }
+        });
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
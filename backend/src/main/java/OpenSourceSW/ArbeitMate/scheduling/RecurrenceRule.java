@@ -0,0 +1,151 @@
+package OpenSourceSW.ArbeitMate.scheduling;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.*;
+
+/**
+ * 슬롯 반복 규칙 (RFC 5545 RRULE 의 일부)
+ * 지원: FREQ=DAILY|WEEKLY, INTERVAL=n, BYDAY=MO,TU,..., UNTIL=yyyyMMdd
+ * 예) "FREQ=WEEKLY;BYDAY=MO,WE,FR" / "FREQ=WEEKLY;INTERVAL=2;BYDAY=SA" / "FREQ=DAILY;UNTIL=20251215"
+ *
+ * INTERVAL 은 기준일(anchor) 부터 센다. (DAILY: 기준일부터 n일마다, WEEKLY: 기준일이 속한 주부터 n주마다)
+ * WEEKLY 에 BYDAY 가 없으면 기준일의 요일만 반복한다.
+ */
+public final class RecurrenceRule {
+
+    public enum Freq { DAILY, WEEKLY }
+
+    private static final String[] DAY_CODES = {"MO", "TU", "WE", "TH", "FR", "SA", "SU"};
+
+    private final Freq freq;
+    private final int interval;
+    private final int byDayMask; // bit0=월 .. bit6=일, 0 이면 제한 없음
+    private final LocalDate until; // null 이면 기간 끝까지
+
+    private RecurrenceRule(Freq freq, int interval, int byDayMask, LocalDate until) {
+        this.freq = freq;
+        this.interval = interval;
+        this.byDayMask = byDayMask;
+        this.until = until;
+    }
+
+    public static RecurrenceRule parse(String rrule) {
+        if (rrule == null || rrule.isBlank()) {
+            throw new IllegalArgumentException("반복 규칙이 비어 있습니다.");
+        }
+        String body = rrule.trim().toUpperCase(Locale.ROOT);
+        if (body.startsWith("RRULE:")) body = body.substring("RRULE:".length());
+
+        Freq freq = null;
+        int interval = 1;
+        int mask = 0;
+        LocalDate until = null;
+
+        for (String part : body.split(";")) {
+            if (part.isBlank()) continue;
+            int eq = part.indexOf('=');
+            if (eq <= 0) throw new IllegalArgumentException("반복 규칙 형식이 올바르지 않습니다: " + part);
+            String key = part.substring(0, eq);
+            String value = part.substring(eq + 1);
+
+            switch (key) {
+                case "FREQ" -> {
+                    try {
+                        freq = Freq.valueOf(value);
+                    } catch (IllegalArgumentException e) {
+                        throw new IllegalArgumentException("FREQ 는 DAILY 또는 WEEKLY 만 지원합니다.");
+                    }
+                }
+                case "INTERVAL" -> {
+                    try {
+                        interval = Integer.parseInt(value);
+                    } catch (NumberFormatException e) {
+                        interval = 0;
+                    }
+                    if (interval < 1 || interval > 52) {
+                        throw new IllegalArgumentException("INTERVAL 은 1~52 사이여야 합니다.");
+                    }
+                }
+                case "BYDAY" -> {
+                    for (String code : value.split(",")) {
+                        int dow = Arrays.asList(DAY_CODES).indexOf(code.trim());
+                        if (dow < 0) throw new IllegalArgumentException("BYDAY 요일 형식이 올바르지 않습니다: " + code);
+                        mask |= 1 << dow;
+                    }
+                }
+                case "UNTIL" -> {
+                    try {
+                        until = LocalDate.parse(value.length() > 8 ? value.substring(0, 8) : value, DateTimeFormatter.BASIC_ISO_DATE);
+                    } catch (DateTimeParseException e) {
+                        throw new IllegalArgumentException("UNTIL 은 yyyyMMdd 형식이어야 합니다.");
+                    }
+                }
+                default -> throw new IllegalArgumentException("지원하지 않는 반복 규칙 항목입니다: " + key);
+            }
+        }
+        if (freq == null) {
+            throw new IllegalArgumentException("FREQ 가 필요합니다.");
+        }
+        return new RecurrenceRule(freq, interval, mask, until);
+    }
+
+    /** 정규화된 규칙 문자열 (저장용) */
+    public String format() {
+        StringBuilder sb = new StringBuilder("FREQ=").append(freq);
+        if (interval != 1) sb.append(";INTERVAL=").append(interval);
+        if (byDayMask != 0) {
+            StringJoiner days = new StringJoiner(",");
+            for (int d = 0; d < 7; d++) if ((byDayMask & (1 << d)) != 0) days.add(DAY_CODES[d]);
+            sb.append(";BYDAY=").append(days);
+        }
+        if (until != null) sb.append(";UNTIL=").append(until.format(DateTimeFormatter.BASIC_ISO_DATE));
+        return sb.toString();
+    }
+
+    /**
+     * 날짜를 days 만큼 민 규칙 (기간 복제용) - BYDAY 요일을 같이 돌리고 UNTIL 도 민다
+     * 기준일도 같은 만큼 밀면 원래 규칙이 만들던 날짜들이 그대로 days 만큼 이동한다.
+     * 단, WEEKLY + INTERVAL > 1 에서 7의 배수가 아닌 만큼 밀면 주 경계가 달라져 어긋날 수 있으므로 호출 측에서 확인해야 한다.
+     */
+    public RecurrenceRule shiftedBy(long days) {
+        int rot = (int) Math.floorMod(days, 7L);
+        int mask = byDayMask;
+        if (rot != 0 && mask != 0) {
+            mask = ((mask << rot) | (mask >>> (7 - rot))) & 0x7F;
+        }
+        return new RecurrenceRule(freq, interval, mask, until != null ? until.plusDays(days) : null);
+    }
+
+    /**
+     * [from, to] 안에서 규칙에 맞는 날짜 (기준일 이전 / UNTIL 이후 / 예외일 제외), 날짜 순
+     */
+    public List<LocalDate> occurrences(LocalDate anchor, LocalDate from, LocalDate to, Set<LocalDate> exceptions) {
+        LocalDate start = from.isBefore(anchor) ? anchor : from;
+        LocalDate end = (until != null && until.isBefore(to)) ? until : to;
+
+        List<LocalDate> dates = new ArrayList<>();
+        for (LocalDate d = start; !d.isAfter(end); d = d.plusDays(1)) {
+            if (matches(anchor, d) && !exceptions.contains(d)) dates.add(d);
+        }
+        return dates;
+    }
+
+    private boolean matches(LocalDate anchor, LocalDate date) {
+        int dow = date.getDayOfWeek().getValue() - 1;
+        if (freq == Freq.DAILY) {
+            if (byDayMask != 0 && (byDayMask & (1 << dow)) == 0) return false;
+            return ChronoUnit.DAYS.between(anchor, date) % interval == 0;
+        }
+
+        int mask = (byDayMask != 0) ? byDayMask : 1 << (anchor.getDayOfWeek().getValue() - 1);
+        if ((mask & (1 << dow)) == 0) return false;
+        LocalDate anchorWeek = anchor.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        LocalDate week = date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        return ChronoUnit.WEEKS.between(anchorWeek, week) % interval == 0;
+    }
+}
@@ -0,0 +1,75 @@
+package OpenSourceSW.ArbeitMate.scheduling;
+
+import OpenSourceSW.ArbeitMate.domain.StaffingTemplateItem;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.function.BiFunction;
+
+/**
+ * 스태핑 템플릿 요일 인덱스
+ * 템플릿 항목을 요일별로 한 번 나눠 두고(요일 안에서는 시작 시간 순), 기간을 한 번만 훑으며 슬롯을 만든다.
+ * -> 펼치기 비용이 (날짜 x 전체 항목) 이 아니라 (날짜 + 실제 생성 슬롯 수) 에 비례하고,
+ *    결과 목록 크기를 미리 계산해 한 번에 할당한다.
+ */
+public class StaffingTemplateCalendar {
+
+    private static final StaffingTemplateItem[] EMPTY = new StaffingTemplateItem[0];
+
+    private final StaffingTemplateItem[][] byDow = new StaffingTemplateItem[7][]; // 0=월..6=일
+
+    public StaffingTemplateCalendar(Collection<StaffingTemplateItem> items) {
+        List<List<StaffingTemplateItem>> grouped = new ArrayList<>(7);
+        for (int d = 0; d < 7; d++) grouped.add(new ArrayList<>());
+        for (StaffingTemplateItem item : items) grouped.get(item.getDow()).add(item);
+
+        Comparator<StaffingTemplateItem> order = Comparator
+                .comparing(StaffingTemplateItem::getStartTime)
+                .thenComparing(StaffingTemplateItem::getEndTime);
+        for (int d = 0; d < 7; d++) {
+            List<StaffingTemplateItem> list = grouped.get(d);
+            list.sort(order);
+            byDow[d] = list.isEmpty() ? EMPTY : list.toArray(EMPTY);
+        }
+    }
+
+    /** 해당 요일(0=월..6=일) 항목, 시작 시간 순 */
+    public StaffingTemplateItem[] itemsOn(int dow) {
+        return byDow[dow];
+    }
+
+    /** 해당 날짜 항목, 시작 시간 순 */
+    public StaffingTemplateItem[] itemsOn(LocalDate date) {
+        return byDow[date.getDayOfWeek().getValue() - 1];
+    }
+
+    /** [start, end] 기간에 생성될 슬롯 수 */
+    public int countSlots(LocalDate start, LocalDate end) {
+        if (end.isBefore(start)) return 0;
+        long days = end.toEpochDay() - start.toEpochDay() + 1;
+        long fullWeeks = days / 7;
+        int rest = (int) (days % 7);
+        int firstDow = start.getDayOfWeek().getValue() - 1;
+
+        long count = 0;
+        for (int d = 0; d < 7; d++) count += fullWeeks * byDow[d].length;
+        for (int i = 0; i < rest; i++) count += byDow[(firstDow + i) % 7].length;
+        return Math.toIntExact(count);
+    }
+
+    /**
+     * [start, end] 기간을 날짜 순으로 한 번 훑어 항목마다 factory(날짜, 항목) 결과를 모은다.
+     * 결과는 (날짜, 시작 시간, 종료 시간) 순.
+     */
+    public <T> List<T> expand(LocalDate start, LocalDate end, BiFunction<LocalDate, StaffingTemplateItem, T> factory) {
+        List<T> result = new ArrayList<>(countSlots(start, end));
+        int dow = start.getDayOfWeek().getValue() - 1;
+        for (LocalDate date = start; !date.isAfter(end); date = date.plusDays(1)) {
+            for (StaffingTemplateItem item : byDow[dow]) {
+                result.add(factory.apply(date, item));
+            }
+            dow = (dow == 6) ? 0 : dow + 1;
+        }
+        return result;
+    }
+}
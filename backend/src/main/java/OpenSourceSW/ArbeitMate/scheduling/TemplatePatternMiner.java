@@ -0,0 +1,89 @@
+package OpenSourceSW.ArbeitMate.scheduling;
+
+import OpenSourceSW.ArbeitMate.domain.enums.TemplateAggregation;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.*;
+
+/**
+ * 여러 기간의 슬롯에서 (요일, 역할, 시작, 종료) 패턴별 필요 인원 추출
+ * 슬롯을 한 줄씩 받아 패턴별 인원 히스토그램만 유지하므로 (필요 인원은 작은 정수) 슬롯 목록을 메모리에 올리지 않는다.
+ * 기간 안에 해당 요일이 있었는데 그 패턴 슬롯이 없던 날은 0명으로 친다.
+ * -> 가끔만 열렸던 슬롯은 MEDIAN / P80 에서 0명이 되어 템플릿에서 빠지고, MAX 는 기존 단일 기간 방식과 같다.
+ */
+public class TemplatePatternMiner {
+
+    public record Pattern(int dow, UUID roleId, LocalTime start, LocalTime end) {}
+    public record MinedItem(int dow, UUID roleId, LocalTime start, LocalTime end, int headcount) {}
+
+    private final long[] dowDates = new long[7]; // 요일별 관측 날짜 수 (0=월..6=일)
+    private final Map<Pattern, int[]> histograms = new LinkedHashMap<>(); // [인원] -> 관측 횟수
+
+    /** 집계 대상 기간 등록 (기간 안의 요일별 날짜 수 누적) */
+    public void addPeriod(LocalDate start, LocalDate end) {
+        for (LocalDate d = start; !d.isAfter(end); d = d.plusDays(1)) {
+            dowDates[d.getDayOfWeek().getValue() - 1]++;
+        }
+    }
+
+    public void accept(UUID roleId, LocalDate workDate, LocalTime start, LocalTime end, int headcount) {
+        Pattern p = new Pattern(workDate.getDayOfWeek().getValue() - 1, roleId, start, end);
+        int[] h = histograms.get(p);
+        if (h == null || h.length <= headcount) {
+            h = (h == null) ? new int[Math.max(headcount + 1, 4)] : Arrays.copyOf(h, Math.max(headcount + 1, h.length * 2));
+            histograms.put(p, h);
+        }
+        h[headcount]++;
+    }
+
+    public boolean isEmpty() {
+        return histograms.isEmpty();
+    }
+
+    public Set<UUID> roleIds() {
+        Set<UUID> ids = new HashSet<>();
+        for (Pattern p : histograms.keySet()) ids.add(p.roleId());
+        return ids;
+    }
+
+    /** 패턴별 집계 인원 (0명이 된 패턴은 제외), (요일, 시작, 종료) 순 */
+    public List<MinedItem> result(TemplateAggregation aggregation) {
+        List<MinedItem> items = new ArrayList<>();
+        for (Map.Entry<Pattern, int[]> e : histograms.entrySet()) {
+            Pattern p = e.getKey();
+            int[] h = e.getValue();
+
+            long observed = 0;
+            for (int c : h) observed += c;
+            long zeros = Math.max(0, dowDates[p.dow()] - observed); // 슬롯이 없던 날
+            int headcount = aggregate(h, observed, zeros, aggregation);
+            if (headcount > 0) {
+                items.add(new MinedItem(p.dow(), p.roleId(), p.start(), p.end(), headcount));
+            }
+        }
+        items.sort(Comparator.comparingInt(MinedItem::dow)
+                .thenComparing(MinedItem::start)
+                .thenComparing(MinedItem::end));
+        return items;
+    }
+
+    private static int aggregate(int[] h, long observed, long zeros, TemplateAggregation aggregation) {
+        if (aggregation == TemplateAggregation.MAX) {
+            for (int v = h.length - 1; v >= 0; v--) if (h[v] > 0) return v;
+            return 0;
+        }
+
+        // nearest-rank 백분위: 오름차순 ceil(q x n) 번째 값
+        double q = (aggregation == TemplateAggregation.MEDIAN) ? 0.5 : 0.8;
+        long n = observed + zeros;
+        long rank = (long) Math.ceil(q * n);
+        long seen = zeros;
+        if (seen >= rank) return 0;
+        for (int v = 0; v < h.length; v++) {
+            seen += h[v];
+            if (seen >= rank) return v;
+        }
+        return h.length - 1;
+    }
+}
@@ -0,0 +1,80 @@
+package OpenSourceSW.ArbeitMate.scheduling;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 근무자별 / 근무일별 배치된 시간 구간 인덱스
+ * 하루 단위로 [start, end) 분 구간을 시작 시각 순으로 정렬된 배열에 보관하고,
+ * 서로 겹치지 않는 구간만 들어오므로 이진 탐색 한 번(O(log n))으로 겹침 여부를 판단한다.
+ * 자동 배치 엔진(근무자 번호)과 수동 편성 검증(memberId) 모두에서 사용한다.
+ */
+public class WorkerIntervalIndex<K> {
+
+    private final Map<DayKey<K>, DayIntervals> index = new HashMap<>();
+
+    public boolean conflicts(K worker, LocalDate date, LocalTime start, LocalTime end) {
+        return conflicts(worker, (int) date.toEpochDay(), AssignmentProblem.toMinutes(start), AssignmentProblem.toMinutes(end));
+    }
+
+    public boolean conflicts(K worker, int epochDay, int startMinute, int endMinute) {
+        DayIntervals intervals = index.get(new DayKey<>(worker, epochDay));
+        return intervals != null && intervals.conflicts(startMinute, endMinute);
+    }
+
+    /**
+     * 겹치지 않으면 구간을 추가하고 true, 겹치면 추가하지 않고 false
+     */
+    public boolean tryAdd(K worker, LocalDate date, LocalTime start, LocalTime end) {
+        return tryAdd(worker, (int) date.toEpochDay(), AssignmentProblem.toMinutes(start), AssignmentProblem.toMinutes(end));
+    }
+
+    public boolean tryAdd(K worker, int epochDay, int startMinute, int endMinute) {
+        DayIntervals intervals = index.computeIfAbsent(new DayKey<>(worker, epochDay), k -> new DayIntervals());
+        return intervals.tryAdd(startMinute, endMinute);
+    }
+
+    private record DayKey<K>(K worker, int epochDay) {}
+
+    private static final class DayIntervals {
+        private int[] starts = new int[4];
+        private int[] ends = new int[4];
+        private int size;
+
+        boolean conflicts(int start, int end) {
+            // 시작 시각이 end 보다 앞서는 마지막 구간만 확인하면 된다 (구간끼리 겹치지 않으므로 종료 시각도 정렬 상태)
+            int i = lastStartBefore(end);
+            return i >= 0 && ends[i] > start;
+        }
+
+        boolean tryAdd(int start, int end) {
+            int i = lastStartBefore(end);
+            if (i >= 0 && ends[i] > start) return false;
+
+            if (size == starts.length) {
+                starts = Arrays.copyOf(starts, size * 2);
+                ends = Arrays.copyOf(ends, size * 2);
+            }
+            int pos = i + 1;
+            System.arraycopy(starts, pos, starts, pos + 1, size - pos);
+            System.arraycopy(ends, pos, ends, pos + 1, size - pos);
+            starts[pos] = start;
+            ends[pos] = end;
+            size++;
+            return true;
+        }
+
+        private int lastStartBefore(int value) {
+            int lo = 0, hi = size - 1, ans = -1;
+            while (lo <= hi) {
+                int mid = (lo + hi) >>> 1;
+                if (starts[mid] < value) { ans = mid; lo = mid + 1; }
+                else hi = mid - 1;
+            }
+            return ans;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package OpenSourceSW.ArbeitMate.scheduling.impl;
+
+import OpenSourceSW.ArbeitMate.domain.enums.AssignmentMode;
+import OpenSourceSW.ArbeitMate.scheduling.AssignmentEngine;
+import OpenSourceSW.ArbeitMate.scheduling.AssignmentProblem;
+import OpenSourceSW.ArbeitMate.scheduling.AssignmentResult;
+import OpenSourceSW.ArbeitMate.scheduling.WorkerIntervalIndex;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+
+/**
+ * 근무시간 균등 배치 (FAIR)
+ * 슬롯을 시간순으로 훑으면서, 후보 중 지금까지 배정된 근무시간(분)이 가장 적은 사람부터 채운다.
+ * - 이번 주 최소 근무시간을 못 채운 근무자가 항상 먼저 뽑힌다.
+ * - 이번 주 최대 근무시간을 넘기게 되는 후보, 같은 시간대에 이미 배치된 후보는 건너뛴다.
+ *
+ * 근무자별 누적 시간은 배열로 O(1) 갱신하고, 슬롯마다 후보를 (우선순위, 누적 분, 번호) 키의 최소 힙으로 만들어
+ * 필요한 인원만큼만 꺼낸다. 전체 비용은 O(후보 수 합 + 배치 인원 x log 근무자 수) 로, 배정 목록을 다시 훑지 않는다.
+ */
+@Component
+public class FairAssignmentEngine implements AssignmentEngine {
+
+    private static final int INDEX_BITS = 21;
+    private static final long INDEX_MASK = (1L << INDEX_BITS) - 1;
+
+    @Override
+    public AssignmentMode mode() {
+        return AssignmentMode.FAIR;
+    }
+
+    @Override
+    public boolean partitionable() {
+        return false; // 날짜 순서대로 누적 근무시간을 반영해야 하므로 나눠 풀지 않음
+    }
+
+    @Override
+    public AssignmentResult assign(AssignmentProblem problem) {
+        int slotCount = problem.slotCount();
+        int workerCount = problem.workerCount();
+        int[][] assigned = new int[slotCount][];
+        if (slotCount == 0) return new AssignmentResult(assigned);
+
+        // 1. 슬롯을 (근무일, 시작 시각) 순으로 정렬
+        long[] order = new long[slotCount];
+        int firstWeek = Integer.MAX_VALUE;
+        int lastWeek = Integer.MIN_VALUE;
+        for (int s = 0; s < slotCount; s++) {
+            order[s] = ((long) problem.day(s) << 42) | ((long) problem.start(s) << 21) | s;
+            int week = AssignmentProblem.weekOf(problem.day(s));
+            firstWeek = Math.min(firstWeek, week);
+            lastWeek = Math.max(lastWeek, week);
+        }
+        Arrays.sort(order);
+
+        // 2. 근무자별 누적 근무시간 (전체 / 주 단위, 남겨 둔 배정부터 시작)
+        int weekCount = lastWeek - firstWeek + 1;
+        long[] totalMinutes = new long[workerCount];
+        int[] weekMinutes = new int[workerCount * weekCount];
+        for (int w = 0; w < workerCount; w++) {
+            for (int k = 0; k < weekCount; k++) {
+                int kept = problem.keptWeekMinutes(w, firstWeek + k);
+                weekMinutes[w * weekCount + k] = kept;
+                totalMinutes[w] += kept;
+            }
+        }
+        int[] used = new int[workerCount];
+        WorkerIntervalIndex<Integer> busy = new WorkerIntervalIndex<>();
+
+        long[] heap = new long[workerCount];
+
+        for (long key : order) {
+            int s = (int) (key & INDEX_MASK);
+            int[] candidates = problem.candidates(s);
+            int duration = problem.duration(s);
+            int week = AssignmentProblem.weekOf(problem.day(s)) - firstWeek;
+
+            // 3. 후보 힙 구성 (주간 최소 미달 -> 누적 시간 적은 순 -> 번호 순)
+            int size = 0;
+            for (int w : candidates) {
+                if (used[w] >= problem.remainingCapacity(w)) continue;
+                int thisWeek = weekMinutes[w * weekCount + week];
+                if ((long) thisWeek + duration > problem.weeklyMaxMinutes(w)) continue;
+
+                long tier = (thisWeek < problem.weeklyMinMinutes(w)) ? 0 : 1;
+                heap[size++] = (tier << 62) | (totalMinutes[w] << INDEX_BITS) | w;
+            }
+            for (int i = size / 2 - 1; i >= 0; i--) siftDown(heap, i, size);
+
+            // 4. 남은 정원만큼 가장 덜 배정된 후보부터 꺼내기
+            int[] picked = new int[Math.min(problem.remaining(s), size)];
+            int n = 0;
+            while (size > 0 && n < picked.length) {
+                int w = (int) (heap[0] & INDEX_MASK);
+                heap[0] = heap[--size];
+                siftDown(heap, 0, size);
+
+                if (!busy.tryAdd(w, problem.day(s), problem.start(s), problem.end(s))) continue; // 시간 겹침
+
+                used[w]++;
+                totalMinutes[w] += duration;
+                weekMinutes[w * weekCount + week] += duration;
+                picked[n++] = w;
+            }
+            assigned[s] = Arrays.copyOf(picked, n);
+        }
+        return new AssignmentResult(assigned);
+    }
+
+    private static void siftDown(long[] heap, int i, int size) {
+        long value = heap[i];
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= size) break;
+            if (child + 1 < size && heap[child + 1] < heap[child]) child++;
+            if (heap[child] >= value) break;
+            heap[i] = heap[child];
+            i = child;
+        }
+        heap[i] = value;
+    }
+}
@@ -0,0 +1,107 @@
+package OpenSourceSW.ArbeitMate.scheduling.impl;
+
+import java.util.Arrays;
+
+/**
+ * 배열 기반 Dinic 최대 유량
+ * 간선 i 의 역방향 간선은 i ^ 1 이며, 역방향 잔여 용량이 곧 정방향 유량이다.
+ */
+final class FlowNetwork {
+
+    private final int nodeCount;
+    private final int[] head;
+    private final int[] level;
+    private final int[] iter;
+    private final int[] queue;
+
+    private int[] to;
+    private int[] next;
+    private int[] cap;
+    private int edgeCount;
+
+    FlowNetwork(int nodeCount, int edgeHint) {
+        this.nodeCount = nodeCount;
+        this.head = new int[nodeCount];
+        this.level = new int[nodeCount];
+        this.iter = new int[nodeCount];
+        this.queue = new int[nodeCount];
+        Arrays.fill(head, -1);
+
+        int initial = Math.max(16, edgeHint * 2);
+        this.to = new int[initial];
+        this.next = new int[initial];
+        this.cap = new int[initial];
+    }
+
+    /** 간선 추가 후 정방향 간선 번호 반환 */
+    int addEdge(int from, int toNode, int capacity) {
+        ensureCapacity(edgeCount + 2);
+
+        int id = edgeCount;
+        to[id] = toNode; cap[id] = capacity; next[id] = head[from]; head[from] = id;
+        to[id + 1] = from; cap[id + 1] = 0; next[id + 1] = head[toNode]; head[toNode] = id + 1;
+
+        edgeCount += 2;
+        return id;
+    }
+
+    int flowOf(int edge) {
+        return cap[edge ^ 1];
+    }
+
+    int maxFlow(int source, int sink) {
+        int flow = 0;
+        while (buildLevels(source, sink)) {
+            System.arraycopy(head, 0, iter, 0, nodeCount);
+            int pushed;
+            while ((pushed = push(source, sink, Integer.MAX_VALUE)) > 0) {
+                flow += pushed;
+            }
+        }
+        return flow;
+    }
+
+    private boolean buildLevels(int source, int sink) {
+        Arrays.fill(level, -1);
+        int qHead = 0, qTail = 0;
+        queue[qTail++] = source;
+        level[source] = 0;
+
+        while (qHead < qTail) {
+            int v = queue[qHead++];
+            for (int e = head[v]; e != -1; e = next[e]) {
+                if (cap[e] > 0 && level[to[e]] < 0) {
+                    level[to[e]] = level[v] + 1;
+                    queue[qTail++] = to[e];
+                }
+            }
+        }
+        return level[sink] >= 0;
+    }
+
+    private int push(int v, int sink, int limit) {
+        if (v == sink) return limit;
+
+        for (; iter[v] != -1; iter[v] = next[iter[v]]) {
+            int e = iter[v];
+            int u = to[e];
+            if (cap[e] <= 0 || level[u] != level[v] + 1) continue;
+
+            int pushed = push(u, sink, Math.min(limit, cap[e]));
+            if (pushed > 0) {
+                cap[e] -= pushed;
+                cap[e ^ 1] += pushed;
+                return pushed;
+            }
+        }
+        return 0;
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= to.length) return;
+        int size = Math.max(required, to.length * 2);
+        to = Arrays.copyOf(to, size);
+        next = Arrays.copyOf(next, size);
+        cap = Arrays.copyOf(cap, size);
+    }
+}
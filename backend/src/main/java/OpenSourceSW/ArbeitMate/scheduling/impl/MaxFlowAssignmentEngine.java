@@ -0,0 +1,176 @@
+package OpenSourceSW.ArbeitMate.scheduling.impl;
+
+import OpenSourceSW.ArbeitMate.domain.enums.AssignmentMode;
+import OpenSourceSW.ArbeitMate.scheduling.AssignmentEngine;
+import OpenSourceSW.ArbeitMate.scheduling.AssignmentProblem;
+import OpenSourceSW.ArbeitMate.scheduling.AssignmentResult;
+import OpenSourceSW.ArbeitMate.scheduling.WorkerIntervalIndex;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+
+/**
+ * 최대 유량 기반 배치 (OPTIMAL)
+ * source -> 슬롯(남은 정원) -> 근무자의 겹침 묶음(1) -> 근무자(최대 배치 수) -> sink
+ *
+ * 겹침 묶음: 한 근무자의 후보 슬롯을 같은 날 시간이 이어서 겹치는 것끼리 묶은 것.
+ * 묶음 당 1명만 흐르게 해서 한 번의 최대 유량 계산으로 "겹치지 않는 최대 충원"을 구하고,
+ * 묶음 안에서도 실제로는 겹치지 않는 슬롯(A-B, B-C 는 겹치지만 A-C 는 안 겹치는 경우)은
+ * 마지막에 시간 구간 인덱스로 한 번 더 채운다.
+ */
+@Component
+public class MaxFlowAssignmentEngine implements AssignmentEngine {
+
+    @Override
+    public AssignmentMode mode() {
+        return AssignmentMode.OPTIMAL;
+    }
+
+    @Override
+    public AssignmentResult assign(AssignmentProblem problem) {
+        int slotCount = problem.slotCount();
+        int workerCount = problem.workerCount();
+
+        // 1. 후보 간선마다 겹침 묶음 번호 부여
+        int[][] clusterOf = new int[slotCount][];
+        int clusterCount = buildOverlapClusters(problem, clusterOf);
+
+        // 2. 유량 그래프 구성
+        int source = 0;
+        int firstCluster = 1 + slotCount;
+        int firstWorker = firstCluster + clusterCount;
+        int sink = firstWorker + workerCount;
+
+        int candidateEdges = 0;
+        for (int s = 0; s < slotCount; s++) candidateEdges += problem.candidates(s).length;
+
+        FlowNetwork network = new FlowNetwork(sink + 1, slotCount + candidateEdges + clusterCount + workerCount);
+
+        int[][] edgeIds = new int[slotCount][];
+        for (int s = 0; s < slotCount; s++) {
+            int[] candidates = problem.candidates(s);
+            network.addEdge(source, 1 + s, problem.remaining(s));
+
+            edgeIds[s] = new int[candidates.length];
+            for (int i = 0; i < candidates.length; i++) {
+                edgeIds[s][i] = network.addEdge(1 + s, firstCluster + clusterOf[s][i], 1);
+            }
+        }
+
+        boolean[] linked = new boolean[clusterCount];
+        for (int s = 0; s < slotCount; s++) {
+            int[] candidates = problem.candidates(s);
+            for (int i = 0; i < candidates.length; i++) {
+                int c = clusterOf[s][i];
+                if (linked[c]) continue;
+                linked[c] = true;
+                network.addEdge(firstCluster + c, firstWorker + candidates[i], 1);
+            }
+        }
+        for (int w = 0; w < workerCount; w++) {
+            network.addEdge(firstWorker + w, sink, problem.remainingCapacity(w));
+        }
+
+        network.maxFlow(source, sink);
+
+        // 3. 유량 결과 -> 배치 + 시간 구간 인덱스
+        int[] used = new int[workerCount];
+        WorkerIntervalIndex<Integer> busy = new WorkerIntervalIndex<>();
+        int[][] picked = new int[slotCount][];
+        int[] pickedCount = new int[slotCount];
+
+        for (int s = 0; s < slotCount; s++) {
+            int[] candidates = problem.candidates(s);
+            picked[s] = new int[Math.min(problem.remaining(s), candidates.length)];
+            for (int i = 0; i < candidates.length; i++) {
+                if (network.flowOf(edgeIds[s][i]) == 0) continue;
+                int w = candidates[i];
+                busy.tryAdd(w, problem.day(s), problem.start(s), problem.end(s));
+                used[w]++;
+                picked[s][pickedCount[s]++] = w;
+            }
+        }
+
+        // 4. 남은 정원은 실제로 겹치지 않는 후보로 보충
+        for (int s = 0; s < slotCount; s++) {
+            int[] candidates = problem.candidates(s);
+            for (int i = 0; i < candidates.length && pickedCount[s] < picked[s].length; i++) {
+                if (network.flowOf(edgeIds[s][i]) > 0) continue;
+                int w = candidates[i];
+                if (used[w] >= problem.remainingCapacity(w)) continue;
+                if (!busy.tryAdd(w, problem.day(s), problem.start(s), problem.end(s))) continue;
+                used[w]++;
+                picked[s][pickedCount[s]++] = w;
+            }
+        }
+
+        int[][] assigned = new int[slotCount][];
+        for (int s = 0; s < slotCount; s++) {
+            assigned[s] = Arrays.copyOf(picked[s], pickedCount[s]);
+        }
+        return new AssignmentResult(assigned);
+    }
+
+    /**
+     * 근무자별로 후보 슬롯을 (근무일, 시작 시각) 순으로 훑으면서 이어서 겹치는 구간끼리 같은 묶음 번호를 준다.
+     * @return 전체 묶음 수
+     */
+    private int buildOverlapClusters(AssignmentProblem problem, int[][] clusterOf) {
+        int slotCount = problem.slotCount();
+        int workerCount = problem.workerCount();
+
+        // 근무자 -> (슬롯, 후보 위치) 역인덱스
+        int[] degree = new int[workerCount];
+        for (int s = 0; s < slotCount; s++) {
+            clusterOf[s] = new int[problem.candidates(s).length];
+            for (int w : problem.candidates(s)) degree[w]++;
+        }
+        int[][] slotsOf = new int[workerCount][];
+        int[][] positionsOf = new int[workerCount][];
+        for (int w = 0; w < workerCount; w++) {
+            slotsOf[w] = new int[degree[w]];
+            positionsOf[w] = new int[degree[w]];
+        }
+        int[] fill = new int[workerCount];
+        for (int s = 0; s < slotCount; s++) {
+            int[] candidates = problem.candidates(s);
+            for (int i = 0; i < candidates.length; i++) {
+                int w = candidates[i];
+                slotsOf[w][fill[w]] = s;
+                positionsOf[w][fill[w]] = i;
+                fill[w]++;
+            }
+        }
+
+        int clusterCount = 0;
+        for (int w = 0; w < workerCount; w++) {
+            int n = degree[w];
+            if (n == 0) continue;
+
+            // (근무일, 시작 시각, k) 를 long 하나로 묶어서 정렬
+            long[] order = new long[n];
+            for (int k = 0; k < n; k++) {
+                int s = slotsOf[w][k];
+                order[k] = ((long) problem.day(s) << 42) | ((long) problem.start(s) << 21) | k;
+            }
+            Arrays.sort(order);
+
+            int currentDay = Integer.MIN_VALUE;
+            int currentEnd = Integer.MIN_VALUE;
+            for (long key : order) {
+                int k = (int) (key & ((1 << 21) - 1));
+                int s = slotsOf[w][k];
+
+                if (problem.day(s) != currentDay || problem.start(s) >= currentEnd) {
+                    clusterCount++;
+                    currentDay = problem.day(s);
+                    currentEnd = problem.end(s);
+                } else {
+                    currentEnd = Math.max(currentEnd, problem.end(s));
+                }
+                clusterOf[s][positionsOf[w][k]] = clusterCount - 1;
+            }
+        }
+        return clusterCount;
+    }
+}
@@ -0,0 +1,60 @@
+package OpenSourceSW.ArbeitMate.scheduling.impl;
+
+import OpenSourceSW.ArbeitMate.domain.enums.AssignmentMode;
+import OpenSourceSW.ArbeitMate.scheduling.AssignmentEngine;
+import OpenSourceSW.ArbeitMate.scheduling.AssignmentProblem;
+import OpenSourceSW.ArbeitMate.scheduling.AssignmentResult;
+import OpenSourceSW.ArbeitMate.scheduling.WorkerIntervalIndex;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * 랜덤 그리디 배치 (FAST)
+ * 슬롯 순서대로 후보를 섞은 뒤 남은 정원만큼 앞에서부터 채운다. (기존 자동 배치 방식)
+ * 이미 같은 시간대에 배치된 후보는 건너뛰고 다음 후보로 넘어간다.
+ * 섞는 순서는 AssignmentProblem 의 seed 로 고정되어, 같은 입력이면 항상 같은 결과가 나온다.
+ */
+@Component
+public class RandomGreedyAssignmentEngine implements AssignmentEngine {
+
+    @Override
+    public AssignmentMode mode() {
+        return AssignmentMode.FAST;
+    }
+
+    @Override
+    public AssignmentResult assign(AssignmentProblem problem) {
+        Random random = new Random(problem.seed());
+
+        int[] used = new int[problem.workerCount()];
+        WorkerIntervalIndex<Integer> busy = new WorkerIntervalIndex<>();
+        int[][] assigned = new int[problem.slotCount()][];
+
+        for (int s = 0; s < problem.slotCount(); s++) {
+            int[] candidates = problem.candidates(s).clone();
+            shuffle(candidates, random);
+
+            int[] picked = new int[Math.min(problem.remaining(s), candidates.length)];
+            int n = 0;
+            for (int i = 0; i < candidates.length && n < picked.length; i++) {
+                int w = candidates[i];
+                if (used[w] >= problem.remainingCapacity(w)) continue;
+                if (!busy.tryAdd(w, problem.day(s), problem.start(s), problem.end(s))) continue; // 시간 겹침
+
+                used[w]++;
+                picked[n++] = w;
+            }
+            assigned[s] = Arrays.copyOf(picked, n);
+        }
+        return new AssignmentResult(assigned);
+    }
+
+    private static void shuffle(int[] arr, Random random) {
+        for (int i = arr.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = arr[i]; arr[i] = arr[j]; arr[j] = tmp;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package OpenSourceSW.ArbeitMate.service;
+
+import OpenSourceSW.ArbeitMate.dto.request.AutoAssignRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 자동 편성 작업 실행
+ * 작업 생성 트랜잭션이 커밋된 뒤 전용 실행기에서 편성을 수행하므로, HTTP 요청 스레드와 트랜잭션은 바로 반환된다.
+ * 실행기 대기열은 메모리에만 있으므로, 이 서버 실행기에 있는 작업은 주기적으로 heartbeat 를 남긴다.
+ * - heartbeat 가 제한 시간 넘게 끊긴 작업(재시작/장애로 실행기가 사라짐)만 실패 처리한다. (어느 서버에서 확인해도 같음)
+ * - 편성이 아직 돌고 있는 작업은 heartbeat 가 계속 갱신되므로 실패 처리되지 않고, 같은 기간 재요청도 막힌다.
+ */
+@Slf4j
+@Component
+public class AutoAssignJobRunner {
+
+    private final AutoAssignJobService autoAssignJobService;
+    private final ScheduleService scheduleService;
+    private final TaskExecutor executor;
+    private final long timeoutSeconds;
+
+    private final Set<UUID> inFlight = ConcurrentHashMap.newKeySet(); // 이 서버 실행기에 있는 작업 (대기 + 실행 중)
+
+    public AutoAssignJobRunner(AutoAssignJobService autoAssignJobService,
+                               ScheduleService scheduleService,
+                               @Qualifier("autoAssignExecutor") TaskExecutor executor,
+                               @Value("${autoAssign.job.timeoutSeconds:180}") long timeoutSeconds) {
+        this.autoAssignJobService = autoAssignJobService;
+        this.scheduleService = scheduleService;
+        this.executor = executor;
+        this.timeoutSeconds = timeoutSeconds;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onSubmitted(AutoAssignJobService.JobSubmitted job) {
+        inFlight.add(job.jobId());
+        try {
+            executor.execute(() -> run(job));
+        } catch (TaskRejectedException e) {
+            inFlight.remove(job.jobId());
+            autoAssignJobService.markFailed(job.jobId(), "자동 편성 대기열이 가득 찼습니다. 잠시 후 다시 시도해 주세요.");
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${autoAssign.job.heartbeatMs:30000}")
+    public void heartbeat() {
+        if (inFlight.isEmpty()) return;
+        try {
+            autoAssignJobService.heartbeat(List.copyOf(inFlight));
+        } catch (RuntimeException e) {
+            log.warn("자동 편성 작업 heartbeat 갱신 실패 jobs={}", inFlight.size(), e);
+        }
+    }
+
+    @Scheduled(cron = "${autoAssign.job.sweepCron:0 * * * * *}")
+    public void failStaleJobs() {
+        LocalDateTime cutoff = LocalDateTime.now().minusSeconds(timeoutSeconds);
+        for (UUID jobId : autoAssignJobService.findStaleJobIds(cutoff)) {
+            try {
+                if (autoAssignJobService.failStale(jobId, cutoff, "자동 편성 작업이 중단되었습니다. (서버 재시작 등) 다시 요청해 주세요.")) {
+                    log.warn("멈춘 자동 편성 작업 실패 처리 jobId={}", jobId);
+                }
+            } catch (RuntimeException e) {
+                log.error("멈춘 자동 편성 작업 정리 실패 jobId={}", jobId, e);
+            }
+        }
+    }
+
+    void run(AutoAssignJobService.JobSubmitted job) {
+        try {
+            try {
+                autoAssignJobService.markRunning(job.jobId());
+            } catch (IllegalStateException e) {
+                log.warn("이미 정리된 자동 편성 작업은 실행하지 않습니다. jobId={}", job.jobId());
+                return;
+            }
+
+            try {
+                AutoAssignRequest req = new AutoAssignRequest();
+                req.setMode(job.mode());
+                req.setSeed(job.seed());
+                req.setIncremental(job.incremental());
+
+                scheduleService.autoAssignSchedules(job.ownerId(), job.companyId(), job.periodId(), req,
+                        progress -> reportProgress(job.jobId(), progress));
+            } catch (RuntimeException e) {
+                log.error("자동 편성 작업 실패 jobId={}", job.jobId(), e);
+                finish(job.jobId(), () -> autoAssignJobService.markFailed(job.jobId(), e.getMessage()));
+                return;
+            }
+            finish(job.jobId(), () -> autoAssignJobService.markSucceeded(job.jobId()));
+        } finally {
+            inFlight.remove(job.jobId());
+        }
+    }
+
+    // 진행률 기록 실패로 편성 자체를 멈추지는 않음
+    private void reportProgress(UUID jobId, int progress) {
+        try {
+            autoAssignJobService.reportProgress(jobId, progress);
+        } catch (RuntimeException e) {
+            log.warn("자동 편성 진행률 기록 실패 jobId={}, progress={}", jobId, progress, e);
+        }
+    }
+
+    // heartbeat 가 오래 끊겨 이미 실패 처리된 작업은 상태를 되돌리지 않음
+    private void finish(UUID jobId, Runnable transition) {
+        try {
+            transition.run();
+        } catch (IllegalStateException e) {
+            log.warn("이미 끝난 자동 편성 작업의 상태는 바꾸지 않습니다. jobId={}", jobId);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package OpenSourceSW.ArbeitMate.service;
+
+import OpenSourceSW.ArbeitMate.domain.AutoAssignJob;
+import OpenSourceSW.ArbeitMate.domain.Company;
+import OpenSourceSW.ArbeitMate.domain.SchedulePeriod;
+import OpenSourceSW.ArbeitMate.domain.enums.AssignmentMode;
+import OpenSourceSW.ArbeitMate.domain.enums.AutoAssignJobStatus;
+import OpenSourceSW.ArbeitMate.domain.enums.PeriodStatus;
+import OpenSourceSW.ArbeitMate.dto.request.AutoAssignRequest;
+import OpenSourceSW.ArbeitMate.dto.response.AutoAssignJobResponse;
+import OpenSourceSW.ArbeitMate.dto.response.CoverageGapReportResponse;
+import OpenSourceSW.ArbeitMate.dto.response.ScheduleAssignmentSlotResponse;
+import OpenSourceSW.ArbeitMate.repository.AutoAssignJobRepository;
+import OpenSourceSW.ArbeitMate.repository.CompanyRepository;
+import OpenSourceSW.ArbeitMate.repository.SchedulePeriodRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 비동기 자동 편성 작업 (요청 -> 작업 id 반환 -> 상태/결과 폴링)
+ * 실제 편성은 커밋 이후 AutoAssignJobRunner 가 별도 실행기에서 수행한다.
+ * 같은 기간에 대한 요청은 기간 행 잠금으로 한 줄로 세워, 진행 중 작업 확인과 생성 사이에 다른 요청이 끼지 않게 한다.
+ */
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class AutoAssignJobService {
+
+    private static final List<AutoAssignJobStatus> ACTIVE_STATUSES =
+            List.of(AutoAssignJobStatus.QUEUED, AutoAssignJobStatus.RUNNING);
+
+    private final CompanyRepository companyRepository;
+    private final SchedulePeriodRepository schedulePeriodRepository;
+    private final AutoAssignJobRepository autoAssignJobRepository;
+
+    private final ScheduleService scheduleService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /** 작업 생성 이벤트 (트랜잭션 커밋 후 실행기로 넘김) */
+    public record JobSubmitted(UUID jobId, UUID ownerId, UUID companyId, UUID periodId,
+                               AssignmentMode mode, Long seed, boolean incremental) {}
+
+    /**
+     * 자동 편성 작업 요청
+     */
+    @Transactional
+    public AutoAssignJobResponse submit(UUID ownerId, UUID companyId, UUID periodId, AutoAssignRequest req) {
+        Company company = companyRepository.findById(companyId)
+                .orElseThrow(() -> new IllegalArgumentException("Company not found"));
+        validateOwner(ownerId, company);
+
+        SchedulePeriod period = schedulePeriodRepository.findByIdForUpdate(periodId)
+                .orElseThrow(() -> new IllegalArgumentException("SchedulePeriod not found"));
+
+        if (!period.getCompany().getId().equals(companyId)) {
+            throw new IllegalStateException("해당 매장의 스케쥴 기간이 아닙니다.");
+        }
+        if (period.getStatus() != PeriodStatus.OPEN) {
+            throw new IllegalStateException("OPEN 상태의 기간에서만 자동 배치를 수행할 수 있습니다.");
+        }
+        // 기간 행을 잠근 상태라 확인 ~ 저장 사이에 같은 기간의 다른 요청이 들어올 수 없음
+        if (autoAssignJobRepository.existsByPeriodIdAndStatusIn(periodId, ACTIVE_STATUSES)) {
+            throw new IllegalStateException("이미 진행 중인 자동 편성 작업이 있습니다.");
+        }
+
+        AssignmentMode mode = (req != null) ? req.getMode() : null;
+        Long seed = (req != null) ? req.getSeed() : null;
+        boolean incremental = req != null && req.isIncremental();
+
+        AutoAssignJob job = AutoAssignJob.create(company, period, company.getOwner(), mode, seed, incremental);
+        autoAssignJobRepository.save(job);
+
+        eventPublisher.publishEvent(new JobSubmitted(job.getId(), ownerId, companyId, periodId, job.getMode(), seed, incremental));
+        return AutoAssignJobResponse.from(job, null, null);
+    }
+
+    /**
+     * 작업 상태 조회 (완료 시 최종 편성 결과 포함)
+     */
+    public AutoAssignJobResponse getJob(UUID ownerId, UUID companyId, UUID jobId) {
+        Company company = companyRepository.findById(companyId)
+                .orElseThrow(() -> new IllegalArgumentException("Company not found"));
+        validateOwner(ownerId, company);
+
+        AutoAssignJob job = autoAssignJobRepository.findById(jobId)
+                .orElseThrow(() -> new IllegalArgumentException("AutoAssignJob not found"));
+
+        if (!job.getCompany().getId().equals(companyId)) {
+            throw new IllegalStateException("해당 매장의 자동 편성 작업이 아닙니다.");
+        }
+
+        List<ScheduleAssignmentSlotResponse> result = null;
+        CoverageGapReportResponse coverageGap = null;
+        if (job.getStatus() == AutoAssignJobStatus.SUCCEEDED) {
+            result = scheduleService.getScheduleAssignments(ownerId, companyId, job.getPeriod().getId());
+            coverageGap = scheduleService.getCoverageGapReport(ownerId, companyId, job.getPeriod().getId());
+        }
+        return AutoAssignJobResponse.from(job, result, coverageGap);
+    }
+
+    //== 실행기에서 호출하는 상태 전이 (각각 별도 트랜잭션으로 바로 커밋) ==//
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void markRunning(UUID jobId) {
+        findJob(jobId).start();
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void reportProgress(UUID jobId, int progress) {
+        findJob(jobId).reportProgress(progress);
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void markSucceeded(UUID jobId) {
+        findJob(jobId).succeed();
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void markFailed(UUID jobId, String errorMessage) {
+        findJob(jobId).fail(errorMessage);
+    }
+
+    //== 작업 생존 확인 (heartbeat) / 멈춘 작업 정리 ==//
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void heartbeat(Collection<UUID> jobIds) {
+        autoAssignJobRepository.touchHeartbeat(jobIds, ACTIVE_STATUSES, LocalDateTime.now());
+    }
+
+    public List<UUID> findStaleJobIds(LocalDateTime cutoff) {
+        return autoAssignJobRepository.findStaleIds(ACTIVE_STATUSES, cutoff);
+    }
+
+    /**
+     * cutoff 이후로 heartbeat 가 없는 QUEUED/RUNNING 작업만 실패 처리
+     * 작업 행을 잠근 뒤 다시 확인하므로, 그 사이 끝났거나 heartbeat 가 갱신된 작업은 그대로 둔다.
+     * @return 실패 처리했으면 true
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean failStale(UUID jobId, LocalDateTime cutoff, String errorMessage) {
+        AutoAssignJob job = autoAssignJobRepository.findByIdForUpdate(jobId)
+                .orElseThrow(() -> new IllegalArgumentException("AutoAssignJob not found"));
+        if (job.isFinished() || !job.lastAliveAt().isBefore(cutoff)) return false;
+        job.fail(errorMessage);
+        return true;
+    }
+
+    private AutoAssignJob findJob(UUID jobId) {
+        return autoAssignJobRepository.findById(jobId)
+                .orElseThrow(() -> new IllegalArgumentException("AutoAssignJob not found"));
+    }
+
+    // 사장 권한 확인
+    private void validateOwner(UUID memberId, Company company) {
+        if (!company.getOwner().getId().equals(memberId)) {
+            throw new IllegalStateException("해당 매장의 사장만 이 작업을 수행할 수 있습니다.");
+        }
+    }
+}
@@ -0,0 +1,265 @@
+package OpenSourceSW.ArbeitMate.service;
+
+import OpenSourceSW.ArbeitMate.domain.*;
+import OpenSourceSW.ArbeitMate.domain.enums.MembershipRole;
+import OpenSourceSW.ArbeitMate.dto.request.SimulateAutoAssignRequest;
+import OpenSourceSW.ArbeitMate.dto.response.AutoAssignSimulationResponse;
+import OpenSourceSW.ArbeitMate.repository.*;
+import OpenSourceSW.ArbeitMate.scheduling.*;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.*;
+
+/**
+ * 자동 배치 시뮬레이션 (what-if)
+ * 정원/가용 변경분을 기간 스냅샷 위에 얹어 엔진을 돌리고 충원율, 미충원 슬롯만 돌려준다. DB 에는 아무것도 쓰지 않는다.
+ * - 전체 재배치(고정 근무자만 유지) 기준으로 계산한다.
+ * - 스냅샷은 기간별로 캐시되어, 같은 기간에 대한 반복 시뮬레이션은 조회 없이 메모리에서만 계산한다.
+ */
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class AutoAssignSimulationService {
+
+    private final CompanyRepository companyRepository;
+    private final CompanyMemberRepository companyMemberRepository;
+    private final CompanyMemberRoleRepository companyMemberRoleRepository;
+    private final FixedShiftRepository fixedShiftRepository;
+    private final ScheduleRepository scheduleRepository;
+    private final SchedulePeriodRepository schedulePeriodRepository;
+    private final ScheduleSlotAvailabilityRepository scheduleSlotAvailabilityRepository;
+
+    private final AssignmentEngineRegistry assignmentEngineRegistry;
+    private final AssignmentResultCache assignmentResultCache;
+    private final PartitionedAssignmentSolver partitionedAssignmentSolver;
+    private final PeriodSnapshotCache periodSnapshotCache;
+
+    /**
+     * 자동 배치 시뮬레이션
+     */
+    public AutoAssignSimulationResponse simulate(UUID ownerId, UUID companyId, UUID periodId, SimulateAutoAssignRequest req) {
+        // 1. 회사 + owner 검증
+        Company company = companyRepository.findById(companyId)
+                .orElseThrow(() -> new IllegalArgumentException("Company not found"));
+        validateOwner(ownerId, company);
+
+        // 2. 기간 검증
+        SchedulePeriod period = schedulePeriodRepository.findById(periodId)
+                .orElseThrow(() -> new IllegalArgumentException("SchedulePeriod not found"));
+
+        if (!period.getCompany().getId().equals(companyId)) {
+            throw new IllegalStateException("해당 매장의 스케쥴 기간이 아닙니다.");
+        }
+
+        // 3. 스냅샷 (캐시 없으면 한 번 로드)
+        PeriodSnapshot snapshot = periodSnapshotCache.getOrLoad(periodId, () -> loadSnapshot(company, period));
+        if (req == null) req = new SimulateAutoAssignRequest();
+
+        // 4. 정원 변경분
+        int[] headcount = new int[snapshot.slotCount()];
+        for (int i = 0; i < headcount.length; i++) headcount[i] = snapshot.slot(i).requiredHeadcount();
+
+        for (SimulateAutoAssignRequest.HeadcountChange c : req.getHeadcountChanges()) {
+            int slot = requireSlot(snapshot, c.getScheduleId());
+            headcount[slot] += c.getDelta();
+            if (headcount[slot] < 0) {
+                throw new IllegalArgumentException("필요 인원은 0명 이상이어야 합니다.");
+            }
+        }
+
+        // 5. 가용 변경분 (스냅샷 비트셋 사본에 반영)
+        AvailabilityMatrix matrix = snapshot.toMatrix();
+        for (SimulateAutoAssignRequest.AvailabilityChange c : req.getAvailabilityChanges()) {
+            int slot = requireSlot(snapshot, c.getScheduleId());
+            Integer w = snapshot.workerIndexOf(c.getMemberId());
+            if (w == null) {
+                throw new IllegalArgumentException("자동 배치 대상 근무자가 아닙니다.");
+            }
+            if (c.isWilling()) matrix.markWilling(slot, w);
+            else matrix.clearWilling(slot, w);
+        }
+
+        // 6. 배치 문제 구성 + 풀이 (같은 입력이면 결과 캐시 재사용)
+        AssignmentProblem.Builder problem = AssignmentProblem.builder(snapshot.workerCount());
+        for (int w = 0; w < snapshot.workerCount(); w++) {
+            problem.weeklyHours(w, snapshot.minWeeklyHours(w), snapshot.maxWeeklyHours(w));
+        }
+
+        List<Integer> openSlots = new ArrayList<>();
+        int[][] candidates = new int[snapshot.slotCount()][];
+        for (int i = 0; i < snapshot.slotCount(); i++) {
+            PeriodSnapshot.Slot s = snapshot.slot(i);
+            candidates[i] = matrix.candidates(i);
+
+            int remaining = headcount[i] - s.lockedCount();
+            if (remaining <= 0 || candidates[i].length == 0) continue;
+
+            problem.addSlot(s.workDate(), s.startTime(), s.endTime(), remaining, candidates[i]);
+            openSlots.add(i);
+        }
+
+        long seed = (req.getSeed() != null) ? req.getSeed()
+                : (snapshot.seed() != null) ? snapshot.seed() : 0L;
+        AssignmentProblem built = problem.seed(seed).build();
+
+        AssignmentEngine engine = assignmentEngineRegistry.get(req.getMode());
+        AssignmentResult result = assignmentResultCache.getOrCompute(engine.mode(), built.fingerprint(),
+                () -> partitionedAssignmentSolver.solve(engine, built));
+
+        // 7. 충원 통계
+        int[] filled = new int[snapshot.slotCount()];
+        for (int i = 0; i < snapshot.slotCount(); i++) filled[i] = snapshot.slot(i).lockedCount();
+        for (int k = 0; k < openSlots.size(); k++) filled[openSlots.get(k)] += result.assignedWorkers(k).length;
+
+        int required = 0;
+        int filledTotal = 0;
+        List<AutoAssignSimulationResponse.UnfilledSlot> unfilled = new ArrayList<>();
+        for (int i = 0; i < snapshot.slotCount(); i++) {
+            required += headcount[i];
+            filledTotal += Math.min(filled[i], headcount[i]);
+            if (filled[i] >= headcount[i]) continue;
+
+            PeriodSnapshot.Slot s = snapshot.slot(i);
+            unfilled.add(AutoAssignSimulationResponse.UnfilledSlot.builder()
+                    .scheduleId(s.scheduleId())
+                    .workDate(s.workDate())
+                    .startTime(s.startTime())
+                    .endTime(s.endTime())
+                    .roleId(s.roleId())
+                    .roleName(s.roleName())
+                    .requiredHeadcount(headcount[i])
+                    .filledHeadcount(filled[i])
+                    .candidateCount(candidates[i].length)
+                    .build());
+        }
+
+        return AutoAssignSimulationResponse.builder()
+                .periodId(periodId)
+                .mode(engine.mode())
+                .seed(seed)
+                .slotCount(snapshot.slotCount())
+                .requiredHeadcount(required)
+                .filledHeadcount(filledTotal)
+                .coverageRate(required == 0 ? 1.0 : (double) filledTotal / required)
+                .unfilledSlotCount(unfilled.size())
+                .unfilledSlots(unfilled)
+                .build();
+    }
+
+    /**
+     * 기간 스냅샷 로드 (슬롯, 대상 근무자, 가능 제출, 역할 매핑, 고정 근무자 수)
+     * 고정 근무로만 생기는 슬롯은 고정 근무자로 항상 채워지므로 스냅샷에 넣지 않는다.
+     */
+    private PeriodSnapshot loadSnapshot(Company company, SchedulePeriod period) {
+        // 1. 자동 배치 대상 근무자 (memberId 순, 실제 자동 배치와 같은 번호)
+        List<CompanyMember> targetWorkers = companyMemberRepository
+                .findByCompanyIdAndRole(company.getId(), MembershipRole.WORKER).stream()
+                .filter(cm -> !cm.isFixedShiftWorker())
+                .sorted(Comparator.comparing(cm -> cm.getMember().getId()))
+                .toList();
+
+        List<UUID> workerIds = new ArrayList<>(targetWorkers.size());
+        Integer[] minWeeklyHours = new Integer[targetWorkers.size()];
+        Integer[] maxWeeklyHours = new Integer[targetWorkers.size()];
+        Map<UUID, Integer> workerIndex = new HashMap<>();
+        for (int i = 0; i < targetWorkers.size(); i++) {
+            CompanyMember cm = targetWorkers.get(i);
+            workerIds.add(cm.getMember().getId());
+            minWeeklyHours[i] = cm.getMinWeeklyHours();
+            maxWeeklyHours[i] = cm.getMaxWeeklyHours();
+            workerIndex.put(cm.getMember().getId(), i);
+        }
+
+        // 2. 슬롯 / 역할 번호
+        List<Schedule> schedules = new ArrayList<>(scheduleRepository.findByPeriod(period));
+        schedules.sort(ScheduleService.SLOT_ORDER);
+        Map<UUID, Integer> roleIndex = new HashMap<>();
+        Map<UUID, Integer> slotIndex = new HashMap<>();
+        for (int i = 0; i < schedules.size(); i++) {
+            Schedule s = schedules.get(i);
+            slotIndex.put(s.getId(), i);
+            roleIndex.putIfAbsent(s.getRole().getId(), roleIndex.size());
+        }
+
+        // 3. 가능 제출 -> 슬롯별 근무자 번호
+        List<List<Integer>> willing = new ArrayList<>(schedules.size());
+        for (int i = 0; i < schedules.size(); i++) willing.add(new ArrayList<>());
+        for (ScheduleSlotAvailability a : scheduleSlotAvailabilityRepository.findByPeriod(period)) {
+            if (!a.isWilling()) continue;
+            Integer slot = slotIndex.get(a.getSchedule().getId());
+            Integer w = workerIndex.get(a.getMember().getId());
+            if (slot == null || w == null) continue;
+            willing.get(slot).add(w);
+        }
+
+        // 4. 역할 수행 가능 -> 역할별 근무자 번호
+        List<List<Integer>> eligible = new ArrayList<>(roleIndex.size());
+        for (int r = 0; r < roleIndex.size(); r++) eligible.add(new ArrayList<>());
+        for (CompanyMemberRole cmr : companyMemberRoleRepository.findByCompanyId(company.getId())) {
+            Integer role = roleIndex.get(cmr.getRole().getId());
+            Integer w = workerIndex.get(cmr.getMember().getId());
+            if (role == null || w == null) continue;
+            eligible.get(role).add(w);
+        }
+
+        // 5. 고정 근무자 수 (date, role, 시간대) 기준
+        Map<FixedSlotKey, Set<UUID>> fixedMembers = new HashMap<>();
+        FixedShiftCalendar calendar = new FixedShiftCalendar(
+                fixedShiftRepository.findActiveInPeriod(company.getId(), period.getStartDate(), period.getEndDate()));
+        for (LocalDate d = period.getStartDate(); !d.isAfter(period.getEndDate()); d = d.plusDays(1)) {
+            for (FixedShift fs : calendar.effectiveOn(d)) {
+                FixedSlotKey key = new FixedSlotKey(d, fs.getRole().getId(), fs.getStartTime(), fs.getEndTime());
+                fixedMembers.computeIfAbsent(key, k -> new HashSet<>()).add(fs.getMember().getId());
+            }
+        }
+
+        // 6. 슬롯 사본
+        List<PeriodSnapshot.Slot> slots = new ArrayList<>(schedules.size());
+        for (int i = 0; i < schedules.size(); i++) {
+            Schedule s = schedules.get(i);
+            int locked = fixedMembers.getOrDefault(
+                    new FixedSlotKey(s.getWorkDate(), s.getRole().getId(), s.getStartTime(), s.getEndTime()), Set.of()).size();
+
+            slots.add(new PeriodSnapshot.Slot(
+                    s.getId(),
+                    s.getRole().getId(),
+                    s.getRole().getName(),
+                    s.getWorkDate(),
+                    s.getStartTime(),
+                    s.getEndTime(),
+                    roleIndex.get(s.getRole().getId()),
+                    Math.max(s.getRequiredHeadcount(), locked), // 실제 배치와 같이 고정 근무자 수까지 정원 보정
+                    locked,
+                    willing.get(i).stream().mapToInt(Integer::intValue).toArray()
+            ));
+        }
+
+        int[][] eligibleArr = eligible.stream()
+                .map(list -> list.stream().mapToInt(Integer::intValue).toArray())
+                .toArray(int[][]::new);
+
+        return new PeriodSnapshot(company.getId(), period.getId(), period.getAutoAssignSeed(),
+                workerIds, minWeeklyHours, maxWeeklyHours, slots, eligibleArr);
+    }
+
+    private int requireSlot(PeriodSnapshot snapshot, UUID scheduleId) {
+        Integer slot = snapshot.slotIndexOf(scheduleId);
+        if (slot == null) {
+            throw new IllegalArgumentException("해당 기간의 스케쥴 슬롯이 아닙니다.");
+        }
+        return slot;
+    }
+
+    // 사장 권한 확인
+    private void validateOwner(UUID memberId, Company company) {
+        if (!company.getOwner().getId().equals(memberId)) {
+            throw new IllegalStateException("해당 매장의 사장만 이 작업을 수행할 수 있습니다.");
+        }
+    }
+
+    private record FixedSlotKey(LocalDate date, UUID roleId, LocalTime start, LocalTime end) {}
+}
@@ -0,0 +1,35 @@
+package OpenSourceSW.ArbeitMate.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * 가용 시간 자동 채우기 예약 실행
+ * 주기적으로 전 매장에서 설정 시점(오픈 직후 / 마감 직후)이 지난 기간을 찾아 기간마다 따로 트랜잭션으로 채운다.
+ * 한 기간이 실패해도 나머지는 계속 진행하고, 실패한 기간은 실행 기록이 남지 않아 다음 주기에 다시 시도된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AvailabilityAutoFillScheduler {
+
+    private final AvailabilityAutoFillService availabilityAutoFillService;
+
+    @Scheduled(cron = "${availability.autoFill.cron:0 * * * * *}")
+    public void fillDuePeriods() {
+        for (UUID periodId : availabilityAutoFillService.findDuePeriodIds()) {
+            try {
+                var res = availabilityAutoFillService.fillDue(periodId);
+                if (res != null && res.getFilledSlots() > 0) {
+                    log.info("가용 시간 자동 채우기 periodId={}, members={}, slots={}", periodId, res.getFilledMembers(), res.getFilledSlots());
+                }
+            } catch (RuntimeException e) {
+                log.error("가용 시간 자동 채우기 실패 periodId={}", periodId, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package OpenSourceSW.ArbeitMate.service;
+
+import OpenSourceSW.ArbeitMate.domain.*;
+import OpenSourceSW.ArbeitMate.domain.enums.MembershipRole;
+import OpenSourceSW.ArbeitMate.domain.enums.PeriodStatus;
+import OpenSourceSW.ArbeitMate.dto.request.UpdateAvailabilityAutoFillRequest;
+import OpenSourceSW.ArbeitMate.dto.response.AvailabilityAutoFillResponse;
+import OpenSourceSW.ArbeitMate.dto.response.SchedulePeriodResponse;
+import OpenSourceSW.ArbeitMate.repository.*;
+import OpenSourceSW.ArbeitMate.scheduling.AvailabilityPatternIndex;
+import OpenSourceSW.ArbeitMate.scheduling.PeriodSnapshotCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 미제출 근무자 가용 시간 자동 채우기
+ * 가용 시간을 제출하지 않은 근무자는 슬롯 응답이 없어 자동 편성 후보에서 빠지므로,
+ * 반복 가용시간 패턴(MemberAvailability)과 겹치는 슬롯을 "가능" 으로 채워 둔다. (autoFilled = true)
+ * 기간 하나당 조회 쿼리 수가 대상 인원과 무관하게 고정이고, 저장은 saveAll 한 번 (jdbc batch) 으로 끝난다.
+ * 기간별로 사용 여부와 시점(오픈 직후 / 마감 직후)을 설정하며, 실행 후에는 다시 돌지 않는다.
+ * 나중에 본인이 제출하면 기존 제출과 같이 기간 응답 전체가 교체된다.
+ */
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class AvailabilityAutoFillService {
+
+    private final CompanyRepository companyRepository;
+    private final CompanyMemberRepository companyMemberRepository;
+    private final CompanyMemberRoleRepository companyMemberRoleRepository;
+    private final SchedulePeriodRepository schedulePeriodRepository;
+    private final ScheduleRepository scheduleRepository;
+    private final MemberAvailabilityRepository memberAvailabilityRepository;
+    private final ScheduleSlotAvailabilityRepository scheduleSlotAvailabilityRepository;
+    private final AvailabilitySubmissionRepository availabilitySubmissionRepository;
+    private final PeriodSnapshotCache periodSnapshotCache;
+
+    /**
+     * 자동 채우기 사용 여부/시점 설정 (사장)
+     */
+    @Transactional
+    public SchedulePeriodResponse configure(UUID ownerId, UUID companyId, UUID periodId, UpdateAvailabilityAutoFillRequest req) {
+        SchedulePeriod period = loadPeriod(ownerId, companyId, periodId);
+        period.configureAvailabilityAutoFill(req.getMode());
+        return SchedulePeriodResponse.from(period);
+    }
+
+    /**
+     * 지금 바로 자동 채우기 실행 (사장)
+     */
+    @Transactional
+    public AvailabilityAutoFillResponse fillNow(UUID ownerId, UUID companyId, UUID periodId) {
+        SchedulePeriod period = loadPeriod(ownerId, companyId, periodId);
+        if (period.getStatus() != PeriodStatus.OPEN) {
+            throw new IllegalStateException("OPEN 상태의 기간에서만 가용 시간을 자동으로 채울 수 있습니다.");
+        }
+        return fill(period);
+    }
+
+    /**
+     * 설정한 시점이 지난 기간 id (전 매장)
+     */
+    public List<UUID> findDuePeriodIds() {
+        return schedulePeriodRepository.findAvailabilityAutoFillDueIds(LocalDateTime.now());
+    }
+
+    /**
+     * 예약 실행 (스케쥴러), 조회 후 상태가 바뀌었으면 건너뛴다.
+     * @return 실행하지 않았으면 null
+     */
+    @Transactional
+    public AvailabilityAutoFillResponse fillDue(UUID periodId) {
+        SchedulePeriod period = schedulePeriodRepository.findById(periodId).orElse(null);
+        if (period == null || period.getStatus() != PeriodStatus.OPEN || period.getAvailabilityAutoFilledAt() != null) {
+            return null;
+        }
+        return fill(period);
+    }
+
+    private AvailabilityAutoFillResponse fill(SchedulePeriod period) {
+        UUID companyId = period.getCompany().getId();
+
+        // 1. 대상: 고정 근무자가 아닌 WORKER 중 제출 기록도, 기존 슬롯 응답도 없는 사람
+        Set<UUID> answered = new HashSet<>(scheduleSlotAvailabilityRepository.findMemberIdsByPeriod(period));
+        for (AvailabilitySubmission s : availabilitySubmissionRepository.findByCompanyIdAndPeriodId(companyId, period.getId())) {
+            answered.add(s.getMember().getId());
+        }
+
+        Map<UUID, Member> targets = new LinkedHashMap<>();
+        for (CompanyMember cm : companyMemberRepository.findByCompanyIdAndRole(companyId, MembershipRole.WORKER)) {
+            UUID memberId = cm.getMember().getId();
+            if (cm.isFixedShiftWorker() || answered.contains(memberId)) continue;
+            targets.put(memberId, cm.getMember());
+        }
+
+        List<ScheduleSlotAvailability> rows = new ArrayList<>();
+        int filledMembers = 0;
+
+        if (!targets.isEmpty()) {
+            // 2. 대상 전원의 패턴 / 역할 / 기간 슬롯을 한 번씩만 조회
+            Map<UUID, List<MemberAvailability>> patternsByMember =
+                    memberAvailabilityRepository.findByCompanyIdAndMemberIdIn(companyId, targets.keySet()).stream()
+                            .collect(Collectors.groupingBy(a -> a.getMember().getId()));
+
+            Map<UUID, Set<UUID>> roleIdsByMember = companyMemberRoleRepository.findByCompanyId(companyId).stream()
+                    .filter(cmr -> patternsByMember.containsKey(cmr.getMember().getId()))
+                    .collect(Collectors.groupingBy(cmr -> cmr.getMember().getId(),
+                            Collectors.mapping(cmr -> cmr.getRole().getId(), Collectors.toSet())));
+
+            Map<UUID, List<Schedule>> slotsByRole = scheduleRepository.findByPeriod(period).stream()
+                    .collect(Collectors.groupingBy(s -> s.getRole().getId()));
+
+            // 3. 근무자별 패턴 인덱스로 수행 가능한 역할 슬롯만 판정
+            for (Map.Entry<UUID, Member> target : targets.entrySet()) {
+                List<MemberAvailability> patterns = patternsByMember.get(target.getKey());
+                Set<UUID> roleIds = roleIdsByMember.get(target.getKey());
+                if (patterns == null || roleIds == null) continue;
+
+                AvailabilityPatternIndex index = new AvailabilityPatternIndex(patterns);
+                int before = rows.size();
+                for (UUID roleId : roleIds) {
+                    for (Schedule s : slotsByRole.getOrDefault(roleId, List.of())) {
+                        if (index.matches(s.getWorkDate(), s.getStartTime(), s.getEndTime())) {
+                            rows.add(ScheduleSlotAvailability.autoFilled(s, target.getValue()));
+                        }
+                    }
+                }
+                if (rows.size() > before) filledMembers++;
+            }
+
+            // 4. 한 번에 저장 (hibernate.jdbc.batch_size 단위로 묶여 나감)
+            scheduleSlotAvailabilityRepository.saveAll(rows);
+        }
+
+        period.markAvailabilityAutoFilled();
+        if (!rows.isEmpty()) {
+            periodSnapshotCache.evict(period.getId());
+        }
+
+        return AvailabilityAutoFillResponse.builder()
+                .periodId(period.getId())
+                .filledMembers(filledMembers)
+                .filledSlots(rows.size())
+                .build();
+    }
+
+    private SchedulePeriod loadPeriod(UUID ownerId, UUID companyId, UUID periodId) {
+        Company company = companyRepository.findById(companyId)
+                .orElseThrow(() -> new IllegalArgumentException("Company not found"));
+        if (!company.getOwner().getId().equals(ownerId)) {
+            throw new IllegalStateException("해당 매장의 사장만 이 작업을 수행할 수 있습니다.");
+        }
+
+        SchedulePeriod period = schedulePeriodRepository.findById(periodId)
+                .orElseThrow(() -> new IllegalArgumentException("SchedulePeriod not found"));
+        if (!period.getCompany().getId().equals(companyId)) {
+            throw new IllegalStateException("해당 매장의 스케쥴 기간이 아닙니다.");
+        }
+        return period;
+    }
+}
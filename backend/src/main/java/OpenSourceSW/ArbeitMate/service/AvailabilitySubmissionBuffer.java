@@ -0,0 +1,169 @@
+package OpenSourceSW.ArbeitMate.service;
+
+import OpenSourceSW.ArbeitMate.config.RabbitMQConfig;
+import OpenSourceSW.ArbeitMate.dto.request.PatchAvailabilityRequest;
+import OpenSourceSW.ArbeitMate.dto.request.SubmitAvailabilityRequest;
+import OpenSourceSW.ArbeitMate.dto.response.AvailabilityPatchResponse;
+import OpenSourceSW.ArbeitMate.scheduling.PendingAvailabilityCache;
+import OpenSourceSW.ArbeitMate.service.AvailabilitySubmissionWriter.BufferedSubmission;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.util.*;
+
+/**
+ * 가용 시간 제출 write-behind (마감 직전 제출 몰림 대응, availability.writeBehind.enabled 로 켬)
+ * 요청 스레드에서는 검증만 하고 RabbitMQ 대기열에 넣은 뒤 바로 응답한다 (202).
+ * 변경분 제출(PATCH)도 같은 대기열로 보내, 앞서 접수된 전체 제출 위에 접수 순서대로 반영되게 한다.
+ * 소비자는 메시지를 묶음으로 받아 (근무자, 기간) 별 마지막 제출만 한 트랜잭션으로 반영하고, 반영이 끝나야 ack 한다.
+ * 반영 전까지는 PendingAvailabilityCache 로 본인 조회 화면에 방금 제출한 내용을 보여준다.
+ * 꺼져 있으면 기존과 같이 바로 반영한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AvailabilitySubmissionBuffer {
+
+    private final ScheduleService scheduleService;
+    private final AvailabilitySubmissionWriter availabilitySubmissionWriter;
+    private final PendingAvailabilityCache pendingAvailabilityCache;
+    private final RabbitTemplate rabbitTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${availability.writeBehind.enabled:false}")
+    private boolean enabled;
+
+    /**
+     * @return true 면 대기열에 접수됨 (나중에 반영), false 면 바로 반영됨
+     */
+    public boolean submit(UUID memberId, UUID companyId, UUID periodId, SubmitAvailabilityRequest req) {
+        if (!enabled) {
+            scheduleService.submitAvailability(memberId, companyId, periodId, req);
+            return false;
+        }
+
+        // 검증은 동기로 (마감 시간, 역할, 기간 등) - 잘못된 제출은 접수하지 않는다
+        scheduleService.validateAvailabilitySubmission(memberId, companyId, periodId, req);
+
+        List<UUID> slotIds = (req.getSlotIds() == null) ? List.of() : List.copyOf(req.getSlotIds());
+        BufferedSubmission submission = BufferedSubmission.full(memberId, companyId, periodId, slotIds, System.currentTimeMillis());
+
+        send(submission);
+        pendingAvailabilityCache.put(memberId, periodId, slotIds, submission.acceptedAt());
+        return true;
+    }
+
+    /**
+     * 변경분 제출 - 꺼져 있으면 바로 반영, 켜져 있으면 대기열에 접수 (pending = true)
+     * 접수 시에는 반영 대기 중인 본인 제출(없으면 DB)에 변경분을 적용한 결과를 본인 화면용으로 기억한다.
+     */
+    public AvailabilityPatchResponse patch(UUID memberId, UUID companyId, UUID periodId, PatchAvailabilityRequest req) {
+        if (!enabled) {
+            return scheduleService.patchAvailability(memberId, companyId, periodId, req);
+        }
+
+        Set<UUID> submitted = scheduleService.validateAvailabilityPatch(memberId, companyId, periodId, req);
+        Set<UUID> pending = pendingAvailabilityCache.get(memberId, periodId);
+        Set<UUID> current = new LinkedHashSet<>(pending != null ? pending : submitted);
+
+        List<UUID> added = (req.getAddedSlotIds() == null) ? List.of() : List.copyOf(new LinkedHashSet<>(req.getAddedSlotIds()));
+        List<UUID> removed = (req.getRemovedSlotIds() == null) ? List.of() : List.copyOf(new LinkedHashSet<>(req.getRemovedSlotIds()));
+        BufferedSubmission submission = BufferedSubmission.partial(memberId, companyId, periodId, added, removed, System.currentTimeMillis());
+
+        int addedCount = (int) added.stream().filter(id -> !current.contains(id)).count();
+        int removedCount = (int) removed.stream().filter(current::contains).count();
+        current.addAll(added);
+        removed.forEach(current::remove);
+
+        send(submission);
+        pendingAvailabilityCache.put(memberId, periodId, List.copyOf(current), submission.acceptedAt());
+
+        return AvailabilityPatchResponse.builder()
+                .periodId(periodId)
+                .added(addedCount)
+                .removed(removedCount)
+                .pending(true)
+                .build();
+    }
+
+    private void send(BufferedSubmission submission) {
+        try {
+            rabbitTemplate.convertAndSend(RabbitMQConfig.AVAILABILITY_SUBMISSION_QUEUE, objectMapper.writeValueAsString(submission));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("가용 시간 제출을 접수하지 못했습니다.", e);
+        }
+    }
+
+    /**
+     * 묶음 반영 (소비자 1개 - 같은 근무자의 제출 순서 유지)
+     * 기간마다 따로 트랜잭션으로 반영하고, 실패한 기간의 메시지와 읽을 수 없는 메시지만 DLQ 로 보낸다.
+     * (한 기간의 문제 있는 제출 때문에 다른 제출이 막히지 않도록)
+     * 락 대기 초과, 연결 끊김 같은 일시적 오류는 DLQ 로 보내지 않고 바로 다시 던져, 컨테이너 재시도(maxAttempts)로 묶음 전체를 다시 받는다.
+     * (먼저 반영된 기간은 다시 반영해도 결과가 같다, 재시도를 다 써도 실패하면 묶음 전체가 DLQ 로 넘어간다 - RabbitMQConfig)
+     */
+    @RabbitListener(queues = RabbitMQConfig.AVAILABILITY_SUBMISSION_QUEUE,
+            containerFactory = "availabilityBatchContainerFactory",
+            autoStartup = "${availability.writeBehind.enabled:false}")
+    public void applyBatch(List<String> payloads) {
+        Map<UUID, List<BufferedSubmission>> byPeriod = new LinkedHashMap<>();
+        Map<UUID, List<String>> payloadsByPeriod = new HashMap<>();
+        List<String> deadLetters = new ArrayList<>();
+        for (String payload : payloads) {
+            try {
+                BufferedSubmission s = objectMapper.readValue(payload, BufferedSubmission.class);
+                byPeriod.computeIfAbsent(s.periodId(), k -> new ArrayList<>()).add(s);
+                payloadsByPeriod.computeIfAbsent(s.periodId(), k -> new ArrayList<>()).add(payload);
+            } catch (JsonProcessingException e) {
+                log.error("가용 시간 제출 메시지를 읽지 못해 DLQ 로 보냅니다. payload={}", payload, e);
+                deadLetters.add(payload);
+            }
+        }
+
+        int applied = 0;
+        for (Map.Entry<UUID, List<BufferedSubmission>> e : byPeriod.entrySet()) {
+            try {
+                applied += availabilitySubmissionWriter.applyPeriod(e.getKey(), e.getValue()).size();
+            } catch (RuntimeException ex) {
+                if (isTransient(ex)) {
+                    log.warn("가용 시간 제출 반영 중 일시적 오류, 묶음을 다시 시도합니다. periodId={}", e.getKey(), ex);
+                    throw ex;
+                }
+                log.error("가용 시간 제출 반영 실패, DLQ 로 보냅니다. periodId={}, count={}", e.getKey(), e.getValue().size(), ex);
+                deadLetters.addAll(payloadsByPeriod.get(e.getKey()));
+                continue;
+            }
+
+            // 커밋 후 본인 조회 캐시 정리 (같은 키는 마지막 접수분까지 반영된 것으로 본다)
+            for (BufferedSubmission s : e.getValue()) {
+                pendingAvailabilityCache.clearIfApplied(s.memberId(), s.periodId(), s.acceptedAt());
+            }
+        }
+
+        for (String payload : deadLetters) {
+            rabbitTemplate.convertAndSend(RabbitMQConfig.AVAILABILITY_SUBMISSION_DLQ, payload);
+        }
+        log.info("가용 시간 제출 묶음 반영 received={}, applied={}, deadLettered={}", payloads.size(), applied, deadLetters.size());
+    }
+
+    private static boolean isTransient(Throwable ex) {
+        for (Throwable t = ex; t != null; t = t.getCause()) {
+            if (t instanceof TransientDataAccessException
+                    || t instanceof RecoverableDataAccessException
+                    || t instanceof DataAccessResourceFailureException
+                    || t instanceof CannotCreateTransactionException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
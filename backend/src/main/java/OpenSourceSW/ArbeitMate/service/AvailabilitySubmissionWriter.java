@@ -0,0 +1,189 @@
+package OpenSourceSW.ArbeitMate.service;
+
+import OpenSourceSW.ArbeitMate.domain.*;
+import OpenSourceSW.ArbeitMate.repository.*;
+import OpenSourceSW.ArbeitMate.scheduling.PeriodSnapshotCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 대기열에 쌓인 가용 시간 제출을 묶어서 반영 (write-behind)
+ * 같은 (근무자, 기간)의 전체 제출(POST)과 변경분 제출(PATCH)은 접수 순서대로 하나로 합친 뒤,
+ * 전체 교체 대상은 기간별 DELETE 한 번 + INSERT (배치), 변경분은 해당 슬롯만 지우고 새로 추가된 슬롯만 넣는다.
+ * 접수 시 검증은 이미 끝났으므로 여기서는 마감 전에 접수된 제출인지, 더 새로운 제출이 이미 반영됐는지만 본다.
+ * (마감 전 202 로 접수된 제출은 대기열이 밀려 기간이 게시된 뒤에 반영되더라도 버리지 않는다)
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class AvailabilitySubmissionWriter {
+
+    private final SchedulePeriodRepository schedulePeriodRepository;
+    private final ScheduleRepository scheduleRepository;
+    private final MemberRepository memberRepository;
+    private final ScheduleSlotAvailabilityRepository scheduleSlotAvailabilityRepository;
+    private final AvailabilitySubmissionRepository availabilitySubmissionRepository;
+    private final PeriodSnapshotCache periodSnapshotCache;
+
+    /**
+     * 접수된 제출 한 건 (acceptedAt: 접수 시각 epoch millis, 나중 것이 이긴다)
+     * delta = false: slotIds 로 기간 응답 전체 교체 / delta = true: slotIds 추가, removedSlotIds 해제
+     */
+    public record BufferedSubmission(UUID memberId, UUID companyId, UUID periodId, List<UUID> slotIds, long acceptedAt,
+                                     boolean delta, List<UUID> removedSlotIds) {
+        public BufferedSubmission {
+            slotIds = (slotIds == null) ? List.of() : slotIds;
+            removedSlotIds = (removedSlotIds == null) ? List.of() : removedSlotIds;
+        }
+
+        public static BufferedSubmission full(UUID memberId, UUID companyId, UUID periodId, List<UUID> slotIds, long acceptedAt) {
+            return new BufferedSubmission(memberId, companyId, periodId, slotIds, acceptedAt, false, List.of());
+        }
+
+        public static BufferedSubmission partial(UUID memberId, UUID companyId, UUID periodId,
+                                               List<UUID> addedSlotIds, List<UUID> removedSlotIds, long acceptedAt) {
+            return new BufferedSubmission(memberId, companyId, periodId, addedSlotIds, acceptedAt, true, removedSlotIds);
+        }
+    }
+
+    /**
+     * 한 기간의 제출만 반영 (기간 단위 트랜잭션, 기간 하나가 실패해도 다른 기간은 반영되도록 AvailabilitySubmissionBuffer 가 기간마다 호출)
+     * @return 실제로 반영된 제출 (이미 지난 제출, 마감 후 접수된 제출은 제외)
+     */
+    @Transactional
+    public List<BufferedSubmission> applyPeriod(UUID periodId, List<BufferedSubmission> submissions) {
+        SchedulePeriod period = schedulePeriodRepository.findById(periodId).orElse(null);
+        if (period == null) {
+            log.warn("가용 시간 제출 반영 건너뜀 (기간 없음) periodId={}, count={}", periodId, submissions.size());
+            return List.of();
+        }
+        UUID companyId = period.getCompany().getId();
+        LocalDateTime dueAt = period.getAvailabilityDueAt();
+
+        // 마감 전에 접수된 것 중, 이미 더 새로운 제출(직접 제출 포함)이 반영된 근무자 것은 제외하고 접수 순서대로
+        Map<UUID, AvailabilitySubmission> existing = availabilitySubmissionRepository.findByCompanyIdAndPeriodId(companyId, periodId).stream()
+                .collect(Collectors.toMap(s -> s.getMember().getId(), Function.identity()));
+        List<BufferedSubmission> fresh = submissions.stream()
+                .filter(s -> s.companyId().equals(companyId))
+                .filter(s -> {
+                    boolean inTime = dueAt == null || !toDateTime(s.acceptedAt()).isAfter(dueAt);
+                    if (!inTime) log.warn("마감 후 접수된 가용 시간 제출 제외 periodId={}, memberId={}", periodId, s.memberId());
+                    return inTime;
+                })
+                .filter(s -> {
+                    AvailabilitySubmission prev = existing.get(s.memberId());
+                    return prev == null || !prev.getSubmittedAt().isAfter(toDateTime(s.acceptedAt()));
+                })
+                .sorted(Comparator.comparingLong(BufferedSubmission::acceptedAt))
+                .toList();
+        if (fresh.isEmpty()) {
+            return List.of();
+        }
+
+        // (근무자, 기간) 별로 접수 순서대로 합치기
+        Map<UUID, Net> nets = new LinkedHashMap<>();
+        for (BufferedSubmission s : fresh) {
+            nets.computeIfAbsent(s.memberId(), k -> new Net()).fold(s);
+        }
+
+        Set<UUID> slotIds = new HashSet<>();
+        for (Net net : nets.values()) {
+            slotIds.addAll(net.replace != null ? net.replace : net.added);
+        }
+
+        Map<UUID, Member> members = memberRepository.findAllById(nets.keySet()).stream()
+                .collect(Collectors.toMap(Member::getId, Function.identity()));
+        Map<UUID, Schedule> slots = slotIds.isEmpty()
+                ? Map.of()
+                : scheduleRepository.findAllById(slotIds).stream()
+                        .filter(s -> s.getPeriod().getId().equals(periodId)) // 접수 후 삭제/이동된 슬롯 제외
+                        .collect(Collectors.toMap(Schedule::getId, Function.identity()));
+
+        /// 전체 교체 대상의 기존 제출 삭제 (기간 + 근무자 묶음으로 한 번)
+        Set<UUID> replacedMemberIds = nets.entrySet().stream()
+                .filter(e -> e.getValue().replace != null)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toSet());
+        if (!replacedMemberIds.isEmpty()) {
+            scheduleSlotAvailabilityRepository.deleteByMemberIdInAndPeriod(replacedMemberIds, period);
+        }
+
+        /// 새 제출 + 제출 기록
+        List<ScheduleSlotAvailability> rows = new ArrayList<>();
+        List<AvailabilitySubmission> newSubmissions = new ArrayList<>();
+        for (Map.Entry<UUID, Net> e : nets.entrySet()) {
+            Member member = members.get(e.getKey());
+            if (member == null) continue;
+            Net net = e.getValue();
+
+            Collection<UUID> toInsert;
+            if (net.replace != null) {
+                toInsert = net.replace;
+            } else {
+                // 변경분: 빠진 슬롯만 삭제, 아직 제출되지 않은 추가 슬롯만 저장
+                if (!net.removed.isEmpty()) {
+                    scheduleSlotAvailabilityRepository.deleteByMemberAndPeriodAndScheduleIdIn(member.getId(), periodId, net.removed);
+                }
+                Set<UUID> already = net.added.isEmpty()
+                        ? Set.of()
+                        : new HashSet<>(scheduleSlotAvailabilityRepository.findSubmittedScheduleIds(member.getId(), net.added));
+                toInsert = net.added.stream().filter(id -> !already.contains(id)).toList();
+            }
+            for (UUID slotId : toInsert) {
+                Schedule slot = slots.get(slotId);
+                if (slot != null) rows.add(ScheduleSlotAvailability.willing(slot, member));
+            }
+
+            AvailabilitySubmission sub = existing.get(member.getId());
+            if (sub == null) {
+                sub = AvailabilitySubmission.create(period.getCompany(), period, member);
+                newSubmissions.add(sub);
+            }
+            sub.markSubmittedAt(toDateTime(net.acceptedAt));
+        }
+
+        scheduleSlotAvailabilityRepository.saveAll(rows);
+        availabilitySubmissionRepository.saveAll(newSubmissions);
+        periodSnapshotCache.evict(periodId);
+        return fresh;
+    }
+
+    /** 한 근무자의 접수분을 순서대로 합친 결과 (replace != null: 전체 교체, 아니면 DB 기준 변경분) */
+    private static final class Net {
+        private Set<UUID> replace;
+        private final Set<UUID> added = new LinkedHashSet<>();
+        private final Set<UUID> removed = new HashSet<>();
+        private long acceptedAt;
+
+        void fold(BufferedSubmission s) {
+            if (!s.delta()) {
+                replace = new LinkedHashSet<>(s.slotIds());
+                added.clear();
+                removed.clear();
+            } else if (replace != null) {
+                replace.addAll(s.slotIds());
+                s.removedSlotIds().forEach(replace::remove);
+            } else {
+                added.addAll(s.slotIds());
+                s.slotIds().forEach(removed::remove);
+                removed.addAll(s.removedSlotIds());
+                s.removedSlotIds().forEach(added::remove);
+            }
+            acceptedAt = Math.max(acceptedAt, s.acceptedAt());
+        }
+    }
+
+    private static LocalDateTime toDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+}
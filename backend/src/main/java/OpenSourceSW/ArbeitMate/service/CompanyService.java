@@ -6,9 +6,11 @@ import OpenSourceSW.ArbeitMate.dto.request.CreateRoleRequest;
 import OpenSourceSW.ArbeitMate.dto.request.CreateCompanyRequest;
 import OpenSourceSW.ArbeitMate.dto.request.ParticipateCompanyRequest;
 import OpenSourceSW.ArbeitMate.dto.request.UpdateCompanyRequest;
+import OpenSourceSW.ArbeitMate.dto.request.UpdateWeeklyHoursRequest;
 import OpenSourceSW.ArbeitMate.dto.response.*;
 import OpenSourceSW.ArbeitMate.infra.InviteCodeGenerator;
 import OpenSourceSW.ArbeitMate.repository.*;
+import OpenSourceSW.ArbeitMate.scheduling.PeriodSnapshotCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -28,7 +30,13 @@ public class CompanyService {
     private final CompanyRoleRepository companyRoleRepository;
     private final CompanyMemberRoleRepository companyMemberRoleRepository;
     private final AvailabilitySubmissionRepository availabilitySubmissionRepository;
+    private final FixedShiftRepository fixedShiftRepository;
+    private final FixedShiftOccurrenceRepository fixedShiftOccurrenceRepository;
+    private final AutoAssignJobRepository autoAssignJobRepository;
+    private final CoverageGapRepository coverageGapRepository;
+    private final SlotRecurrenceRepository slotRecurrenceRepository;
     private final InviteCodeGenerator inviteCodeGenerator;
+    private final PeriodSnapshotCache periodSnapshotCache;
 
     @Value("${hourlyWage}")
     private int currentHourlyWage;
@@ -135,6 +143,14 @@ public class CompanyService {
 
         validateOwner(memberId, company);
 
+        // Company 에 매핑되지 않은 하위 테이블은 직접 먼저 삭제 (FK)
+        fixedShiftOccurrenceRepository.deleteByCompanyId(companyId);
+        autoAssignJobRepository.deleteByCompanyId(companyId);
+        coverageGapRepository.deleteBlockersByCompanyId(companyId);
+        coverageGapRepository.deleteByCompanyId(companyId);
+        // 반복 규칙은 예외 날짜 컬렉션 테이블까지 지워야 하므로 엔티티 단위로 삭제
+        slotRecurrenceRepository.deleteAll(slotRecurrenceRepository.findByPeriodCompanyId(companyId));
+
         companyRepository.delete(company); // 하위 엔티티는 cascade + orphanRemoval로 함께 자동으로 삭제
     }
 
@@ -189,7 +205,11 @@ public class CompanyService {
 
         Member member = target.getMember();
         availabilitySubmissionRepository.deleteByCompanyAndMember(company, member);
+        // 고정 근무 패턴이 남아 있으면 매일 발생분이 다시 펼쳐지므로 패턴과 발생분 모두 삭제
+        fixedShiftOccurrenceRepository.deleteByCompanyIdAndMemberId(companyId, member.getId());
+        fixedShiftRepository.deleteByCompanyIdAndMemberId(companyId, member.getId());
         company.removeCompanyMember(target); // 변경 감지를 통해 저장
+        periodSnapshotCache.evictCompany(companyId); // 시뮬레이션 스냅샷의 근무자 목록이 바뀜
     }
 
     /**
@@ -262,6 +282,31 @@ public class CompanyService {
                 companyMemberRoleRepository.save(cmr);
             }
         }
+        periodSnapshotCache.evictCompany(companyId); // 역할 매핑이 바뀜
+    }
+
+    /**
+     * 직원 주간 근무시간 범위 설정
+     */
+    @Transactional
+    public CompanyWorkerResponse updateWeeklyHours(UUID ownerId, UUID companyId, UUID companyMemberId, UpdateWeeklyHoursRequest req) {
+        Company company = companyRepository.findById(companyId)
+                .orElseThrow(() -> new IllegalArgumentException("Company not found"));
+
+        validateOwner(ownerId, company);
+
+        CompanyMember cm = company.getCompanyMembers().stream()
+                .filter(m -> m.getId().equals(companyMemberId))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("CompanyMember not found"));
+
+        if (cm.getRole() != MembershipRole.WORKER) {
+            throw new IllegalStateException("WORKER에게만 근무시간 범위를 설정할 수 있습니다.");
+        }
+
+        cm.updateWeeklyHours(req.getMinWeeklyHours(), req.getMaxWeeklyHours());
+        periodSnapshotCache.evictCompany(companyId);
+        return CompanyWorkerResponse.from(cm);
     }
 
     /**
@@ -0,0 +1,59 @@
+package OpenSourceSW.ArbeitMate.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 고정 근무 발생분 갱신 실행
+ * - 패턴 변경 트랜잭션이 커밋된 뒤 전용 실행기에서 해당 근무자만 다시 펼친다. (요청 스레드는 기다리지 않음)
+ * - 매일 새벽, 범위 끝에 새로 들어온 하루를 채우도록 전체 근무자를 다시 맞춘다.
+ * 대기열이 넘쳐 빠진 갱신도 다음 날 작업에서 복구된다.
+ * 일일 작업은 인스턴스마다 돈다. 갱신은 (기대 발생분 - 현재 발생분) 차이만 반영하므로 여러 번 돌아도 결과가 같고,
+ * 두 인스턴스가 같은 근무자를 동시에 넣으면 유니크 키 때문에 한쪽만 실패(로그)하고 다른 쪽 결과가 남는다.
+ */
+@Slf4j
+@Component
+public class FixedShiftOccurrenceMaterializer {
+
+    private final FixedShiftOccurrenceService fixedShiftOccurrenceService;
+    private final TaskExecutor executor;
+
+    public FixedShiftOccurrenceMaterializer(FixedShiftOccurrenceService fixedShiftOccurrenceService,
+                                            @Qualifier("fixedShiftOccurrenceExecutor") TaskExecutor executor) {
+        this.fixedShiftOccurrenceService = fixedShiftOccurrenceService;
+        this.executor = executor;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onChanged(FixedShiftOccurrenceService.FixedShiftsChanged event) {
+        try {
+            executor.execute(() -> run(event));
+        } catch (TaskRejectedException e) {
+            log.warn("고정 근무 발생분 갱신 대기열이 가득 찼습니다. companyId={}, memberId={}", event.companyId(), event.memberId());
+        }
+    }
+
+    @Scheduled(cron = "${fixedShift.occurrence.rollCron:0 10 0 * * *}")
+    public void rollForward() {
+        var targets = fixedShiftOccurrenceService.findMaterializeTargets();
+        try {
+            executor.execute(() -> targets.forEach(this::run)); // 이벤트 갱신과 같은 스레드에서 순서대로
+        } catch (TaskRejectedException e) {
+            log.warn("고정 근무 발생분 일일 갱신을 대기열에 넣지 못했습니다. targets={}", targets.size());
+        }
+    }
+
+    void run(FixedShiftOccurrenceService.FixedShiftsChanged target) {
+        try {
+            fixedShiftOccurrenceService.materialize(target.companyId(), target.memberId());
+        } catch (RuntimeException e) {
+            log.error("고정 근무 발생분 갱신 실패 companyId={}, memberId={}", target.companyId(), target.memberId(), e);
+        }
+    }
+}
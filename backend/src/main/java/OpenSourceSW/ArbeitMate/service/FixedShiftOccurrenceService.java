@@ -0,0 +1,126 @@
+package OpenSourceSW.ArbeitMate.service;
+
+import OpenSourceSW.ArbeitMate.domain.Company;
+import OpenSourceSW.ArbeitMate.domain.FixedShift;
+import OpenSourceSW.ArbeitMate.domain.FixedShiftOccurrence;
+import OpenSourceSW.ArbeitMate.dto.response.FixedShiftOccurrenceResponse;
+import OpenSourceSW.ArbeitMate.repository.CompanyMemberRepository;
+import OpenSourceSW.ArbeitMate.repository.CompanyRepository;
+import OpenSourceSW.ArbeitMate.repository.FixedShiftOccurrenceRepository;
+import OpenSourceSW.ArbeitMate.repository.FixedShiftRepository;
+import OpenSourceSW.ArbeitMate.scheduling.FixedShiftCalendar;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+
+/**
+ * 고정 근무 발생분 관리
+ * 패턴(요일 + 유효기간)을 [오늘, 오늘 + horizonDays) 범위의 날짜별 행으로 펼쳐 두고,
+ * 캘린더 조회는 패턴을 다시 계산하지 않고 (company, work_date) 인덱스 범위 조회로 처리한다.
+ * 갱신은 근무자 단위로 기존 발생분과 비교해 필요한 행만 추가/수정/삭제하므로 여러 번 실행해도 결과가 같다.
+ * 오늘 이전 발생분은 이력으로 남겨 두고 건드리지 않는다.
+ */
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class FixedShiftOccurrenceService {
+
+    private static final int MAX_RANGE_DAYS = 93;
+
+    private final CompanyRepository companyRepository;
+    private final CompanyMemberRepository companyMemberRepository;
+    private final FixedShiftRepository fixedShiftRepository;
+    private final FixedShiftOccurrenceRepository fixedShiftOccurrenceRepository;
+
+    @Value("${fixedShift.occurrence.horizonDays:90}")
+    private int horizonDays;
+
+    /** 고정 근무 패턴 변경 이벤트 (커밋 후 발생분 갱신) */
+    public record FixedShiftsChanged(UUID companyId, UUID memberId) {}
+
+    /** 발생분 비교 키: 같은 근무자 안에서 (날짜, 역할, 시작 시간) */
+    private record OccurrenceKey(LocalDate workDate, UUID roleId, LocalTime startTime) {}
+
+    /**
+     * 근무자 한 명의 발생분을 현재 패턴에 맞춘다.
+     */
+    @Transactional
+    public void materialize(UUID companyId, UUID memberId) {
+        LocalDate from = LocalDate.now();
+        LocalDate to = from.plusDays(horizonDays - 1);
+
+        // 1. 패턴 -> 기대 발생분
+        List<FixedShift> shifts = fixedShiftRepository.findByCompanyIdAndMemberId(companyId, memberId);
+        Map<OccurrenceKey, FixedShift> expected = new LinkedHashMap<>();
+        if (!shifts.isEmpty()) {
+            FixedShiftCalendar calendar = new FixedShiftCalendar(shifts);
+            for (LocalDate d = from; !d.isAfter(to); d = d.plusDays(1)) {
+                for (FixedShift fs : calendar.effectiveOn(d)) {
+                    expected.putIfAbsent(new OccurrenceKey(d, fs.getRole().getId(), fs.getStartTime()), fs);
+                }
+            }
+        }
+
+        // 2. 기존 발생분과 비교 (유지 / 종료 시간 수정 / 삭제)
+        List<FixedShiftOccurrence> stale = new ArrayList<>();
+        for (FixedShiftOccurrence o : fixedShiftOccurrenceRepository.findByMemberInRange(companyId, memberId, from, to)) {
+            FixedShift fs = expected.remove(new OccurrenceKey(o.getWorkDate(), o.getRole().getId(), o.getStartTime()));
+            if (fs == null) {
+                stale.add(o);
+            } else if (!fs.getEndTime().equals(o.getEndTime())) {
+                o.updateEndTime(fs.getEndTime());
+            }
+        }
+        if (!stale.isEmpty()) fixedShiftOccurrenceRepository.deleteAllInBatch(stale);
+
+        // 3. 남은 기대 발생분 추가
+        if (!expected.isEmpty()) {
+            List<FixedShiftOccurrence> created = new ArrayList<>(expected.size());
+            expected.forEach((key, fs) -> created.add(FixedShiftOccurrence.create(fs, key.workDate())));
+            fixedShiftOccurrenceRepository.saveAll(created);
+        }
+    }
+
+    /**
+     * 패턴이 있는 모든 (매장, 근무자) 목록 - 매일 범위를 하루씩 밀어줄 대상 (패턴 엔티티는 읽지 않음)
+     */
+    public List<FixedShiftsChanged> findMaterializeTargets() {
+        return fixedShiftRepository.findDistinctOwners().stream()
+                .map(row -> new FixedShiftsChanged(row.companyId(), row.memberId()))
+                .toList();
+    }
+
+    /**
+     * 기간 내 고정 근무 발생분 조회 (사장: 전체, 근무자: 본인)
+     */
+    public List<FixedShiftOccurrenceResponse> getOccurrences(UUID memberId, UUID companyId, LocalDate from, LocalDate to) {
+        Company company = companyRepository.findById(companyId)
+                .orElseThrow(() -> new IllegalArgumentException("Company not found"));
+
+        if (from == null || to == null || to.isBefore(from)) {
+            throw new IllegalArgumentException("조회 기간이 올바르지 않습니다.");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new IllegalArgumentException("조회 기간은 최대 " + MAX_RANGE_DAYS + "일입니다.");
+        }
+
+        List<FixedShiftOccurrence> occurrences;
+        if (company.getOwner().getId().equals(memberId)) {
+            occurrences = fixedShiftOccurrenceRepository.findInRange(companyId, from, to);
+        } else {
+            companyMemberRepository.findByCompanyIdAndMemberId(companyId, memberId)
+                    .orElseThrow(() -> new IllegalStateException("해당 매장에 속한 멤버가 아닙니다."));
+            occurrences = fixedShiftOccurrenceRepository.findByMemberInRange(companyId, memberId, from, to);
+        }
+
+        return occurrences.stream()
+                .map(FixedShiftOccurrenceResponse::from)
+                .toList();
+    }
+}
@@ -2,13 +2,30 @@ package OpenSourceSW.ArbeitMate.service;
 
 import OpenSourceSW.ArbeitMate.domain.*;
 import OpenSourceSW.ArbeitMate.domain.enums.AssignmentStatus;
+import OpenSourceSW.ArbeitMate.domain.enums.CoverageBlockReason;
 import OpenSourceSW.ArbeitMate.domain.enums.MembershipRole;
 import OpenSourceSW.ArbeitMate.domain.enums.PeriodStatus;
 import OpenSourceSW.ArbeitMate.domain.enums.PeriodType;
+import OpenSourceSW.ArbeitMate.domain.enums.TemplateAggregation;
 import OpenSourceSW.ArbeitMate.dto.request.*;
 import OpenSourceSW.ArbeitMate.dto.response.*;
 import OpenSourceSW.ArbeitMate.repository.*;
+import OpenSourceSW.ArbeitMate.scheduling.AssignmentEngine;
+import OpenSourceSW.ArbeitMate.scheduling.AssignmentEngineRegistry;
+import OpenSourceSW.ArbeitMate.scheduling.AssignmentProblem;
+import OpenSourceSW.ArbeitMate.scheduling.AssignmentResult;
+import OpenSourceSW.ArbeitMate.scheduling.AssignmentResultCache;
+import OpenSourceSW.ArbeitMate.scheduling.AvailabilityMatrix;
+import OpenSourceSW.ArbeitMate.scheduling.AvailabilityPatternIndex;
+import OpenSourceSW.ArbeitMate.scheduling.FixedShiftCalendar;
+import OpenSourceSW.ArbeitMate.scheduling.PartitionedAssignmentSolver;
+import OpenSourceSW.ArbeitMate.scheduling.PendingAvailabilityCache;
+import OpenSourceSW.ArbeitMate.scheduling.PeriodSnapshotCache;
+import OpenSourceSW.ArbeitMate.scheduling.StaffingTemplateCalendar;
+import OpenSourceSW.ArbeitMate.scheduling.TemplatePatternMiner;
+import OpenSourceSW.ArbeitMate.scheduling.WorkerIntervalIndex;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,7 +36,10 @@ import java.time.temporal.ChronoUnit;
 import java.time.temporal.TemporalAdjusters;
 import java.time.temporal.WeekFields;
 import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntConsumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @Transactional(readOnly = true)
@@ -43,6 +63,23 @@ public class ScheduleService {
     private final AvailabilitySubmissionRepository availabilitySubmissionRepository;
 
     private final ScheduleAssignmentRepository scheduleAssignmentRepository;
+    private final CoverageGapRepository coverageGapRepository;
+
+    private final AssignmentEngineRegistry assignmentEngineRegistry;
+    private final AssignmentResultCache assignmentResultCache;
+    private final PartitionedAssignmentSolver partitionedAssignmentSolver;
+    private final PeriodSnapshotCache periodSnapshotCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SlotRecurrenceService slotRecurrenceService;
+    private final PendingAvailabilityCache pendingAvailabilityCache;
+
+    // 자동 편성 슬롯 순서 고정 (같은 입력 -> 같은 번호 -> 같은 결과)
+    static final Comparator<Schedule> SLOT_ORDER = Comparator
+            .comparing(Schedule::getWorkDate)
+            .thenComparing(Schedule::getStartTime)
+            .thenComparing(Schedule::getEndTime)
+            .thenComparing(s -> s.getRole().getId())
+            .thenComparing(Schedule::getId, Comparator.nullsLast(Comparator.naturalOrder()));
 
     /**
      * 스케쥴 기간 생성 (시작일 / 종료일)
@@ -145,6 +182,86 @@ public class ScheduleService {
         return SchedulePeriodResponse.from(period);
     }
 
+    /**
+     * 스케쥴 기간 복제 (슬롯을 shiftDays 만큼 밀어서 새 DRAFT 기간으로, 선택 시 배정도 함께)
+     * 원본 슬롯/배정은 쿼리 두 번으로 읽고, 새 슬롯과 배정은 saveAll 한 번으로 저장한다 (배치 INSERT).
+     * 이미 매장을 떠난 직원의 배정은 복제하지 않는다.
+     */
+    @Transactional
+    public ClonePeriodResponse clonePeriod(UUID ownerId, UUID companyId, UUID periodId, ClonePeriodRequest req) {
+        Company company = companyRepository.findById(companyId)
+                .orElseThrow(() -> new IllegalArgumentException("Company not found"));
+
+        validateOwner(ownerId, company);
+
+        SchedulePeriod source = schedulePeriodRepository.findById(periodId)
+                .orElseThrow(() -> new IllegalArgumentException("SchedulePeriod not found"));
+
+        if (!source.getCompany().getId().equals(companyId)) {
+            throw new IllegalStateException("해당 매장의 스케쥴 기간이 아닙니다.");
+        }
+
+        long days = (req.getShiftDays() != null)
+                ? req.getShiftDays()
+                : ChronoUnit.DAYS.between(source.getStartDate(), source.getEndDate()) + 1;
+        if (days == 0) {
+            throw new IllegalArgumentException("복제할 기간은 원본과 날짜가 달라야 합니다.");
+        }
+
+        LocalDate start = source.getStartDate().plusDays(days);
+        LocalDate end = source.getEndDate().plusDays(days);
+
+        validateNoPeriodOverlap(companyId, start, end);
+
+        // 주간은 밀어도 주간, 월간은 밀면 달 경계와 어긋나므로 커스텀으로 만든다
+        PeriodType type = (source.getPeriodType() == PeriodType.WEEKLY) ? PeriodType.WEEKLY : PeriodType.CUSTOM;
+        String name = (type == PeriodType.WEEKLY)
+                ? normalizeNameOrGenerateWeekly(companyId, start, req.getName())
+                : normalizeNameOrGenerateCustom(companyId, start, end, req.getName());
+        LocalDateTime dueAt = (req.getAvailabilityDueAt() != null)
+                ? req.getAvailabilityDueAt()
+                : (source.getAvailabilityDueAt() != null ? source.getAvailabilityDueAt().plusDays(days) : null);
+
+        SchedulePeriod target = SchedulePeriod.create(company, name, type, start, end, dueAt);
+        schedulePeriodRepository.save(target);
+
+        /// 슬롯 복제
+        List<Schedule> sourceSlots = scheduleRepository.findByPeriod(source);
+        Map<UUID, Schedule> copies = new LinkedHashMap<>();
+        for (Schedule s : sourceSlots) {
+            copies.put(s.getId(), Schedule.createDetached(company, target, s.getRole(),
+                    s.getWorkDate().plusDays(days), s.getStartTime(), s.getEndTime(), s.getRequiredHeadcount()));
+        }
+
+        /// 배정 복제 (슬롯 cascade 로 함께 저장)
+        int assignmentCount = 0;
+        if (req.isIncludeAssignments() && !copies.isEmpty()) {
+            Set<UUID> currentMemberIds = companyMemberRepository.findWithMemberByCompanyId(companyId).stream()
+                    .map(cm -> cm.getMember().getId())
+                    .collect(Collectors.toSet());
+
+            for (ScheduleAssignment a : scheduleAssignmentRepository.findActiveWithMemberByPeriodId(periodId)) {
+                Schedule copy = copies.get(a.getSchedule().getId());
+                if (copy == null || !currentMemberIds.contains(a.getMember().getId())) continue;
+                ScheduleAssignment.create(copy, a.getMember());
+                assignmentCount++;
+            }
+        }
+
+        scheduleRepository.saveAll(new ArrayList<>(copies.values()));
+
+        // DRAFT 원본의 반복 슬롯 규칙도 함께 밀어서 복제
+        int recurrenceCount = slotRecurrenceService.copyShifted(source, target, days);
+
+        return ClonePeriodResponse.builder()
+                .sourcePeriodId(source.getId())
+                .period(SchedulePeriodResponse.from(target))
+                .slotCount(copies.size())
+                .assignmentCount(assignmentCount)
+                .recurrenceCount(recurrenceCount)
+                .build();
+    }
+
     /**
      * 특정 스케쥴 기간과 그 기간에 속한 모든 슬롯 조회
      */
@@ -163,10 +280,10 @@ public class ScheduleService {
             throw new IllegalStateException("해당 매장의 스케쥴 기간이 아닙니다.");
         }
 
-        // 해당 기간의 슬롯 조회
+        // 해당 기간의 슬롯 조회 (DRAFT 면 반복 규칙 슬롯도 펼쳐서 포함)
         List<Schedule> schedules = scheduleRepository.findByPeriod(period);
 
-        return SchedulePeriodWithSlotsResponse.of(period, schedules);
+        return SchedulePeriodWithSlotsResponse.of(period, schedules, slotRecurrenceService.expandVirtualSlots(period));
     }
 
     /**
@@ -183,7 +300,7 @@ public class ScheduleService {
         return periods.stream()
                 .map(period -> {
                     List<Schedule> schedules = scheduleRepository.findByPeriod(period);
-                    return SchedulePeriodWithSlotsResponse.of(period, schedules);
+                    return SchedulePeriodWithSlotsResponse.of(period, schedules, slotRecurrenceService.expandVirtualSlots(period));
                 })
                 .toList();
     }
@@ -250,8 +367,20 @@ public class ScheduleService {
             throw new IllegalStateException("DRAFT 상태의 기간에서만 슬롯을 생성할 수 있습니다.");
         }
 
+        if (req.getSlots().size() > CreateScheduleSlotsRequest.MAX_SLOTS) {
+            throw new IllegalArgumentException("한 번에 생성할 수 있는 슬롯은 최대 " + CreateScheduleSlotsRequest.MAX_SLOTS
+                    + "개입니다. 더 많은 슬롯은 스트리밍 생성을 이용해 주세요.");
+        }
+
+        /// 역할군 일괄 조회 (IN 쿼리 1번)
+        Set<UUID> roleIds = req.getSlots().stream()
+                .map(CreateScheduleSlotRequest::getRoleId)
+                .collect(Collectors.toSet());
+        Map<UUID, CompanyRole> roleById = companyRoleRepository.findAllById(roleIds).stream()
+                .collect(Collectors.toMap(CompanyRole::getId, r -> r));
+
         /// 스케쥴 슬롯 생성
-        List<Schedule> schedules = new ArrayList<>();
+        List<Schedule> schedules = new ArrayList<>(req.getSlots().size());
         for (CreateScheduleSlotRequest slotReq : req.getSlots()) {
             LocalDate workDate = slotReq.getWorkDate();
 
@@ -260,15 +389,17 @@ public class ScheduleService {
                 throw new IllegalArgumentException("기간 범위를 벗어난 날짜입니다.");
             }
 
-            // 역할군 조회 및 회사 일치 여부 검증
-            CompanyRole role = companyRoleRepository.findById(slotReq.getRoleId())
-                    .orElseThrow(() -> new IllegalArgumentException("Role not found"));
+            // 역할군 회사 일치 여부 검증
+            CompanyRole role = roleById.get(slotReq.getRoleId());
+            if (role == null) {
+                throw new IllegalArgumentException("Role not found");
+            }
             if (!role.getCompany().getId().equals(companyId)) {
                 throw new IllegalStateException("해당 매장의 역할군이 아닙니다.");
             }
 
-            // 엔티티 생성 (시간/인원수 검증 포함)
-            Schedule s = Schedule.create(
+            // 엔티티 생성 (시간/인원수 검증 포함), 저장은 saveAll 배치 INSERT
+            Schedule s = Schedule.createDetached(
                     company,
                     period,
                     role,
@@ -282,6 +413,7 @@ public class ScheduleService {
         }
 
         List<Schedule> created = scheduleRepository.saveAll(schedules);
+        periodSnapshotCache.evict(period.getId());
 
         return created.stream()
                 .map(ScheduleSlotResponse::from)
@@ -355,39 +487,16 @@ public class ScheduleService {
 
         validateOwner(ownerId, company);
 
-        SchedulePeriod period = schedulePeriodRepository.findById(periodId)
-                .orElseThrow(() -> new IllegalArgumentException("SchedulePeriod not found"));
-
-        if (!period.getCompany().getId().equals(companyId)) {
-            throw new IllegalStateException("해당 매장의 스케쥴 기간이 아닙니다.");
-        }
-        if (period.getStatus() != PeriodStatus.DRAFT) {
-            throw new IllegalStateException("DRAFT 상태의 기간에서만 템플릿을 적용할 수 있습니다.");
-        }
-
-        StaffingTemplate template = staffingTemplateRepository.findById(templateId)
-                .orElseThrow(() -> new IllegalArgumentException("Template not found"));
-
-        if (!template.getCompany().getId().equals(companyId)) {
-            throw new IllegalStateException("해당 매장의 템플릿이 아닙니다.");
-        }
+        SchedulePeriod period = loadTemplateTargetPeriod(companyId, periodId);
+        StaffingTemplate template = loadCompanyTemplate(companyId, templateId);
 
         /// 기존 기간 내 스케쥴이 있다면 삭제
         scheduleRepository.deleteByPeriodId(period.getId());
 
-        /// 템플릿 기반 스케쥴 생성
-        List<Schedule> newSchedules = new ArrayList<>();
-
-        LocalDate date = period.getStartDate();
-        while (!date.isAfter(period.getEndDate())) {
-
-            // 0=월..6=일 로 변환
-            int dow = date.getDayOfWeek().getValue() - 1;
-
-            for (StaffingTemplateItem item : template.getItems()) {
-                if (item.getDow() != dow) continue;
-
-                Schedule s = Schedule.create(
+        /// 템플릿 기반 스케쥴 생성 (요일별로 묶은 항목을 기간에 한 번만 펼침)
+        StaffingTemplateCalendar calendar = new StaffingTemplateCalendar(template.getItems());
+        List<Schedule> newSchedules = calendar.expand(period.getStartDate(), period.getEndDate(),
+                (date, item) -> Schedule.createDetached(
                         company,
                         period,
                         item.getRole(),
@@ -395,20 +504,234 @@ public class ScheduleService {
                         item.getStartTime(),
                         item.getEndTime(),
                         item.getHeadcount()
-                );
-                newSchedules.add(s);
-            }
-
-            date = date.plusDays(1);
-        }
+                ));
 
         List<Schedule> created = scheduleRepository.saveAll(newSchedules);
+        periodSnapshotCache.evict(period.getId());
 
         return created.stream()
                 .map(ScheduleSlotResponse::from)
                 .toList();
     }
 
+    /**
+     * 특정 기간에 템플릿 재적용 (차이만 반영)
+     * 기존 슬롯과 템플릿이 만드는 슬롯을 (날짜, 역할, 시작, 종료) 키로 맞춰 보고
+     * - 같은 키: 슬롯 id 를 유지한 채 필요 인원만 수정
+     * - 템플릿에만 있는 키: 새 슬롯 일괄 저장
+     * - 기존에만 있는 키: 해당 슬롯(+ 가능 제출/배정)만 일괄 삭제
+     */
+    @Transactional
+    public TemplateReconcileResponse reconcileTemplateToPeriod(UUID ownerId, UUID companyId, UUID periodId, UUID templateId) {
+        /// 유효성 검증
+        Company company = companyRepository.findById(companyId)
+                .orElseThrow(() -> new IllegalArgumentException("Company not found"));
+
+        validateOwner(ownerId, company);
+
+        SchedulePeriod period = loadTemplateTargetPeriod(companyId, periodId);
+        StaffingTemplate template = loadCompanyTemplate(companyId, templateId);
+
+        /// 1. 템플릿 기준 슬롯 (키별로 묶음, 같은 키 항목이 여러 개면 순서대로 짝지음)
+        StaffingTemplateCalendar calendar = new StaffingTemplateCalendar(template.getItems());
+        Map<TemplateSlotKey, ArrayDeque<TemplateSlot>> expected = new LinkedHashMap<>();
+        for (TemplateSlot ts : calendar.expand(period.getStartDate(), period.getEndDate(), TemplateSlot::new)) {
+            StaffingTemplateItem item = ts.item();
+            expected.computeIfAbsent(
+                    new TemplateSlotKey(ts.date(), item.getRole().getId(), item.getStartTime(), item.getEndTime()),
+                    k -> new ArrayDeque<>()
+            ).add(ts);
+        }
+
+        /// 2. 기존 슬롯과 비교
+        List<Schedule> kept = new ArrayList<>();
+        List<UUID> removedIds = new ArrayList<>();
+        int updated = 0;
+        for (Schedule s : scheduleRepository.findByPeriod(period)) {
+            ArrayDeque<TemplateSlot> candidates = expected.get(
+                    new TemplateSlotKey(s.getWorkDate(), s.getRole().getId(), s.getStartTime(), s.getEndTime()));
+            TemplateSlot match = (candidates == null) ? null : candidates.poll();
+            if (match == null) {
+                removedIds.add(s.getId());
+                continue;
+            }
+            if (s.getRequiredHeadcount() != match.item().getHeadcount()) {
+                s.changeRequiredHeadcount(match.item().getHeadcount()); // 변경 감지로 UPDATE (배치)
+                updated++;
+            }
+            kept.add(s);
+        }
+
+        /// 3. 템플릿에 없는 슬롯 일괄 삭제 (자식 행 먼저)
+        if (!removedIds.isEmpty()) {
+            scheduleSlotAvailabilityRepository.deleteByScheduleIdIn(removedIds);
+            scheduleAssignmentRepository.deleteByScheduleIdIn(removedIds);
+            scheduleRepository.deleteAllByIdInBatch(removedIds);
+        }
+
+        /// 4. 새 슬롯 일괄 저장
+        List<Schedule> newSchedules = expected.values().stream()
+                .flatMap(Collection::stream)
+                .map(ts -> Schedule.createDetached(
+                        company,
+                        period,
+                        ts.item().getRole(),
+                        ts.date(),
+                        ts.item().getStartTime(),
+                        ts.item().getEndTime(),
+                        ts.item().getHeadcount()
+                ))
+                .toList();
+        List<Schedule> created = newSchedules.isEmpty() ? List.of() : scheduleRepository.saveAll(newSchedules);
+        periodSnapshotCache.evict(period.getId());
+
+        List<Schedule> slots = new ArrayList<>(kept.size() + created.size());
+        slots.addAll(kept);
+        slots.addAll(created);
+        slots.sort(SLOT_ORDER);
+
+        return TemplateReconcileResponse.builder()
+                .periodId(period.getId())
+                .templateId(template.getId())
+                .inserted(created.size())
+                .updated(updated)
+                .deleted(removedIds.size())
+                .unchanged(kept.size() - updated)
+                .slots(slots.stream().map(ScheduleSlotResponse::from).toList())
+                .build();
+    }
+
+    /**
+     * 여러 기간에 템플릿 한 번에 적용 (기간 목록 또는 날짜 범위)
+     * 회사 / 사장 / 템플릿 검증과 템플릿 항목 로딩은 한 번만 하고,
+     * 적용 가능한 기간의 기존 슬롯 삭제와 새 슬롯 저장도 전체 기간을 묶어 한 번에 처리한다.
+     * 다른 매장 기간, DRAFT 가 아닌 기간 등은 결과에 실패로 남기고 나머지 기간은 그대로 반영한다.
+     */
+    @Transactional
+    public TemplateRolloutResponse rolloutTemplate(UUID ownerId, UUID companyId, UUID templateId, RolloutTemplateRequest req) {
+        /// 유효성 검증 (1회)
+        Company company = companyRepository.findById(companyId)
+                .orElseThrow(() -> new IllegalArgumentException("Company not found"));
+
+        validateOwner(ownerId, company);
+
+        StaffingTemplate template = loadCompanyTemplate(companyId, templateId);
+        StaffingTemplateCalendar calendar = new StaffingTemplateCalendar(template.getItems());
+
+        /// 대상 기간 조회
+        List<UUID> requestedIds = new ArrayList<>();
+        List<SchedulePeriod> periods;
+        if (req != null && req.getPeriodIds() != null && !req.getPeriodIds().isEmpty()) {
+            new LinkedHashSet<>(req.getPeriodIds()).forEach(requestedIds::add);
+            Map<UUID, SchedulePeriod> byId = schedulePeriodRepository.findAllById(requestedIds).stream()
+                    .collect(Collectors.toMap(SchedulePeriod::getId, p -> p));
+            periods = requestedIds.stream().map(byId::get).toList(); // 없는 id 는 null
+        } else {
+            if (req == null || req.getFrom() == null || req.getTo() == null || req.getTo().isBefore(req.getFrom())) {
+                throw new IllegalArgumentException("적용할 기간 목록 또는 올바른 날짜 범위가 필요합니다.");
+            }
+            periods = schedulePeriodRepository
+                    .findByCompanyIdAndStartDateGreaterThanEqualAndEndDateLessThanEqualOrderByStartDateAsc(
+                            companyId, req.getFrom(), req.getTo());
+            periods.forEach(p -> requestedIds.add(p.getId()));
+        }
+
+        /// 기간별 검증 + 슬롯 생성 (아직 DB 반영 없음)
+        List<TemplateRolloutResponse.PeriodResult> results = new ArrayList<>(periods.size());
+        List<UUID> appliedPeriodIds = new ArrayList<>();
+        List<Schedule> newSchedules = new ArrayList<>();
+
+        for (int i = 0; i < periods.size(); i++) {
+            SchedulePeriod period = periods.get(i);
+            if (period == null) {
+                results.add(TemplateRolloutResponse.PeriodResult.builder()
+                        .periodId(requestedIds.get(i))
+                        .success(false)
+                        .error("SchedulePeriod not found")
+                        .build());
+                continue;
+            }
+
+            String error = null;
+            if (!period.getCompany().getId().equals(companyId)) {
+                error = "해당 매장의 스케쥴 기간이 아닙니다.";
+            } else if (period.getStatus() != PeriodStatus.DRAFT) {
+                error = "DRAFT 상태의 기간에서만 템플릿을 적용할 수 있습니다.";
+            }
+
+            int slotCount = 0;
+            if (error == null) {
+                List<Schedule> slots = calendar.expand(period.getStartDate(), period.getEndDate(),
+                        (date, item) -> Schedule.createDetached(
+                                company,
+                                period,
+                                item.getRole(),
+                                date,
+                                item.getStartTime(),
+                                item.getEndTime(),
+                                item.getHeadcount()
+                        ));
+                newSchedules.addAll(slots);
+                appliedPeriodIds.add(period.getId());
+                slotCount = slots.size();
+            }
+
+            results.add(TemplateRolloutResponse.PeriodResult.builder()
+                    .periodId(period.getId())
+                    .periodName(period.getName())
+                    .startDate(period.getStartDate())
+                    .endDate(period.getEndDate())
+                    .success(error == null)
+                    .error(error)
+                    .slotCount(slotCount)
+                    .build());
+        }
+
+        /// 통과한 기간만 일괄 반영: 기존 슬롯 삭제 -> 새 슬롯 저장
+        if (!appliedPeriodIds.isEmpty()) {
+            scheduleRepository.deleteByPeriodIdIn(appliedPeriodIds);
+            if (!newSchedules.isEmpty()) scheduleRepository.saveAll(newSchedules);
+            appliedPeriodIds.forEach(periodSnapshotCache::evict);
+        }
+
+        return TemplateRolloutResponse.builder()
+                .templateId(template.getId())
+                .requested(results.size())
+                .succeeded(appliedPeriodIds.size())
+                .failed(results.size() - appliedPeriodIds.size())
+                .createdSlotCount(newSchedules.size())
+                .results(results)
+                .build();
+    }
+
+    private record TemplateSlot(LocalDate date, StaffingTemplateItem item) {}
+    private record TemplateSlotKey(LocalDate date, UUID roleId, LocalTime start, LocalTime end) {}
+
+    // 템플릿 적용 대상 기간 (같은 매장 + DRAFT)
+    private SchedulePeriod loadTemplateTargetPeriod(UUID companyId, UUID periodId) {
+        SchedulePeriod period = schedulePeriodRepository.findById(periodId)
+                .orElseThrow(() -> new IllegalArgumentException("SchedulePeriod not found"));
+
+        if (!period.getCompany().getId().equals(companyId)) {
+            throw new IllegalStateException("해당 매장의 스케쥴 기간이 아닙니다.");
+        }
+        if (period.getStatus() != PeriodStatus.DRAFT) {
+            throw new IllegalStateException("DRAFT 상태의 기간에서만 템플릿을 적용할 수 있습니다.");
+        }
+        return period;
+    }
+
+    // 같은 매장 템플릿
+    private StaffingTemplate loadCompanyTemplate(UUID companyId, UUID templateId) {
+        StaffingTemplate template = staffingTemplateRepository.findById(templateId)
+                .orElseThrow(() -> new IllegalArgumentException("Template not found"));
+
+        if (!template.getCompany().getId().equals(companyId)) {
+            throw new IllegalStateException("해당 매장의 템플릿이 아닙니다.");
+        }
+        return template;
+    }
+
     /**
      * 기존에 만들었던 SchedulePeriod에 편성된 스케쥴 기반 템플릿 생성
      */
@@ -483,6 +806,78 @@ public class ScheduleService {
         return StaffingTemplateResponse.from(template);
     }
 
+    /**
+     * 여러 과거 기간의 슬롯에서 템플릿 추출
+     * (요일, 역할, 시작, 종료) 패턴별 필요 인원을 MAX / MEDIAN / P80 중 하나로 집계한다.
+     * 슬롯은 엔티티 대신 필요한 컬럼만 스트림으로 읽어 바로 집계하고, 역할군은 한 번에 조회한다.
+     */
+    @Transactional
+    public StaffingTemplateResponse mineTemplateFromPeriods(UUID ownerId, UUID companyId, MineTemplateRequest req) {
+        /// 유효성 검증
+        Company company = companyRepository.findById(companyId)
+                .orElseThrow(() -> new IllegalArgumentException("Company not found"));
+
+        validateOwner(ownerId, company);
+
+        Set<UUID> periodIds = new LinkedHashSet<>(req.getPeriodIds());
+        List<SchedulePeriod> periods = schedulePeriodRepository.findAllById(periodIds);
+        if (periods.size() != periodIds.size()) {
+            throw new IllegalArgumentException("SchedulePeriod not found");
+        }
+        for (SchedulePeriod period : periods) {
+            if (!period.getCompany().getId().equals(companyId)) {
+                throw new IllegalStateException("해당 매장의 스케쥴 기간이 아닙니다.");
+            }
+        }
+
+        TemplateAggregation aggregation = (req.getAggregation() != null) ? req.getAggregation() : TemplateAggregation.MAX;
+
+        /// 슬롯 스트리밍 집계
+        TemplatePatternMiner miner = new TemplatePatternMiner();
+        periods.forEach(p -> miner.addPeriod(p.getStartDate(), p.getEndDate()));
+
+        try (Stream<ScheduleHeadcountRow> rows = scheduleRepository.streamHeadcountsByPeriodIdIn(periodIds)) {
+            rows.forEach(r -> miner.accept(r.roleId(), r.workDate(), r.startTime(), r.endTime(), r.requiredHeadcount()));
+        }
+        if (miner.isEmpty()) {
+            throw new IllegalStateException("해당 기간에는 스케쥴 슬롯이 없습니다. 템플릿을 생성할 수 없습니다.");
+        }
+
+        List<TemplatePatternMiner.MinedItem> mined = miner.result(aggregation);
+        if (mined.isEmpty()) {
+            throw new IllegalStateException("집계 결과 필요 인원이 있는 패턴이 없습니다. 다른 집계 방식을 선택해 주세요.");
+        }
+
+        /// 템플릿 생성 (역할군 일괄 조회)
+        Map<UUID, CompanyRole> roleById = companyRoleRepository.findAllById(miner.roleIds()).stream()
+                .collect(Collectors.toMap(CompanyRole::getId, r -> r));
+
+        String name;
+        if (req.getName() != null && !req.getName().isBlank()) {
+            name = req.getName().trim();
+            if (staffingTemplateRepository.existsByCompanyIdAndName(companyId, name)) {
+                throw new IllegalStateException("이미 동일한 이름의 템플릿이 존재합니다.");
+            }
+        } else {
+            LocalDate first = periods.stream().map(SchedulePeriod::getStartDate).min(Comparator.naturalOrder()).orElseThrow();
+            LocalDate last = periods.stream().map(SchedulePeriod::getEndDate).max(Comparator.naturalOrder()).orElseThrow();
+            name = uniqueTemplateName(companyId, first + "~" + last + "-" + aggregation);
+        }
+
+        StaffingTemplate template = StaffingTemplate.create(company, name, company.getOwner());
+        for (TemplatePatternMiner.MinedItem item : mined) {
+            CompanyRole role = roleById.get(item.roleId());
+            if (role == null) {
+                throw new IllegalStateException("템플릿 생성 중 해당 role을 찾을 수 없었습니다.");
+            }
+            StaffingTemplateItem.create(template, role, item.dow(), item.start(), item.end(), item.headcount());
+        }
+
+        staffingTemplateRepository.save(template);
+
+        return StaffingTemplateResponse.from(template);
+    }
+
     /**
      * 템플릿 삭제 기능
      */
@@ -643,6 +1038,8 @@ public class ScheduleService {
         if (!req.isFixedShiftWorker()) {
             cm.unmarkAsFixedShiftWorker();
             fixedShiftRepository.deleteByCompanyIdAndMemberId(companyId, member.getId());
+            periodSnapshotCache.evictCompany(companyId);
+            eventPublisher.publishEvent(new FixedShiftOccurrenceService.FixedShiftsChanged(companyId, member.getId()));
 
             return buildFixedShiftResponse(cm, false, List.of());
         }
@@ -677,6 +1074,8 @@ public class ScheduleService {
         }
 
         fixedShiftRepository.saveAll(created);
+        periodSnapshotCache.evictCompany(companyId);
+        eventPublisher.publishEvent(new FixedShiftOccurrenceService.FixedShiftsChanged(companyId, member.getId()));
 
         List<FixedShiftItemResponse> itemResponses = created.stream()
                 .map(FixedShiftItemResponse::from)
@@ -685,6 +1084,136 @@ public class ScheduleService {
         return buildFixedShiftResponse(cm, true, itemResponses);
     }
 
+    /**
+     * 고정 근무자 일괄 등록(갱신)
+     * 매장 직원 / 역할군을 한 번씩만 조회해 검증하고, 기존 패턴 삭제와 새 패턴 저장도 한 번에 처리한다.
+     * 검증에 실패한 직원만 결과에 실패로 남기고 나머지 직원은 그대로 반영한다.
+     */
+    @Transactional
+    public BulkFixedShiftResponse bulkUpdateFixedShifts(UUID ownerId, UUID companyId, BulkUpdateFixedShiftRequest req) {
+        // 1. 회사 + 사장 검증
+        Company company = companyRepository.findById(companyId)
+                .orElseThrow(() -> new IllegalArgumentException("Company not found"));
+
+        validateOwner(ownerId, company);
+
+        List<BulkUpdateFixedShiftRequest.MemberFixedShift> items =
+                (req == null || req.getMembers() == null) ? List.of() : req.getMembers();
+
+        // 2. 매장 직원 / 요청에 나온 역할군 일괄 조회 (IN 쿼리 1번씩)
+        Map<UUID, CompanyMember> cmById = companyMemberRepository.findWithMemberByCompanyId(companyId).stream()
+                .collect(Collectors.toMap(CompanyMember::getId, cm -> cm));
+
+        Set<UUID> roleIds = items.stream()
+                .filter(BulkUpdateFixedShiftRequest.MemberFixedShift::isFixedShiftWorker)
+                .filter(item -> item.getShifts() != null)
+                .flatMap(item -> item.getShifts().stream())
+                .map(FixedShiftItemRequest::getRoleId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<UUID, CompanyRole> roleById = roleIds.isEmpty() ? Map.of()
+                : companyRoleRepository.findAllById(roleIds).stream()
+                        .collect(Collectors.toMap(CompanyRole::getId, r -> r));
+
+        // 3. 직원별 검증 (아직 패턴 생성 / DB 반영 없음)
+        BulkFixedShiftResponse.MemberResult[] results = new BulkFixedShiftResponse.MemberResult[items.size()];
+        Map<Integer, List<FixedShiftItemRequest>> validByIndex = new LinkedHashMap<>();
+        Set<UUID> seen = new HashSet<>();
+
+        for (int i = 0; i < items.size(); i++) {
+            BulkUpdateFixedShiftRequest.MemberFixedShift item = items.get(i);
+            UUID companyMemberId = item.getCompanyMemberId();
+            try {
+                CompanyMember cm = cmById.get(companyMemberId);
+                if (cm == null) {
+                    throw new IllegalStateException("해당 매장의 직원이 아닙니다.");
+                }
+                if (!seen.add(companyMemberId)) {
+                    throw new IllegalArgumentException("같은 직원이 요청에 중복되었습니다.");
+                }
+
+                List<FixedShiftItemRequest> shifts = (item.isFixedShiftWorker() && item.getShifts() != null)
+                        ? item.getShifts() : List.of();
+
+                // 패턴 생성은 기존 패턴 삭제 뒤에 (FixedShift.create 는 company 에 바로 붙어 cascade 로 저장되므로,
+                // 먼저 만들면 삭제 쿼리 전 flush 로 새 패턴까지 같이 지워지고, 중간에 실패한 직원 패턴도 저장됨)
+                for (FixedShiftItemRequest shift : shifts) {
+                    CompanyRole role = roleById.get(shift.getRoleId());
+                    if (role == null) {
+                        throw new IllegalArgumentException("Role not found");
+                    }
+                    if (!role.getCompany().getId().equals(companyId)) {
+                        throw new IllegalStateException("해당 매장의 역할군이 아닙니다.");
+                    }
+                    FixedShift.validate(shift.getDow(), shift.getStartTime(), shift.getEndTime(),
+                            shift.getEffectiveFrom(), shift.getEffectiveTo());
+                }
+                validByIndex.put(i, shifts);
+            } catch (IllegalArgumentException | IllegalStateException e) {
+                results[i] = BulkFixedShiftResponse.MemberResult.failure(companyMemberId, e.getMessage());
+            }
+        }
+
+        // 4. 통과한 직원만 반영: 기존 패턴 일괄 삭제 -> 플래그 변경 + 새 패턴 생성 -> 일괄 저장
+        if (!validByIndex.isEmpty()) {
+            List<UUID> memberIds = validByIndex.keySet().stream()
+                    .map(i -> cmById.get(items.get(i).getCompanyMemberId()).getMember().getId())
+                    .toList();
+            fixedShiftRepository.deleteByCompanyIdAndMemberIdIn(companyId, memberIds);
+
+            Map<Integer, List<FixedShift>> createdByIndex = new LinkedHashMap<>();
+            List<FixedShift> allCreated = new ArrayList<>();
+            for (Map.Entry<Integer, List<FixedShiftItemRequest>> e : validByIndex.entrySet()) {
+                BulkUpdateFixedShiftRequest.MemberFixedShift item = items.get(e.getKey());
+                CompanyMember cm = cmById.get(item.getCompanyMemberId());
+
+                if (item.isFixedShiftWorker()) cm.markAsFixedShiftWorker();
+                else cm.unmarkAsFixedShiftWorker();
+
+                List<FixedShift> created = new ArrayList<>();
+                for (FixedShiftItemRequest shift : e.getValue()) {
+                    created.add(FixedShift.create(
+                            company,
+                            cm.getMember(),
+                            roleById.get(shift.getRoleId()),
+                            shift.getDow(),
+                            shift.getStartTime(),
+                            shift.getEndTime(),
+                            shift.getEffectiveFrom(),
+                            shift.getEffectiveTo()
+                    ));
+                }
+                createdByIndex.put(e.getKey(), created);
+                allCreated.addAll(created);
+            }
+            fixedShiftRepository.saveAll(allCreated);
+
+            for (Map.Entry<Integer, List<FixedShift>> e : createdByIndex.entrySet()) {
+                BulkUpdateFixedShiftRequest.MemberFixedShift item = items.get(e.getKey());
+                CompanyMember cm = cmById.get(item.getCompanyMemberId());
+
+                List<FixedShiftItemResponse> itemResponses = e.getValue().stream()
+                        .map(FixedShiftItemResponse::from)
+                        .toList();
+                results[e.getKey()] = BulkFixedShiftResponse.MemberResult.success(
+                        cm.getId(), buildFixedShiftResponse(cm, item.isFixedShiftWorker(), itemResponses));
+            }
+
+            periodSnapshotCache.evictCompany(companyId);
+            for (UUID memberId : memberIds) {
+                eventPublisher.publishEvent(new FixedShiftOccurrenceService.FixedShiftsChanged(companyId, memberId));
+            }
+        }
+
+        int succeeded = validByIndex.size();
+        return BulkFixedShiftResponse.builder()
+                .requested(items.size())
+                .succeeded(succeeded)
+                .failed(items.size() - succeeded)
+                .results(Arrays.asList(results))
+                .build();
+    }
+
     /**
      * 직원 본인 고정 근무 설정/패턴 조회
      */
@@ -796,8 +1325,14 @@ public class ScheduleService {
             throw new IllegalStateException("DRAFT 상태의 기간에서만 가용 시간 제출을 열 수 있습니다.");
         }
 
+        // 반복 규칙은 제출 시 slotId 가 필요하므로 여기서 실제 슬롯으로 변환
+        int materialized = slotRecurrenceService.materialize(period);
+        if (materialized > 0) {
+            periodSnapshotCache.evict(period.getId());
+        }
+
         // 슬롯이 최소 하나 있어야만 OPEN 가능
-        boolean hasSlots = scheduleRepository.existsByPeriodId(periodId);
+        boolean hasSlots = materialized > 0 || scheduleRepository.existsByPeriodId(periodId);
         if (!hasSlots) {
             throw new IllegalStateException("이 기간에는 스케쥴 슬롯이 하나도 없습니다. 슬롯 생성 후 OPEN 해주세요.");
         }
@@ -810,9 +1345,7 @@ public class ScheduleService {
      * 스케쥴 슬롯 조회 (제출한 가능 시간 기반으로 추천 + 역할 기반 필터링)
      */
     public WorkerAvailabilitySlotsResponse getWorkerAvailabilitySlots(UUID memberId, UUID companyId, UUID periodId) {
-        /// 유효성 검증
-        Company company = companyRepository.findById(companyId)
-                .orElseThrow(() -> new IllegalArgumentException("Company not found"));
+        /// 유효성 검증 (기간이 이 매장 소속이면 매장도 존재하므로 매장은 따로 조회하지 않음)
         SchedulePeriod period = schedulePeriodRepository.findById(periodId)
                 .orElseThrow(() -> new IllegalArgumentException("SchedulePeriod not found"));
 
@@ -832,77 +1365,43 @@ public class ScheduleService {
             throw new IllegalStateException("고정 근무자는 가용 시간 제출 대상이 아닙니다.");
         }
 
-        /// 슬롯 조회 및 필터링
-        Member member = cm.getMember();
-
-        // 이 멤버가 수행 가능한 역할 목록
-        List<CompanyMemberRole> memberRoles = companyMemberRoleRepository.findByCompanyIdAndMemberId(companyId, member.getId());
-        if (memberRoles.isEmpty()) {
-            // 역할이 하나도 없으면 빈 결과 반환
+        /// 슬롯 조회 (역할군 필터 + 제출 여부 + 정렬까지 쿼리 한 번)
+        List<WorkerSlotRow> rows = scheduleRepository.findWorkerSlotRows(periodId, companyId, memberId);
+        if (rows.isEmpty()) {
+            // 수행 가능한 역할이 없거나 해당 역할 슬롯이 없으면 빈 결과 반환
             return WorkerAvailabilitySlotsResponse.builder()
                     .recommendedSlots(List.of())
                     .otherSlots(List.of())
                     .build();
         }
 
-        Set<UUID> allowedRoleIds = memberRoles.stream()
-                .map(cmr -> cmr.getRole().getId())
-                .collect(Collectors.toSet());
-
-        // 해당 기간의 모든 스케줄 슬롯
-        List<Schedule> allSlots = scheduleRepository.findByPeriod(period);
-
-        // 이 멤버가 가능한 역할에 해당하는 슬롯만 필터링
-        List<Schedule> candidateSlots = allSlots.stream()
-                .filter(s -> allowedRoleIds.contains(s.getRole().getId()))
-                .toList();
-
-        // MemberAvailability 패턴
-        List<MemberAvailability> patterns = memberAvailabilityRepository.findByCompanyIdAndMemberId(companyId, member.getId());
-
-        // 이미 제출한 슬롯 (willing=true) 조회
-        List<ScheduleSlotAvailability> existingAvail = scheduleSlotAvailabilityRepository.findByMemberAndPeriod(member.getId(), period);
-        Set<UUID> willingSlotIds = existingAvail.stream()
-                .filter(ScheduleSlotAvailability::isWilling)
-                .map(a -> a.getSchedule().getId())
-                .collect(Collectors.toSet());
-
-        // 슬롯별 recommended / willing 계산
-        List<WorkerSlotResponse> allWorkerSlots = candidateSlots.stream()
-                .map(slot -> {
-                    LocalDate date = slot.getWorkDate();
-                    int dow = date.getDayOfWeek().getValue() - 1; // 0=월..6=일
-
-                    boolean recommended = patterns.stream().anyMatch(p -> p.getDow() == dow && p.isEffectiveOn(date) && p.overlaps(slot.getStartTime(), slot.getEndTime()));
-
-                    boolean willing = willingSlotIds.contains(slot.getId());
-
-                    return WorkerSlotResponse.builder()
-                            .scheduleId(slot.getId())
-                            .workDate(slot.getWorkDate())
-                            .startTime(slot.getStartTime())
-                            .endTime(slot.getEndTime())
-                            .roleId(slot.getRole().getId())
-                            .roleName(slot.getRole().getName())
-                            .recommended(recommended)
-                            .willing(willing)
-                            .build();
-                })
-                .toList();
-
-        // recommended / others 분리 + 정렬
-        List<WorkerSlotResponse> recommendedSlots = allWorkerSlots.stream()
-                .filter(WorkerSlotResponse::isRecommended)
-                .sorted(Comparator.comparing(WorkerSlotResponse::getWorkDate)
-                        .thenComparing(WorkerSlotResponse::getStartTime))
-                .toList();
-
-        List<WorkerSlotResponse> otherSlots = allWorkerSlots.stream()
-                .filter(s -> !s.isRecommended())
-                .sorted(Comparator
-                        .comparing(WorkerSlotResponse::getWorkDate)
-                        .thenComparing(WorkerSlotResponse::getStartTime))
-                .toList();
+        // MemberAvailability 패턴 (요일별 분 구간 인덱스로 한 번 컴파일)
+        List<MemberAvailability> patterns = memberAvailabilityRepository.findByCompanyIdAndMemberId(companyId, memberId);
+        AvailabilityPatternIndex patternIndex = new AvailabilityPatternIndex(patterns);
+
+        // 대기열에 접수만 되고 아직 반영 전인 본인 제출이 있으면 그 내용을 우선 (read-your-writes)
+        Set<UUID> pendingSlotIds = pendingAvailabilityCache.get(memberId, periodId);
+
+        // 이미 정렬된 상태로 오므로 recommended / others 로 나누기만 하면 양쪽 모두 정렬 상태 유지
+        List<WorkerSlotResponse> recommendedSlots = new ArrayList<>();
+        List<WorkerSlotResponse> otherSlots = new ArrayList<>();
+        for (WorkerSlotRow row : rows) {
+            boolean recommended = patternIndex.matches(row.workDate(), row.startTime(), row.endTime());
+            boolean willing = (pendingSlotIds != null) ? pendingSlotIds.contains(row.scheduleId()) : row.willing();
+
+            WorkerSlotResponse res = WorkerSlotResponse.builder()
+                    .scheduleId(row.scheduleId())
+                    .workDate(row.workDate())
+                    .startTime(row.startTime())
+                    .endTime(row.endTime())
+                    .roleId(row.roleId())
+                    .roleName(row.roleName())
+                    .recommended(recommended)
+                    .willing(willing)
+                    .build();
+            if (recommended) recommendedSlots.add(res);
+            else otherSlots.add(res);
+        }
 
         return WorkerAvailabilitySlotsResponse.builder()
                 .recommendedSlots(recommendedSlots)
@@ -916,35 +1415,9 @@ public class ScheduleService {
     @Transactional
     public void submitAvailability(UUID memberId, UUID companyId, UUID periodId, SubmitAvailabilityRequest req) {
         /// 유효성 검증
-        Company company = companyRepository.findById(companyId)
-                .orElseThrow(() -> new IllegalArgumentException("Company not found"));
-        SchedulePeriod period = schedulePeriodRepository.findById(periodId)
-                .orElseThrow(() -> new IllegalArgumentException("SchedulePeriod not found"));
-
-        if (!period.getCompany().getId().equals(companyId)) {
-            throw new IllegalStateException("해당 매장의 스케쥴 기간이 아닙니다.");
-        }
-        if (period.getStatus() != PeriodStatus.OPEN) {
-            throw new IllegalStateException("현재 가용 시간을 제출할 수 없는 상태입니다.");
-        }
-        if (period.getAvailabilityDueAt() != null && java.time.LocalDateTime.now().isAfter(period.getAvailabilityDueAt())) {
-            throw new IllegalStateException("가용 시간 제출 마감 시간이 지났습니다.");
-        }
-
-        CompanyMember cm = companyMemberRepository.findByCompanyIdAndMemberId(companyId, memberId)
-                .orElseThrow(() -> new IllegalStateException("해당 매장에 속한 멤버가 아닙니다."));
-
-        if (cm.isFixedShiftWorker()) {
-            throw new IllegalStateException("고정 근무자는 가용 시간 제출 대상이 아닙니다.");
-        }
-
-        Member member = cm.getMember();
-
-        // 멤버의 가능한 역할 목록
-        var memberRoles = companyMemberRoleRepository.findByCompanyIdAndMemberId(companyId, member.getId());
-        var allowedRoleIds = memberRoles.stream()
-                .map(cmr -> cmr.getRole().getId())
-                .collect(java.util.stream.Collectors.toSet());
+        SubmissionContext ctx = loadSubmissionContext(memberId, companyId, periodId);
+        Member member = ctx.member();
+        SchedulePeriod period = ctx.period();
 
         // 요청으로 넘어온 슬롯들 로드
         var slotIds = (req.getSlotIds() == null) ? List.<UUID>of() : req.getSlotIds();
@@ -953,17 +1426,7 @@ public class ScheduleService {
                 : scheduleRepository.findAllById(slotIds);
 
         // 유효성 검증: 해당 company, period, 역할
-        for (Schedule s : slots) {
-            if (!s.getPeriod().getId().equals(periodId)) {
-                throw new IllegalStateException("다른 기간의 스케쥴 슬롯이 포함되어 있습니다.");
-            }
-            if (!s.getCompany().getId().equals(companyId)) {
-                throw new IllegalStateException("다른 매장의 스케쥴 슬롯이 포함되어 있습니다.");
-            }
-            if (!allowedRoleIds.contains(s.getRole().getId())) {
-                throw new IllegalStateException("해당 멤버가 수행할 수 없는 역할의 슬롯이 포함되어 있습니다.");
-            }
-        }
+        validateSubmittedSlots(slots, companyId, periodId, ctx.allowedRoleIds());
 
         // 이전 제출 내용 제거
         scheduleSlotAvailabilityRepository.deleteByMemberAndPeriod(member.getId(), period);
@@ -974,6 +1437,8 @@ public class ScheduleService {
                 .toList();
 
         scheduleSlotAvailabilityRepository.saveAll(newAvail);
+        periodSnapshotCache.evict(period.getId());
+        pendingAvailabilityCache.remove(member.getId(), periodId); // 대기열에 남은 이전 제출보다 이번 제출이 우선
 
         // AvailabilitySubmission 갱신
         Optional<AvailabilitySubmission> opt = availabilitySubmissionRepository
@@ -982,11 +1447,92 @@ public class ScheduleService {
         if (opt.isPresent()) {
             opt.get().refreshSubmittedAt();
         } else {
-            AvailabilitySubmission sub = AvailabilitySubmission.create(company, period, member);
+            AvailabilitySubmission sub = AvailabilitySubmission.create(ctx.company(), period, member);
             availabilitySubmissionRepository.save(sub);
         }
     }
 
+    /**
+     * 가용 시간 제출 검증만 (write-behind 접수 시 저장 없이 submitAvailability 와 같은 검증)
+     */
+    public void validateAvailabilitySubmission(UUID memberId, UUID companyId, UUID periodId, SubmitAvailabilityRequest req) {
+        SubmissionContext ctx = loadSubmissionContext(memberId, companyId, periodId);
+
+        var slotIds = (req.getSlotIds() == null) ? List.<UUID>of() : req.getSlotIds();
+        if (slotIds.isEmpty()) return;
+
+        List<Schedule> slots = scheduleRepository.findAllById(slotIds);
+        validateSubmittedSlots(slots, companyId, periodId, ctx.allowedRoleIds());
+    }
+
+    /**
+     * 근무자 가용 시간 변경분만 제출 (추가/삭제된 슬롯만 반영)
+     * 체크 하나를 바꿔도 기간 전체를 지우고 다시 넣는 submitAvailability 와 달리,
+     * 새로 추가된 슬롯만 INSERT (배치), 빠진 슬롯은 DELETE ... IN 한 번, 제출 시간은 UPDATE 한 번으로 처리한다.
+     */
+    @Transactional
+    public AvailabilityPatchResponse patchAvailability(UUID memberId, UUID companyId, UUID periodId, PatchAvailabilityRequest req) {
+        /// 유효성 검증
+        SubmissionContext ctx = loadSubmissionContext(memberId, companyId, periodId);
+        Member member = ctx.member();
+
+        Set<UUID> added = (req.getAddedSlotIds() == null) ? Set.of() : new LinkedHashSet<>(req.getAddedSlotIds());
+        Set<UUID> removed = (req.getRemovedSlotIds() == null) ? Set.of() : new HashSet<>(req.getRemovedSlotIds());
+        List<Schedule> slots = validatePatchSlots(ctx, companyId, periodId, added, removed);
+
+        /// 추가: 아직 제출되지 않은 슬롯만 저장
+        int inserted = 0;
+        if (!added.isEmpty()) {
+            Set<UUID> alreadySubmitted = new HashSet<>(
+                    scheduleSlotAvailabilityRepository.findSubmittedScheduleIds(member.getId(), added));
+            List<ScheduleSlotAvailability> newAvail = slots.stream()
+                    .filter(s -> !alreadySubmitted.contains(s.getId()))
+                    .map(s -> ScheduleSlotAvailability.willing(s, member))
+                    .toList();
+
+            scheduleSlotAvailabilityRepository.saveAll(newAvail);
+            inserted = newAvail.size();
+        }
+
+        /// 삭제: 이 기간의 본인 제출분 중 빠진 슬롯만
+        int deleted = removed.isEmpty()
+                ? 0
+                : scheduleSlotAvailabilityRepository.deleteByMemberAndPeriodAndScheduleIdIn(member.getId(), periodId, removed);
+
+        if (inserted > 0 || deleted > 0) {
+            periodSnapshotCache.evict(periodId);
+        }
+        pendingAvailabilityCache.remove(member.getId(), periodId);
+
+        /// AvailabilitySubmission 갱신 (있으면 UPDATE 한 번, 없으면 생성)
+        int touched = availabilitySubmissionRepository.touchSubmittedAt(companyId, periodId, member.getId(), LocalDateTime.now());
+        if (touched == 0) {
+            availabilitySubmissionRepository.save(AvailabilitySubmission.create(ctx.company(), ctx.period(), member));
+        }
+
+        return AvailabilityPatchResponse.builder()
+                .periodId(periodId)
+                .added(inserted)
+                .removed(deleted)
+                .build();
+    }
+
+    /**
+     * 가용 시간 변경분 검증만 (write-behind 접수 시 저장 없이 patchAvailability 와 같은 검증)
+     * @return 현재 DB 에 반영된 본인 제출 슬롯 id (대기 중인 제출이 없을 때 화면 표시 기준)
+     */
+    public Set<UUID> validateAvailabilityPatch(UUID memberId, UUID companyId, UUID periodId, PatchAvailabilityRequest req) {
+        SubmissionContext ctx = loadSubmissionContext(memberId, companyId, periodId);
+
+        Set<UUID> added = (req.getAddedSlotIds() == null) ? Set.of() : new LinkedHashSet<>(req.getAddedSlotIds());
+        Set<UUID> removed = (req.getRemovedSlotIds() == null) ? Set.of() : new HashSet<>(req.getRemovedSlotIds());
+        validatePatchSlots(ctx, companyId, periodId, added, removed);
+
+        return scheduleSlotAvailabilityRepository.findByMemberAndPeriod(memberId, ctx.period()).stream()
+                .map(a -> a.getSchedule().getId())
+                .collect(Collectors.toSet());
+    }
+
     /**
      * 근무자들 가능 여부 제출 현황 조회
      */
@@ -1040,6 +1586,7 @@ public class ScheduleService {
 
     /**
      * 고정 근무자 선 배치
+     * 패턴은 요일 인덱스(FixedShiftCalendar)로 펼치고, 새로 만들 슬롯의 역할은 한 번에 조회한다.
      */
     private void applyFixedShiftsToSchedules(Company company, SchedulePeriod period, List<Schedule> schedules) {
         // 1. 기간 내 활성 고정 근무 패턴 조회
@@ -1047,17 +1594,12 @@ public class ScheduleService {
 
         if (fixedShifts.isEmpty()) return;
 
-        // 2. (date, role, time range) -> 고정 근무자 목록 집계
+        // 2. (date, role, time range) -> 고정 근무자 목록 집계 (날짜별로 해당 요일에 유효한 패턴만 조회)
+        FixedShiftCalendar calendar = new FixedShiftCalendar(fixedShifts);
         Map<SlotKey, List<Member>> fixedMap = new LinkedHashMap<>();
 
-        LocalDate date = period.getStartDate();
-        while (!date.isAfter(period.getEndDate())) {
-            int dow = date.getDayOfWeek().getValue() - 1; // 0=월..6=일
-
-            for (FixedShift fs : fixedShifts) {
-                if (fs.getDow() != dow) continue;
-                if (!isFixedShiftEffectiveOn(fs, date)) continue;
-
+        for (LocalDate date = period.getStartDate(); !date.isAfter(period.getEndDate()); date = date.plusDays(1)) {
+            for (FixedShift fs : calendar.effectiveOn(date)) {
                 SlotKey key = new SlotKey(
                         date,
                         fs.getRole().getId(),
@@ -1068,8 +1610,6 @@ public class ScheduleService {
                 fixedMap.computeIfAbsent(key, k -> new ArrayList<>())
                         .add(fs.getMember());
             }
-
-            date = date.plusDays(1);
         }
 
         if (fixedMap.isEmpty()) return;
@@ -1088,7 +1628,17 @@ public class ScheduleService {
                         LinkedHashMap::new
                 ));
 
-        // 4. 고정 근무자 패턴별로 Slot 확보 + Assignment 생성
+        // 4. 새로 만들 슬롯의 역할 일괄 조회
+        Set<UUID> missingRoleIds = fixedMap.keySet().stream()
+                .filter(key -> !slotMap.containsKey(key))
+                .map(SlotKey::roleId)
+                .collect(Collectors.toSet());
+        Map<UUID, CompanyRole> roleById = missingRoleIds.isEmpty()
+                ? Map.of()
+                : companyRoleRepository.findAllById(missingRoleIds).stream()
+                        .collect(Collectors.toMap(CompanyRole::getId, r -> r));
+
+        // 5. 고정 근무자 패턴별로 Slot 확보 + Assignment 생성
         for (Map.Entry<SlotKey, List<Member>> entry : fixedMap.entrySet()) {
             SlotKey key = entry.getKey();
             List<Member> fixedMembers = entry.getValue();
@@ -1097,8 +1647,10 @@ public class ScheduleService {
             // 해당 키에 맞는 Slot이 이미 있으면 재사용, 없으면 생성
             Schedule s = slotMap.get(key);
             if (s == null) {
-                CompanyRole role = companyRoleRepository.findById(key.roleId())
-                        .orElseThrow(() -> new IllegalStateException("고정 근무자 역할 정보를 찾을 수 없습니다."));
+                CompanyRole role = roleById.get(key.roleId());
+                if (role == null) {
+                    throw new IllegalStateException("고정 근무자 역할 정보를 찾을 수 없습니다.");
+                }
 
                 // requiredHeadcount는 "최소" 고정 근무자 수만큼 설정
                 int requiredHeadcount = Math.max(1, fixedMembers.size());
@@ -1120,28 +1672,36 @@ public class ScheduleService {
             }
 
             // 이 Slot에 고정 근무자 Assignment 생성 (중복 방지, 정원 신경 쓰지 않고 무조건 넣음)
-            for (Member m : fixedMembers) {
-                boolean already = s.getAssignments().stream()
-                        .anyMatch(a -> a.getStatus() == AssignmentStatus.ASSIGNED && a.getMember().getId().equals(m.getId()));
+            Set<UUID> assignedIds = s.getAssignments().stream()
+                    .filter(a -> a.getStatus() == AssignmentStatus.ASSIGNED)
+                    .map(a -> a.getMember().getId())
+                    .collect(Collectors.toCollection(HashSet::new));
 
-                if (!already) {
+            for (Member m : fixedMembers) {
+                if (assignedIds.add(m.getId())) {
                     ScheduleAssignment.create(s, m);
                 }
             }
         }
     }
 
-    private boolean isFixedShiftEffectiveOn(FixedShift fs, LocalDate date) {
-        if (date.isBefore(fs.getEffectiveFrom())) return false;
-        if (fs.getEffectiveTo() != null && date.isAfter(fs.getEffectiveTo())) return false;
-        return true;
+    /**
+     * 스케쥴 자동 배치 (모드: OPTIMAL=최대 유량, FAST=랜덤 그리디, FAIR=근무시간 균등)
+     * incremental=true 면 지난 배치 이후 후보/정원이 바뀐 슬롯만 다시 배치한다.
+     * 배치 결과와 함께 미충원 리포트를 만들어 저장하고 같이 돌려준다.
+     */
+    @Transactional
+    public AutoAssignResponse autoAssignSchedules(UUID ownerId, UUID companyId, UUID periodId, AutoAssignRequest req) {
+        return autoAssignSchedules(ownerId, companyId, periodId, req, progress -> {});
     }
 
     /**
-     * 스케쥴 자동 배치
+     * 진행률 보고를 받는 자동 배치 (비동기 작업용)
+     * 단계가 끝날 때마다 progress 에 0 ~ 100 값을 넘긴다. (입력 구성 30 -> 배치 계산 70 -> 결과 기록 90)
      */
     @Transactional
-    public List<ScheduleAssignmentSlotResponse> autoAssignSchedules(UUID ownerId, UUID companyId, UUID periodId) {
+    public AutoAssignResponse autoAssignSchedules(UUID ownerId, UUID companyId, UUID periodId, AutoAssignRequest req,
+                                                  IntConsumer progress) {
         // 1. 회사 + owner 검증
         Company company = companyRepository.findById(companyId)
                 .orElseThrow(() -> new IllegalArgumentException("Company not found"));
@@ -1158,12 +1718,16 @@ public class ScheduleService {
             throw new IllegalStateException("OPEN 상태의 기간에서만 자동 배치를 수행할 수 있습니다.");
         }
 
-        // 3. 기간의 모든 슬롯 로드
+        // 3. 기간의 모든 슬롯 로드 (결과 재현을 위해 순서 고정)
         List<Schedule> schedules = new ArrayList<>(scheduleRepository.findByPeriod(period));
+        schedules.sort(SLOT_ORDER);
 
-        // 기존 배정된 자동 스케쥴 제거
-        for (Schedule s : schedules) {
-            s.getAssignments().clear();
+        // 전체 배치면 기존 배정 모두 제거, 증분 배치면 유지 후 변경된 슬롯만 정리 (8단계)
+        boolean incremental = req != null && req.isIncremental();
+        if (!incremental) {
+            for (Schedule s : schedules) {
+                s.getAssignments().clear();
+            }
         }
 
         // 고정 근무자 배치
@@ -1179,36 +1743,100 @@ public class ScheduleService {
                         CompanyMember::isFixedShiftWorker
                 ));
 
-        // 고정 근무자 아닌 대상자들
+        // 고정 근무자 아닌 대상자들 (memberId 순으로 번호 고정)
         List<CompanyMember> targetWorkers = workers.stream()
                 .filter(cm -> !cm.isFixedShiftWorker())
+                .sorted(Comparator.comparing(cm -> cm.getMember().getId()))
                 .toList();
 
         if (targetWorkers.isEmpty()) {
-            // 고정 근무자만 있는 경우 return
-            return schedules.stream()
-                    .map(s -> ScheduleAssignmentSlotResponse.from(s, fixedWorkerMap))
-                    .toList();
+            // 고정 근무자만 있는 경우 return (자동 배치 대상이 없으므로 막힌 후보 없이 미충원만 기록)
+            period.markAutoAssigned();
+            List<CoverageGap> gaps = recordCoverageGaps(period, schedules,
+                    new AvailabilityMatrix(0, schedules.size(), 0), List.of(), Map.of());
+            return toAutoAssignResponse(period, schedules, fixedWorkerMap, gaps);
         }
 
-        // MemberId -> CompanyMember 매핑
-        Map<UUID, CompanyMember> cmByMemberId = targetWorkers.stream()
-                .collect(Collectors.toMap(cm -> cm.getMember().getId(), cm -> cm));
+        // 5. 근무자/역할/슬롯 -> 번호 (이후 계산은 번호 + 비트셋으로만 수행)
+        List<Member> workerMembers = targetWorkers.stream()
+                .map(CompanyMember::getMember)
+                .toList();
+        Map<UUID, Integer> workerIndex = new HashMap<>();
+        for (int i = 0; i < workerMembers.size(); i++) {
+            workerIndex.put(workerMembers.get(i).getId(), i);
+        }
 
-        // 5. 기간 내 모든 ScheduleSlotAvailability 조회 후 scheduleId 기준 그룹핑
-        List<ScheduleSlotAvailability> allAvail = scheduleSlotAvailabilityRepository.findByPeriod(period);
+        Map<UUID, Integer> roleIndex = new HashMap<>();
+        Map<UUID, Integer> slotIndex = new HashMap<>();
+        for (int i = 0; i < schedules.size(); i++) {
+            Schedule s = schedules.get(i);
+            if (s.getId() != null) slotIndex.put(s.getId(), i); // 고정 근무로 새로 만든 슬롯은 아직 id 없음
+            roleIndex.putIfAbsent(s.getRole().getId(), roleIndex.size());
+        }
 
-        Map<UUID, List<ScheduleSlotAvailability>> availByScheduleId = allAvail.stream()
-                .filter(ScheduleSlotAvailability::isWilling)
-                .collect(Collectors.groupingBy(a -> a.getSchedule().getId()));
+        AvailabilityMatrix matrix = new AvailabilityMatrix(workerMembers.size(), schedules.size(), roleIndex.size());
+        for (int i = 0; i < schedules.size(); i++) {
+            matrix.setSlotRole(i, roleIndex.get(schedules.get(i).getRole().getId()));
+        }
 
-        // 6. memberId -> 가능한 roleId Set 캐시
-        Map<UUID, Set<UUID>> roleCache = new HashMap<>();
+        // 6. 기간 내 "가능" 제출 -> 슬롯별 근무자 비트
+        for (ScheduleSlotAvailability a : scheduleSlotAvailabilityRepository.findByPeriod(period)) {
+            if (!a.isWilling()) continue;
+            Integer slot = slotIndex.get(a.getSchedule().getId());
+            Integer w = workerIndex.get(a.getMember().getId());
+            if (slot == null || w == null) continue;
+            matrix.markWilling(slot, w);
+        }
+
+        // 7. 역할 수행 가능 여부 -> 역할별 근무자 비트 (매장 전체 매핑 한 번에 조회)
+        for (CompanyMemberRole cmr : companyMemberRoleRepository.findByCompanyId(companyId)) {
+            Integer role = roleIndex.get(cmr.getRole().getId());
+            Integer w = workerIndex.get(cmr.getMember().getId());
+            if (role == null || w == null) continue;
+            matrix.markEligible(role, w);
+        }
 
-        Random random = new Random();
+        // 8. 슬롯별 입력 서명(후보 + 정원) 비교 -> 다시 배치할 슬롯 결정 + 유지되는 배정 정리
+        //    전체 배치: 모든 슬롯 대상 / 증분 배치: 서명이 바뀐 슬롯만 대상, 그 슬롯에서도 여전히 유효한 배정은 유지
+        //    유지되는 배정은 최대 배치 수 / 주간 근무시간 계산에 포함되도록 배치 문제에도 넘김
+        boolean[] dirty = new boolean[schedules.size()];
+        WorkerIntervalIndex<Integer> kept = new WorkerIntervalIndex<>();
+        AssignmentProblem.Builder problem = AssignmentProblem.builder(workerMembers.size());
 
-        // 7. 각 슬롯에 대해 배치 수행
-        for (Schedule s : schedules) {
+        for (int i = 0; i < schedules.size(); i++) {
+            Schedule s = schedules.get(i);
+            int[] pool = matrix.willingAndEligible(i);
+            long signature = autoAssignSignature(s, pool, workerMembers);
+
+            dirty[i] = !incremental || s.getAutoAssignSignature() == null || s.getAutoAssignSignature() != signature;
+            s.recordAutoAssignSignature(signature);
+
+            if (incremental && dirty[i]) {
+                dropStaleAssignments(s, pool, workerIndex);
+            }
+
+            // 같은 슬롯 중복 배치 방지 + 다른 슬롯 배치 시 시간 겹침 판단용
+            for (ScheduleAssignment a : s.getAssignments()) {
+                Integer w = workerIndex.get(a.getMember().getId());
+                if (w == null) continue;
+                matrix.markAssigned(i, w);
+                kept.tryAdd(w, s.getWorkDate(), s.getStartTime(), s.getEndTime());
+                if (a.getStatus() != AssignmentStatus.CANCELLED) {
+                    problem.keep(w, s.getWorkDate(), s.getStartTime(), s.getEndTime());
+                }
+            }
+        }
+
+        // 9. 배치 문제 구성 (후보 = 가능 제출 & 역할 가능 & 미배정 & 유지되는 배정과 안 겹침)
+        for (int i = 0; i < targetWorkers.size(); i++) {
+            CompanyMember cm = targetWorkers.get(i);
+            problem.weeklyHours(i, cm.getMinWeeklyHours(), cm.getMaxWeeklyHours());
+        }
+        List<Schedule> openSlots = new ArrayList<>();
+
+        for (int i = 0; i < schedules.size(); i++) {
+            if (!dirty[i]) continue;
+            Schedule s = schedules.get(i);
 
             // 이미 ASSIGNED 상태로 배정된 인원 수
             long alreadyAssigned = s.getAssignments().stream()
@@ -1218,43 +1846,226 @@ public class ScheduleService {
             int remaining = s.getRequiredHeadcount() - (int) alreadyAssigned;
             if (remaining <= 0) continue;
 
-            List<ScheduleSlotAvailability> availForSlot =
-                    availByScheduleId.getOrDefault(s.getId(), List.of());
-
-            // 이 슬롯에서 "가능" 표시한 사람들 중, 회사에 속해 있고, fixed가 아니며, 역할 가능 여부 만족하는 멤버들
-            List<Member> candidates = availForSlot.stream()
-                    .map(a -> {
-                        UUID memberId = a.getMember().getId();
-                        CompanyMember cm = cmByMemberId.get(memberId);
-                        return (cm != null) ? cm : null;
-                    })
-                    .filter(Objects::nonNull)
-                    .filter(cm -> canWorkRole(companyId, cm.getMember(), s.getRole().getId(), roleCache))
-                    // 같은 슬롯에 중복 배치 방지
-                    .filter(cm -> s.getAssignments().stream()
-                            .noneMatch(asg -> asg.getMember().getId().equals(cm.getMember().getId())))
-                    .map(CompanyMember::getMember)
-                    .distinct()
-                    .collect(Collectors.toList());
-
-            if (candidates.isEmpty()) continue;
-
-            // 랜덤 순서 섞기
-            Collections.shuffle(candidates, random);
-
-            int toAssign = Math.min(remaining, candidates.size());
-            for (int i = 0; i < toAssign; i++) {
-                Member m = candidates.get(i);
-                ScheduleAssignment.create(s, m); // Assignment는 Member 기준
+            int[] candidates = Arrays.stream(matrix.candidates(i))
+                    .filter(w -> !kept.conflicts(w, s.getWorkDate(), s.getStartTime(), s.getEndTime()))
+                    .toArray();
+            if (candidates.length == 0) continue;
+
+            // 시간대 정보도 함께 넘겨서 엔진이 같은 근무자의 겹치는 슬롯 배치를 막도록 함
+            problem.addSlot(s.getWorkDate(), s.getStartTime(), s.getEndTime(), remaining, candidates);
+            openSlots.add(s);
+        }
+
+        progress.accept(30); // 입력(슬롯/제출/역할) 구성 완료
+
+        // 10. 모드별 엔진으로 배치 수행 후 Assignment 생성 (Member 기준, 새 배정만 insert)
+        //    시드: 요청 값 > 기간에 저장된 값 > 새로 생성. 같은 입력 해시면 이전 계산 결과 재사용
+        long seed = resolveAutoAssignSeed(period, req);
+        AssignmentProblem built = problem.seed(seed).build();
+        String inputHash = built.fingerprint();
+
+        AssignmentEngine engine = assignmentEngineRegistry.get((req != null) ? req.getMode() : null);
+        AssignmentResult result = assignmentResultCache.getOrCompute(engine.mode(), inputHash, () -> partitionedAssignmentSolver.solve(engine, built));
+        progress.accept(70); // 배치 계산 완료
+        period.recordAutoAssign(seed, inputHash);
+        periodSnapshotCache.evict(period.getId());
+
+        for (int i = 0; i < openSlots.size(); i++) {
+            Schedule s = openSlots.get(i);
+            for (int w : result.assignedWorkers(i)) {
+                ScheduleAssignment.create(s, workerMembers.get(w));
+            }
+        }
+
+        // 11. 미충원 리포트 (같은 비트셋 + 최종 배정으로 계산) 저장
+        List<CoverageGap> gaps = recordCoverageGaps(period, schedules, matrix, targetWorkers, workerIndex);
+        progress.accept(90); // 배정 / 리포트 기록 완료 (커밋 후 SUCCEEDED)
+
+        // 12. 최종 배치 결과 반환
+        return toAutoAssignResponse(period, schedules, fixedWorkerMap, gaps);
+    }
+
+    private AutoAssignResponse toAutoAssignResponse(SchedulePeriod period, List<Schedule> schedules,
+                                                    Map<UUID, Boolean> fixedWorkerMap, List<CoverageGap> gaps) {
+        return AutoAssignResponse.builder()
+                .slots(schedules.stream()
+                        .map(s -> ScheduleAssignmentSlotResponse.from(s, fixedWorkerMap))
+                        .toList())
+                .coverageGap(CoverageGapReportResponse.from(period, gaps))
+                .build();
+    }
+
+    /**
+     * 미충원 리포트 생성 + 저장 (기존 리포트는 교체)
+     * 배치에 쓴 비트셋과 최종 배정만으로 계산하므로 추가 조회가 없다.
+     * 정원이 덜 찬 슬롯마다 "가능" 제출했지만 배정되지 않은 근무자와 그 이유를 남긴다.
+     * - ROLE: 슬롯 역할 불가 / OVERLAP: 같은 시간대 다른 슬롯에 배정됨 / CAP: 주간 최대 근무시간 초과
+     */
+    private List<CoverageGap> recordCoverageGaps(SchedulePeriod period, List<Schedule> schedules, AvailabilityMatrix matrix,
+                                                 List<CompanyMember> targetWorkers, Map<UUID, Integer> workerIndex) {
+        // 1. 최종 배정 기준 근무자별 시간대 / 주간 근무시간(분)
+        WorkerIntervalIndex<Integer> busy = new WorkerIntervalIndex<>();
+        Map<Long, Integer> weekMinutes = new HashMap<>();
+        int[] filled = new int[schedules.size()];
+
+        for (int i = 0; i < schedules.size(); i++) {
+            Schedule s = schedules.get(i);
+            for (ScheduleAssignment a : s.getAssignments()) {
+                if (a.getStatus() != AssignmentStatus.ASSIGNED) continue;
+                filled[i]++;
+
+                Integer w = workerIndex.get(a.getMember().getId());
+                if (w == null) continue;
+                busy.tryAdd(w, s.getWorkDate(), s.getStartTime(), s.getEndTime());
+                weekMinutes.merge(weekKey(w, s.getWorkDate()), slotMinutes(s), Integer::sum);
+            }
+        }
+
+        // 2. 미충원 슬롯 + 막힌 후보
+        List<CoverageGap> gaps = new ArrayList<>();
+        for (int i = 0; i < schedules.size(); i++) {
+            Schedule s = schedules.get(i);
+            if (filled[i] >= s.getRequiredHeadcount()) continue;
+
+            CoverageGap gap = CoverageGap.create(period, s, filled[i]);
+            Set<UUID> assignedIds = s.getAssignments().stream()
+                    .map(a -> a.getMember().getId())
+                    .collect(Collectors.toSet());
+
+            for (int w : matrix.willing(i)) {
+                CompanyMember cm = targetWorkers.get(w);
+                if (assignedIds.contains(cm.getMember().getId())) continue;
+
+                CoverageBlockReason reason;
+                if (!matrix.isEligible(i, w)) {
+                    reason = CoverageBlockReason.ROLE;
+                } else if (busy.conflicts(w, s.getWorkDate(), s.getStartTime(), s.getEndTime())) {
+                    reason = CoverageBlockReason.OVERLAP;
+                } else if (cm.getMaxWeeklyHours() != null
+                        && weekMinutes.getOrDefault(weekKey(w, s.getWorkDate()), 0) + slotMinutes(s) > cm.getMaxWeeklyHours() * 60) {
+                    reason = CoverageBlockReason.CAP;
+                } else {
+                    continue; // 막힌 이유 없음 (증분 배치에서 다시 풀지 않은 슬롯 등)
+                }
+                CoverageGapBlocker.create(gap, cm.getMember(), reason);
             }
+            gaps.add(gap);
         }
 
-        // 8. 최종 배치 결과 반환
+        // 3. 기존 리포트 교체
+        coverageGapRepository.deleteBlockersByPeriodId(period.getId());
+        coverageGapRepository.deleteByPeriodId(period.getId());
+        coverageGapRepository.saveAll(gaps);
+        return gaps;
+    }
+
+    private static long weekKey(int worker, LocalDate date) {
+        return ((long) worker << 32) | AssignmentProblem.weekOf((int) date.toEpochDay());
+    }
+
+    private static int slotMinutes(Schedule s) {
+        return AssignmentProblem.toMinutes(s.getEndTime()) - AssignmentProblem.toMinutes(s.getStartTime());
+    }
+
+    /**
+     * 마지막 자동 편성의 미충원 리포트 조회 (재계산 없음)
+     */
+    public CoverageGapReportResponse getCoverageGapReport(UUID ownerId, UUID companyId, UUID periodId) {
+        Company company = companyRepository.findById(companyId)
+                .orElseThrow(() -> new IllegalArgumentException("Company not found"));
+        validateOwner(ownerId, company);
+
+        SchedulePeriod period = schedulePeriodRepository.findById(periodId)
+                .orElseThrow(() -> new IllegalArgumentException("SchedulePeriod not found"));
+
+        if (!period.getCompany().getId().equals(companyId)) {
+            throw new IllegalStateException("해당 매장의 스케쥴 기간이 아닙니다.");
+        }
+
+        return CoverageGapReportResponse.from(period, coverageGapRepository.findWithBlockersByPeriodId(periodId));
+    }
+
+    /**
+     * 현재 편성안 조회 (자동 편성 작업 결과 조회 등)
+     */
+    public List<ScheduleAssignmentSlotResponse> getScheduleAssignments(UUID ownerId, UUID companyId, UUID periodId) {
+        Company company = companyRepository.findById(companyId)
+                .orElseThrow(() -> new IllegalArgumentException("Company not found"));
+        validateOwner(ownerId, company);
+
+        SchedulePeriod period = schedulePeriodRepository.findById(periodId)
+                .orElseThrow(() -> new IllegalArgumentException("SchedulePeriod not found"));
+
+        if (!period.getCompany().getId().equals(companyId)) {
+            throw new IllegalStateException("해당 매장의 스케쥴 기간이 아닙니다.");
+        }
+
+        List<Schedule> schedules = new ArrayList<>(scheduleRepository.findByPeriod(period));
+        schedules.sort(SLOT_ORDER);
+
+        Map<UUID, Boolean> fixedWorkerMap = companyMemberRepository
+                .findByCompanyIdAndRole(companyId, MembershipRole.WORKER).stream()
+                .collect(Collectors.toMap(
+                        cm -> cm.getMember().getId(),
+                        CompanyMember::isFixedShiftWorker
+                ));
+
         return schedules.stream()
                 .map(s -> ScheduleAssignmentSlotResponse.from(s, fixedWorkerMap))
                 .toList();
     }
 
+    /**
+     * 슬롯 자동 배치 입력 서명: 정원 + 후보 memberId 집합 (순서 무관 해시)
+     */
+    private static long autoAssignSignature(Schedule s, int[] pool, List<Member> workerMembers) {
+        long h = mix64(s.getRequiredHeadcount());
+        for (int w : pool) {
+            UUID id = workerMembers.get(w).getId();
+            h += mix64(id.getMostSignificantBits() ^ mix64(id.getLeastSignificantBits()));
+        }
+        return h;
+    }
+
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * 증분 배치에서 다시 배치할 슬롯의 기존 배정 정리
+     * - 고정 근무자 / 자동 배치 대상이 아닌 배정, ASSIGNED 가 아닌 배정(교환 대기 등)은 그대로 둔다.
+     * - 더 이상 후보가 아닌(가능 철회, 역할 제외) 근무자의 배정은 삭제한다.
+     * - 정원이 줄었으면 초과 인원만큼 뒤에서부터 삭제한다.
+     */
+    private void dropStaleAssignments(Schedule s, int[] pool, Map<UUID, Integer> workerIndex) {
+        Set<Integer> poolSet = new HashSet<>();
+        for (int w : pool) poolSet.add(w);
+
+        s.getAssignments().removeIf(a -> {
+            if (a.getStatus() != AssignmentStatus.ASSIGNED) return false;
+            Integer w = workerIndex.get(a.getMember().getId());
+            return w != null && !poolSet.contains(w);
+        });
+
+        long assignedCount = s.getAssignments().stream()
+                .filter(a -> a.getStatus() == AssignmentStatus.ASSIGNED)
+                .count();
+        for (int i = s.getAssignments().size() - 1; i >= 0 && assignedCount > s.getRequiredHeadcount(); i--) {
+            ScheduleAssignment a = s.getAssignments().get(i);
+            if (a.getStatus() != AssignmentStatus.ASSIGNED || !workerIndex.containsKey(a.getMember().getId())) continue;
+            s.getAssignments().remove(i);
+            assignedCount--;
+        }
+    }
+
+    private long resolveAutoAssignSeed(SchedulePeriod period, AutoAssignRequest req) {
+        if (req != null && req.getSeed() != null) return req.getSeed();
+        if (period.getAutoAssignSeed() != null) return period.getAutoAssignSeed();
+        return ThreadLocalRandom.current().nextLong();
+    }
+
     /**
      * 스케쥴 수동 편집 후 최종 편성안 반영
      */
@@ -1326,6 +2137,9 @@ public class ScheduleService {
         // 역할 가능 여부 캐시
         Map<UUID, Set<UUID>> roleCache = new HashMap<>();
 
+        // 멤버별 배치된 시간대 인덱스 (같은 날 겹치는 슬롯 중복 배치 방지)
+        WorkerIntervalIndex<UUID> busy = new WorkerIntervalIndex<>();
+
         // 요청에 따라 배치 생성
         for (UpdateScheduleAssignmentsRequest.Item item : req.getItems()) {
             Schedule s = scheduleMap.get(item.getScheduleId());
@@ -1350,6 +2164,11 @@ public class ScheduleService {
                     throw new IllegalStateException("해당 역할을 수행할 수 없는 멤버가 포함되어 있습니다. memberId=" + memberId);
                 }
 
+                // 시간 겹침 체크
+                if (!busy.tryAdd(memberId, s.getWorkDate(), s.getStartTime(), s.getEndTime())) {
+                    throw new IllegalStateException("같은 시간대에 이미 다른 슬롯에 배치된 멤버가 포함되어 있습니다. memberId=" + memberId);
+                }
+
                 // 실제 Assignment 생성 (Member 기준)
                 ScheduleAssignment.create(s, member);
             }
@@ -1461,6 +2280,11 @@ public class ScheduleService {
             base = String.format("PERIOD_%s_%s", period.getStartDate(), period.getEndDate());
         }
 
+        return uniqueTemplateName(companyId, base); // ex) <기존이름>-TEMPLATE
+    }
+
+    // <base>-TEMPLATE, 이미 있으면 <base>-TEMPLATE-2, -3 ...
+    private String uniqueTemplateName(UUID companyId, String base) {
         String name = base + "-TEMPLATE";
         int suffix = 2;
 
@@ -1469,7 +2293,7 @@ public class ScheduleService {
             suffix++;
         }
 
-        return name; // ex) <기존이름>-TEMPLATE
+        return name;
     }
 
     /// ====== 검증 메서드 ======
@@ -1486,6 +2310,74 @@ public class ScheduleService {
         }
     }
     // 기간 겹침 확인
+    private record SubmissionContext(Company company, SchedulePeriod period, Member member, Set<UUID> allowedRoleIds) {}
+
+    // 가용 시간 제출 공통 검증 (OPEN + 마감 전 + 매장 소속 + 고정 근무자 아님) 후 멤버의 역할군까지 로드
+    private SubmissionContext loadSubmissionContext(UUID memberId, UUID companyId, UUID periodId) {
+        Company company = companyRepository.findById(companyId)
+                .orElseThrow(() -> new IllegalArgumentException("Company not found"));
+        SchedulePeriod period = schedulePeriodRepository.findById(periodId)
+                .orElseThrow(() -> new IllegalArgumentException("SchedulePeriod not found"));
+
+        if (!period.getCompany().getId().equals(companyId)) {
+            throw new IllegalStateException("해당 매장의 스케쥴 기간이 아닙니다.");
+        }
+        if (period.getStatus() != PeriodStatus.OPEN) {
+            throw new IllegalStateException("현재 가용 시간을 제출할 수 없는 상태입니다.");
+        }
+        if (period.getAvailabilityDueAt() != null && LocalDateTime.now().isAfter(period.getAvailabilityDueAt())) {
+            throw new IllegalStateException("가용 시간 제출 마감 시간이 지났습니다.");
+        }
+
+        CompanyMember cm = companyMemberRepository.findByCompanyIdAndMemberId(companyId, memberId)
+                .orElseThrow(() -> new IllegalStateException("해당 매장에 속한 멤버가 아닙니다."));
+
+        if (cm.isFixedShiftWorker()) {
+            throw new IllegalStateException("고정 근무자는 가용 시간 제출 대상이 아닙니다.");
+        }
+
+        Member member = cm.getMember();
+
+        // 멤버의 가능한 역할 목록
+        Set<UUID> allowedRoleIds = companyMemberRoleRepository.findByCompanyIdAndMemberId(companyId, member.getId()).stream()
+                .map(cmr -> cmr.getRole().getId())
+                .collect(Collectors.toSet());
+
+        return new SubmissionContext(company, period, member, allowedRoleIds);
+    }
+
+    // 제출 슬롯 검증: 해당 company, period, 역할
+    private void validateSubmittedSlots(List<Schedule> slots, UUID companyId, UUID periodId, Set<UUID> allowedRoleIds) {
+        for (Schedule s : slots) {
+            if (!s.getPeriod().getId().equals(periodId)) {
+                throw new IllegalStateException("다른 기간의 스케쥴 슬롯이 포함되어 있습니다.");
+            }
+            if (!s.getCompany().getId().equals(companyId)) {
+                throw new IllegalStateException("다른 매장의 스케쥴 슬롯이 포함되어 있습니다.");
+            }
+            if (!allowedRoleIds.contains(s.getRole().getId())) {
+                throw new IllegalStateException("해당 멤버가 수행할 수 없는 역할의 슬롯이 포함되어 있습니다.");
+            }
+        }
+    }
+
+    // 변경분 검증: 추가/삭제 중복 없음 + 추가 슬롯 존재 + 해당 company, period, 역할
+    private List<Schedule> validatePatchSlots(SubmissionContext ctx, UUID companyId, UUID periodId, Set<UUID> added, Set<UUID> removed) {
+        if (added.stream().anyMatch(removed::contains)) {
+            throw new IllegalArgumentException("같은 슬롯을 추가와 삭제에 동시에 넣을 수 없습니다.");
+        }
+        if (added.isEmpty()) {
+            return List.of();
+        }
+
+        List<Schedule> slots = scheduleRepository.findAllById(added);
+        if (slots.size() != added.size()) {
+            throw new IllegalArgumentException("존재하지 않는 스케쥴 슬롯이 포함되어 있습니다.");
+        }
+        validateSubmittedSlots(slots, companyId, periodId, ctx.allowedRoleIds());
+        return slots;
+    }
+
     private void validateNoPeriodOverlap(UUID companyId, LocalDate start, LocalDate end) {
         if (schedulePeriodRepository.existsOverlapping(companyId, start, end)) {
             throw new IllegalStateException("해당 기간에 이미 다른 스케줄 기간이 존재합니다.");
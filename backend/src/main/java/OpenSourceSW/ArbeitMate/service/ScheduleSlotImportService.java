@@ -0,0 +1,136 @@
+package OpenSourceSW.ArbeitMate.service;
+
+import OpenSourceSW.ArbeitMate.domain.*;
+import OpenSourceSW.ArbeitMate.domain.enums.PeriodStatus;
+import OpenSourceSW.ArbeitMate.dto.request.CreateScheduleSlotRequest;
+import OpenSourceSW.ArbeitMate.dto.response.SlotImportResponse;
+import OpenSourceSW.ArbeitMate.repository.CompanyRepository;
+import OpenSourceSW.ArbeitMate.repository.CompanyRoleRepository;
+import OpenSourceSW.ArbeitMate.repository.SchedulePeriodRepository;
+import OpenSourceSW.ArbeitMate.repository.ScheduleRepository;
+import OpenSourceSW.ArbeitMate.scheduling.PeriodSnapshotCache;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+
+/**
+ * 대량 슬롯 스트리밍 생성
+ * 요청 본문을 한 건씩 읽으면서 CHUNK_SIZE 개마다 저장(배치 INSERT) -> flush -> 영속성 컨텍스트 비우기를 반복해
+ * 슬롯 수와 관계없이 메모리 사용량이 일정하다. 한 건이라도 잘못되면 전체를 롤백한다 (createSlots 와 동일).
+ */
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class ScheduleSlotImportService {
+
+    static final int CHUNK_SIZE = 500;
+    public static final int MAX_SLOTS = 50_000; // 한 번에 스트리밍으로 생성할 수 있는 최대 슬롯 수
+
+    private final CompanyRepository companyRepository;
+    private final SchedulePeriodRepository schedulePeriodRepository;
+    private final CompanyRoleRepository companyRoleRepository;
+    private final ScheduleRepository scheduleRepository;
+    private final PeriodSnapshotCache periodSnapshotCache;
+    private final EntityManager entityManager;
+
+    @Transactional
+    public SlotImportResponse importSlots(UUID ownerId, UUID companyId, UUID periodId, Iterator<CreateScheduleSlotRequest> slots) {
+        /// 유효성 검증
+        Company company = companyRepository.findById(companyId)
+                .orElseThrow(() -> new IllegalArgumentException("Company not found"));
+
+        if (!company.getOwner().getId().equals(ownerId)) {
+            throw new IllegalStateException("해당 매장의 사장만 이 작업을 수행할 수 있습니다.");
+        }
+
+        SchedulePeriod period = schedulePeriodRepository.findById(periodId)
+                .orElseThrow(() -> new IllegalArgumentException("SchedulePeriod not found"));
+
+        if (!period.getCompany().getId().equals(companyId)) {
+            throw new IllegalStateException("해당 매장의 스케쥴 기간이 아닙니다.");
+        }
+        if (period.getStatus() != PeriodStatus.DRAFT) {
+            throw new IllegalStateException("DRAFT 상태의 기간에서만 슬롯을 생성할 수 있습니다.");
+        }
+
+        // 본문을 다 읽기 전에는 쓰이는 역할군을 알 수 없으므로 매장 역할군을 한 번에 불러 둔다 (매장당 수 개)
+        Set<UUID> roleIds = new HashSet<>();
+        companyRoleRepository.findByCompanyId(companyId).forEach(r -> roleIds.add(r.getId()));
+
+        /// 한 건씩 검증 + CHUNK_SIZE 개마다 저장
+        List<Schedule> chunk = new ArrayList<>(CHUNK_SIZE);
+        Refs refs = new Refs(company, period, new HashMap<>());
+        int index = 0;
+        while (slots.hasNext()) {
+            CreateScheduleSlotRequest slotReq = slots.next();
+            if (index >= MAX_SLOTS) {
+                throw new IllegalArgumentException("한 번에 생성할 수 있는 슬롯은 최대 " + MAX_SLOTS + "개입니다.");
+            }
+            chunk.add(toSchedule(index, slotReq, period, roleIds, refs));
+            index++;
+
+            if (chunk.size() == CHUNK_SIZE) {
+                scheduleRepository.saveAll(chunk);
+                entityManager.flush();
+                entityManager.clear(); // 저장한 슬롯을 컨텍스트에서 내려 메모리 유지
+                chunk.clear();
+                refs = new Refs(
+                        entityManager.getReference(Company.class, companyId),
+                        entityManager.getReference(SchedulePeriod.class, periodId),
+                        new HashMap<>()
+                );
+            }
+        }
+        if (!chunk.isEmpty()) scheduleRepository.saveAll(chunk);
+        if (index == 0) {
+            throw new IllegalArgumentException("생성할 슬롯이 없습니다.");
+        }
+
+        periodSnapshotCache.evict(periodId);
+
+        return SlotImportResponse.builder()
+                .periodId(periodId)
+                .createdCount(index)
+                .build();
+    }
+
+    /** 현재 영속성 컨텍스트 기준 참조 (clear 후에는 새로 잡는다) */
+    private record Refs(Company company, SchedulePeriod period, Map<UUID, CompanyRole> roles) {}
+
+    private Schedule toSchedule(int index, CreateScheduleSlotRequest slotReq, SchedulePeriod period,
+                                Set<UUID> roleIds, Refs refs) {
+        if (slotReq == null || slotReq.getRoleId() == null || slotReq.getWorkDate() == null
+                || slotReq.getStartTime() == null || slotReq.getEndTime() == null) {
+            throw new IllegalArgumentException("slots[" + index + "]: 역할군, 날짜, 시작/종료 시간은 필수입니다.");
+        }
+
+        // 기간 범위 체크
+        if (slotReq.getWorkDate().isBefore(period.getStartDate()) || slotReq.getWorkDate().isAfter(period.getEndDate())) {
+            throw new IllegalArgumentException("slots[" + index + "]: 기간 범위를 벗어난 날짜입니다.");
+        }
+
+        // 역할군 회사 일치 여부 검증
+        if (!roleIds.contains(slotReq.getRoleId())) {
+            throw new IllegalStateException("slots[" + index + "]: 해당 매장의 역할군이 아닙니다.");
+        }
+        CompanyRole role = refs.roles().computeIfAbsent(slotReq.getRoleId(),
+                id -> entityManager.getReference(CompanyRole.class, id));
+
+        try {
+            return Schedule.createDetached(
+                    refs.company(),
+                    refs.period(),
+                    role,
+                    slotReq.getWorkDate(),
+                    slotReq.getStartTime(),
+                    slotReq.getEndTime(),
+                    slotReq.getRequiredHeadCount()
+            );
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("slots[" + index + "]: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package OpenSourceSW.ArbeitMate.service;
+
+import OpenSourceSW.ArbeitMate.domain.*;
+import OpenSourceSW.ArbeitMate.domain.enums.PeriodStatus;
+import OpenSourceSW.ArbeitMate.dto.request.CreateSlotRecurrenceRequest;
+import OpenSourceSW.ArbeitMate.dto.response.ScheduleSlotResponse;
+import OpenSourceSW.ArbeitMate.dto.response.SlotRecurrenceResponse;
+import OpenSourceSW.ArbeitMate.repository.*;
+import OpenSourceSW.ArbeitMate.scheduling.RecurrenceRule;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.*;
+
+/**
+ * 반복 슬롯 규칙 관리
+ * DRAFT 기간 동안은 규칙만 저장하고 조회 시 펼쳐서(가상 슬롯, scheduleId = null) 보여준다.
+ * 가용 시간 제출을 열 때(openSchedulePeriod) materialize 로 실제 슬롯을 만든다.
+ * 제출/배치/급여가 모두 scheduleId 를 기준으로 동작하므로 OPEN 이후에는 규칙이 남아 있지 않다.
+ */
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class SlotRecurrenceService {
+
+    private final CompanyRepository companyRepository;
+    private final CompanyRoleRepository companyRoleRepository;
+    private final SchedulePeriodRepository schedulePeriodRepository;
+    private final ScheduleRepository scheduleRepository;
+    private final SlotRecurrenceRepository slotRecurrenceRepository;
+
+    /**
+     * 반복 규칙 추가
+     */
+    @Transactional
+    public SlotRecurrenceResponse createRecurrence(UUID ownerId, UUID companyId, UUID periodId, CreateSlotRecurrenceRequest req) {
+        SchedulePeriod period = loadDraftPeriod(ownerId, companyId, periodId);
+
+        CompanyRole role = companyRoleRepository.findById(req.getRoleId())
+                .orElseThrow(() -> new IllegalArgumentException("Role not found"));
+        if (!role.getCompany().getId().equals(companyId)) {
+            throw new IllegalStateException("다른 매장의 역할군입니다.");
+        }
+
+        RecurrenceRule rule = RecurrenceRule.parse(req.getRrule());
+        LocalDate anchor = (req.getAnchorDate() != null) ? req.getAnchorDate() : period.getStartDate();
+
+        SlotRecurrence recurrence = SlotRecurrence.create(period, role, rule, anchor,
+                req.getStartTime(), req.getEndTime(), req.getRequiredHeadCount());
+        if (req.getExceptionDates() != null) {
+            req.getExceptionDates().forEach(recurrence::addExceptionDate);
+        }
+        if (recurrence.occurrences().isEmpty()) {
+            throw new IllegalArgumentException("이 기간 안에서 반복 규칙에 해당하는 날짜가 없습니다.");
+        }
+
+        slotRecurrenceRepository.save(recurrence);
+        return SlotRecurrenceResponse.from(recurrence);
+    }
+
+    /**
+     * 기간의 반복 규칙 목록
+     */
+    public List<SlotRecurrenceResponse> getRecurrences(UUID ownerId, UUID companyId, UUID periodId) {
+        loadPeriod(ownerId, companyId, periodId);
+
+        return slotRecurrenceRepository.findWithRoleByPeriodId(periodId).stream()
+                .map(SlotRecurrenceResponse::from)
+                .toList();
+    }
+
+    /**
+     * 예외 날짜 추가 (해당 날짜만 반복에서 제외)
+     */
+    @Transactional
+    public SlotRecurrenceResponse addExceptionDate(UUID ownerId, UUID companyId, UUID periodId, UUID recurrenceId, LocalDate date) {
+        loadDraftPeriod(ownerId, companyId, periodId);
+        SlotRecurrence recurrence = loadRecurrence(periodId, recurrenceId);
+
+        recurrence.addExceptionDate(date);
+        return SlotRecurrenceResponse.from(recurrence);
+    }
+
+    /**
+     * 예외 날짜 해제
+     */
+    @Transactional
+    public SlotRecurrenceResponse removeExceptionDate(UUID ownerId, UUID companyId, UUID periodId, UUID recurrenceId, LocalDate date) {
+        loadDraftPeriod(ownerId, companyId, periodId);
+        SlotRecurrence recurrence = loadRecurrence(periodId, recurrenceId);
+
+        recurrence.removeExceptionDate(date);
+        return SlotRecurrenceResponse.from(recurrence);
+    }
+
+    /**
+     * 반복 규칙 삭제
+     */
+    @Transactional
+    public void deleteRecurrence(UUID ownerId, UUID companyId, UUID periodId, UUID recurrenceId) {
+        loadDraftPeriod(ownerId, companyId, periodId);
+        slotRecurrenceRepository.delete(loadRecurrence(periodId, recurrenceId));
+    }
+
+    /**
+     * DRAFT 기간의 반복 규칙을 펼친 가상 슬롯 (저장되지 않은 슬롯이므로 scheduleId = null)
+     * DRAFT 가 아니면 규칙이 이미 실제 슬롯으로 바뀌었으므로 빈 목록
+     */
+    public List<ScheduleSlotResponse> expandVirtualSlots(SchedulePeriod period) {
+        if (period.getStatus() != PeriodStatus.DRAFT) {
+            return List.of();
+        }
+
+        List<ScheduleSlotResponse> slots = new ArrayList<>();
+        for (SlotRecurrence r : slotRecurrenceRepository.findWithRoleByPeriodId(period.getId())) {
+            for (LocalDate date : r.occurrences()) {
+                slots.add(ScheduleSlotResponse.builder()
+                        .roleId(r.getRole().getId())
+                        .roleName(r.getRole().getName())
+                        .workDate(date)
+                        .startTime(r.getStartTime())
+                        .endTime(r.getEndTime())
+                        .requiredHeadCount(r.getRequiredHeadcount())
+                        .build());
+            }
+        }
+        return slots;
+    }
+
+    /**
+     * 반복 규칙을 실제 슬롯으로 변환하고 규칙을 삭제
+     * 같은 (역할, 날짜, 시작, 종료) 슬롯이 이미 있으면 건너뛴다 (직접 만든 슬롯 우선).
+     * @return 새로 만든 슬롯 수
+     */
+    @Transactional
+    public int materialize(SchedulePeriod period) {
+        List<SlotRecurrence> recurrences = slotRecurrenceRepository.findWithRoleByPeriodId(period.getId());
+        if (recurrences.isEmpty()) {
+            return 0;
+        }
+
+        Set<SlotKey> existing = new HashSet<>();
+        for (Schedule s : scheduleRepository.findByPeriod(period)) {
+            existing.add(new SlotKey(s.getRole().getId(), s.getWorkDate(), s.getStartTime(), s.getEndTime()));
+        }
+
+        List<Schedule> created = new ArrayList<>();
+        for (SlotRecurrence r : recurrences) {
+            for (LocalDate date : r.occurrences()) {
+                if (!existing.add(new SlotKey(r.getRole().getId(), date, r.getStartTime(), r.getEndTime()))) continue;
+                created.add(Schedule.createDetached(period.getCompany(), period, r.getRole(),
+                        date, r.getStartTime(), r.getEndTime(), r.getRequiredHeadcount()));
+            }
+        }
+
+        scheduleRepository.saveAll(created);
+        slotRecurrenceRepository.deleteAll(recurrences);
+        return created.size();
+    }
+
+    /**
+     * 원본 기간의 반복 규칙을 days 만큼 밀어서 대상 기간으로 복제 (기간 복제용)
+     * 밀린 규칙이 원래 날짜들을 그대로 옮기지 못하는 경우(격주 규칙을 요일이 바뀌게 민 경우 등)에는
+     * 옮겨진 날짜들을 실제 슬롯으로 만든다.
+     * @return 복제한 규칙 수
+     */
+    @Transactional
+    public int copyShifted(SchedulePeriod source, SchedulePeriod target, long days) {
+        List<SlotRecurrence> copies = new ArrayList<>();
+        List<Schedule> fallback = new ArrayList<>();
+
+        for (SlotRecurrence r : slotRecurrenceRepository.findWithRoleByPeriodId(source.getId())) {
+            List<LocalDate> expected = r.occurrences().stream().map(d -> d.plusDays(days)).toList();
+            SlotRecurrence copy = r.copyShifted(target, days);
+            if (copy.occurrences().equals(expected)) {
+                copies.add(copy);
+                continue;
+            }
+            for (LocalDate date : expected) {
+                fallback.add(Schedule.createDetached(target.getCompany(), target, r.getRole(),
+                        date, r.getStartTime(), r.getEndTime(), r.getRequiredHeadcount()));
+            }
+        }
+
+        slotRecurrenceRepository.saveAll(copies);
+        scheduleRepository.saveAll(fallback);
+        return copies.size();
+    }
+
+    private record SlotKey(UUID roleId, LocalDate workDate, LocalTime startTime, LocalTime endTime) {}
+
+    private SchedulePeriod loadPeriod(UUID ownerId, UUID companyId, UUID periodId) {
+        Company company = companyRepository.findById(companyId)
+                .orElseThrow(() -> new IllegalArgumentException("Company not found"));
+        if (!company.getOwner().getId().equals(ownerId)) {
+            throw new IllegalStateException("해당 매장의 사장만 이 작업을 수행할 수 있습니다.");
+        }
+
+        SchedulePeriod period = schedulePeriodRepository.findById(periodId)
+                .orElseThrow(() -> new IllegalArgumentException("SchedulePeriod not found"));
+        if (!period.getCompany().getId().equals(companyId)) {
+            throw new IllegalStateException("해당 매장의 스케쥴 기간이 아닙니다.");
+        }
+        return period;
+    }
+
+    private SchedulePeriod loadDraftPeriod(UUID ownerId, UUID companyId, UUID periodId) {
+        SchedulePeriod period = loadPeriod(ownerId, companyId, periodId);
+        if (period.getStatus() != PeriodStatus.DRAFT) {
+            throw new IllegalStateException("DRAFT 상태의 기간에서만 반복 규칙을 수정할 수 있습니다.");
+        }
+        return period;
+    }
+
+    private SlotRecurrence loadRecurrence(UUID periodId, UUID recurrenceId) {
+        SlotRecurrence recurrence = slotRecurrenceRepository.findById(recurrenceId)
+                .orElseThrow(() -> new IllegalArgumentException("SlotRecurrence not found"));
+        if (!recurrence.getPeriod().getId().equals(periodId)) {
+            throw new IllegalStateException("해당 기간의 반복 규칙이 아닙니다.");
+        }
+        return recurrence;
+    }
+}
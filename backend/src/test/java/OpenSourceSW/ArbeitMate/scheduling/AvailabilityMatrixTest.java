@@ -0,0 +1,29 @@
+package OpenSourceSW.ArbeitMate.scheduling;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class AvailabilityMatrixTest {
+
+    @Test
+    @DisplayName("가용 비트셋 - 후보는 가능 제출 & 역할 가능 & 미배정인 근무자만, 64명 경계를 넘어도 정확하다")
+    void candidates_intersectsWillingEligibleAndUnassigned() {
+        // 근무자 130명(워드 3개), 슬롯 2개, 역할 2개
+        AvailabilityMatrix matrix = new AvailabilityMatrix(130, 2, 2);
+        matrix.setSlotRole(0, 0);
+        matrix.setSlotRole(1, 1);
+
+        for (int w : new int[]{1, 63, 64, 100, 129}) matrix.markWilling(0, w);
+        for (int w : new int[]{1, 64, 100, 129}) matrix.markEligible(0, w); // 63은 역할 불가
+        matrix.markAssigned(0, 100); // 100은 이미 배정
+
+        matrix.markWilling(1, 1);
+        matrix.markEligible(0, 1); // 슬롯 1의 역할(1)이 아니므로 후보 아님
+
+        assertThat(matrix.candidates(0)).containsExactly(1, 64, 129);
+        assertThat(matrix.candidates(1)).isEmpty();
+        assertThat(matrix.isAssigned(0, 100)).isTrue();
+    }
+}
@@ -0,0 +1,61 @@
+package OpenSourceSW.ArbeitMate.scheduling;
+
+import OpenSourceSW.ArbeitMate.domain.Company;
+import OpenSourceSW.ArbeitMate.domain.Member;
+import OpenSourceSW.ArbeitMate.domain.MemberAvailability;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class AvailabilityPatternIndexTest {
+
+    @Test
+    @DisplayName("가용시간 패턴 인덱스 - 요일/유효기간/시간 겹침 판정이 패턴 직접 비교와 같다")
+    void matches_sameAsPatternScan() {
+        Member owner = Member.create("owner@test.com", "사장");
+        Company company = Company.create("카페 A", owner, "서울", "CODE1");
+        Member w = Member.create("w1@test.com", "알바1");
+
+        // 월 09~13 (무기한), 월 18~22 (12월만), 수 14~18 (11/1~)
+        List<MemberAvailability> patterns = List.of(
+                MemberAvailability.create(company, w, 0, LocalTime.of(18, 0), LocalTime.of(22, 0),
+                        LocalDate.of(2025, 12, 1), LocalDate.of(2025, 12, 31)),
+                MemberAvailability.create(company, w, 0, LocalTime.of(9, 0), LocalTime.of(13, 0),
+                        LocalDate.of(2025, 11, 1), null),
+                MemberAvailability.create(company, w, 2, LocalTime.of(14, 0), LocalTime.of(18, 0),
+                        LocalDate.of(2025, 11, 1), null));
+
+        AvailabilityPatternIndex index = new AvailabilityPatternIndex(patterns);
+
+        LocalDate decMon = LocalDate.of(2025, 12, 8);
+        LocalDate janMon = LocalDate.of(2026, 1, 5);
+        LocalDate octWed = LocalDate.of(2025, 10, 29);
+        LocalDate decWed = LocalDate.of(2025, 12, 10);
+
+        assertThat(index.matches(decMon, LocalTime.of(10, 0), LocalTime.of(12, 0))).isTrue();
+        assertThat(index.matches(decMon, LocalTime.of(19, 0), LocalTime.of(23, 0))).isTrue();
+        assertThat(index.matches(janMon, LocalTime.of(19, 0), LocalTime.of(23, 0))).isFalse(); // 12월 패턴 종료
+        assertThat(index.matches(decMon, LocalTime.of(14, 0), LocalTime.of(17, 0))).isFalse(); // 사이 빈 시간
+        assertThat(index.matches(decMon, LocalTime.of(13, 0), LocalTime.of(15, 0))).isTrue(); // 경계가 맞닿음
+        assertThat(index.matches(octWed, LocalTime.of(14, 0), LocalTime.of(18, 0))).isFalse(); // 시작 전
+        assertThat(index.matches(decWed, LocalTime.of(14, 0), LocalTime.of(18, 0))).isTrue();
+        assertThat(index.matches(decWed.plusDays(1), LocalTime.of(14, 0), LocalTime.of(18, 0))).isFalse(); // 목
+
+        // 기존 판정(패턴 전체 훑기)과 전 구간 비교
+        for (LocalDate d = LocalDate.of(2025, 10, 27); d.isBefore(LocalDate.of(2026, 1, 12)); d = d.plusDays(1)) {
+            int dow = d.getDayOfWeek().getValue() - 1;
+            for (int h = 6; h < 23; h++) {
+                LocalDate date = d;
+                LocalTime start = LocalTime.of(h, 0), end = LocalTime.of(h + 1, 0);
+                boolean expected = patterns.stream()
+                        .anyMatch(p -> p.getDow() == dow && p.isEffectiveOn(date) && p.overlaps(start, end));
+                assertThat(index.matches(date, start, end)).as("%s %s", date, start).isEqualTo(expected);
+            }
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package OpenSourceSW.ArbeitMate.scheduling;
+
+import OpenSourceSW.ArbeitMate.scheduling.impl.FairAssignmentEngine;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+class FairAssignmentEngineTest {
+
+    private final FairAssignmentEngine fair = new FairAssignmentEngine();
+
+    private static final int MONDAY = 20_409; // 2025-11-17 (월)
+
+    @Test
+    @DisplayName("균등 배치 - 모두 가능한 슬롯은 누적 근무시간이 적은 근무자에게 돌아간다")
+    void assign_picksLeastLoadedCandidate() {
+        // given : 하루 1슬롯 x 6일, 3명 모두 가능 -> 2개씩 나눠 가져야 함
+        AssignmentProblem.Builder b = AssignmentProblem.builder(3);
+        for (int d = 0; d < 6; d++) {
+            b.addSlot(MONDAY + d, 600, 840, 1, new int[]{0, 1, 2});
+        }
+
+        // when
+        AssignmentResult result = fair.assign(b.build());
+
+        // then
+        int[] count = new int[3];
+        for (int s = 0; s < 6; s++) {
+            for (int w : result.assignedWorkers(s)) count[w]++;
+        }
+        assertThat(count).containsExactly(2, 2, 2);
+    }
+
+    @Test
+    @DisplayName("균등 배치 - 주간 최대 근무시간을 넘기는 후보는 건너뛰고, 최소 근무시간 미달자를 먼저 채운다")
+    void assign_respectsWeeklyHours() {
+        // given : 4시간 슬롯 3개(같은 주)
+        //  - 근무자 0: 주 최대 4시간 -> 1개만
+        //  - 근무자 1: 주 최소 8시간 -> 누적이 더 많아도 먼저 뽑힘
+        AssignmentProblem.Builder b = AssignmentProblem.builder(3);
+        b.addSlot(MONDAY, 600, 840, 1, new int[]{0, 1, 2});
+        b.addSlot(MONDAY + 1, 600, 840, 1, new int[]{0, 1, 2});
+        b.addSlot(MONDAY + 2, 600, 840, 1, new int[]{0, 2});
+        b.weeklyHours(0, null, 4);
+        b.weeklyHours(1, 8, null);
+
+        // when
+        AssignmentResult result = fair.assign(b.build());
+
+        // then
+        assertThat(result.assignedWorkers(0)).containsExactly(1);
+        assertThat(result.assignedWorkers(1)).containsExactly(1);
+        assertThat(result.assignedWorkers(2)).containsExactly(0);
+    }
+
+    @Test
+    @DisplayName("균등 배치 - 한 달(2000 슬롯, 150명) 규모에서 근무시간 편차가 작다")
+    void assign_monthlyScale_balancesMinutes() {
+        Random random = new Random(7);
+        int workers = 150;
+        AssignmentProblem.Builder b = AssignmentProblem.builder(workers);
+        for (int s = 0; s < 2000; s++) {
+            int day = MONDAY + s % 31;
+            int start = 540 + (s % 4) * 180;
+            int[] candidates = random.ints(0, workers).distinct().limit(40).sorted().toArray();
+            b.addSlot(day, start, start + 180, 1, candidates);
+        }
+
+        AssignmentResult result = fair.assign(b.build());
+
+        int[] minutes = new int[workers];
+        for (int s = 0; s < 2000; s++) {
+            for (int w : result.assignedWorkers(s)) minutes[w] += 180;
+        }
+        int min = Integer.MAX_VALUE, max = 0;
+        for (int m : minutes) { min = Math.min(min, m); max = Math.max(max, m); }
+
+        assertThat(result.filledCount()).isEqualTo(2000);
+        assertThat(max - min).isLessThanOrEqualTo(3 * 180);
+    }
+}
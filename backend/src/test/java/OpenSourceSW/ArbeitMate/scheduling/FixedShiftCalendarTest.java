@@ -0,0 +1,43 @@
+package OpenSourceSW.ArbeitMate.scheduling;
+
+import OpenSourceSW.ArbeitMate.domain.Company;
+import OpenSourceSW.ArbeitMate.domain.CompanyRole;
+import OpenSourceSW.ArbeitMate.domain.FixedShift;
+import OpenSourceSW.ArbeitMate.domain.Member;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class FixedShiftCalendarTest {
+
+    @Test
+    @DisplayName("고정 근무 요일 인덱스 - 해당 요일 패턴 중 유효 기간에 든 것만 돌려준다")
+    void effectiveOn_filtersByDowAndEffectiveRange() {
+        Member owner = Member.create("owner@test.com", "사장");
+        Company company = Company.create("카페 A", owner, "서울", "CODE1");
+        CompanyRole hall = CompanyRole.create(company, "홀");
+        Member w = Member.create("w1@test.com", "알바1");
+
+        // 월요일: 11/1~무기한, 12/1~12/31 / 화요일: 11/1~무기한
+        FixedShift monOpen = FixedShift.create(company, w, hall, 0,
+                LocalTime.of(9, 0), LocalTime.of(13, 0), LocalDate.of(2025, 11, 1), null);
+        FixedShift monDecember = FixedShift.create(company, w, hall, 0,
+                LocalTime.of(14, 0), LocalTime.of(18, 0), LocalDate.of(2025, 12, 1), LocalDate.of(2025, 12, 31));
+        FixedShift tue = FixedShift.create(company, w, hall, 1,
+                LocalTime.of(9, 0), LocalTime.of(13, 0), LocalDate.of(2025, 11, 1), null);
+
+        FixedShiftCalendar calendar = new FixedShiftCalendar(List.of(monDecember, tue, monOpen));
+
+        assertThat(calendar.effectiveOn(LocalDate.of(2025, 11, 17))).containsExactly(monOpen); // 월
+        assertThat(calendar.effectiveOn(LocalDate.of(2025, 12, 8))).containsExactly(monOpen, monDecember); // 월
+        assertThat(calendar.effectiveOn(LocalDate.of(2026, 1, 5))).containsExactly(monOpen); // 월, 12월 패턴 종료
+        assertThat(calendar.effectiveOn(LocalDate.of(2025, 11, 18))).containsExactly(tue); // 화
+        assertThat(calendar.effectiveOn(LocalDate.of(2025, 10, 28))).isEmpty(); // 화, 시작 전
+        assertThat(calendar.effectiveOn(LocalDate.of(2025, 11, 19))).isEmpty(); // 수
+    }
+}
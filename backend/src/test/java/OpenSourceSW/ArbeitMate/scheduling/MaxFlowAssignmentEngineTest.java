@@ -0,0 +1,156 @@
+package OpenSourceSW.ArbeitMate.scheduling;
+
+import OpenSourceSW.ArbeitMate.scheduling.impl.MaxFlowAssignmentEngine;
+import OpenSourceSW.ArbeitMate.scheduling.impl.RandomGreedyAssignmentEngine;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+class MaxFlowAssignmentEngineTest {
+
+    private final MaxFlowAssignmentEngine maxFlow = new MaxFlowAssignmentEngine();
+    private final RandomGreedyAssignmentEngine greedy = new RandomGreedyAssignmentEngine();
+
+    private static final int DAY = 20_000;
+
+    @Test
+    @DisplayName("최대 유량 배치 - 근무자 최대 배치 수 제한이 있어도 채울 수 있는 인원을 모두 채운다")
+    void assign_fillsMaximumHeadcount() {
+        // given : 근무자 0은 두 슬롯 모두 가능, 근무자 1은 슬롯 0만 가능 (각자 1개 슬롯까지)
+        AssignmentProblem.Builder b = AssignmentProblem.builder(2);
+        b.addSlot(DAY, 600, 840, 1, new int[]{0, 1});
+        b.addSlot(DAY + 1, 600, 840, 1, new int[]{0});
+        b.workerCapacity(0, 1).workerCapacity(1, 1);
+
+        // when
+        AssignmentResult result = maxFlow.assign(b.build());
+
+        // then
+        assertThat(result.filledCount()).isEqualTo(2);
+        assertThat(result.assignedWorkers(0)).containsExactly(1);
+        assertThat(result.assignedWorkers(1)).containsExactly(0);
+    }
+
+    @Test
+    @DisplayName("최대 유량 배치 - 남은 정원보다 많이 배치하지 않는다")
+    void assign_respectsRemainingHeadcount() {
+        AssignmentProblem.Builder b = AssignmentProblem.builder(3);
+        b.addSlot(DAY, 600, 840, 2, new int[]{0, 1, 2});
+
+        AssignmentResult result = maxFlow.assign(b.build());
+
+        assertThat(result.assignedWorkers(0)).hasSize(2).doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("최대 유량 배치 - 같은 날 겹치는 두 슬롯에 한 근무자를 동시에 배치하지 않는다")
+    void assign_neverDoubleBooksOverlappingSlots() {
+        // given : 근무자 0은 10~14 홀, 12~16 주방 둘 다 가능 / 근무자 1은 홀만 가능
+        AssignmentProblem.Builder b = AssignmentProblem.builder(2);
+        b.addSlot(DAY, 600, 840, 1, new int[]{0, 1});
+        b.addSlot(DAY, 720, 960, 1, new int[]{0});
+
+        // when
+        AssignmentResult result = maxFlow.assign(b.build());
+
+        // then : 근무자 1 -> 홀, 근무자 0 -> 주방
+        assertThat(result.assignedWorkers(0)).containsExactly(1);
+        assertThat(result.assignedWorkers(1)).containsExactly(0);
+    }
+
+    @Test
+    @DisplayName("최대 유량 배치 - 이어서 겹치는 묶음이라도 실제로 겹치지 않는 슬롯은 같은 근무자로 채운다")
+    void assign_fillsNonOverlappingSlotsInsideChain() {
+        // given : A(9~12) - B(11~15) - C(14~18), A 와 C 는 겹치지 않음
+        AssignmentProblem.Builder b = AssignmentProblem.builder(1);
+        b.addSlot(DAY, 540, 720, 1, new int[]{0});
+        b.addSlot(DAY, 660, 900, 1, new int[]{0});
+        b.addSlot(DAY, 840, 1080, 1, new int[]{0});
+
+        // when
+        AssignmentResult result = maxFlow.assign(b.build());
+
+        // then
+        assertThat(result.assignedWorkers(0)).containsExactly(0);
+        assertThat(result.assignedWorkers(1)).isEmpty();
+        assertThat(result.assignedWorkers(2)).containsExactly(0);
+    }
+
+    @Test
+    @DisplayName("랜덤 그리디 배치 - 시간이 겹치는 후보는 건너뛰고 다음 후보로 채운다")
+    void greedy_skipsOverlappingCandidate() {
+        AssignmentProblem.Builder b = AssignmentProblem.builder(2);
+        b.addSlot(DAY, 600, 840, 1, new int[]{0});
+        b.addSlot(DAY, 720, 960, 1, new int[]{0, 1});
+
+        AssignmentResult result = greedy.assign(b.build());
+
+        assertThat(result.assignedWorkers(0)).containsExactly(0);
+        assertThat(result.assignedWorkers(1)).containsExactly(1);
+    }
+
+    @Test
+    @DisplayName("최대 유량 배치 - 큰 월간 기간(슬롯 2000개, 근무자 150명)에서도 그리디보다 적게 채우지 않는다")
+    void assign_monthlyScale_fillsAtLeastGreedy() {
+        int slots = 2000, workers = 150;
+        Random random = new Random(42);
+
+        AssignmentProblem.Builder b = AssignmentProblem.builder(workers);
+        for (int s = 0; s < slots; s++) {
+            int start = 360 + 60 * random.nextInt(12);
+            b.addSlot(DAY + s % 31, start, start + 240, 1 + random.nextInt(3),
+                    random.ints(0, workers).distinct().limit(20).toArray());
+        }
+        for (int w = 0; w < workers; w++) b.workerCapacity(w, 20);
+        AssignmentProblem problem = b.build();
+
+        AssignmentResult result = maxFlow.assign(problem);
+
+        assertThat(result.filledCount()).isGreaterThanOrEqualTo(greedy.assign(problem).filledCount());
+    }
+
+    @Test
+    @DisplayName("랜덤 그리디 배치 - 근무자 최대 배치 수를 넘기지 않는다")
+    void greedy_respectsWorkerCapacity() {
+        AssignmentProblem.Builder b = AssignmentProblem.builder(1);
+        b.addSlot(DAY, 600, 840, 1, new int[]{0});
+        b.addSlot(DAY + 1, 600, 840, 1, new int[]{0});
+        b.addSlot(DAY + 2, 600, 840, 1, new int[]{0});
+        b.workerCapacity(0, 2);
+
+        AssignmentResult result = greedy.assign(b.build());
+
+        assertThat(result.filledCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("랜덤 그리디 배치 - 같은 입력 + 같은 시드면 결과와 입력 해시가 항상 같다")
+    void greedy_sameSeed_isReproducible() {
+        AssignmentProblem first = randomProblem(7).seed(42L).build();
+        AssignmentProblem second = randomProblem(7).seed(42L).build();
+
+        AssignmentResult a = greedy.assign(first);
+        AssignmentResult b = greedy.assign(second);
+
+        assertThat(first.fingerprint()).isEqualTo(second.fingerprint());
+        for (int s = 0; s < first.slotCount(); s++) {
+            assertThat(a.assignedWorkers(s)).containsExactly(b.assignedWorkers(s));
+        }
+
+        // 시드가 다르면 입력 해시도 다르다
+        assertThat(randomProblem(7).seed(43L).build().fingerprint()).isNotEqualTo(first.fingerprint());
+    }
+
+    private static AssignmentProblem.Builder randomProblem(long dataSeed) {
+        Random random = new Random(dataSeed);
+        AssignmentProblem.Builder b = AssignmentProblem.builder(30);
+        for (int s = 0; s < 100; s++) {
+            int start = 540 + (s % 3) * 240;
+            b.addSlot(DAY + s / 3, start, start + 240, 2, random.ints(0, 30).distinct().limit(8).sorted().toArray());
+        }
+        return b;
+    }
+}
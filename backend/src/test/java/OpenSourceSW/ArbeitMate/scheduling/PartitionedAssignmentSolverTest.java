@@ -0,0 +1,127 @@
+package OpenSourceSW.ArbeitMate.scheduling;
+
+import OpenSourceSW.ArbeitMate.scheduling.impl.FairAssignmentEngine;
+import OpenSourceSW.ArbeitMate.scheduling.impl.MaxFlowAssignmentEngine;
+import OpenSourceSW.ArbeitMate.scheduling.impl.RandomGreedyAssignmentEngine;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+class PartitionedAssignmentSolverTest {
+
+    private final MaxFlowAssignmentEngine optimal = new MaxFlowAssignmentEngine();
+
+    private static final int MONDAY = 20_409; // 2025-11-17 (월)
+
+    @Test
+    @DisplayName("근무일별 병렬 배치 - 날짜를 넘는 최대 배치 수 / 주간 최대 근무시간을 맞춘다")
+    void solve_reconcilesCrossDayCaps() {
+        // given : 한 주 7일 x 하루 10슬롯(4시간), 근무자 8명 모두 가능
+        //  - 근무자 0: 주 최대 8시간 -> 2개까지
+        //  - 근무자 1: 최대 배치 3개
+        AssignmentProblem.Builder b = AssignmentProblem.builder(8);
+        for (int d = 0; d < 7; d++) {
+            for (int k = 0; k < 10; k++) {
+                b.addSlot(MONDAY + d, 600, 840, 1, new int[]{0, 1, 2, 3, 4, 5, 6, 7});
+            }
+        }
+        b.weeklyHours(0, null, 8);
+        b.workerCapacity(1, 3);
+        AssignmentProblem problem = b.seed(1L).build();
+
+        // when
+        AssignmentResult result = new PartitionedAssignmentSolver(4).solve(optimal, problem);
+
+        // then
+        int[] count = new int[8];
+        for (int s = 0; s < problem.slotCount(); s++) {
+            for (int w : result.assignedWorkers(s)) count[w]++;
+        }
+        assertThat(count[0]).isLessThanOrEqualTo(2);
+        assertThat(count[1]).isLessThanOrEqualTo(3);
+        assertThat(result.filledCount()).isEqualTo(7 * 8 - (7 - 2) - (7 - 3)); // 하루 8명 중 0/1번 초과분만 빈다
+    }
+
+    @Test
+    @DisplayName("나누지 않는 작은 문제 - 하루짜리 문제에서도 OPTIMAL/FAST 모두 주간 최대 근무시간 / 최대 배치 수를 맞춘다")
+    void solve_appliesCapsWithoutPartitioning() {
+        // given : 하루 3슬롯(4시간, 서로 안 겹침), 근무자 3명 모두 가능
+        //  - 근무자 0: 주 최대 4시간 -> 1개까지
+        //  - 근무자 1: 최대 배치 1개
+        AssignmentProblem.Builder b = AssignmentProblem.builder(3);
+        b.addSlot(MONDAY, 480, 720, 2, new int[]{0, 1, 2});
+        b.addSlot(MONDAY, 780, 1020, 2, new int[]{0, 1, 2});
+        b.addSlot(MONDAY, 1080, 1320, 2, new int[]{0, 1, 2});
+        b.weeklyHours(0, null, 4);
+        b.workerCapacity(1, 1);
+        AssignmentProblem problem = b.seed(3L).build();
+
+        for (AssignmentEngine engine : new AssignmentEngine[]{optimal, new RandomGreedyAssignmentEngine()}) {
+            // when
+            AssignmentResult result = new PartitionedAssignmentSolver(1).solve(engine, problem);
+
+            // then
+            int[] count = new int[3];
+            for (int s = 0; s < problem.slotCount(); s++) {
+                for (int w : result.assignedWorkers(s)) count[w]++;
+            }
+            assertThat(count[0]).isLessThanOrEqualTo(1);
+            assertThat(count[1]).isLessThanOrEqualTo(1);
+        }
+    }
+
+    @Test
+    @DisplayName("증분 배치 - 남겨 둔 배정도 최대 배치 수 / 주간 최대 근무시간에 포함한다")
+    void solve_countsKeptAssignmentsAgainstCaps() {
+        // given : 같은 주 수요일에 3슬롯(4시간, 서로 안 겹침), 근무자 2명 모두 가능
+        //  - 근무자 0: 주 최대 8시간, 월요일에 4시간 배정이 이미 남아 있음 -> 1개까지
+        //  - 근무자 1: 최대 배치 2개, 화요일에 배정 1개가 이미 남아 있음 -> 1개까지
+        AssignmentProblem.Builder b = AssignmentProblem.builder(2);
+        b.addSlot(MONDAY + 2, 480, 720, 2, new int[]{0, 1});
+        b.addSlot(MONDAY + 2, 780, 1020, 2, new int[]{0, 1});
+        b.addSlot(MONDAY + 2, 1080, 1320, 2, new int[]{0, 1});
+        b.weeklyHours(0, null, 8);
+        b.workerCapacity(1, 2);
+        b.keep(0, MONDAY, 240);
+        b.keep(1, MONDAY + 1, 240);
+        AssignmentProblem problem = b.seed(5L).build();
+
+        for (AssignmentEngine engine : new AssignmentEngine[]{optimal, new RandomGreedyAssignmentEngine(), new FairAssignmentEngine()}) {
+            // when
+            AssignmentResult result = new PartitionedAssignmentSolver(1).solve(engine, problem);
+
+            // then
+            int[] count = new int[2];
+            for (int s = 0; s < problem.slotCount(); s++) {
+                for (int w : result.assignedWorkers(s)) count[w]++;
+            }
+            assertThat(count[0]).isEqualTo(1);
+            assertThat(count[1]).isEqualTo(1);
+        }
+    }
+
+    @Test
+    @DisplayName("근무일별 병렬 배치 - 스레드 수와 관계없이 같은 시드면 결과가 같다")
+    void solve_isDeterministicAcrossParallelism() {
+        Random random = new Random(7);
+        int workers = 60;
+        AssignmentProblem.Builder b = AssignmentProblem.builder(workers);
+        for (int s = 0; s < 600; s++) {
+            int start = 540 + (s % 4) * 180;
+            int[] candidates = random.ints(0, workers).distinct().limit(20).sorted().toArray();
+            b.addSlot(MONDAY + s % 31, start, start + 180, 2, candidates);
+        }
+        for (int w = 0; w < workers; w++) b.weeklyHours(w, null, 15);
+        AssignmentProblem problem = b.seed(42L).build();
+
+        AssignmentResult single = new PartitionedAssignmentSolver(1).solve(optimal, problem);
+        AssignmentResult parallel = new PartitionedAssignmentSolver(4).solve(optimal, problem);
+
+        for (int s = 0; s < problem.slotCount(); s++) {
+            assertThat(parallel.assignedWorkers(s)).containsExactly(single.assignedWorkers(s));
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package OpenSourceSW.ArbeitMate.scheduling;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class PeriodSnapshotCacheTest {
+
+    private final UUID companyId = UUID.randomUUID();
+    private final UUID periodId = UUID.randomUUID();
+
+    private PeriodSnapshot snapshot() {
+        return new PeriodSnapshot(companyId, periodId, 1L, List.of(), new Integer[0], new Integer[0], List.of(), new int[0][]);
+    }
+
+    @Test
+    @DisplayName("스냅샷 캐시 - 읽는 도중 비워지면 읽은 결과를 캐시에 넣지 않는다")
+    void getOrLoad_evictedDuringLoad_isNotCached() {
+        // given
+        PeriodSnapshotCache cache = new PeriodSnapshotCache();
+        AtomicInteger loads = new AtomicInteger();
+
+        // when : 읽는 중에 다른 요청이 기간을 비움
+        PeriodSnapshot stale = cache.getOrLoad(periodId, () -> {
+            loads.incrementAndGet();
+            cache.evict(periodId);
+            return snapshot();
+        });
+        PeriodSnapshot fresh = cache.getOrLoad(periodId, () -> {
+            loads.incrementAndGet();
+            return snapshot();
+        });
+
+        // then
+        assertThat(fresh).isNotSameAs(stale);
+        assertThat(cache.getOrLoad(periodId, this::snapshot)).isSameAs(fresh);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("스냅샷 캐시 - 트랜잭션 안에서 비우면 커밋 이후에 비운다")
+    void evict_insideTransaction_waitsForCommit() {
+        // given
+        PeriodSnapshotCache cache = new PeriodSnapshotCache();
+        PeriodSnapshot before = cache.getOrLoad(periodId, this::snapshot);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when
+            cache.evict(periodId);
+            cache.evictCompany(companyId);
+
+            // then : 커밋 전에는 그대로
+            assertThat(cache.getOrLoad(periodId, this::snapshot)).isSameAs(before);
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // then : 커밋 후에는 다시 읽음
+        assertThat(cache.getOrLoad(periodId, this::snapshot)).isNotSameAs(before);
+    }
+}
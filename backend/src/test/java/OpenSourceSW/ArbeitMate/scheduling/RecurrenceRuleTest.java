@@ -0,0 +1,50 @@
+package OpenSourceSW.ArbeitMate.scheduling;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+class RecurrenceRuleTest {
+
+    private static final LocalDate DEC_1 = LocalDate.of(2025, 12, 1); // 월
+    private static final LocalDate DEC_31 = LocalDate.of(2025, 12, 31);
+
+    @Test
+    @DisplayName("반복 규칙 - 요일 반복에서 예외 날짜를 빼고 펼친다")
+    void occurrences_weeklyByDay_skipsExceptions() {
+        RecurrenceRule rule = RecurrenceRule.parse("RRULE:FREQ=WEEKLY;BYDAY=MO,WE");
+
+        var dates = rule.occurrences(DEC_1, DEC_1, LocalDate.of(2025, 12, 14), Set.of(LocalDate.of(2025, 12, 3)));
+
+        assertThat(dates).containsExactly(
+                LocalDate.of(2025, 12, 1), LocalDate.of(2025, 12, 8), LocalDate.of(2025, 12, 10));
+        assertThat(rule.format()).isEqualTo("FREQ=WEEKLY;BYDAY=MO,WE");
+    }
+
+    @Test
+    @DisplayName("반복 규칙 - INTERVAL 은 기준일부터 세고 UNTIL 이후는 제외한다")
+    void occurrences_intervalAndUntil() {
+        RecurrenceRule biweekly = RecurrenceRule.parse("FREQ=WEEKLY;INTERVAL=2;BYDAY=SA;UNTIL=20251220");
+        assertThat(biweekly.occurrences(LocalDate.of(2025, 12, 3), DEC_1, DEC_31, Set.of()))
+                .containsExactly(LocalDate.of(2025, 12, 6), LocalDate.of(2025, 12, 20));
+
+        RecurrenceRule everyThirdDay = RecurrenceRule.parse("FREQ=DAILY;INTERVAL=3");
+        assertThat(everyThirdDay.occurrences(DEC_1, LocalDate.of(2025, 12, 2), LocalDate.of(2025, 12, 10), Set.of()))
+                .containsExactly(LocalDate.of(2025, 12, 4), LocalDate.of(2025, 12, 7), LocalDate.of(2025, 12, 10));
+    }
+
+    @Test
+    @DisplayName("반복 규칙 - 지원하지 않는 형식은 예외")
+    void parse_rejectsUnsupported() {
+        assertThatThrownBy(() -> RecurrenceRule.parse("FREQ=MONTHLY"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RecurrenceRule.parse("FREQ=DAILY;COUNT=3"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RecurrenceRule.parse("BYDAY=MO"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
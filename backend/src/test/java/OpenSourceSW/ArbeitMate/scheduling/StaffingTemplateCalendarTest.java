@@ -0,0 +1,55 @@
+package OpenSourceSW.ArbeitMate.scheduling;
+
+import OpenSourceSW.ArbeitMate.domain.Company;
+import OpenSourceSW.ArbeitMate.domain.CompanyRole;
+import OpenSourceSW.ArbeitMate.domain.Member;
+import OpenSourceSW.ArbeitMate.domain.StaffingTemplate;
+import OpenSourceSW.ArbeitMate.domain.StaffingTemplateItem;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+class StaffingTemplateCalendarTest {
+
+    @Test
+    @DisplayName("템플릿 요일 인덱스 - 기간을 한 번 훑어 (날짜, 시작 시간) 순으로 요일에 맞는 슬롯만 만든다")
+    void expand_matchesNaiveExpansion() {
+        Member owner = Member.create("owner@test.com", "사장");
+        Company company = Company.create("카페 A", owner, "서울", "CODE1");
+        CompanyRole hall = CompanyRole.create(company, "홀");
+        StaffingTemplate template = StaffingTemplate.create(company, "기본", owner);
+
+        StaffingTemplateItem monLate = StaffingTemplateItem.create(template, hall, 0, LocalTime.of(14, 0), LocalTime.of(18, 0), 1);
+        StaffingTemplateItem monEarly = StaffingTemplateItem.create(template, hall, 0, LocalTime.of(9, 0), LocalTime.of(13, 0), 2);
+        StaffingTemplateItem wed = StaffingTemplateItem.create(template, hall, 2, LocalTime.of(9, 0), LocalTime.of(13, 0), 1);
+        StaffingTemplateItem sun = StaffingTemplateItem.create(template, hall, 6, LocalTime.of(10, 0), LocalTime.of(15, 0), 3);
+
+        StaffingTemplateCalendar calendar = new StaffingTemplateCalendar(List.of(monLate, wed, sun, monEarly));
+
+        // 2025-11-16(일) ~ 2025-11-26(수): 일 1 + 월 2 + 수 1 + 일 1 + 월 2 + 수 1
+        LocalDate start = LocalDate.of(2025, 11, 16);
+        LocalDate end = LocalDate.of(2025, 11, 26);
+        List<Map.Entry<LocalDate, StaffingTemplateItem>> slots = calendar.expand(start, end, Map::entry);
+
+        assertThat(calendar.countSlots(start, end)).isEqualTo(8);
+        assertThat(slots).containsExactly(
+                Map.entry(LocalDate.of(2025, 11, 16), sun),
+                Map.entry(LocalDate.of(2025, 11, 17), monEarly),
+                Map.entry(LocalDate.of(2025, 11, 17), monLate),
+                Map.entry(LocalDate.of(2025, 11, 19), wed),
+                Map.entry(LocalDate.of(2025, 11, 23), sun),
+                Map.entry(LocalDate.of(2025, 11, 24), monEarly),
+                Map.entry(LocalDate.of(2025, 11, 24), monLate),
+                Map.entry(LocalDate.of(2025, 11, 26), wed)
+        );
+
+        assertThat(calendar.countSlots(end, start)).isZero();
+        assertThat(calendar.expand(LocalDate.of(2025, 11, 18), LocalDate.of(2025, 11, 18), Map::entry)).isEmpty(); // 화
+    }
+}
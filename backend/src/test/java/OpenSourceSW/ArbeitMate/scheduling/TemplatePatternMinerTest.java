@@ -0,0 +1,42 @@
+package OpenSourceSW.ArbeitMate.scheduling;
+
+import OpenSourceSW.ArbeitMate.domain.enums.TemplateAggregation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+class TemplatePatternMinerTest {
+
+    @Test
+    @DisplayName("패턴 추출 - MAX / MEDIAN / P80 집계, 슬롯이 없던 날은 0명으로 계산")
+    void result_aggregatesPerPattern() {
+        TemplatePatternMiner miner = new TemplatePatternMiner();
+        LocalDate monday = LocalDate.of(2025, 12, 1);
+        miner.addPeriod(monday, monday.plusDays(34)); // 월요일 5번, 화요일 5번
+
+        UUID hall = UUID.randomUUID();
+        LocalTime start = LocalTime.of(10, 0);
+        LocalTime end = LocalTime.of(14, 0);
+
+        // 월 10~14: 매주 1, 2, 2, 3, 5명 / 화 10~14: 한 번만 4명
+        int[] monday5 = {1, 2, 2, 3, 5};
+        for (int w = 0; w < 5; w++) miner.accept(hall, monday.plusWeeks(w), start, end, monday5[w]);
+        miner.accept(hall, monday.plusDays(1), start, end, 4);
+
+        assertThat(miner.result(TemplateAggregation.MAX))
+                .extracting(TemplatePatternMiner.MinedItem::dow, TemplatePatternMiner.MinedItem::headcount)
+                .containsExactly(tuple(0, 5), tuple(1, 4));
+        assertThat(miner.result(TemplateAggregation.MEDIAN))
+                .extracting(TemplatePatternMiner.MinedItem::dow, TemplatePatternMiner.MinedItem::headcount)
+                .containsExactly(tuple(0, 2)); // 화요일은 5번 중 4번 0명 -> 제외
+        assertThat(miner.result(TemplateAggregation.P80))
+                .extracting(TemplatePatternMiner.MinedItem::dow, TemplatePatternMiner.MinedItem::headcount)
+                .containsExactly(tuple(0, 3));
+        assertThat(miner.roleIds()).containsExactly(hall);
+    }
+}
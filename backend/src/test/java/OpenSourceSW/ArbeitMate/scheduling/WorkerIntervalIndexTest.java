@@ -0,0 +1,32 @@
+package OpenSourceSW.ArbeitMate.scheduling;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+class WorkerIntervalIndexTest {
+
+    @Test
+    @DisplayName("시간 구간 인덱스 - 겹치는 구간은 거부하고, 맞닿기만 하는 구간은 허용한다")
+    void tryAdd_rejectsOverlapOnly() {
+        WorkerIntervalIndex<UUID> index = new WorkerIntervalIndex<>();
+        UUID memberId = UUID.randomUUID();
+        LocalDate date = LocalDate.of(2025, 11, 17);
+
+        assertThat(index.tryAdd(memberId, date, LocalTime.of(10, 0), LocalTime.of(14, 0))).isTrue();
+        assertThat(index.tryAdd(memberId, date, LocalTime.of(18, 0), LocalTime.of(22, 0))).isTrue();
+
+        assertThat(index.tryAdd(memberId, date, LocalTime.of(13, 0), LocalTime.of(15, 0))).isFalse();
+        assertThat(index.tryAdd(memberId, date, LocalTime.of(17, 0), LocalTime.of(23, 0))).isFalse();
+        assertThat(index.tryAdd(memberId, date, LocalTime.of(14, 0), LocalTime.of(18, 0))).isTrue();
+
+        // 다른 날짜 / 다른 멤버는 영향 없음
+        assertThat(index.conflicts(memberId, date.plusDays(1), LocalTime.of(10, 0), LocalTime.of(14, 0))).isFalse();
+        assertThat(index.conflicts(UUID.randomUUID(), date, LocalTime.of(10, 0), LocalTime.of(14, 0))).isFalse();
+    }
+}
@@ -0,0 +1,217 @@
+package OpenSourceSW.ArbeitMate.service;
+
+import OpenSourceSW.ArbeitMate.domain.AutoAssignJob;
+import OpenSourceSW.ArbeitMate.domain.Company;
+import OpenSourceSW.ArbeitMate.domain.Member;
+import OpenSourceSW.ArbeitMate.domain.SchedulePeriod;
+import OpenSourceSW.ArbeitMate.domain.enums.AssignmentMode;
+import OpenSourceSW.ArbeitMate.domain.enums.AutoAssignJobStatus;
+import OpenSourceSW.ArbeitMate.domain.enums.PeriodStatus;
+import OpenSourceSW.ArbeitMate.domain.enums.PeriodType;
+import OpenSourceSW.ArbeitMate.dto.request.AutoAssignRequest;
+import OpenSourceSW.ArbeitMate.dto.response.AutoAssignJobResponse;
+import OpenSourceSW.ArbeitMate.dto.response.ScheduleAssignmentSlotResponse;
+import OpenSourceSW.ArbeitMate.repository.AutoAssignJobRepository;
+import OpenSourceSW.ArbeitMate.repository.CompanyRepository;
+import OpenSourceSW.ArbeitMate.repository.SchedulePeriodRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AutoAssignJobServiceTest {
+
+    @Mock CompanyRepository companyRepository;
+    @Mock SchedulePeriodRepository schedulePeriodRepository;
+    @Mock AutoAssignJobRepository autoAssignJobRepository;
+    @Mock ScheduleService scheduleService;
+    @Mock ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks AutoAssignJobService autoAssignJobService;
+
+    UUID ownerId;
+    UUID companyId;
+    UUID periodId;
+    Company company;
+    SchedulePeriod period;
+
+    @BeforeEach
+    void setUp() {
+        ownerId = UUID.randomUUID();
+        Member owner = Member.create("owner@test.com", "사장");
+        ReflectionTestUtils.setField(owner, "id", ownerId);
+
+        companyId = UUID.randomUUID();
+        company = Company.create("카페 A", owner, "서울", "CODE1");
+        ReflectionTestUtils.setField(company, "id", companyId);
+
+        period = SchedulePeriod.create(
+                company, "P1", PeriodType.WEEKLY,
+                LocalDate.of(2025, 11, 17),
+                LocalDate.of(2025, 11, 23),
+                LocalDateTime.now().plusDays(1)
+        );
+        periodId = UUID.randomUUID();
+        ReflectionTestUtils.setField(period, "id", periodId);
+        ReflectionTestUtils.setField(period, "status", PeriodStatus.OPEN);
+    }
+
+    @Test
+    @DisplayName("자동 편성 작업 요청 - QUEUED 작업을 저장하고 실행 이벤트를 발행")
+    void submit_success() {
+        // given
+        when(companyRepository.findById(companyId)).thenReturn(Optional.of(company));
+        when(schedulePeriodRepository.findByIdForUpdate(periodId)).thenReturn(Optional.of(period));
+        when(autoAssignJobRepository.existsByPeriodIdAndStatusIn(eq(periodId), anyCollection())).thenReturn(false);
+        when(autoAssignJobRepository.save(any(AutoAssignJob.class))).thenAnswer(inv -> {
+            AutoAssignJob job = inv.getArgument(0);
+            ReflectionTestUtils.setField(job, "id", UUID.randomUUID());
+            return job;
+        });
+
+        AutoAssignRequest req = new AutoAssignRequest();
+        req.setMode(AssignmentMode.FAIR);
+        req.setSeed(7L);
+
+        // when
+        AutoAssignJobResponse res = autoAssignJobService.submit(ownerId, companyId, periodId, req);
+
+        // then
+        assertThat(res.getStatus()).isEqualTo(AutoAssignJobStatus.QUEUED);
+        assertThat(res.getMode()).isEqualTo(AssignmentMode.FAIR);
+        assertThat(res.getResult()).isNull();
+
+        ArgumentCaptor<AutoAssignJobService.JobSubmitted> captor = ArgumentCaptor.forClass(AutoAssignJobService.JobSubmitted.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        assertThat(captor.getValue().jobId()).isEqualTo(res.getJobId());
+        assertThat(captor.getValue().seed()).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("자동 편성 작업 요청 - 같은 기간에 진행 중인 작업이 있으면 예외")
+    void submit_activeJobExists_throws() {
+        // given
+        when(companyRepository.findById(companyId)).thenReturn(Optional.of(company));
+        when(schedulePeriodRepository.findByIdForUpdate(periodId)).thenReturn(Optional.of(period));
+        when(autoAssignJobRepository.existsByPeriodIdAndStatusIn(eq(periodId), anyCollection())).thenReturn(true);
+
+        // when & then
+        assertThatThrownBy(() ->
+                autoAssignJobService.submit(ownerId, companyId, periodId, null)
+        ).isInstanceOf(IllegalStateException.class);
+
+        verify(autoAssignJobRepository, never()).save(any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("자동 편성 작업 조회 - 완료된 작업은 최종 편성 결과를 함께 반환")
+    void getJob_succeeded_includesResult() {
+        // given
+        AutoAssignJob job = AutoAssignJob.create(company, period, company.getOwner(), null, null, false);
+        UUID jobId = UUID.randomUUID();
+        ReflectionTestUtils.setField(job, "id", jobId);
+        job.start();
+        job.succeed();
+
+        List<ScheduleAssignmentSlotResponse> slots = List.of(ScheduleAssignmentSlotResponse.builder().build());
+
+        when(companyRepository.findById(companyId)).thenReturn(Optional.of(company));
+        when(autoAssignJobRepository.findById(jobId)).thenReturn(Optional.of(job));
+        when(scheduleService.getScheduleAssignments(ownerId, companyId, periodId)).thenReturn(slots);
+
+        // when
+        AutoAssignJobResponse res = autoAssignJobService.getJob(ownerId, companyId, jobId);
+
+        // then
+        assertThat(res.getStatus()).isEqualTo(AutoAssignJobStatus.SUCCEEDED);
+        assertThat(res.getProgress()).isEqualTo(100);
+        assertThat(res.getResult()).isSameAs(slots);
+    }
+
+    @Test
+    @DisplayName("멈춘 작업 정리 - heartbeat 가 끊긴 진행 중 작업만 실패 처리하고, 살아 있거나 끝난 작업은 그대로 둔다")
+    void failStale_onlyFailsJobsWithoutHeartbeat() {
+        // given
+        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(3);
+
+        AutoAssignJob lost = runningJob();
+        ReflectionTestUtils.setField(lost, "heartbeatAt", cutoff.minusMinutes(1)); // 실행하던 서버가 사라짐
+
+        AutoAssignJob alive = runningJob(); // 방금 heartbeat
+
+        AutoAssignJob done = runningJob();
+        ReflectionTestUtils.setField(done, "heartbeatAt", cutoff.minusMinutes(1));
+        done.succeed();
+
+        for (AutoAssignJob job : List.of(lost, alive, done)) {
+            when(autoAssignJobRepository.findByIdForUpdate(job.getId())).thenReturn(Optional.of(job));
+        }
+
+        // when
+        boolean failedLost = autoAssignJobService.failStale(lost.getId(), cutoff, "중단");
+        boolean failedAlive = autoAssignJobService.failStale(alive.getId(), cutoff, "중단");
+        boolean failedDone = autoAssignJobService.failStale(done.getId(), cutoff, "중단");
+
+        // then
+        assertThat(failedLost).isTrue();
+        assertThat(lost.getStatus()).isEqualTo(AutoAssignJobStatus.FAILED);
+        assertThat(lost.getErrorMessage()).isEqualTo("중단");
+
+        assertThat(failedAlive).isFalse();
+        assertThat(alive.getStatus()).isEqualTo(AutoAssignJobStatus.RUNNING);
+
+        assertThat(failedDone).isFalse();
+        assertThat(done.getStatus()).isEqualTo(AutoAssignJobStatus.SUCCEEDED);
+
+        // 실패 처리된 작업은 뒤늦게 편성이 끝나도 SUCCEEDED 로 바뀌지 않음
+        assertThatThrownBy(lost::succeed).isInstanceOf(IllegalStateException.class);
+        assertThat(lost.getStatus()).isEqualTo(AutoAssignJobStatus.FAILED);
+    }
+
+    @Test
+    @DisplayName("진행률 - 실행 중 단계 보고만 반영하고 뒤로 가지 않으며, 완료 전에는 100 이 되지 않는다")
+    void reportProgress_onlyMovesForwardWhileRunning() {
+        // given
+        AutoAssignJob job = runningJob();
+        when(autoAssignJobRepository.findById(job.getId())).thenReturn(Optional.of(job));
+
+        // when & then
+        autoAssignJobService.reportProgress(job.getId(), 70);
+        assertThat(job.getProgress()).isEqualTo(70);
+
+        autoAssignJobService.reportProgress(job.getId(), 30);
+        assertThat(job.getProgress()).isEqualTo(70);
+
+        autoAssignJobService.reportProgress(job.getId(), 100);
+        assertThat(job.getProgress()).isEqualTo(99);
+
+        job.succeed();
+        assertThat(job.getProgress()).isEqualTo(100);
+    }
+
+    private AutoAssignJob runningJob() {
+        AutoAssignJob job = AutoAssignJob.create(company, period, company.getOwner(), null, null, false);
+        ReflectionTestUtils.setField(job, "id", UUID.randomUUID());
+        job.start();
+        return job;
+    }
+}
@@ -0,0 +1,188 @@
+package OpenSourceSW.ArbeitMate.service;
+
+import OpenSourceSW.ArbeitMate.domain.*;
+import OpenSourceSW.ArbeitMate.domain.enums.MembershipRole;
+import OpenSourceSW.ArbeitMate.domain.enums.PeriodStatus;
+import OpenSourceSW.ArbeitMate.domain.enums.PeriodType;
+import OpenSourceSW.ArbeitMate.dto.request.SimulateAutoAssignRequest;
+import OpenSourceSW.ArbeitMate.dto.response.AutoAssignSimulationResponse;
+import OpenSourceSW.ArbeitMate.repository.*;
+import OpenSourceSW.ArbeitMate.scheduling.AssignmentEngineRegistry;
+import OpenSourceSW.ArbeitMate.scheduling.AssignmentResultCache;
+import OpenSourceSW.ArbeitMate.scheduling.PartitionedAssignmentSolver;
+import OpenSourceSW.ArbeitMate.scheduling.PeriodSnapshotCache;
+import OpenSourceSW.ArbeitMate.scheduling.impl.FairAssignmentEngine;
+import OpenSourceSW.ArbeitMate.scheduling.impl.MaxFlowAssignmentEngine;
+import OpenSourceSW.ArbeitMate.scheduling.impl.RandomGreedyAssignmentEngine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AutoAssignSimulationServiceTest {
+
+    @Mock CompanyRepository companyRepository;
+    @Mock CompanyMemberRepository companyMemberRepository;
+    @Mock CompanyMemberRoleRepository companyMemberRoleRepository;
+    @Mock FixedShiftRepository fixedShiftRepository;
+    @Mock ScheduleRepository scheduleRepository;
+    @Mock SchedulePeriodRepository schedulePeriodRepository;
+    @Mock ScheduleSlotAvailabilityRepository scheduleSlotAvailabilityRepository;
+
+    @Spy AssignmentEngineRegistry assignmentEngineRegistry = new AssignmentEngineRegistry(
+            List.of(new MaxFlowAssignmentEngine(), new RandomGreedyAssignmentEngine(), new FairAssignmentEngine()));
+    @Spy AssignmentResultCache assignmentResultCache = new AssignmentResultCache();
+    @Spy PartitionedAssignmentSolver partitionedAssignmentSolver = new PartitionedAssignmentSolver(1);
+    @Spy PeriodSnapshotCache periodSnapshotCache = new PeriodSnapshotCache();
+
+    @InjectMocks AutoAssignSimulationService autoAssignSimulationService;
+
+    UUID ownerId;
+    UUID companyId;
+    UUID periodId;
+    SchedulePeriod period;
+    Schedule saturday;
+    Member w1;
+    Member w2;
+
+    @BeforeEach
+    void setUp() {
+        ownerId = UUID.randomUUID();
+        Member owner = Member.create("owner@test.com", "사장");
+        ReflectionTestUtils.setField(owner, "id", ownerId);
+
+        companyId = UUID.randomUUID();
+        Company company = Company.create("카페 A", owner, "서울", "CODE1");
+        ReflectionTestUtils.setField(company, "id", companyId);
+
+        period = SchedulePeriod.create(company, "P1", PeriodType.WEEKLY,
+                LocalDate.of(2025, 11, 17), LocalDate.of(2025, 11, 23), LocalDateTime.now().plusDays(1));
+        periodId = UUID.randomUUID();
+        ReflectionTestUtils.setField(period, "id", periodId);
+        ReflectionTestUtils.setField(period, "status", PeriodStatus.OPEN);
+
+        when(companyRepository.findById(companyId)).thenReturn(Optional.of(company));
+        when(schedulePeriodRepository.findById(periodId)).thenReturn(Optional.of(period));
+        when(fixedShiftRepository.findActiveInPeriod(any(), any(), any())).thenReturn(List.of());
+
+        CompanyRole cashier = CompanyRole.create(company, "카운터");
+        ReflectionTestUtils.setField(cashier, "id", UUID.randomUUID());
+
+        // 토요일 카운터 1명 슬롯
+        saturday = Schedule.create(company, period, cashier,
+                LocalDate.of(2025, 11, 22), LocalTime.of(10, 0), LocalTime.of(16, 0), 1);
+        ReflectionTestUtils.setField(saturday, "id", UUID.randomUUID());
+        when(scheduleRepository.findByPeriod(period)).thenReturn(List.of(saturday));
+
+        // 근무자 2명, 둘 다 카운터 가능 + 토요일 가능
+        w1 = Member.create("w1@test.com", "알바1");
+        ReflectionTestUtils.setField(w1, "id", UUID.randomUUID());
+        w2 = Member.create("w2@test.com", "알바2");
+        ReflectionTestUtils.setField(w2, "id", UUID.randomUUID());
+
+        CompanyMember cm1 = mock(CompanyMember.class);
+        when(cm1.isFixedShiftWorker()).thenReturn(false);
+        when(cm1.getMember()).thenReturn(w1);
+        CompanyMember cm2 = mock(CompanyMember.class);
+        when(cm2.isFixedShiftWorker()).thenReturn(false);
+        when(cm2.getMember()).thenReturn(w2);
+        when(companyMemberRepository.findByCompanyIdAndRole(companyId, MembershipRole.WORKER))
+                .thenReturn(List.of(cm1, cm2));
+
+        CompanyMemberRole cmr1 = mock(CompanyMemberRole.class);
+        when(cmr1.getRole()).thenReturn(cashier);
+        when(cmr1.getMember()).thenReturn(w1);
+        CompanyMemberRole cmr2 = mock(CompanyMemberRole.class);
+        when(cmr2.getRole()).thenReturn(cashier);
+        when(cmr2.getMember()).thenReturn(w2);
+        when(companyMemberRoleRepository.findByCompanyId(companyId)).thenReturn(List.of(cmr1, cmr2));
+
+        when(scheduleSlotAvailabilityRepository.findByPeriod(period)).thenReturn(List.of(
+                ScheduleSlotAvailability.willing(saturday, w1),
+                ScheduleSlotAvailability.willing(saturday, w2)));
+    }
+
+    @Test
+    @DisplayName("자동 편성 시뮬레이션 - 정원/가용 변경분으로 충원율과 미충원 슬롯을 계산하고, 스냅샷은 한 번만 로드한다")
+    void simulate_appliesDeltasOnCachedSnapshot() {
+        // 토요일 카운터 +1명 -> 가능 2명이므로 모두 충원
+        SimulateAutoAssignRequest plusOne = new SimulateAutoAssignRequest();
+        SimulateAutoAssignRequest.HeadcountChange change = new SimulateAutoAssignRequest.HeadcountChange();
+        change.setScheduleId(saturday.getId());
+        change.setDelta(1);
+        plusOne.getHeadcountChanges().add(change);
+
+        AutoAssignSimulationResponse res1 = autoAssignSimulationService.simulate(ownerId, companyId, periodId, plusOne);
+
+        assertThat(res1.getRequiredHeadcount()).isEqualTo(2);
+        assertThat(res1.getFilledHeadcount()).isEqualTo(2);
+        assertThat(res1.getCoverageRate()).isEqualTo(1.0);
+        assertThat(res1.getUnfilledSlots()).isEmpty();
+
+        // 같은 조건 + w2 가 가능 철회 -> 1명 미충원
+        SimulateAutoAssignRequest.AvailabilityChange withdraw = new SimulateAutoAssignRequest.AvailabilityChange();
+        withdraw.setScheduleId(saturday.getId());
+        withdraw.setMemberId(w2.getId());
+        withdraw.setWilling(false);
+        plusOne.getAvailabilityChanges().add(withdraw);
+
+        AutoAssignSimulationResponse res2 = autoAssignSimulationService.simulate(ownerId, companyId, periodId, plusOne);
+
+        assertThat(res2.getFilledHeadcount()).isEqualTo(1);
+        assertThat(res2.getCoverageRate()).isEqualTo(0.5);
+        assertThat(res2.getUnfilledSlots()).singleElement().satisfies(u -> {
+            assertThat(u.getScheduleId()).isEqualTo(saturday.getId());
+            assertThat(u.getRoleName()).isEqualTo("카운터");
+            assertThat(u.getRequiredHeadcount()).isEqualTo(2);
+            assertThat(u.getFilledHeadcount()).isEqualTo(1);
+            assertThat(u.getCandidateCount()).isEqualTo(1);
+        });
+
+        // 스냅샷은 한 번만 로드, 실제 슬롯/배정은 그대로
+        verify(scheduleRepository, times(1)).findByPeriod(period);
+        verify(scheduleSlotAvailabilityRepository, times(1)).findByPeriod(period);
+        assertThat(saturday.getRequiredHeadcount()).isEqualTo(1);
+        assertThat(saturday.getAssignments()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("자동 편성 시뮬레이션 - 다른 기간의 슬롯이나 대상이 아닌 근무자를 넘기면 예외")
+    void simulate_unknownSlotOrWorker_throws() {
+        SimulateAutoAssignRequest req = new SimulateAutoAssignRequest();
+        SimulateAutoAssignRequest.HeadcountChange change = new SimulateAutoAssignRequest.HeadcountChange();
+        change.setScheduleId(UUID.randomUUID());
+        change.setDelta(1);
+        req.getHeadcountChanges().add(change);
+
+        assertThatThrownBy(() -> autoAssignSimulationService.simulate(ownerId, companyId, periodId, req))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("스케쥴 슬롯");
+
+        SimulateAutoAssignRequest req2 = new SimulateAutoAssignRequest();
+        SimulateAutoAssignRequest.AvailabilityChange add = new SimulateAutoAssignRequest.AvailabilityChange();
+        add.setScheduleId(saturday.getId());
+        add.setMemberId(ownerId);
+        req2.getAvailabilityChanges().add(add);
+
+        assertThatThrownBy(() -> autoAssignSimulationService.simulate(ownerId, companyId, periodId, req2))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("대상 근무자");
+    }
+}
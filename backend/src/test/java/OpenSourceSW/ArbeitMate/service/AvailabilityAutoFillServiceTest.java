@@ -0,0 +1,124 @@
+package OpenSourceSW.ArbeitMate.service;
+
+import OpenSourceSW.ArbeitMate.domain.*;
+import OpenSourceSW.ArbeitMate.domain.enums.MembershipRole;
+import OpenSourceSW.ArbeitMate.domain.enums.PeriodStatus;
+import OpenSourceSW.ArbeitMate.domain.enums.PeriodType;
+import OpenSourceSW.ArbeitMate.dto.response.AvailabilityAutoFillResponse;
+import OpenSourceSW.ArbeitMate.repository.*;
+import OpenSourceSW.ArbeitMate.scheduling.PeriodSnapshotCache;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AvailabilityAutoFillServiceTest {
+
+    @Mock CompanyRepository companyRepository;
+    @Mock CompanyMemberRepository companyMemberRepository;
+    @Mock CompanyMemberRoleRepository companyMemberRoleRepository;
+    @Mock SchedulePeriodRepository schedulePeriodRepository;
+    @Mock ScheduleRepository scheduleRepository;
+    @Mock MemberAvailabilityRepository memberAvailabilityRepository;
+    @Mock ScheduleSlotAvailabilityRepository scheduleSlotAvailabilityRepository;
+    @Mock AvailabilitySubmissionRepository availabilitySubmissionRepository;
+    @Mock PeriodSnapshotCache periodSnapshotCache;
+
+    @InjectMocks AvailabilityAutoFillService availabilityAutoFillService;
+
+    @Test
+    @DisplayName("가용 시간 자동 채우기 - 미제출 근무자만, 수행 가능한 역할 슬롯 중 패턴과 겹치는 것을 한 번에 저장")
+    @SuppressWarnings("unchecked")
+    void fillDue_fillsNonSubmittersFromPatterns() {
+        // given
+        Member owner = Member.create("owner@test.com", "사장");
+        Company company = Company.create("카페 A", owner, "서울", "CODE1");
+        UUID companyId = UUID.randomUUID();
+        ReflectionTestUtils.setField(company, "id", companyId);
+
+        SchedulePeriod period = SchedulePeriod.create(company, "2025-W47", PeriodType.WEEKLY,
+                LocalDate.of(2025, 11, 17), LocalDate.of(2025, 11, 23), LocalDateTime.now().minusMinutes(1));
+        UUID periodId = UUID.randomUUID();
+        ReflectionTestUtils.setField(period, "id", periodId);
+        ReflectionTestUtils.setField(period, "status", PeriodStatus.OPEN);
+
+        CompanyRole hall = CompanyRole.create(company, "홀");
+        CompanyRole kitchen = CompanyRole.create(company, "주방");
+        ReflectionTestUtils.setField(hall, "id", UUID.randomUUID());
+        ReflectionTestUtils.setField(kitchen, "id", UUID.randomUUID());
+
+        // 월 10-14 홀(패턴과 겹침), 화 10-14 홀(패턴 없음), 월 10-14 주방(역할 없음)
+        Schedule monHall = Schedule.createDetached(company, period, hall, LocalDate.of(2025, 11, 17), LocalTime.of(10, 0), LocalTime.of(14, 0), 1);
+        Schedule tueHall = Schedule.createDetached(company, period, hall, LocalDate.of(2025, 11, 18), LocalTime.of(10, 0), LocalTime.of(14, 0), 1);
+        Schedule monKitchen = Schedule.createDetached(company, period, kitchen, LocalDate.of(2025, 11, 17), LocalTime.of(10, 0), LocalTime.of(14, 0), 1);
+
+        Member w1 = Member.create("w1@test.com", "알바1"); // 미제출 + 패턴 있음 -> 채움
+        Member w2 = Member.create("w2@test.com", "알바2"); // 이미 제출
+        Member w3 = Member.create("w3@test.com", "알바3"); // 고정 근무자
+        Member w4 = Member.create("w4@test.com", "알바4"); // 미제출 + 패턴 없음
+        for (Member m : List.of(w1, w2, w3, w4)) {
+            ReflectionTestUtils.setField(m, "id", UUID.randomUUID());
+        }
+
+        CompanyMember cm1 = CompanyMember.create(company, w1, MembershipRole.WORKER, 10000);
+        CompanyMember cm2 = CompanyMember.create(company, w2, MembershipRole.WORKER, 10000);
+        CompanyMember cm3 = CompanyMember.create(company, w3, MembershipRole.WORKER, 10000);
+        CompanyMember cm4 = CompanyMember.create(company, w4, MembershipRole.WORKER, 10000);
+        cm3.markAsFixedShiftWorker();
+
+        MemberAvailability w1Mon = MemberAvailability.create(company, w1, 0,
+                LocalTime.of(9, 0), LocalTime.of(13, 0), LocalDate.of(2025, 11, 1), null);
+
+        when(schedulePeriodRepository.findById(periodId)).thenReturn(Optional.of(period));
+        when(scheduleSlotAvailabilityRepository.findMemberIdsByPeriod(period)).thenReturn(List.of());
+        when(availabilitySubmissionRepository.findByCompanyIdAndPeriodId(companyId, periodId))
+                .thenReturn(List.of(AvailabilitySubmission.create(company, period, w2)));
+        when(companyMemberRepository.findByCompanyIdAndRole(companyId, MembershipRole.WORKER))
+                .thenReturn(List.of(cm1, cm2, cm3, cm4));
+        when(memberAvailabilityRepository.findByCompanyIdAndMemberIdIn(companyId, Set.of(w1.getId(), w4.getId())))
+                .thenReturn(List.of(w1Mon));
+        when(companyMemberRoleRepository.findByCompanyId(companyId)).thenReturn(List.of(
+                CompanyMemberRole.link(company, w1, hall),
+                CompanyMemberRole.link(company, w2, hall)));
+        when(scheduleRepository.findByPeriod(period)).thenReturn(List.of(monHall, tueHall, monKitchen));
+
+        // when
+        AvailabilityAutoFillResponse res = availabilityAutoFillService.fillDue(periodId);
+
+        // then
+        assertThat(res.getFilledMembers()).isEqualTo(1);
+        assertThat(res.getFilledSlots()).isEqualTo(1);
+
+        ArgumentCaptor<List<ScheduleSlotAvailability>> saved = ArgumentCaptor.forClass(List.class);
+        verify(scheduleSlotAvailabilityRepository).saveAll(saved.capture());
+        assertThat(saved.getValue()).singleElement().satisfies(a -> {
+            assertThat(a.getSchedule()).isSameAs(monHall);
+            assertThat(a.getMember()).isSameAs(w1);
+            assertThat(a.isWilling()).isTrue();
+            assertThat(a.isAutoFilled()).isTrue();
+        });
+
+        assertThat(period.getAvailabilityAutoFilledAt()).isNotNull();
+        verify(periodSnapshotCache).evict(periodId);
+
+        // 한 번 실행된 기간은 다시 채우지 않음
+        assertThat(availabilityAutoFillService.fillDue(periodId)).isNull();
+        verify(scheduleSlotAvailabilityRepository, times(1)).saveAll(any());
+    }
+}
@@ -0,0 +1,196 @@
+package OpenSourceSW.ArbeitMate.service;
+
+import OpenSourceSW.ArbeitMate.config.RabbitMQConfig;
+import OpenSourceSW.ArbeitMate.domain.*;
+import OpenSourceSW.ArbeitMate.domain.enums.PeriodStatus;
+import OpenSourceSW.ArbeitMate.domain.enums.PeriodType;
+import OpenSourceSW.ArbeitMate.dto.request.PatchAvailabilityRequest;
+import OpenSourceSW.ArbeitMate.dto.request.SubmitAvailabilityRequest;
+import OpenSourceSW.ArbeitMate.dto.response.AvailabilityPatchResponse;
+import OpenSourceSW.ArbeitMate.repository.*;
+import OpenSourceSW.ArbeitMate.scheduling.PendingAvailabilityCache;
+import OpenSourceSW.ArbeitMate.scheduling.PeriodSnapshotCache;
+import OpenSourceSW.ArbeitMate.service.AvailabilitySubmissionWriter.BufferedSubmission;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AvailabilitySubmissionBufferTest {
+
+    @Mock ScheduleService scheduleService;
+    @Mock RabbitTemplate rabbitTemplate;
+
+    @Mock SchedulePeriodRepository schedulePeriodRepository;
+    @Mock ScheduleRepository scheduleRepository;
+    @Mock MemberRepository memberRepository;
+    @Mock ScheduleSlotAvailabilityRepository scheduleSlotAvailabilityRepository;
+    @Mock AvailabilitySubmissionRepository availabilitySubmissionRepository;
+    @Mock PeriodSnapshotCache periodSnapshotCache;
+
+    @Mock AvailabilitySubmissionWriter availabilitySubmissionWriter;
+
+    @Test
+    @DisplayName("write-behind - 전체 제출 접수 후 변경분 제출도 대기열로 가서, 묶음 반영 시 전체 제출 위에 변경분이 적용된다")
+    @SuppressWarnings("unchecked")
+    void submitThenPatch_appliesDeltaOnTopOfQueuedSubmission() {
+        // given
+        Member owner = Member.create("owner@test.com", "사장");
+        Company company = Company.create("카페 A", owner, "서울", "CODE1");
+        UUID companyId = UUID.randomUUID();
+        ReflectionTestUtils.setField(company, "id", companyId);
+
+        SchedulePeriod period = SchedulePeriod.create(company, "2025-W47", PeriodType.WEEKLY,
+                LocalDate.of(2025, 11, 17), LocalDate.of(2025, 11, 23), LocalDateTime.now().plusDays(1));
+        UUID periodId = UUID.randomUUID();
+        ReflectionTestUtils.setField(period, "id", periodId);
+        ReflectionTestUtils.setField(period, "status", PeriodStatus.OPEN);
+
+        CompanyRole hall = CompanyRole.create(company, "홀");
+        List<Schedule> slots = new ArrayList<>();
+        for (int d = 0; d < 3; d++) {
+            Schedule s = Schedule.createDetached(company, period, hall, LocalDate.of(2025, 11, 17 + d), LocalTime.of(10, 0), LocalTime.of(14, 0), 1);
+            ReflectionTestUtils.setField(s, "id", UUID.randomUUID());
+            slots.add(s);
+        }
+        UUID s1Id = slots.get(0).getId();
+        UUID s2Id = slots.get(1).getId();
+        UUID s3Id = slots.get(2).getId();
+
+        Member w1 = Member.create("w1@test.com", "알바1");
+        UUID memberId = UUID.randomUUID();
+        ReflectionTestUtils.setField(w1, "id", memberId);
+
+        PendingAvailabilityCache pendingCache = new PendingAvailabilityCache();
+        AvailabilitySubmissionWriter writer = new AvailabilitySubmissionWriter(schedulePeriodRepository, scheduleRepository,
+                memberRepository, scheduleSlotAvailabilityRepository, availabilitySubmissionRepository, periodSnapshotCache);
+        AvailabilitySubmissionBuffer buffer = new AvailabilitySubmissionBuffer(scheduleService, writer, pendingCache,
+                rabbitTemplate, new ObjectMapper());
+        ReflectionTestUtils.setField(buffer, "enabled", true);
+
+        when(scheduleService.validateAvailabilityPatch(eq(memberId), eq(companyId), eq(periodId), any())).thenReturn(Set.of()); // DB 에는 아직 없음
+
+        // when: POST {s1, s2} -> PATCH (+s3, -s1)
+        SubmitAvailabilityRequest submitReq = new SubmitAvailabilityRequest();
+        submitReq.setSlotIds(List.of(s1Id, s2Id));
+        assertThat(buffer.submit(memberId, companyId, periodId, submitReq)).isTrue();
+
+        PatchAvailabilityRequest patchReq = new PatchAvailabilityRequest();
+        patchReq.setAddedSlotIds(List.of(s3Id));
+        patchReq.setRemovedSlotIds(List.of(s1Id));
+        AvailabilityPatchResponse patched = buffer.patch(memberId, companyId, periodId, patchReq);
+
+        // then: 본인 화면은 접수된 제출 기준으로 바로 반영
+        assertThat(patched.isPending()).isTrue();
+        assertThat(patched.getAdded()).isEqualTo(1);
+        assertThat(patched.getRemoved()).isEqualTo(1);
+        assertThat(pendingCache.get(memberId, periodId)).containsExactlyInAnyOrder(s2Id, s3Id);
+        verify(scheduleService, never()).patchAvailability(any(), any(), any(), any());
+
+        // when: 대기열 묶음 반영
+        ArgumentCaptor<Object> payloads = ArgumentCaptor.forClass(Object.class);
+        verify(rabbitTemplate, times(2)).convertAndSend(eq(RabbitMQConfig.AVAILABILITY_SUBMISSION_QUEUE), payloads.capture());
+
+        when(schedulePeriodRepository.findById(periodId)).thenReturn(Optional.of(period));
+        when(availabilitySubmissionRepository.findByCompanyIdAndPeriodId(companyId, periodId)).thenReturn(List.of());
+        when(memberRepository.findAllById(Set.of(memberId))).thenReturn(List.of(w1));
+        when(scheduleRepository.findAllById(Set.of(s2Id, s3Id))).thenReturn(List.of(slots.get(1), slots.get(2)));
+
+        buffer.applyBatch(payloads.getAllValues().stream().map(String.class::cast).toList());
+
+        // then: 전체 교체 한 번으로 {s2, s3} 저장, 제출이 버려지지 않음
+        verify(scheduleSlotAvailabilityRepository).deleteByMemberIdInAndPeriod(Set.of(memberId), period);
+        verify(scheduleSlotAvailabilityRepository, never()).deleteByMemberAndPeriodAndScheduleIdIn(any(), any(), any());
+
+        ArgumentCaptor<List<ScheduleSlotAvailability>> rows = ArgumentCaptor.forClass(List.class);
+        verify(scheduleSlotAvailabilityRepository).saveAll(rows.capture());
+        assertThat(rows.getValue()).extracting(a -> a.getSchedule().getId()).containsExactlyInAnyOrder(s2Id, s3Id);
+
+        ArgumentCaptor<List<AvailabilitySubmission>> subs = ArgumentCaptor.forClass(List.class);
+        verify(availabilitySubmissionRepository).saveAll(subs.capture());
+        assertThat(subs.getValue()).singleElement().extracting(AvailabilitySubmission::getMember).isSameAs(w1);
+
+        assertThat(pendingCache.get(memberId, periodId)).isNull();
+    }
+
+    @Test
+    @DisplayName("묶음 반영 - 실패한 기간과 읽을 수 없는 메시지만 DLQ 로 보내고 나머지 기간은 반영 (묶음 전체 재큐 없음)")
+    void applyBatch_deadLettersOnlyFailedPeriod() throws Exception {
+        // given
+        ObjectMapper objectMapper = new ObjectMapper();
+        PendingAvailabilityCache pendingCache = new PendingAvailabilityCache();
+        AvailabilitySubmissionBuffer buffer = new AvailabilitySubmissionBuffer(scheduleService, availabilitySubmissionWriter,
+                pendingCache, rabbitTemplate, objectMapper);
+
+        UUID companyId = UUID.randomUUID();
+        UUID okPeriodId = UUID.randomUUID();
+        UUID badPeriodId = UUID.randomUUID();
+        UUID w1 = UUID.randomUUID();
+        UUID w2 = UUID.randomUUID();
+        long t = System.currentTimeMillis();
+
+        BufferedSubmission ok = BufferedSubmission.full(w1, companyId, okPeriodId, List.of(UUID.randomUUID()), t);
+        BufferedSubmission bad = BufferedSubmission.full(w2, companyId, badPeriodId, List.of(UUID.randomUUID()), t);
+        String okPayload = objectMapper.writeValueAsString(ok);
+        String badPayload = objectMapper.writeValueAsString(bad);
+        String garbage = "{not json";
+
+        pendingCache.put(w1, okPeriodId, ok.slotIds(), t);
+        pendingCache.put(w2, badPeriodId, bad.slotIds(), t);
+
+        when(availabilitySubmissionWriter.applyPeriod(okPeriodId, List.of(ok))).thenReturn(List.of(ok));
+        when(availabilitySubmissionWriter.applyPeriod(badPeriodId, List.of(bad))).thenThrow(new IllegalStateException("boom"));
+
+        // when
+        buffer.applyBatch(List.of(okPayload, badPayload, garbage));
+
+        // then
+        verify(rabbitTemplate).convertAndSend(RabbitMQConfig.AVAILABILITY_SUBMISSION_DLQ, (Object) badPayload);
+        verify(rabbitTemplate).convertAndSend(RabbitMQConfig.AVAILABILITY_SUBMISSION_DLQ, (Object) garbage);
+        verify(rabbitTemplate, never()).convertAndSend(RabbitMQConfig.AVAILABILITY_SUBMISSION_DLQ, (Object) okPayload);
+
+        assertThat(pendingCache.get(w1, okPeriodId)).isNull(); // 반영된 제출만 정리
+        assertThat(pendingCache.get(w2, badPeriodId)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("묶음 반영 - 락 대기 초과 같은 일시적 오류는 DLQ 로 보내지 않고 다시 던져 컨테이너 재시도에 맡긴다")
+    void applyBatch_rethrowsTransientFailure() throws Exception {
+        // given
+        ObjectMapper objectMapper = new ObjectMapper();
+        PendingAvailabilityCache pendingCache = new PendingAvailabilityCache();
+        AvailabilitySubmissionBuffer buffer = new AvailabilitySubmissionBuffer(scheduleService, availabilitySubmissionWriter,
+                pendingCache, rabbitTemplate, objectMapper);
+
+        UUID periodId = UUID.randomUUID();
+        UUID memberId = UUID.randomUUID();
+        long t = System.currentTimeMillis();
+        BufferedSubmission s = BufferedSubmission.full(memberId, UUID.randomUUID(), periodId, List.of(UUID.randomUUID()), t);
+        pendingCache.put(memberId, periodId, s.slotIds(), t);
+
+        when(availabilitySubmissionWriter.applyPeriod(periodId, List.of(s)))
+                .thenThrow(new CannotAcquireLockException("lock wait timeout"));
+
+        // when & then
+        assertThatThrownBy(() -> buffer.applyBatch(List.of(objectMapper.writeValueAsString(s), "{not json")))
+                .isInstanceOf(CannotAcquireLockException.class);
+        verify(rabbitTemplate, never()).convertAndSend(eq(RabbitMQConfig.AVAILABILITY_SUBMISSION_DLQ), any(Object.class));
+        assertThat(pendingCache.get(memberId, periodId)).isNotNull();
+    }
+}
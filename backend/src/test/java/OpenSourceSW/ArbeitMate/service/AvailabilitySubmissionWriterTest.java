@@ -0,0 +1,154 @@
+package OpenSourceSW.ArbeitMate.service;
+
+import OpenSourceSW.ArbeitMate.domain.*;
+import OpenSourceSW.ArbeitMate.domain.enums.PeriodStatus;
+import OpenSourceSW.ArbeitMate.domain.enums.PeriodType;
+import OpenSourceSW.ArbeitMate.repository.*;
+import OpenSourceSW.ArbeitMate.scheduling.PeriodSnapshotCache;
+import OpenSourceSW.ArbeitMate.service.AvailabilitySubmissionWriter.BufferedSubmission;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AvailabilitySubmissionWriterTest {
+
+    @Mock SchedulePeriodRepository schedulePeriodRepository;
+    @Mock ScheduleRepository scheduleRepository;
+    @Mock MemberRepository memberRepository;
+    @Mock ScheduleSlotAvailabilityRepository scheduleSlotAvailabilityRepository;
+    @Mock AvailabilitySubmissionRepository availabilitySubmissionRepository;
+    @Mock PeriodSnapshotCache periodSnapshotCache;
+
+    @InjectMocks AvailabilitySubmissionWriter availabilitySubmissionWriter;
+
+    @Test
+    @DisplayName("제출 묶음 반영 - 같은 근무자는 마지막 제출만, 이미 더 새로 제출된 근무자는 건너뛰고 한 번에 삭제/저장")
+    @SuppressWarnings("unchecked")
+    void applyPeriod_coalescesAndSkipsStale() {
+        // given
+        Member owner = Member.create("owner@test.com", "사장");
+        Company company = Company.create("카페 A", owner, "서울", "CODE1");
+        UUID companyId = UUID.randomUUID();
+        ReflectionTestUtils.setField(company, "id", companyId);
+
+        SchedulePeriod period = SchedulePeriod.create(company, "2025-W47", PeriodType.WEEKLY,
+                LocalDate.of(2025, 11, 17), LocalDate.of(2025, 11, 23), LocalDateTime.now().plusDays(1));
+        UUID periodId = UUID.randomUUID();
+        ReflectionTestUtils.setField(period, "id", periodId);
+        ReflectionTestUtils.setField(period, "status", PeriodStatus.OPEN);
+
+        CompanyRole hall = CompanyRole.create(company, "홀");
+        Schedule s1 = Schedule.createDetached(company, period, hall, LocalDate.of(2025, 11, 17), LocalTime.of(10, 0), LocalTime.of(14, 0), 1);
+        Schedule s2 = Schedule.createDetached(company, period, hall, LocalDate.of(2025, 11, 18), LocalTime.of(10, 0), LocalTime.of(14, 0), 1);
+        UUID s1Id = UUID.randomUUID();
+        UUID s2Id = UUID.randomUUID();
+        ReflectionTestUtils.setField(s1, "id", s1Id);
+        ReflectionTestUtils.setField(s2, "id", s2Id);
+
+        Member w1 = Member.create("w1@test.com", "알바1");
+        Member w2 = Member.create("w2@test.com", "알바2");
+        ReflectionTestUtils.setField(w1, "id", UUID.randomUUID());
+        ReflectionTestUtils.setField(w2, "id", UUID.randomUUID());
+
+        long t = System.currentTimeMillis() - 10_000;
+        // w2 는 접수 이후에 직접 제출해서 이미 더 새로운 기록이 있음
+        AvailabilitySubmission w2Sub = AvailabilitySubmission.create(company, period, w2);
+        w2Sub.markSubmittedAt(LocalDateTime.now());
+
+        when(schedulePeriodRepository.findById(periodId)).thenReturn(Optional.of(period));
+        when(availabilitySubmissionRepository.findByCompanyIdAndPeriodId(companyId, periodId)).thenReturn(List.of(w2Sub));
+        when(memberRepository.findAllById(Set.of(w1.getId()))).thenReturn(List.of(w1));
+        when(scheduleRepository.findAllById(Set.of(s2Id))).thenReturn(List.of(s2));
+
+        List<BufferedSubmission> batch = List.of(
+                BufferedSubmission.full(w1.getId(), companyId, periodId, List.of(s1Id), t),
+                BufferedSubmission.full(w2.getId(), companyId, periodId, List.of(s1Id, s2Id), t + 1),
+                BufferedSubmission.full(w1.getId(), companyId, periodId, List.of(s2Id), t + 2)); // w1 마지막 제출
+
+        // when
+        List<BufferedSubmission> applied = availabilitySubmissionWriter.applyPeriod(periodId, batch);
+
+        // then
+        assertThat(applied).extracting(BufferedSubmission::memberId).containsExactly(w1.getId());
+        verify(scheduleSlotAvailabilityRepository).deleteByMemberIdInAndPeriod(Set.of(w1.getId()), period);
+
+        ArgumentCaptor<List<ScheduleSlotAvailability>> rows = ArgumentCaptor.forClass(List.class);
+        verify(scheduleSlotAvailabilityRepository).saveAll(rows.capture());
+        assertThat(rows.getValue()).extracting(a -> a.getSchedule().getId()).containsExactly(s2Id);
+
+        ArgumentCaptor<List<AvailabilitySubmission>> subs = ArgumentCaptor.forClass(List.class);
+        verify(availabilitySubmissionRepository).saveAll(subs.capture());
+        assertThat(subs.getValue()).hasSize(1);
+        assertThat(subs.getValue().getFirst().getSubmittedAt())
+                .isEqualTo(LocalDateTime.ofInstant(Instant.ofEpochMilli(t + 2), ZoneId.systemDefault()));
+        verify(periodSnapshotCache).evict(periodId);
+    }
+
+    @Test
+    @DisplayName("제출 묶음 반영 - 마감 전에 접수된 제출은 기간이 이미 게시됐어도 반영하고, 마감 후 접수분만 제외")
+    @SuppressWarnings("unchecked")
+    void applyPeriod_honoursSubmissionsAcceptedBeforeDue() {
+        // given
+        Member owner = Member.create("owner@test.com", "사장");
+        Company company = Company.create("카페 A", owner, "서울", "CODE1");
+        UUID companyId = UUID.randomUUID();
+        ReflectionTestUtils.setField(company, "id", companyId);
+
+        LocalDateTime dueAt = LocalDateTime.now().minusHours(1);
+        SchedulePeriod period = SchedulePeriod.create(company, "2025-W47", PeriodType.WEEKLY,
+                LocalDate.of(2025, 11, 17), LocalDate.of(2025, 11, 23), dueAt);
+        UUID periodId = UUID.randomUUID();
+        ReflectionTestUtils.setField(period, "id", periodId);
+        ReflectionTestUtils.setField(period, "status", PeriodStatus.PUBLISHED); // 대기열이 다 빠지기 전에 게시됨
+
+        CompanyRole hall = CompanyRole.create(company, "홀");
+        Schedule s1 = Schedule.createDetached(company, period, hall, LocalDate.of(2025, 11, 17), LocalTime.of(10, 0), LocalTime.of(14, 0), 1);
+        UUID s1Id = UUID.randomUUID();
+        ReflectionTestUtils.setField(s1, "id", s1Id);
+
+        Member w1 = Member.create("w1@test.com", "알바1");
+        Member w2 = Member.create("w2@test.com", "알바2");
+        ReflectionTestUtils.setField(w1, "id", UUID.randomUUID());
+        ReflectionTestUtils.setField(w2, "id", UUID.randomUUID());
+
+        long beforeDue = dueAt.minusMinutes(1).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        long afterDue = dueAt.plusMinutes(1).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+
+        when(schedulePeriodRepository.findById(periodId)).thenReturn(Optional.of(period));
+        when(availabilitySubmissionRepository.findByCompanyIdAndPeriodId(companyId, periodId)).thenReturn(List.of());
+        when(memberRepository.findAllById(Set.of(w1.getId()))).thenReturn(List.of(w1));
+        when(scheduleRepository.findAllById(Set.of(s1Id))).thenReturn(List.of(s1));
+
+        // when
+        List<BufferedSubmission> applied = availabilitySubmissionWriter.applyPeriod(periodId, List.of(
+                BufferedSubmission.full(w1.getId(), companyId, periodId, List.of(s1Id), beforeDue),
+                BufferedSubmission.full(w2.getId(), companyId, periodId, List.of(s1Id), afterDue)));
+
+        // then
+        assertThat(applied).extracting(BufferedSubmission::memberId).containsExactly(w1.getId());
+        verify(scheduleSlotAvailabilityRepository).deleteByMemberIdInAndPeriod(Set.of(w1.getId()), period);
+
+        ArgumentCaptor<List<ScheduleSlotAvailability>> rows = ArgumentCaptor.forClass(List.class);
+        verify(scheduleSlotAvailabilityRepository).saveAll(rows.capture());
+        assertThat(rows.getValue()).singleElement().extracting(ScheduleSlotAvailability::getMember).isSameAs(w1);
+    }
+}
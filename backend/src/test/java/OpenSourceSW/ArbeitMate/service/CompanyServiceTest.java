@@ -5,10 +5,12 @@ import OpenSourceSW.ArbeitMate.domain.enums.MembershipRole;
 import OpenSourceSW.ArbeitMate.dto.request.CreateRoleRequest;
 import OpenSourceSW.ArbeitMate.dto.request.ParticipateCompanyRequest;
 import OpenSourceSW.ArbeitMate.dto.request.UpdateCompanyRequest;
+import OpenSourceSW.ArbeitMate.dto.request.UpdateWeeklyHoursRequest;
 import OpenSourceSW.ArbeitMate.dto.response.CompanyRoleResponse;
 import OpenSourceSW.ArbeitMate.dto.response.CompanyWorkerResponse;
 import OpenSourceSW.ArbeitMate.dto.response.UpdateCompanyResponse;
 import OpenSourceSW.ArbeitMate.repository.*;
+import OpenSourceSW.ArbeitMate.scheduling.PeriodSnapshotCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -34,6 +36,12 @@ class CompanyServiceTest {
     @Mock CompanyRoleRepository companyRoleRepository;
     @Mock CompanyMemberRoleRepository companyMemberRoleRepository;
     @Mock AvailabilitySubmissionRepository availabilitySubmissionRepository;
+    @Mock FixedShiftRepository fixedShiftRepository;
+    @Mock FixedShiftOccurrenceRepository fixedShiftOccurrenceRepository;
+    @Mock AutoAssignJobRepository autoAssignJobRepository;
+    @Mock CoverageGapRepository coverageGapRepository;
+    @Mock SlotRecurrenceRepository slotRecurrenceRepository;
+    @Mock PeriodSnapshotCache periodSnapshotCache;
 
     @InjectMocks CompanyService companyService;
 
@@ -204,6 +212,11 @@ class CompanyServiceTest {
         companyService.deleteCompany(ownerId, companyId);
 
         // then
+        verify(fixedShiftOccurrenceRepository, times(1)).deleteByCompanyId(companyId);
+        verify(autoAssignJobRepository, times(1)).deleteByCompanyId(companyId);
+        verify(coverageGapRepository, times(1)).deleteBlockersByCompanyId(companyId);
+        verify(coverageGapRepository, times(1)).deleteByCompanyId(companyId);
+        verify(slotRecurrenceRepository, times(1)).deleteAll(anyList());
         verify(companyRepository, times(1)).delete(company);
     }
 
@@ -323,6 +336,13 @@ class CompanyServiceTest {
         // availability_submission 삭제 호출되었는지
         verify(availabilitySubmissionRepository, times(1))
                 .deleteByCompanyAndMember(company, worker);
+
+        // 고정 근무 패턴 / 발생분 삭제 호출되었는지
+        verify(fixedShiftOccurrenceRepository, times(1)).deleteByCompanyIdAndMemberId(companyId, worker.getId());
+        verify(fixedShiftRepository, times(1)).deleteByCompanyIdAndMemberId(companyId, worker.getId());
+
+        // 시뮬레이션 스냅샷 비움
+        verify(periodSnapshotCache, times(1)).evictCompany(companyId);
     }
 
     @Test
@@ -502,6 +522,7 @@ class CompanyServiceTest {
         // then
         verify(companyMemberRoleRepository, times(1))
                 .save(any(CompanyMemberRole.class));
+        verify(periodSnapshotCache, times(1)).evictCompany(companyId);
     }
 
     @Test
@@ -576,4 +597,47 @@ class CompanyServiceTest {
 
         verify(companyMemberRoleRepository, never()).save(any());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("사장은 직원의 주간 근무시간 범위를 설정할 수 있고, 최소가 최대보다 크면 예외 발생")
+    void updateWeeklyHours_owner_success_and_invalidRange_throws() {
+        // given
+        UUID ownerId = UUID.randomUUID();
+        Member owner = newMember("owner@test.com", "Owner");
+        ReflectionTestUtils.setField(owner, "id", ownerId);
+
+        Member worker = newMember("w@test.com", "Worker");
+        ReflectionTestUtils.setField(worker, "id", UUID.randomUUID());
+
+        Company company = newCompany("카페 A", owner, "서울시", "CODE1");
+        UUID companyId = UUID.randomUUID();
+        ReflectionTestUtils.setField(company, "id", companyId);
+
+        CompanyMember workerCm = CompanyMember.create(company, worker, MembershipRole.WORKER, 10030);
+        UUID workerCmId = UUID.randomUUID();
+        ReflectionTestUtils.setField(workerCm, "id", workerCmId);
+
+        when(companyRepository.findById(companyId)).thenReturn(Optional.of(company));
+
+        UpdateWeeklyHoursRequest req = new UpdateWeeklyHoursRequest();
+        req.setMinWeeklyHours(8);
+        req.setMaxWeeklyHours(20);
+
+        // when
+        CompanyWorkerResponse res = companyService.updateWeeklyHours(ownerId, companyId, workerCmId, req);
+
+        // then
+        assertThat(res.getMinWeeklyHours()).isEqualTo(8);
+        assertThat(res.getMaxWeeklyHours()).isEqualTo(20);
+        assertThat(workerCm.getMaxWeeklyHours()).isEqualTo(20);
+        verify(periodSnapshotCache, times(1)).evictCompany(companyId);
+
+        UpdateWeeklyHoursRequest invalid = new UpdateWeeklyHoursRequest();
+        invalid.setMinWeeklyHours(30);
+        invalid.setMaxWeeklyHours(20);
+
+        assertThatThrownBy(() ->
+                companyService.updateWeeklyHours(ownerId, companyId, workerCmId, invalid)
+        ).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,150 @@
+package OpenSourceSW.ArbeitMate.service;
+
+import OpenSourceSW.ArbeitMate.domain.*;
+import OpenSourceSW.ArbeitMate.dto.response.FixedShiftOccurrenceResponse;
+import OpenSourceSW.ArbeitMate.repository.CompanyMemberRepository;
+import OpenSourceSW.ArbeitMate.repository.CompanyRepository;
+import OpenSourceSW.ArbeitMate.repository.FixedShiftOccurrenceRepository;
+import OpenSourceSW.ArbeitMate.repository.FixedShiftRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FixedShiftOccurrenceServiceTest {
+
+    @Mock CompanyRepository companyRepository;
+    @Mock CompanyMemberRepository companyMemberRepository;
+    @Mock FixedShiftRepository fixedShiftRepository;
+    @Mock FixedShiftOccurrenceRepository fixedShiftOccurrenceRepository;
+
+    @InjectMocks FixedShiftOccurrenceService fixedShiftOccurrenceService;
+
+    UUID ownerId;
+    UUID companyId;
+    UUID workerId;
+    Company company;
+    Member worker;
+    CompanyRole hall;
+    LocalDate today;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(fixedShiftOccurrenceService, "horizonDays", 14);
+
+        ownerId = UUID.randomUUID();
+        Member owner = Member.create("owner@test.com", "사장");
+        ReflectionTestUtils.setField(owner, "id", ownerId);
+
+        companyId = UUID.randomUUID();
+        company = Company.create("카페 A", owner, "서울", "CODE1");
+        ReflectionTestUtils.setField(company, "id", companyId);
+
+        workerId = UUID.randomUUID();
+        worker = Member.create("worker@test.com", "알바");
+        ReflectionTestUtils.setField(worker, "id", workerId);
+
+        hall = CompanyRole.create(company, "홀");
+        ReflectionTestUtils.setField(hall, "id", UUID.randomUUID());
+
+        today = LocalDate.now();
+    }
+
+    private FixedShift todayPattern(LocalTime start, LocalTime end) {
+        // 오늘과 같은 요일, 어제부터 유효 -> 14일 범위 안에서 오늘 / 7일 뒤 두 번 발생
+        return FixedShift.create(company, worker, hall, today.getDayOfWeek().getValue() - 1,
+                start, end, today.minusDays(1), null);
+    }
+
+    @Test
+    @DisplayName("발생분 갱신 - 없는 날짜만 추가, 종료 시간 변경은 수정, 패턴에 없는 미래 발생분은 삭제")
+    @SuppressWarnings("unchecked")
+    void materialize_diffsAgainstExisting() {
+        // given
+        FixedShift pattern = todayPattern(LocalTime.of(9, 0), LocalTime.of(14, 0));
+        when(fixedShiftRepository.findByCompanyIdAndMemberId(companyId, workerId)).thenReturn(List.of(pattern));
+
+        // 오늘 발생분은 이미 있지만 종료 시간이 예전 값(13시), 내일 발생분은 패턴에서 빠진 행
+        FixedShiftOccurrence kept = FixedShiftOccurrence.create(
+                todayPattern(LocalTime.of(9, 0), LocalTime.of(13, 0)), today);
+        FixedShiftOccurrence stale = FixedShiftOccurrence.create(
+                todayPattern(LocalTime.of(9, 0), LocalTime.of(14, 0)), today.plusDays(1));
+        when(fixedShiftOccurrenceRepository.findByMemberInRange(companyId, workerId, today, today.plusDays(13)))
+                .thenReturn(List.of(kept, stale));
+
+        // when
+        fixedShiftOccurrenceService.materialize(companyId, workerId);
+
+        // then
+        assertThat(kept.getEndTime()).isEqualTo(LocalTime.of(14, 0));
+        verify(fixedShiftOccurrenceRepository).deleteAllInBatch(List.of(stale));
+
+        ArgumentCaptor<List<FixedShiftOccurrence>> captor = ArgumentCaptor.forClass(List.class);
+        verify(fixedShiftOccurrenceRepository).saveAll(captor.capture());
+        assertThat(captor.getValue())
+                .extracting(FixedShiftOccurrence::getWorkDate)
+                .containsExactly(today.plusDays(7));
+    }
+
+    @Test
+    @DisplayName("발생분 갱신 - 이미 패턴과 같으면 아무 행도 쓰지 않음 (멱등)")
+    void materialize_upToDate_writesNothing() {
+        // given
+        FixedShift pattern = todayPattern(LocalTime.of(9, 0), LocalTime.of(14, 0));
+        when(fixedShiftRepository.findByCompanyIdAndMemberId(companyId, workerId)).thenReturn(List.of(pattern));
+
+        List<FixedShiftOccurrence> existing = new ArrayList<>();
+        existing.add(FixedShiftOccurrence.create(pattern, today));
+        existing.add(FixedShiftOccurrence.create(pattern, today.plusDays(7)));
+        when(fixedShiftOccurrenceRepository.findByMemberInRange(any(), any(), any(), any())).thenReturn(existing);
+
+        // when
+        fixedShiftOccurrenceService.materialize(companyId, workerId);
+
+        // then
+        verify(fixedShiftOccurrenceRepository, never()).deleteAllInBatch(anyList());
+        verify(fixedShiftOccurrenceRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("발생분 조회 - 근무자는 본인 발생분만 조회")
+    void getOccurrences_worker_onlyOwn() {
+        // given
+        FixedShiftOccurrence o = FixedShiftOccurrence.create(
+                todayPattern(LocalTime.of(9, 0), LocalTime.of(14, 0)), today);
+
+        when(companyRepository.findById(companyId)).thenReturn(Optional.of(company));
+        when(companyMemberRepository.findByCompanyIdAndMemberId(companyId, workerId))
+                .thenReturn(Optional.of(mock(CompanyMember.class)));
+        when(fixedShiftOccurrenceRepository.findByMemberInRange(companyId, workerId, today, today.plusDays(6)))
+                .thenReturn(List.of(o));
+
+        // when
+        List<FixedShiftOccurrenceResponse> res =
+                fixedShiftOccurrenceService.getOccurrences(workerId, companyId, today, today.plusDays(6));
+
+        // then
+        assertThat(res).hasSize(1);
+        assertThat(res.get(0).getMemberId()).isEqualTo(workerId);
+        assertThat(res.get(0).getRoleName()).isEqualTo("홀");
+        verify(fixedShiftOccurrenceRepository, never()).findInRange(any(), any(), any());
+    }
+}
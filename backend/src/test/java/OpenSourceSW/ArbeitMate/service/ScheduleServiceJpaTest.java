@@ -0,0 +1,110 @@
+package OpenSourceSW.ArbeitMate.service;
+
+import OpenSourceSW.ArbeitMate.domain.*;
+import OpenSourceSW.ArbeitMate.domain.enums.MembershipRole;
+import OpenSourceSW.ArbeitMate.dto.request.BulkUpdateFixedShiftRequest;
+import OpenSourceSW.ArbeitMate.dto.request.FixedShiftItemRequest;
+import OpenSourceSW.ArbeitMate.dto.response.BulkFixedShiftResponse;
+import OpenSourceSW.ArbeitMate.dto.response.FixedShiftItemResponse;
+import OpenSourceSW.ArbeitMate.repository.FixedShiftRepository;
+import OpenSourceSW.ArbeitMate.scheduling.AssignmentEngineRegistry;
+import OpenSourceSW.ArbeitMate.scheduling.AssignmentResultCache;
+import OpenSourceSW.ArbeitMate.scheduling.PartitionedAssignmentSolver;
+import OpenSourceSW.ArbeitMate.scheduling.PendingAvailabilityCache;
+import OpenSourceSW.ArbeitMate.scheduling.PeriodSnapshotCache;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 실제 영속성 컨텍스트(flush / cascade / 벌크 삭제 순서)가 결과에 영향을 주는 경로만 H2 로 확인한다.
+ */
+@DataJpaTest
+@Import(ScheduleService.class)
+class ScheduleServiceJpaTest {
+
+    @Autowired TestEntityManager em;
+    @Autowired ScheduleService scheduleService;
+    @Autowired FixedShiftRepository fixedShiftRepository;
+
+    @MockitoBean AssignmentEngineRegistry assignmentEngineRegistry;
+    @MockitoBean AssignmentResultCache assignmentResultCache;
+    @MockitoBean PartitionedAssignmentSolver partitionedAssignmentSolver;
+    @MockitoBean PeriodSnapshotCache periodSnapshotCache;
+    @MockitoBean SlotRecurrenceService slotRecurrenceService;
+    @MockitoBean PendingAvailabilityCache pendingAvailabilityCache;
+
+    @Test
+    @DisplayName("고정 근무자 일괄 등록 - 새 패턴은 기존 패턴 삭제 뒤에 저장되고, 실패한 직원의 기존 패턴은 그대로 남는다")
+    void bulkUpdateFixedShifts_replacesPatternsInDb() {
+        // given
+        Member owner = em.persist(Member.create("owner@test.com", "사장"));
+        Member w1 = em.persist(Member.create("w1@test.com", "알바1"));
+        Member w2 = em.persist(Member.create("w2@test.com", "알바2"));
+
+        Company company = Company.create("카페 A", owner, "서울", "CODE1");
+        CompanyRole hall = CompanyRole.create(company, "홀");
+        CompanyMember cm1 = CompanyMember.create(company, w1, MembershipRole.WORKER, 10030);
+        CompanyMember cm2 = CompanyMember.create(company, w2, MembershipRole.WORKER, 10030);
+        FixedShift.create(company, w1, hall, 0, LocalTime.of(9, 0), LocalTime.of(13, 0), LocalDate.of(2025, 1, 1), null);
+        FixedShift.create(company, w2, hall, 0, LocalTime.of(9, 0), LocalTime.of(13, 0), LocalDate.of(2025, 1, 1), null);
+        em.persist(company);
+        em.flush();
+        em.clear();
+
+        // 1번: 정상 패턴 2개로 교체 / 2번: 정상 패턴 뒤에 종료 시간이 시작보다 앞섬 -> 실패
+        BulkUpdateFixedShiftRequest.MemberFixedShift bad = memberItem(cm2, hall, 1, 2);
+        bad.getShifts().get(1).setEndTime(LocalTime.of(9, 0));
+
+        BulkUpdateFixedShiftRequest req = new BulkUpdateFixedShiftRequest();
+        req.setMembers(List.of(memberItem(cm1, hall, 1, 2), bad));
+
+        // when
+        BulkFixedShiftResponse res = scheduleService.bulkUpdateFixedShifts(owner.getId(), company.getId(), req);
+        em.flush();
+        em.clear();
+
+        // then
+        assertThat(res.getResults()).extracting(BulkFixedShiftResponse.MemberResult::isSuccess)
+                .containsExactly(true, false);
+        assertThat(res.getResults().get(0).getFixedShift().getShifts())
+                .extracting(FixedShiftItemResponse::getFixedShiftId)
+                .doesNotContainNull();
+
+        assertThat(fixedShiftRepository.findByCompanyIdAndMemberId(company.getId(), w1.getId()))
+                .extracting(FixedShift::getDow)
+                .containsExactlyInAnyOrder(1, 2);
+        assertThat(fixedShiftRepository.findByCompanyIdAndMemberId(company.getId(), w2.getId()))
+                .extracting(FixedShift::getDow)
+                .containsExactly(0);
+    }
+
+    private BulkUpdateFixedShiftRequest.MemberFixedShift memberItem(CompanyMember cm, CompanyRole role, int... dows) {
+        List<FixedShiftItemRequest> shifts = new ArrayList<>();
+        for (int dow : dows) {
+            FixedShiftItemRequest item = new FixedShiftItemRequest();
+            item.setRoleId(role.getId());
+            item.setDow(dow);
+            item.setStartTime(LocalTime.of(10, 0));
+            item.setEndTime(LocalTime.of(14, 0));
+            item.setEffectiveFrom(LocalDate.of(2025, 1, 1));
+            shifts.add(item);
+        }
+        BulkUpdateFixedShiftRequest.MemberFixedShift m = new BulkUpdateFixedShiftRequest.MemberFixedShift();
+        m.setCompanyMemberId(cm.getId());
+        m.setFixedShiftWorker(true);
+        m.setShifts(shifts);
+        return m;
+    }
+}
@@ -1,27 +1,42 @@
 package OpenSourceSW.ArbeitMate.service;
 
 import OpenSourceSW.ArbeitMate.domain.*;
+import OpenSourceSW.ArbeitMate.domain.enums.AssignmentMode;
+import OpenSourceSW.ArbeitMate.domain.enums.CoverageBlockReason;
 import OpenSourceSW.ArbeitMate.domain.enums.MembershipRole;
 import OpenSourceSW.ArbeitMate.domain.enums.PeriodStatus;
 import OpenSourceSW.ArbeitMate.domain.enums.PeriodType;
 import OpenSourceSW.ArbeitMate.dto.request.*;
 import OpenSourceSW.ArbeitMate.dto.response.*;
 import OpenSourceSW.ArbeitMate.repository.*;
+import OpenSourceSW.ArbeitMate.scheduling.AssignmentEngineRegistry;
+import OpenSourceSW.ArbeitMate.scheduling.AssignmentResultCache;
+import OpenSourceSW.ArbeitMate.scheduling.PartitionedAssignmentSolver;
+import OpenSourceSW.ArbeitMate.scheduling.PendingAvailabilityCache;
+import OpenSourceSW.ArbeitMate.scheduling.PeriodSnapshotCache;
+import OpenSourceSW.ArbeitMate.scheduling.impl.FairAssignmentEngine;
+import OpenSourceSW.ArbeitMate.scheduling.impl.MaxFlowAssignmentEngine;
+import OpenSourceSW.ArbeitMate.scheduling.impl.RandomGreedyAssignmentEngine;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.temporal.WeekFields;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -43,6 +58,16 @@ class ScheduleServiceTest {
     @Mock MemberAvailabilityRepository memberAvailabilityRepository;
     @Mock ScheduleSlotAvailabilityRepository scheduleSlotAvailabilityRepository;
     @Mock AvailabilitySubmissionRepository availabilitySubmissionRepository;
+    @Mock CoverageGapRepository coverageGapRepository;
+
+    @Spy AssignmentEngineRegistry assignmentEngineRegistry = new AssignmentEngineRegistry(
+            List.of(new MaxFlowAssignmentEngine(), new RandomGreedyAssignmentEngine(), new FairAssignmentEngine()));
+    @Spy AssignmentResultCache assignmentResultCache = new AssignmentResultCache();
+    @Spy PartitionedAssignmentSolver partitionedAssignmentSolver = new PartitionedAssignmentSolver(1);
+    @Spy PeriodSnapshotCache periodSnapshotCache = new PeriodSnapshotCache();
+    @Mock ApplicationEventPublisher eventPublisher;
+    @Mock SlotRecurrenceService slotRecurrenceService;
+    @Spy PendingAvailabilityCache pendingAvailabilityCache = new PendingAvailabilityCache();
 
     @InjectMocks ScheduleService scheduleService;
 
@@ -630,7 +655,7 @@ class ScheduleServiceTest {
 
         when(companyRepository.findById(companyId)).thenReturn(Optional.of(company));
         when(schedulePeriodRepository.findById(periodId)).thenReturn(Optional.of(period));
-        when(companyRoleRepository.findById(roleId)).thenReturn(Optional.of(role));
+        when(companyRoleRepository.findAllById(Set.of(roleId))).thenReturn(List.of(role));
         // saveAll 은 전달받은 리스트를 그대로 반환하도록 설정
         when(scheduleRepository.saveAll(anyList()))
                 .thenAnswer(invocation -> invocation.getArgument(0));
@@ -649,6 +674,8 @@ class ScheduleServiceTest {
                 .containsExactlyInAnyOrder(2, 1);
 
         verify(scheduleRepository, times(1)).saveAll(anyList());
+        verify(companyRoleRepository, times(1)).findAllById(any());
+        verify(companyRoleRepository, never()).findById(any());
     }
 
     @Test
@@ -899,7 +926,7 @@ class ScheduleServiceTest {
 
         when(companyRepository.findById(companyId1)).thenReturn(Optional.of(company1));
         when(schedulePeriodRepository.findById(periodId)).thenReturn(Optional.of(period));
-        when(companyRoleRepository.findById(roleId)).thenReturn(Optional.of(otherRole));
+        when(companyRoleRepository.findAllById(Set.of(roleId))).thenReturn(List.of(otherRole));
 
         // when & then
         assertThatThrownBy(() ->
@@ -1168,6 +1195,201 @@ class ScheduleServiceTest {
     }
 
 
+    @Test
+    @DisplayName("기간 복제 - 슬롯을 다음 주로 밀어서 복제하고, 매장에 남아 있는 직원의 배정만 함께 복제")
+    @SuppressWarnings("unchecked")
+    void clonePeriod_shiftsSlotsAndAssignments() {
+        // given
+        UUID ownerId = UUID.randomUUID();
+        Member owner = newMember("owner@test.com", "Owner");
+        ReflectionTestUtils.setField(owner, "id", ownerId);
+
+        Company company = newCompany("카페 A", owner, "서울시", "CODE1");
+        UUID companyId = UUID.randomUUID();
+        ReflectionTestUtils.setField(company, "id", companyId);
+
+        LocalDate monday = LocalDate.of(2025, 11, 17);
+        SchedulePeriod source = SchedulePeriod.create(
+                company, "2025-W47", PeriodType.WEEKLY, monday, monday.plusDays(6), LocalDateTime.of(2025, 11, 14, 18, 0));
+        UUID periodId = UUID.randomUUID();
+        ReflectionTestUtils.setField(source, "id", periodId);
+
+        CompanyRole hall = newRole(company, "홀");
+        ReflectionTestUtils.setField(hall, "id", UUID.randomUUID());
+
+        Schedule mon = Schedule.createDetached(company, source, hall, monday, LocalTime.of(10, 0), LocalTime.of(14, 0), 2);
+        Schedule wed = Schedule.createDetached(company, source, hall, monday.plusDays(2), LocalTime.of(14, 0), LocalTime.of(18, 0), 1);
+        ReflectionTestUtils.setField(mon, "id", UUID.randomUUID());
+        ReflectionTestUtils.setField(wed, "id", UUID.randomUUID());
+
+        // w1 은 매장에 남아 있고, w2 는 이미 떠남
+        Member w1 = newMember("w1@test.com", "알바1");
+        Member w2 = newMember("w2@test.com", "알바2");
+        ReflectionTestUtils.setField(w1, "id", UUID.randomUUID());
+        ReflectionTestUtils.setField(w2, "id", UUID.randomUUID());
+        CompanyMember cm1 = CompanyMember.create(company, w1, MembershipRole.WORKER, 10030);
+        ScheduleAssignment a1 = ScheduleAssignment.create(mon, w1);
+        ScheduleAssignment a2 = ScheduleAssignment.create(wed, w2);
+
+        when(companyRepository.findById(companyId)).thenReturn(Optional.of(company));
+        when(schedulePeriodRepository.findById(periodId)).thenReturn(Optional.of(source));
+        when(scheduleRepository.findByPeriod(source)).thenReturn(List.of(mon, wed));
+        when(companyMemberRepository.findWithMemberByCompanyId(companyId)).thenReturn(List.of(cm1));
+        when(scheduleAssignmentRepository.findActiveWithMemberByPeriodId(periodId)).thenReturn(List.of(a1, a2));
+
+        ClonePeriodRequest req = new ClonePeriodRequest();
+        req.setIncludeAssignments(true);
+
+        // when
+        ClonePeriodResponse res = scheduleService.clonePeriod(ownerId, companyId, periodId, req);
+
+        // then - shiftDays 생략 시 원본 길이(7일)만큼 밀림
+        assertThat(res.getPeriod().getStartDate()).isEqualTo(monday.plusDays(7));
+        assertThat(res.getPeriod().getPeriodType()).isEqualTo(PeriodType.WEEKLY);
+        assertThat(res.getPeriod().getStatus()).isEqualTo(PeriodStatus.DRAFT);
+        assertThat(res.getPeriod().getAvailabilityDueAt()).isEqualTo(LocalDateTime.of(2025, 11, 21, 18, 0));
+        assertThat(res.getSlotCount()).isEqualTo(2);
+        assertThat(res.getAssignmentCount()).isEqualTo(1);
+
+        ArgumentCaptor<List<Schedule>> saved = ArgumentCaptor.forClass(List.class);
+        verify(scheduleRepository).saveAll(saved.capture());
+        assertThat(saved.getValue())
+                .extracting(Schedule::getWorkDate)
+                .containsExactly(monday.plusDays(7), monday.plusDays(9));
+        assertThat(saved.getValue().get(0).getAssignments())
+                .extracting(ScheduleAssignment::getMember)
+                .containsExactly(w1);
+        assertThat(saved.getValue().get(1).getAssignments()).isEmpty();
+        verify(slotRecurrenceService).copyShifted(eq(source), any(SchedulePeriod.class), eq(7L));
+    }
+
+    @Test
+    @DisplayName("템플릿 일괄 적용 - 템플릿은 한 번만 조회, DRAFT 가 아닌 기간만 실패 처리하고 나머지는 한 번에 저장")
+    @SuppressWarnings("unchecked")
+    void rolloutTemplate_partialFailure() {
+        // given
+        UUID ownerId = UUID.randomUUID();
+        Member owner = newMember("owner@test.com", "Owner");
+        ReflectionTestUtils.setField(owner, "id", ownerId);
+
+        Company company = newCompany("카페 A", owner, "서울시", "CODE1");
+        UUID companyId = UUID.randomUUID();
+        ReflectionTestUtils.setField(company, "id", companyId);
+
+        CompanyRole hall = newRole(company, "홀");
+        ReflectionTestUtils.setField(hall, "id", UUID.randomUUID());
+
+        // 템플릿: 월 10~14, 수 10~14
+        StaffingTemplate template = StaffingTemplate.create(company, "주간 기본", owner);
+        UUID templateId = UUID.randomUUID();
+        ReflectionTestUtils.setField(template, "id", templateId);
+        StaffingTemplateItem.create(template, hall, 0, LocalTime.of(10, 0), LocalTime.of(14, 0), 2);
+        StaffingTemplateItem.create(template, hall, 2, LocalTime.of(10, 0), LocalTime.of(14, 0), 1);
+
+        List<SchedulePeriod> periods = new ArrayList<>();
+        LocalDate monday = LocalDate.of(2025, 12, 1);
+        for (int w = 0; w < 3; w++) {
+            SchedulePeriod p = SchedulePeriod.create(company, "W" + w, PeriodType.WEEKLY,
+                    monday.plusWeeks(w), monday.plusWeeks(w).plusDays(6), LocalDateTime.now().plusDays(1));
+            ReflectionTestUtils.setField(p, "id", UUID.randomUUID());
+            periods.add(p);
+        }
+        ReflectionTestUtils.setField(periods.get(1), "status", PeriodStatus.OPEN);
+        List<UUID> periodIds = periods.stream().map(SchedulePeriod::getId).toList();
+
+        when(companyRepository.findById(companyId)).thenReturn(Optional.of(company));
+        when(staffingTemplateRepository.findById(templateId)).thenReturn(Optional.of(template));
+        when(schedulePeriodRepository.findAllById(periodIds)).thenReturn(periods);
+
+        RolloutTemplateRequest req = new RolloutTemplateRequest();
+        req.setPeriodIds(periodIds);
+
+        // when
+        TemplateRolloutResponse res = scheduleService.rolloutTemplate(ownerId, companyId, templateId, req);
+
+        // then
+        assertThat(res.getSucceeded()).isEqualTo(2);
+        assertThat(res.getFailed()).isEqualTo(1);
+        assertThat(res.getCreatedSlotCount()).isEqualTo(4);
+        assertThat(res.getResults()).extracting(TemplateRolloutResponse.PeriodResult::isSuccess)
+                .containsExactly(true, false, true);
+        assertThat(res.getResults()).extracting(TemplateRolloutResponse.PeriodResult::getSlotCount)
+                .containsExactly(2, 0, 2);
+
+        verify(staffingTemplateRepository, times(1)).findById(templateId);
+        verify(scheduleRepository, times(1)).deleteByPeriodIdIn(List.of(periodIds.get(0), periodIds.get(2)));
+        ArgumentCaptor<List<Schedule>> saved = ArgumentCaptor.forClass(List.class);
+        verify(scheduleRepository, times(1)).saveAll(saved.capture());
+        assertThat(saved.getValue()).hasSize(4)
+                .noneMatch(s -> s.getPeriod() == periods.get(1));
+    }
+
+    @Test
+    @DisplayName("템플릿 재적용 - 같은 키 슬롯은 id 유지 + 정원만 수정, 빠진 슬롯만 삭제, 새 슬롯만 추가")
+    @SuppressWarnings("unchecked")
+    void reconcileTemplateToPeriod_appliesDiffOnly() {
+        // given
+        UUID ownerId = UUID.randomUUID();
+        Member owner = newMember("owner@test.com", "Owner");
+        ReflectionTestUtils.setField(owner, "id", ownerId);
+
+        Company company = newCompany("카페 A", owner, "서울시", "CODE1");
+        UUID companyId = UUID.randomUUID();
+        ReflectionTestUtils.setField(company, "id", companyId);
+
+        LocalDate monday = LocalDate.of(2025, 11, 17);
+        SchedulePeriod period = SchedulePeriod.create(
+                company, "2025-W47", PeriodType.WEEKLY, monday, monday.plusDays(6), LocalDateTime.now().plusDays(1));
+        UUID periodId = UUID.randomUUID();
+        ReflectionTestUtils.setField(period, "id", periodId);
+
+        CompanyRole hall = newRole(company, "홀");
+        ReflectionTestUtils.setField(hall, "id", UUID.randomUUID());
+
+        // 템플릿: 월 10~14 (2명), 월 14~18 (3명), 화 10~14 (1명)
+        StaffingTemplate template = StaffingTemplate.create(company, "주간 기본", owner);
+        UUID templateId = UUID.randomUUID();
+        ReflectionTestUtils.setField(template, "id", templateId);
+        StaffingTemplateItem.create(template, hall, 0, LocalTime.of(10, 0), LocalTime.of(14, 0), 2);
+        StaffingTemplateItem.create(template, hall, 0, LocalTime.of(14, 0), LocalTime.of(18, 0), 3);
+        StaffingTemplateItem.create(template, hall, 1, LocalTime.of(10, 0), LocalTime.of(14, 0), 1);
+
+        // 기존: 월 10~14 (2명, 그대로), 월 14~18 (1명 -> 3명), 수 10~14 (템플릿에 없음)
+        Schedule same = Schedule.create(company, period, hall, monday, LocalTime.of(10, 0), LocalTime.of(14, 0), 2);
+        Schedule resized = Schedule.create(company, period, hall, monday, LocalTime.of(14, 0), LocalTime.of(18, 0), 1);
+        Schedule removed = Schedule.create(company, period, hall, monday.plusDays(2), LocalTime.of(10, 0), LocalTime.of(14, 0), 1);
+        for (Schedule s : List.of(same, resized, removed)) ReflectionTestUtils.setField(s, "id", UUID.randomUUID());
+
+        when(companyRepository.findById(companyId)).thenReturn(Optional.of(company));
+        when(schedulePeriodRepository.findById(periodId)).thenReturn(Optional.of(period));
+        when(staffingTemplateRepository.findById(templateId)).thenReturn(Optional.of(template));
+        when(scheduleRepository.findByPeriod(period)).thenReturn(List.of(same, resized, removed));
+        when(scheduleRepository.saveAll(anyList())).thenAnswer(inv -> inv.getArgument(0));
+
+        // when
+        TemplateReconcileResponse res =
+                scheduleService.reconcileTemplateToPeriod(ownerId, companyId, periodId, templateId);
+
+        // then
+        assertThat(res.getInserted()).isEqualTo(1);
+        assertThat(res.getUpdated()).isEqualTo(1);
+        assertThat(res.getDeleted()).isEqualTo(1);
+        assertThat(res.getUnchanged()).isEqualTo(1);
+        assertThat(resized.getRequiredHeadcount()).isEqualTo(3);
+        assertThat(res.getSlots()).extracting(ScheduleSlotResponse::getWorkDate)
+                .containsExactly(monday, monday, monday.plusDays(1));
+
+        verify(scheduleRepository, never()).deleteByPeriodId(any());
+        verify(scheduleSlotAvailabilityRepository).deleteByScheduleIdIn(List.of(removed.getId()));
+        verify(scheduleAssignmentRepository).deleteByScheduleIdIn(List.of(removed.getId()));
+        verify(scheduleRepository).deleteAllByIdInBatch(List.of(removed.getId()));
+
+        ArgumentCaptor<List<Schedule>> saved = ArgumentCaptor.forClass(List.class);
+        verify(scheduleRepository).saveAll(saved.capture());
+        assertThat(saved.getValue()).singleElement()
+                .satisfies(s -> assertThat(s.getWorkDate()).isEqualTo(monday.plusDays(1)));
+    }
+
     @Test
     @DisplayName("템플릿 적용 시, 요청자가 사장이 아니면 예외 발생")
     void applyTemplateToPeriod_nonOwner_throws() {
@@ -1795,11 +2017,158 @@ class ScheduleServiceTest {
         verify(fixedShiftRepository, times(1))
                 .deleteByCompanyIdAndMemberId(companyId, memberId);
         verify(fixedShiftRepository, times(1)).saveAll(anyList());
+        verify(eventPublisher).publishEvent(new FixedShiftOccurrenceService.FixedShiftsChanged(companyId, memberId));
 
         assertThat(res.isFixedShiftWorker()).isTrue();
         assertThat(res.getShifts()).hasSize(1);
     }
 
+    @Test
+    @DisplayName("고정 근무자 일괄 등록 - 역할군은 한 번에 조회, 실패한 직원만 제외하고 일괄 삭제/저장")
+    @SuppressWarnings("unchecked")
+    void bulkUpdateFixedShifts_partialFailure() {
+        // given
+        UUID ownerId = UUID.randomUUID();
+        Member owner = newMember("owner@test.com", "사장");
+        ReflectionTestUtils.setField(owner, "id", ownerId);
+
+        UUID companyId = UUID.randomUUID();
+        Company company = newCompany("카페 A", owner, "서울", "CODE1");
+        ReflectionTestUtils.setField(company, "id", companyId);
+
+        Company other = newCompany("카페 B", owner, "부산", "CODE2");
+        ReflectionTestUtils.setField(other, "id", UUID.randomUUID());
+
+        CompanyRole hall = newRole(company, "홀");
+        ReflectionTestUtils.setField(hall, "id", UUID.randomUUID());
+        CompanyRole foreign = newRole(other, "주방");
+        ReflectionTestUtils.setField(foreign, "id", UUID.randomUUID());
+
+        List<CompanyMember> cms = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Member m = newMember("w" + i + "@test.com", "알바" + i);
+            ReflectionTestUtils.setField(m, "id", UUID.randomUUID());
+            CompanyMember cm = CompanyMember.create(company, m, MembershipRole.WORKER, 10030);
+            ReflectionTestUtils.setField(cm, "id", UUID.randomUUID());
+            cms.add(cm);
+        }
+        cms.get(2).markAsFixedShiftWorker();
+
+        when(companyRepository.findById(companyId)).thenReturn(Optional.of(company));
+        when(companyMemberRepository.findWithMemberByCompanyId(companyId)).thenReturn(cms);
+        when(companyRoleRepository.findAllById(anyCollection())).thenReturn(List.of(hall, foreign));
+
+        BulkUpdateFixedShiftRequest req = new BulkUpdateFixedShiftRequest();
+        req.setMembers(List.of(
+                bulkItem(cms.get(0).getId(), true, hall.getId(), hall.getId()), // 성공 (패턴 2개)
+                bulkItem(cms.get(1).getId(), true, foreign.getId()),            // 다른 매장 역할군 -> 실패
+                bulkItem(cms.get(2).getId(), false),                            // 해제 -> 성공
+                bulkItem(UUID.randomUUID(), true, hall.getId())                 // 매장 직원 아님 -> 실패
+        ));
+
+        // when
+        BulkFixedShiftResponse res = scheduleService.bulkUpdateFixedShifts(ownerId, companyId, req);
+
+        // then
+        assertThat(res.getRequested()).isEqualTo(4);
+        assertThat(res.getSucceeded()).isEqualTo(2);
+        assertThat(res.getFailed()).isEqualTo(2);
+        assertThat(res.getResults()).extracting(BulkFixedShiftResponse.MemberResult::isSuccess)
+                .containsExactly(true, false, true, false);
+        assertThat(res.getResults().get(1).getError()).isEqualTo("해당 매장의 역할군이 아닙니다.");
+
+        assertThat(cms.get(0).isFixedShiftWorker()).isTrue();
+        assertThat(cms.get(1).isFixedShiftWorker()).isFalse();
+        assertThat(cms.get(2).isFixedShiftWorker()).isFalse();
+
+        verify(companyRoleRepository, times(1)).findAllById(anyCollection());
+        verify(companyRoleRepository, never()).findById(any());
+        verify(fixedShiftRepository, times(1)).deleteByCompanyIdAndMemberIdIn(companyId,
+                List.of(cms.get(0).getMember().getId(), cms.get(2).getMember().getId()));
+
+        ArgumentCaptor<List<FixedShift>> saved = ArgumentCaptor.forClass(List.class);
+        verify(fixedShiftRepository, times(1)).saveAll(saved.capture());
+        assertThat(saved.getValue()).hasSize(2)
+                .allMatch(fs -> fs.getMember() == cms.get(0).getMember());
+        verify(eventPublisher, times(2)).publishEvent(any(FixedShiftOccurrenceService.FixedShiftsChanged.class));
+    }
+
+    @Test
+    @DisplayName("고정 근무자 일괄 등록 - 앞 패턴이 정상이어도 뒤 패턴이 실패하면 그 직원 패턴은 하나도 만들지 않음 (cascade 저장 방지)")
+    void bulkUpdateFixedShifts_failedMemberCreatesNothing() {
+        // given
+        UUID ownerId = UUID.randomUUID();
+        Member owner = newMember("owner@test.com", "사장");
+        ReflectionTestUtils.setField(owner, "id", ownerId);
+
+        UUID companyId = UUID.randomUUID();
+        Company company = newCompany("카페 A", owner, "서울", "CODE1");
+        ReflectionTestUtils.setField(company, "id", companyId);
+
+        Company other = newCompany("카페 B", owner, "부산", "CODE2");
+        ReflectionTestUtils.setField(other, "id", UUID.randomUUID());
+
+        CompanyRole hall = newRole(company, "홀");
+        ReflectionTestUtils.setField(hall, "id", UUID.randomUUID());
+        CompanyRole foreign = newRole(other, "주방");
+        ReflectionTestUtils.setField(foreign, "id", UUID.randomUUID());
+
+        List<CompanyMember> cms = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            Member m = newMember("w" + i + "@test.com", "알바" + i);
+            ReflectionTestUtils.setField(m, "id", UUID.randomUUID());
+            CompanyMember cm = CompanyMember.create(company, m, MembershipRole.WORKER, 10030);
+            ReflectionTestUtils.setField(cm, "id", UUID.randomUUID());
+            cms.add(cm);
+        }
+
+        when(companyRepository.findById(companyId)).thenReturn(Optional.of(company));
+        when(companyMemberRepository.findWithMemberByCompanyId(companyId)).thenReturn(cms);
+        when(companyRoleRepository.findAllById(anyCollection())).thenReturn(List.of(hall, foreign));
+
+        // 0번: 정상 패턴 뒤에 다른 매장 역할군 / 1번: 정상 패턴 뒤에 종료 시간이 시작보다 앞섬
+        BulkUpdateFixedShiftRequest.MemberFixedShift badTimes = bulkItem(cms.get(1).getId(), true, hall.getId(), hall.getId());
+        badTimes.getShifts().get(1).setEndTime(LocalTime.of(9, 0));
+
+        BulkUpdateFixedShiftRequest req = new BulkUpdateFixedShiftRequest();
+        req.setMembers(List.of(
+                bulkItem(cms.get(0).getId(), true, hall.getId(), foreign.getId()),
+                badTimes
+        ));
+
+        // when
+        BulkFixedShiftResponse res = scheduleService.bulkUpdateFixedShifts(ownerId, companyId, req);
+
+        // then
+        assertThat(res.getSucceeded()).isZero();
+        assertThat(res.getResults()).extracting(BulkFixedShiftResponse.MemberResult::isSuccess)
+                .containsExactly(false, false);
+
+        assertThat(company.getFixedShifts()).isEmpty(); // cascade 로 저장될 패턴 없음
+        assertThat(cms).noneMatch(CompanyMember::isFixedShiftWorker);
+        verify(fixedShiftRepository, never()).deleteByCompanyIdAndMemberIdIn(any(), any());
+        verify(fixedShiftRepository, never()).saveAll(any());
+        verify(eventPublisher, never()).publishEvent(any(FixedShiftOccurrenceService.FixedShiftsChanged.class));
+    }
+
+    private BulkUpdateFixedShiftRequest.MemberFixedShift bulkItem(UUID companyMemberId, boolean fixed, UUID... roleIds) {
+        List<FixedShiftItemRequest> shifts = new ArrayList<>();
+        for (int i = 0; i < roleIds.length; i++) {
+            FixedShiftItemRequest item = new FixedShiftItemRequest();
+            item.setRoleId(roleIds[i]);
+            item.setDow(i);
+            item.setStartTime(LocalTime.of(10, 0));
+            item.setEndTime(LocalTime.of(14, 0));
+            item.setEffectiveFrom(LocalDate.of(2025, 1, 1));
+            shifts.add(item);
+        }
+        BulkUpdateFixedShiftRequest.MemberFixedShift m = new BulkUpdateFixedShiftRequest.MemberFixedShift();
+        m.setCompanyMemberId(companyMemberId);
+        m.setFixedShiftWorker(fixed);
+        m.setShifts(shifts);
+        return m;
+    }
+
     // =====================================================================
     // getAllFixedShiftConfig
     // =====================================================================
@@ -2019,9 +2388,7 @@ class ScheduleServiceTest {
 
         CompanyMember cm = mock(CompanyMember.class);
         when(cm.isFixedShiftWorker()).thenReturn(false);
-        when(cm.getMember()).thenReturn(worker);
 
-        when(companyRepository.findById(companyId)).thenReturn(Optional.of(company));
         when(schedulePeriodRepository.findById(periodId)).thenReturn(Optional.of(period));
         when(companyMemberRepository.findByCompanyIdAndMemberId(companyId, memberId))
                 .thenReturn(Optional.of(cm));
@@ -2031,11 +2398,6 @@ class ScheduleServiceTest {
         UUID roleId = UUID.randomUUID();
         ReflectionTestUtils.setField(role, "id", roleId);
 
-        CompanyMemberRole cmr = mock(CompanyMemberRole.class);
-        when(cmr.getRole()).thenReturn(role);
-        when(companyMemberRoleRepository.findByCompanyIdAndMemberId(companyId, memberId))
-                .thenReturn(List.of(cmr));
-
         // 슬롯 2개
         Schedule slot1 = Schedule.create(
                 company,
@@ -2060,8 +2422,6 @@ class ScheduleServiceTest {
         ReflectionTestUtils.setField(slot1, "id", slotId1);
         ReflectionTestUtils.setField(slot2, "id", slotId2);
 
-        when(scheduleRepository.findByPeriod(period))
-                .thenReturn(List.of(slot1, slot2));
 
         // 패턴 : 월/화 둘 다 겹치게
         MemberAvailability p1 = MemberAvailability.create(
@@ -2085,10 +2445,11 @@ class ScheduleServiceTest {
         when(memberAvailabilityRepository.findByCompanyIdAndMemberId(companyId, memberId))
                 .thenReturn(List.of(p1, p2));
 
-        // 이미 제출한 슬롯 : slot1만 willing
-        ScheduleSlotAvailability a1 = ScheduleSlotAvailability.willing(slot1, worker);
-        when(scheduleSlotAvailabilityRepository.findByMemberAndPeriod(memberId, period))
-                .thenReturn(List.of(a1));
+        // 역할군 필터 + 제출 여부가 반영된 조회 결과 : slot1만 willing
+        when(scheduleRepository.findWorkerSlotRows(periodId, companyId, memberId))
+                .thenReturn(List.of(
+                        new WorkerSlotRow(slotId1, slot1.getWorkDate(), slot1.getStartTime(), slot1.getEndTime(), roleId, "홀", true),
+                        new WorkerSlotRow(slotId2, slot2.getWorkDate(), slot2.getStartTime(), slot2.getEndTime(), roleId, "홀", false)));
 
         // when
         WorkerAvailabilitySlotsResponse res =
@@ -2099,7 +2460,9 @@ class ScheduleServiceTest {
         assertThat(res.getOtherSlots()).isEmpty();
 
         WorkerSlotResponse first = res.getRecommendedSlots().getFirst();
+        assertThat(first.getScheduleId()).isEqualTo(slotId1);
         assertThat(first.isWilling()).isTrue(); // slot1
+        assertThat(res.getRecommendedSlots().get(1).isWilling()).isFalse(); // slot2
     }
 
     @Test
@@ -2131,14 +2494,12 @@ class ScheduleServiceTest {
 
         CompanyMember cm = mock(CompanyMember.class);
         when(cm.isFixedShiftWorker()).thenReturn(false);
-        when(cm.getMember()).thenReturn(worker);
 
-        when(companyRepository.findById(companyId)).thenReturn(Optional.of(company));
         when(schedulePeriodRepository.findById(periodId)).thenReturn(Optional.of(period));
         when(companyMemberRepository.findByCompanyIdAndMemberId(companyId, memberId))
                 .thenReturn(Optional.of(cm));
-        when(companyMemberRoleRepository.findByCompanyIdAndMemberId(companyId, memberId))
-                .thenReturn(List.of()); // 역할 없음
+        when(scheduleRepository.findWorkerSlotRows(periodId, companyId, memberId))
+                .thenReturn(List.of()); // 역할 없음 -> 역할군 필터에 걸리는 슬롯 없음
 
         // when
         WorkerAvailabilitySlotsResponse res =
@@ -2149,6 +2510,7 @@ class ScheduleServiceTest {
         assertThat(res.getOtherSlots()).isEmpty();
 
         verify(scheduleRepository, never()).findByPeriod(any());
+        verify(memberAvailabilityRepository, never()).findByCompanyIdAndMemberId(any(), any());
     }
 
     // =====================================================================
@@ -2240,6 +2602,77 @@ class ScheduleServiceTest {
                 .save(any(AvailabilitySubmission.class));
     }
 
+    @Test
+    @DisplayName("가용 시간 변경분 제출 - 이미 제출된 슬롯은 건너뛰고 새 슬롯만 저장, 해제한 슬롯만 삭제, 제출 시간은 UPDATE")
+    @SuppressWarnings("unchecked")
+    void patchAvailability_appliesDeltaOnly() {
+        // given
+        UUID companyId = UUID.randomUUID();
+        UUID memberId = UUID.randomUUID();
+
+        Member owner = newMember("owner@test.com", "사장");
+        ReflectionTestUtils.setField(owner, "id", UUID.randomUUID());
+        Company company = newCompany("카페 A", owner, "서울", "CODE1");
+        ReflectionTestUtils.setField(company, "id", companyId);
+
+        SchedulePeriod period = SchedulePeriod.create(
+                company, "2025-W47", PeriodType.WEEKLY,
+                LocalDate.of(2025, 11, 17), LocalDate.of(2025, 11, 23), LocalDateTime.now().plusDays(1));
+        UUID periodId = UUID.randomUUID();
+        ReflectionTestUtils.setField(period, "id", periodId);
+        ReflectionTestUtils.setField(period, "status", PeriodStatus.OPEN);
+
+        Member worker = newMember("worker@test.com", "알바");
+        ReflectionTestUtils.setField(worker, "id", memberId);
+
+        CompanyMember cm = mock(CompanyMember.class);
+        when(cm.isFixedShiftWorker()).thenReturn(false);
+        when(cm.getMember()).thenReturn(worker);
+
+        CompanyRole role = newRole(company, "홀");
+        ReflectionTestUtils.setField(role, "id", UUID.randomUUID());
+        CompanyMemberRole cmr = mock(CompanyMemberRole.class);
+        when(cmr.getRole()).thenReturn(role);
+
+        Schedule s1 = Schedule.createDetached(company, period, role, LocalDate.of(2025, 11, 17), LocalTime.of(10, 0), LocalTime.of(14, 0), 1);
+        Schedule s2 = Schedule.createDetached(company, period, role, LocalDate.of(2025, 11, 18), LocalTime.of(14, 0), LocalTime.of(18, 0), 1);
+        UUID s1Id = UUID.randomUUID();
+        UUID s2Id = UUID.randomUUID();
+        UUID s3Id = UUID.randomUUID();
+        ReflectionTestUtils.setField(s1, "id", s1Id);
+        ReflectionTestUtils.setField(s2, "id", s2Id);
+
+        when(companyRepository.findById(companyId)).thenReturn(Optional.of(company));
+        when(schedulePeriodRepository.findById(periodId)).thenReturn(Optional.of(period));
+        when(companyMemberRepository.findByCompanyIdAndMemberId(companyId, memberId)).thenReturn(Optional.of(cm));
+        when(companyMemberRoleRepository.findByCompanyIdAndMemberId(companyId, memberId)).thenReturn(List.of(cmr));
+        when(scheduleRepository.findAllById(Set.of(s1Id, s2Id))).thenReturn(List.of(s1, s2));
+        when(scheduleSlotAvailabilityRepository.findSubmittedScheduleIds(memberId, Set.of(s1Id, s2Id)))
+                .thenReturn(List.of(s1Id)); // s1 은 이미 제출됨
+        when(scheduleSlotAvailabilityRepository.deleteByMemberAndPeriodAndScheduleIdIn(memberId, periodId, Set.of(s3Id)))
+                .thenReturn(1);
+        when(availabilitySubmissionRepository.touchSubmittedAt(eq(companyId), eq(periodId), eq(memberId), any(LocalDateTime.class)))
+                .thenReturn(1);
+
+        PatchAvailabilityRequest req = new PatchAvailabilityRequest();
+        req.setAddedSlotIds(List.of(s1Id, s2Id));
+        req.setRemovedSlotIds(List.of(s3Id));
+
+        // when
+        AvailabilityPatchResponse res = scheduleService.patchAvailability(memberId, companyId, periodId, req);
+
+        // then
+        assertThat(res.getAdded()).isEqualTo(1);
+        assertThat(res.getRemoved()).isEqualTo(1);
+
+        ArgumentCaptor<List<ScheduleSlotAvailability>> saved = ArgumentCaptor.forClass(List.class);
+        verify(scheduleSlotAvailabilityRepository).saveAll(saved.capture());
+        assertThat(saved.getValue()).extracting(a -> a.getSchedule().getId()).containsExactly(s2Id);
+
+        verify(scheduleSlotAvailabilityRepository, never()).deleteByMemberAndPeriod(any(), any());
+        verify(availabilitySubmissionRepository, never()).save(any(AvailabilitySubmission.class));
+    }
+
     @Test
     @DisplayName("가용 시간 제출 시, 다른 기간의 슬롯이 포함되면 예외")
     void submitAvailability_otherPeriodSlot_throws() {
@@ -2443,7 +2876,8 @@ class ScheduleServiceTest {
 
         CompanyMemberRole cmr = mock(CompanyMemberRole.class);
         when(cmr.getRole()).thenReturn(role);
-        when(companyMemberRoleRepository.findByCompanyIdAndMemberId(companyId, workerId))
+        when(cmr.getMember()).thenReturn(worker);
+        when(companyMemberRoleRepository.findByCompanyId(companyId))
                 .thenReturn(List.of(cmr));
 
         // 슬롯 1개
@@ -2465,7 +2899,9 @@ class ScheduleServiceTest {
                 .thenReturn(List.of(avail));
 
         // when
-        scheduleService.autoAssignSchedules(ownerId, companyId, periodId);
+        AutoAssignRequest req = new AutoAssignRequest();
+        req.setSeed(42L);
+        scheduleService.autoAssignSchedules(ownerId, companyId, periodId, req);
 
         // then : slot에 1명 배정되었는지 확인
         assertThat(slot.getAssignments())
@@ -2473,6 +2909,10 @@ class ScheduleServiceTest {
                 .first()
                 .extracting(a -> a.getMember().getId())
                 .isEqualTo(workerId);
+
+        // 시드와 입력 해시가 기간에 기록됨
+        assertThat(period.getAutoAssignSeed()).isEqualTo(42L);
+        assertThat(period.getAutoAssignInputHash()).hasSize(64);
     }
 
     // =====================================================================
@@ -2646,6 +3086,370 @@ class ScheduleServiceTest {
     }
 
 
+    @Test
+    @DisplayName("증분 자동 배치 - 후보가 바뀐 슬롯만 다시 배치하고, 나머지 슬롯의 수동 편집은 유지")
+    void autoAssignSchedules_incremental_keepsUnchangedSlots() {
+        // given
+        UUID ownerId = UUID.randomUUID();
+        Member owner = newMember("owner@test.com", "사장");
+        ReflectionTestUtils.setField(owner, "id", ownerId);
+
+        UUID companyId = UUID.randomUUID();
+        Company company = newCompany("카페 A", owner, "서울", "CODE1");
+        ReflectionTestUtils.setField(company, "id", companyId);
+
+        SchedulePeriod period = SchedulePeriod.create(
+                company, "P1", PeriodType.WEEKLY,
+                LocalDate.of(2025, 11, 17),
+                LocalDate.of(2025, 11, 23),
+                LocalDateTime.now().plusDays(1)
+        );
+        UUID periodId = UUID.randomUUID();
+        ReflectionTestUtils.setField(period, "id", periodId);
+        ReflectionTestUtils.setField(period, "status", PeriodStatus.OPEN);
+
+        when(companyRepository.findById(companyId)).thenReturn(Optional.of(company));
+        when(schedulePeriodRepository.findById(periodId)).thenReturn(Optional.of(period));
+        when(fixedShiftRepository.findActiveInPeriod(any(), any(), any())).thenReturn(List.of());
+
+        CompanyRole role = newRole(company, "홀");
+        ReflectionTestUtils.setField(role, "id", UUID.randomUUID());
+
+        // 월/화 슬롯 각 1명
+        Schedule monday = Schedule.create(company, period, role,
+                LocalDate.of(2025, 11, 17), LocalTime.of(10, 0), LocalTime.of(14, 0), 1);
+        ReflectionTestUtils.setField(monday, "id", UUID.randomUUID());
+        Schedule tuesday = Schedule.create(company, period, role,
+                LocalDate.of(2025, 11, 18), LocalTime.of(10, 0), LocalTime.of(14, 0), 1);
+        ReflectionTestUtils.setField(tuesday, "id", UUID.randomUUID());
+        when(scheduleRepository.findByPeriod(period)).thenReturn(List.of(monday, tuesday));
+
+        // 근무자 2명, 둘 다 홀 가능
+        Member w1 = newMember("w1@test.com", "알바1");
+        ReflectionTestUtils.setField(w1, "id", UUID.randomUUID());
+        Member w2 = newMember("w2@test.com", "알바2");
+        ReflectionTestUtils.setField(w2, "id", UUID.randomUUID());
+
+        CompanyMember cm1 = mock(CompanyMember.class);
+        when(cm1.isFixedShiftWorker()).thenReturn(false);
+        when(cm1.getMember()).thenReturn(w1);
+        CompanyMember cm2 = mock(CompanyMember.class);
+        when(cm2.isFixedShiftWorker()).thenReturn(false);
+        when(cm2.getMember()).thenReturn(w2);
+        when(companyMemberRepository.findByCompanyIdAndRole(companyId, MembershipRole.WORKER))
+                .thenReturn(List.of(cm1, cm2));
+
+        CompanyMemberRole cmr1 = mock(CompanyMemberRole.class);
+        when(cmr1.getRole()).thenReturn(role);
+        when(cmr1.getMember()).thenReturn(w1);
+        CompanyMemberRole cmr2 = mock(CompanyMemberRole.class);
+        when(cmr2.getRole()).thenReturn(role);
+        when(cmr2.getMember()).thenReturn(w2);
+        when(companyMemberRoleRepository.findByCompanyId(companyId)).thenReturn(List.of(cmr1, cmr2));
+
+        // 1차: w1 이 월요일만 가능 / 2차: w1 이 화요일도 추가로 가능
+        when(scheduleSlotAvailabilityRepository.findByPeriod(period)).thenReturn(
+                List.of(ScheduleSlotAvailability.willing(monday, w1)),
+                List.of(ScheduleSlotAvailability.willing(monday, w1), ScheduleSlotAvailability.willing(tuesday, w1))
+        );
+
+        scheduleService.autoAssignSchedules(ownerId, companyId, periodId, new AutoAssignRequest());
+        assertThat(monday.getAssignments()).extracting(a -> a.getMember().getId()).containsExactly(w1.getId());
+
+        // 사장이 월요일을 w2 로 수동 변경
+        monday.getAssignments().clear();
+        ScheduleAssignment manual = ScheduleAssignment.create(monday, w2);
+
+        // when : 증분 배치
+        AutoAssignRequest req = new AutoAssignRequest();
+        req.setIncremental(true);
+        scheduleService.autoAssignSchedules(ownerId, companyId, periodId, req);
+
+        // then : 월요일(후보 변화 없음)은 수동 편집 유지, 화요일(후보 추가)만 새로 배치
+        assertThat(monday.getAssignments()).containsExactly(manual);
+        assertThat(tuesday.getAssignments()).extracting(a -> a.getMember().getId()).containsExactly(w1.getId());
+    }
+
+    @Test
+    @DisplayName("자동 배치 고정 근무 - 요일 패턴으로 선 배치하고, 없는 슬롯의 역할은 한 번에 조회한다")
+    void autoAssignSchedules_fixedShifts_batchLoadsRoles() {
+        // given
+        UUID ownerId = UUID.randomUUID();
+        Member owner = newMember("owner@test.com", "사장");
+        ReflectionTestUtils.setField(owner, "id", ownerId);
+
+        UUID companyId = UUID.randomUUID();
+        Company company = newCompany("카페 A", owner, "서울", "CODE1");
+        ReflectionTestUtils.setField(company, "id", companyId);
+
+        SchedulePeriod period = SchedulePeriod.create(
+                company, "P1", PeriodType.WEEKLY,
+                LocalDate.of(2025, 11, 17),
+                LocalDate.of(2025, 11, 23),
+                LocalDateTime.now().plusDays(1)
+        );
+        UUID periodId = UUID.randomUUID();
+        ReflectionTestUtils.setField(period, "id", periodId);
+        ReflectionTestUtils.setField(period, "status", PeriodStatus.OPEN);
+
+        when(companyRepository.findById(companyId)).thenReturn(Optional.of(company));
+        when(schedulePeriodRepository.findById(periodId)).thenReturn(Optional.of(period));
+
+        CompanyRole hall = newRole(company, "홀");
+        ReflectionTestUtils.setField(hall, "id", UUID.randomUUID());
+        CompanyRole kitchen = newRole(company, "주방");
+        ReflectionTestUtils.setField(kitchen, "id", UUID.randomUUID());
+
+        // 월요일 홀 슬롯(정원 1)만 존재
+        Schedule mondayHall = Schedule.create(company, period, hall,
+                LocalDate.of(2025, 11, 17), LocalTime.of(9, 0), LocalTime.of(13, 0), 1);
+        ReflectionTestUtils.setField(mondayHall, "id", UUID.randomUUID());
+        when(scheduleRepository.findByPeriod(period)).thenReturn(List.of(mondayHall));
+
+        // 고정 근무: f1, f2 월 홀 9~13 / f1 화 주방 9~13 (슬롯 없음) / f2 수 홀 (아직 시작 전)
+        Member f1 = newMember("f1@test.com", "고정1");
+        ReflectionTestUtils.setField(f1, "id", UUID.randomUUID());
+        Member f2 = newMember("f2@test.com", "고정2");
+        ReflectionTestUtils.setField(f2, "id", UUID.randomUUID());
+
+        LocalDate from = LocalDate.of(2025, 11, 1);
+        List<FixedShift> fixedShifts = List.of(
+                FixedShift.create(company, f1, hall, 0, LocalTime.of(9, 0), LocalTime.of(13, 0), from, null),
+                FixedShift.create(company, f2, hall, 0, LocalTime.of(9, 0), LocalTime.of(13, 0), from, null),
+                FixedShift.create(company, f1, kitchen, 1, LocalTime.of(9, 0), LocalTime.of(13, 0), from, null),
+                FixedShift.create(company, f2, hall, 2, LocalTime.of(9, 0), LocalTime.of(13, 0), LocalDate.of(2025, 12, 1), null)
+        );
+        when(fixedShiftRepository.findActiveInPeriod(any(), any(), any())).thenReturn(fixedShifts);
+        when(companyRoleRepository.findAllById(Set.of(kitchen.getId()))).thenReturn(List.of(kitchen));
+
+        // 고정 근무자만 있는 매장
+        CompanyMember cm1 = mock(CompanyMember.class);
+        when(cm1.isFixedShiftWorker()).thenReturn(true);
+        when(cm1.getMember()).thenReturn(f1);
+        CompanyMember cm2 = mock(CompanyMember.class);
+        when(cm2.isFixedShiftWorker()).thenReturn(true);
+        when(cm2.getMember()).thenReturn(f2);
+        when(companyMemberRepository.findByCompanyIdAndRole(companyId, MembershipRole.WORKER))
+                .thenReturn(List.of(cm1, cm2));
+
+        // when
+        AutoAssignResponse res = scheduleService.autoAssignSchedules(ownerId, companyId, periodId, new AutoAssignRequest());
+
+        // then : 월 홀 정원 2로 보정 + 2명 배치, 화 주방 슬롯 새로 생성, 수요일은 패턴 시작 전이라 없음
+        assertThat(mondayHall.getRequiredHeadcount()).isEqualTo(2);
+        assertThat(mondayHall.getAssignments()).extracting(a -> a.getMember().getId())
+                .containsExactlyInAnyOrder(f1.getId(), f2.getId());
+
+        assertThat(res.getSlots()).hasSize(2);
+        assertThat(res.getSlots().get(1)).satisfies(slot -> {
+            assertThat(slot.getWorkDate()).isEqualTo(LocalDate.of(2025, 11, 18));
+            assertThat(slot.getRoleName()).isEqualTo("주방");
+            assertThat(slot.getWorkers()).hasSize(1);
+        });
+        verify(companyRoleRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("자동 배치 미충원 리포트 - 못 채운 슬롯과 막힌 후보(역할/시간 겹침/주간 상한)를 함께 돌려주고 저장")
+    void autoAssignSchedules_reportsCoverageGaps() {
+        // given
+        UUID ownerId = UUID.randomUUID();
+        Member owner = newMember("owner@test.com", "사장");
+        ReflectionTestUtils.setField(owner, "id", ownerId);
+
+        UUID companyId = UUID.randomUUID();
+        Company company = newCompany("카페 A", owner, "서울", "CODE1");
+        ReflectionTestUtils.setField(company, "id", companyId);
+
+        SchedulePeriod period = SchedulePeriod.create(
+                company, "P1", PeriodType.WEEKLY,
+                LocalDate.of(2025, 11, 17),
+                LocalDate.of(2025, 11, 23),
+                LocalDateTime.now().plusDays(1)
+        );
+        UUID periodId = UUID.randomUUID();
+        ReflectionTestUtils.setField(period, "id", periodId);
+        ReflectionTestUtils.setField(period, "status", PeriodStatus.OPEN);
+
+        when(companyRepository.findById(companyId)).thenReturn(Optional.of(company));
+        when(schedulePeriodRepository.findById(periodId)).thenReturn(Optional.of(period));
+        when(fixedShiftRepository.findActiveInPeriod(any(), any(), any())).thenReturn(List.of());
+
+        CompanyRole hall = newRole(company, "홀");
+        ReflectionTestUtils.setField(hall, "id", UUID.randomUUID());
+        CompanyRole kitchen = newRole(company, "주방");
+        ReflectionTestUtils.setField(kitchen, "id", UUID.randomUUID());
+
+        // 월요일 홀 10~14, 주방 12~16 (시간 겹침) 각 1명
+        Schedule hallSlot = Schedule.create(company, period, hall,
+                LocalDate.of(2025, 11, 17), LocalTime.of(10, 0), LocalTime.of(14, 0), 1);
+        ReflectionTestUtils.setField(hallSlot, "id", UUID.randomUUID());
+        Schedule kitchenSlot = Schedule.create(company, period, kitchen,
+                LocalDate.of(2025, 11, 17), LocalTime.of(12, 0), LocalTime.of(16, 0), 1);
+        ReflectionTestUtils.setField(kitchenSlot, "id", UUID.randomUUID());
+        when(scheduleRepository.findByPeriod(period)).thenReturn(List.of(hallSlot, kitchenSlot));
+
+        // w1: 홀/주방 가능, 둘 다 제출 / w2: 홀만 가능, 주방 제출 / w3: 주방 가능, 주 최대 2시간, 주방 제출
+        Member w1 = newMember("w1@test.com", "알바1");
+        ReflectionTestUtils.setField(w1, "id", UUID.fromString("00000000-0000-0000-0000-000000000001"));
+        Member w2 = newMember("w2@test.com", "알바2");
+        ReflectionTestUtils.setField(w2, "id", UUID.fromString("00000000-0000-0000-0000-000000000002"));
+        Member w3 = newMember("w3@test.com", "알바3");
+        ReflectionTestUtils.setField(w3, "id", UUID.fromString("00000000-0000-0000-0000-000000000003"));
+
+        CompanyMember cm1 = mock(CompanyMember.class);
+        when(cm1.isFixedShiftWorker()).thenReturn(false);
+        when(cm1.getMember()).thenReturn(w1);
+        CompanyMember cm2 = mock(CompanyMember.class);
+        when(cm2.isFixedShiftWorker()).thenReturn(false);
+        when(cm2.getMember()).thenReturn(w2);
+        CompanyMember cm3 = mock(CompanyMember.class);
+        when(cm3.isFixedShiftWorker()).thenReturn(false);
+        when(cm3.getMember()).thenReturn(w3);
+        when(cm3.getMaxWeeklyHours()).thenReturn(2);
+        when(companyMemberRepository.findByCompanyIdAndRole(companyId, MembershipRole.WORKER))
+                .thenReturn(List.of(cm1, cm2, cm3));
+
+        CompanyMemberRole w1Hall = mock(CompanyMemberRole.class);
+        when(w1Hall.getRole()).thenReturn(hall);
+        when(w1Hall.getMember()).thenReturn(w1);
+        CompanyMemberRole w1Kitchen = mock(CompanyMemberRole.class);
+        when(w1Kitchen.getRole()).thenReturn(kitchen);
+        when(w1Kitchen.getMember()).thenReturn(w1);
+        CompanyMemberRole w2Hall = mock(CompanyMemberRole.class);
+        when(w2Hall.getRole()).thenReturn(hall);
+        when(w2Hall.getMember()).thenReturn(w2);
+        CompanyMemberRole w3Kitchen = mock(CompanyMemberRole.class);
+        when(w3Kitchen.getRole()).thenReturn(kitchen);
+        when(w3Kitchen.getMember()).thenReturn(w3);
+        when(companyMemberRoleRepository.findByCompanyId(companyId))
+                .thenReturn(List.of(w1Hall, w1Kitchen, w2Hall, w3Kitchen));
+
+        when(scheduleSlotAvailabilityRepository.findByPeriod(period)).thenReturn(List.of(
+                ScheduleSlotAvailability.willing(hallSlot, w1),
+                ScheduleSlotAvailability.willing(kitchenSlot, w1),
+                ScheduleSlotAvailability.willing(kitchenSlot, w2),
+                ScheduleSlotAvailability.willing(kitchenSlot, w3)
+        ));
+
+        // when : FAIR(시간순, 주간 상한 적용) -> 홀에 w1, 주방은 미충원
+        AutoAssignRequest req = new AutoAssignRequest();
+        req.setMode(AssignmentMode.FAIR);
+        req.setSeed(42L);
+        AutoAssignResponse res = scheduleService.autoAssignSchedules(ownerId, companyId, periodId, req);
+
+        // then
+        CoverageGapReportResponse gap = res.getCoverageGap();
+        assertThat(gap.getUnfilledHeadcount()).isEqualTo(1);
+        assertThat(gap.getByRole()).singleElement().satisfies(r -> {
+            assertThat(r.getRoleName()).isEqualTo("주방");
+            assertThat(r.getUnfilledHeadcount()).isEqualTo(1);
+        });
+        assertThat(gap.getByDay()).extracting(CoverageGapReportResponse.DayGap::getWorkDate)
+                .containsExactly(LocalDate.of(2025, 11, 17));
+        assertThat(gap.getSlots()).singleElement().satisfies(slot -> {
+            assertThat(slot.getScheduleId()).isEqualTo(kitchenSlot.getId());
+            assertThat(slot.getBlocked())
+                    .extracting(CoverageGapReportResponse.Blocked::getMemberId, CoverageGapReportResponse.Blocked::getReason)
+                    .containsExactly(
+                            tuple(w1.getId(), CoverageBlockReason.OVERLAP),
+                            tuple(w2.getId(), CoverageBlockReason.ROLE),
+                            tuple(w3.getId(), CoverageBlockReason.CAP));
+        });
+        assertThat(gap.getGeneratedAt()).isNotNull();
+
+        verify(coverageGapRepository).deleteByPeriodId(periodId);
+        verify(coverageGapRepository).saveAll(argThat(gaps -> ((List<?>) gaps).size() == 1));
+    }
+
+    @Test
+    @DisplayName("수동 편성 반영 - 같은 날 시간이 겹치는 두 슬롯에 같은 근무자를 배치하면 예외")
+    void updateScheduleAssignments_overlappingSlots_throws() {
+        // given
+        UUID ownerId = UUID.randomUUID();
+        Member owner = newMember("owner@test.com", "사장");
+        ReflectionTestUtils.setField(owner, "id", ownerId);
+
+        UUID companyId = UUID.randomUUID();
+        Company company = newCompany("카페 A", owner, "서울", "CODE1");
+        ReflectionTestUtils.setField(company, "id", companyId);
+
+        SchedulePeriod period = SchedulePeriod.create(
+                company, "P1", PeriodType.WEEKLY,
+                LocalDate.of(2025, 11, 17),
+                LocalDate.of(2025, 11, 23),
+                LocalDateTime.now().plusDays(1)
+        );
+        UUID periodId = UUID.randomUUID();
+        ReflectionTestUtils.setField(period, "id", periodId);
+        ReflectionTestUtils.setField(period, "status", PeriodStatus.OPEN);
+
+        when(companyRepository.findById(companyId)).thenReturn(Optional.of(company));
+        when(schedulePeriodRepository.findById(periodId)).thenReturn(Optional.of(period));
+
+        // 역할 2개 + 같은 날 겹치는 슬롯 2개 (10~14 홀, 12~16 주방)
+        CompanyRole hall = newRole(company, "홀");
+        ReflectionTestUtils.setField(hall, "id", UUID.randomUUID());
+        CompanyRole kitchen = newRole(company, "주방");
+        ReflectionTestUtils.setField(kitchen, "id", UUID.randomUUID());
+
+        Schedule hallSlot = Schedule.create(
+                company, period, hall,
+                LocalDate.of(2025, 11, 17),
+                LocalTime.of(10, 0), LocalTime.of(14, 0),
+                1
+        );
+        UUID hallSlotId = UUID.randomUUID();
+        ReflectionTestUtils.setField(hallSlot, "id", hallSlotId);
+
+        Schedule kitchenSlot = Schedule.create(
+                company, period, kitchen,
+                LocalDate.of(2025, 11, 17),
+                LocalTime.of(12, 0), LocalTime.of(16, 0),
+                1
+        );
+        UUID kitchenSlotId = UUID.randomUUID();
+        ReflectionTestUtils.setField(kitchenSlot, "id", kitchenSlotId);
+
+        when(scheduleRepository.findByPeriod(period)).thenReturn(List.of(hallSlot, kitchenSlot));
+
+        // 두 역할 모두 가능한 근무자 1명
+        Member w1 = newMember("w1@test.com", "알바1");
+        UUID w1Id = UUID.randomUUID();
+        ReflectionTestUtils.setField(w1, "id", w1Id);
+
+        CompanyMember cm1 = mock(CompanyMember.class);
+        when(cm1.getRole()).thenReturn(MembershipRole.WORKER);
+        when(cm1.isFixedShiftWorker()).thenReturn(false);
+        when(cm1.getMember()).thenReturn(w1);
+        when(companyMemberRepository.findByCompanyIdAndMemberId(companyId, w1Id))
+                .thenReturn(Optional.of(cm1));
+
+        CompanyMemberRole hallLink = mock(CompanyMemberRole.class);
+        when(hallLink.getRole()).thenReturn(hall);
+        CompanyMemberRole kitchenLink = mock(CompanyMemberRole.class);
+        when(kitchenLink.getRole()).thenReturn(kitchen);
+        when(companyMemberRoleRepository.findByCompanyIdAndMemberId(companyId, w1Id))
+                .thenReturn(List.of(hallLink, kitchenLink));
+
+        UpdateScheduleAssignmentsRequest.Item hallItem = new UpdateScheduleAssignmentsRequest.Item();
+        hallItem.setScheduleId(hallSlotId);
+        hallItem.setMemberIds(List.of(w1Id));
+
+        UpdateScheduleAssignmentsRequest.Item kitchenItem = new UpdateScheduleAssignmentsRequest.Item();
+        kitchenItem.setScheduleId(kitchenSlotId);
+        kitchenItem.setMemberIds(List.of(w1Id));
+
+        UpdateScheduleAssignmentsRequest req = new UpdateScheduleAssignmentsRequest();
+        req.setItems(List.of(hallItem, kitchenItem));
+
+        // when & then
+        assertThatThrownBy(() ->
+                scheduleService.updateScheduleAssignments(ownerId, companyId, periodId, req)
+        ).isInstanceOf(IllegalStateException.class);
+    }
+
+
     // =====================================================================
     // publishSchedulePeriod
     // =====================================================================
@@ -2712,4 +3516,51 @@ class ScheduleServiceTest {
                 scheduleService.publishSchedulePeriod(ownerId, companyId, periodId)
         ).isInstanceOf(IllegalStateException.class);
     }
+
+    @Test
+    @DisplayName("배치 결과 조회 - 슬롯의 근무자는 배정 순서와 관계없이 memberId 순으로 돌려준다")
+    void getScheduleAssignments_ordersWorkersByMemberId() {
+        // given
+        UUID ownerId = UUID.randomUUID();
+        Member owner = newMember("owner@test.com", "Owner");
+        ReflectionTestUtils.setField(owner, "id", ownerId);
+
+        Company company = newCompany("카페 A", owner, "서울시", "CODE1");
+        UUID companyId = UUID.randomUUID();
+        ReflectionTestUtils.setField(company, "id", companyId);
+
+        LocalDate monday = LocalDate.of(2025, 11, 17);
+        SchedulePeriod period = SchedulePeriod.create(
+                company, "2025-W47", PeriodType.WEEKLY, monday, monday.plusDays(6), LocalDateTime.of(2025, 11, 14, 18, 0));
+        UUID periodId = UUID.randomUUID();
+        ReflectionTestUtils.setField(period, "id", periodId);
+
+        CompanyRole hall = newRole(company, "홀");
+        ReflectionTestUtils.setField(hall, "id", UUID.randomUUID());
+        Schedule slot = Schedule.createDetached(company, period, hall, monday, LocalTime.of(10, 0), LocalTime.of(14, 0), 3);
+        ReflectionTestUtils.setField(slot, "id", UUID.randomUUID());
+
+        UUID low = UUID.fromString("00000000-0000-0000-0000-000000000001");
+        UUID mid = UUID.fromString("00000000-0000-0000-0000-000000000002");
+        UUID high = UUID.fromString("00000000-0000-0000-0000-000000000003");
+        for (UUID id : List.of(high, low, mid)) {
+            Member w = newMember(id + "@test.com", "알바");
+            ReflectionTestUtils.setField(w, "id", id);
+            ScheduleAssignment.create(slot, w);
+        }
+
+        when(companyRepository.findById(companyId)).thenReturn(Optional.of(company));
+        when(schedulePeriodRepository.findById(periodId)).thenReturn(Optional.of(period));
+        when(scheduleRepository.findByPeriod(period)).thenReturn(List.of(slot));
+        when(companyMemberRepository.findByCompanyIdAndRole(companyId, MembershipRole.WORKER)).thenReturn(List.of());
+
+        // when
+        List<ScheduleAssignmentSlotResponse> res = scheduleService.getScheduleAssignments(ownerId, companyId, periodId);
+
+        // then
+        assertThat(res).hasSize(1);
+        assertThat(res.getFirst().getWorkers())
+                .extracting(ScheduleAssignmentWorkerResponse::getMemberId)
+                .containsExactly(low, mid, high);
+    }
 }
@@ -0,0 +1,129 @@
+package OpenSourceSW.ArbeitMate.service;
+
+import OpenSourceSW.ArbeitMate.domain.*;
+import OpenSourceSW.ArbeitMate.domain.enums.PeriodType;
+import OpenSourceSW.ArbeitMate.dto.request.CreateScheduleSlotRequest;
+import OpenSourceSW.ArbeitMate.dto.response.SlotImportResponse;
+import OpenSourceSW.ArbeitMate.repository.CompanyRepository;
+import OpenSourceSW.ArbeitMate.repository.CompanyRoleRepository;
+import OpenSourceSW.ArbeitMate.repository.SchedulePeriodRepository;
+import OpenSourceSW.ArbeitMate.repository.ScheduleRepository;
+import OpenSourceSW.ArbeitMate.scheduling.PeriodSnapshotCache;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ScheduleSlotImportServiceTest {
+
+    @Mock CompanyRepository companyRepository;
+    @Mock SchedulePeriodRepository schedulePeriodRepository;
+    @Mock CompanyRoleRepository companyRoleRepository;
+    @Mock ScheduleRepository scheduleRepository;
+    @Mock PeriodSnapshotCache periodSnapshotCache;
+    @Mock EntityManager entityManager;
+
+    @InjectMocks ScheduleSlotImportService scheduleSlotImportService;
+
+    UUID ownerId;
+    UUID companyId;
+    UUID periodId;
+    Company company;
+    SchedulePeriod period;
+    CompanyRole hall;
+
+    @BeforeEach
+    void setUp() {
+        ownerId = UUID.randomUUID();
+        Member owner = Member.create("owner@test.com", "사장");
+        ReflectionTestUtils.setField(owner, "id", ownerId);
+
+        companyId = UUID.randomUUID();
+        company = Company.create("카페 A", owner, "서울", "CODE1");
+        ReflectionTestUtils.setField(company, "id", companyId);
+
+        period = SchedulePeriod.create(company, "2025-12", PeriodType.MONTHLY,
+                LocalDate.of(2025, 12, 1), LocalDate.of(2025, 12, 31), LocalDateTime.now().plusDays(1));
+        periodId = UUID.randomUUID();
+        ReflectionTestUtils.setField(period, "id", periodId);
+
+        hall = CompanyRole.create(company, "홀");
+        ReflectionTestUtils.setField(hall, "id", UUID.randomUUID());
+    }
+
+    private CreateScheduleSlotRequest slot(LocalDate date, UUID roleId) {
+        CreateScheduleSlotRequest req = new CreateScheduleSlotRequest();
+        req.setRoleId(roleId);
+        req.setWorkDate(date);
+        req.setStartTime(LocalTime.of(10, 0));
+        req.setEndTime(LocalTime.of(14, 0));
+        req.setRequiredHeadCount(1);
+        return req;
+    }
+
+    @Test
+    @DisplayName("스트리밍 슬롯 생성 - 500개마다 저장 후 영속성 컨텍스트를 비운다")
+    void importSlots_savesInChunks() {
+        // given
+        when(companyRepository.findById(companyId)).thenReturn(Optional.of(company));
+        when(schedulePeriodRepository.findById(periodId)).thenReturn(Optional.of(period));
+        when(companyRoleRepository.findByCompanyId(companyId)).thenReturn(List.of(hall));
+        when(entityManager.getReference(CompanyRole.class, hall.getId())).thenReturn(hall);
+        when(entityManager.getReference(Company.class, companyId)).thenReturn(company);
+        when(entityManager.getReference(SchedulePeriod.class, periodId)).thenReturn(period);
+
+        List<CreateScheduleSlotRequest> slots = new ArrayList<>();
+        for (int i = 0; i < 1_001; i++) slots.add(slot(LocalDate.of(2025, 12, 1 + i % 31), hall.getId()));
+
+        // when
+        SlotImportResponse res = scheduleSlotImportService.importSlots(ownerId, companyId, periodId, slots.iterator());
+
+        // then
+        assertThat(res.getCreatedCount()).isEqualTo(1_001);
+        verify(scheduleRepository, times(3)).saveAll(anyList()); // 500 + 500 + 1
+        verify(entityManager, times(2)).flush();
+        verify(entityManager, times(2)).clear();
+        verify(periodSnapshotCache).evict(periodId);
+    }
+
+    @Test
+    @DisplayName("스트리밍 슬롯 생성 - 다른 매장 역할군이 섞이면 위치와 함께 예외")
+    void importSlots_foreignRole_throws() {
+        // given
+        when(companyRepository.findById(companyId)).thenReturn(Optional.of(company));
+        when(schedulePeriodRepository.findById(periodId)).thenReturn(Optional.of(period));
+        when(companyRoleRepository.findByCompanyId(companyId)).thenReturn(List.of(hall));
+        when(entityManager.getReference(CompanyRole.class, hall.getId())).thenReturn(hall);
+
+        List<CreateScheduleSlotRequest> slots = List.of(
+                slot(LocalDate.of(2025, 12, 1), hall.getId()),
+                slot(LocalDate.of(2025, 12, 2), UUID.randomUUID())
+        );
+
+        // when & then
+        assertThatThrownBy(() ->
+                scheduleSlotImportService.importSlots(ownerId, companyId, periodId, slots.iterator())
+        ).isInstanceOf(IllegalStateException.class)
+                .hasMessageStartingWith("slots[1]");
+
+        verify(scheduleRepository, never()).saveAll(anyList());
+    }
+}